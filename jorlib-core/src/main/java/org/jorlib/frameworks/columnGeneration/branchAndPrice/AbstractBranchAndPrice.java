@@ -26,22 +26,32 @@
  */
 package org.jorlib.frameworks.columnGeneration.branchAndPrice;
 
+import java.io.File;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.*;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.DFSbapNodeComparator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractBoundCalculator;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColumnPool;
+import org.jorlib.frameworks.columnGeneration.colgenMain.TailingOffDetector;
+import org.jorlib.frameworks.columnGeneration.io.CheckpointCodec;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.ColumnAgingPolicy;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
 import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
 import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
 import org.jorlib.frameworks.columnGeneration.pricing.*;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.pricing.stabilization.AbstractDualStabilizer;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
 import org.jorlib.frameworks.columnGeneration.util.MathProgrammingUtil;
+import org.jorlib.frameworks.columnGeneration.util.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,30 +87,32 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	protected final OptimizationSense optimizationSenseMaster;
 
 	/** Stores the objective of the best (integer) solution **/
-	protected int objectiveIncumbentSolution;
+	protected volatile int objectiveIncumbentSolution;
 	/** List containing the columns corresponding to the best integer solution (empty list when no feasible solution has been found) **/
-	protected List<U> incumbentSolution =new ArrayList<>();
+	protected volatile List<U> incumbentSolution =new ArrayList<>();
 	/** Indicator whether the best solution is optimal **/
 	protected boolean isOptimal=false;
 
 	/** Special class which manages the Branch-and-Price tree **/
 	protected GraphManipulator graphManipulator;
-	/** Queue containing the unexplored nodes in the Branch-and-Price tree **/
-	protected Queue<BAPNode<T,U>> queue;
+	/** Queue containing the unexplored nodes in the Branch-and-Price tree, indexed by their bounds **/
+	protected BAPNodeQueue<T,U> queue;
 	/** Counter used to provide a unique ID for each node (counter gets incremented each time a new node is created) **/
 	protected int nodeCounter=0;
+	/** Node selector which determines the order in which the nodes are processed, or null if a plain comparator is used **/
+	protected AbstractNodeSelector<T, U, V> nodeSelector=null;
 	/** A reference to the root node in the tree **/
 	protected BAPNode<T,U> rootNode;
 
 	/** Upper bound on the optimal solution **/
-	protected double upperBoundOnObjective=Double.MAX_VALUE;
+	protected volatile double upperBoundOnObjective=Double.MAX_VALUE;
 	/** Lower bound on the optimal solution **/
-	protected double lowerBoundOnObjective=-Double.MAX_VALUE;
+	protected volatile double lowerBoundOnObjective=-Double.MAX_VALUE;
 	/** Number of nodes fully explored (including pruned nodes) **/
 	protected int nodesProcessed=0;
-	/** Total time spent solving master problems **/
+	/** Total time spent solving master problems (ns) **/
 	protected long timeSolvingMaster=0;
-	/** Total time spent solving pricing problems **/
+	/** Total time spent solving pricing problems (ns) **/
 	protected long timeSolvingPricing=0;
 	/** Total runtime **/
 	protected long runtime=0;
@@ -108,6 +120,63 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	protected int totalGeneratedColumns=0;
 	/** Counts how many column generation iterations have been made. **/
 	protected int totalNrIterations=0;
+	/** Dual stabilizer used by the column generation procedure, or null if no stabilization is used **/
+	protected AbstractDualStabilizer<T, V> dualStabilizer=null;
+	/** Column pool shared by the nodes in the Branch-and-Price tree, or null if no pool is used **/
+	protected ColumnPool<T, U, V> columnPool=null;
+	/** Policy which removes unused columns from the master problem, or null if columns are never removed **/
+	protected ColumnAgingPolicy<T, U, V> columnAgingPolicy=null;
+	/** Computes the bound on the master problem at each node, or null if the column generation procedure does not compute bounds **/
+	protected AbstractBoundCalculator<T, V> boundCalculator=null;
+	/** Detects tailing off of the column generation procedure at a node, or null if every node is solved to optimality **/
+	protected TailingOffDetector tailingOffDetector=null;
+	/** Determines the order in which the pricing problem solvers are invoked, or null if they are invoked in the order in which they are provided **/
+	protected AdaptiveSolverScheduler<T, U, V> solverScheduler=null;
+	/** Selects the branching candidate with the best score (strong branching, pseudo-cost branching), or null if the first branches produced by the branch creators are used **/
+	protected BranchingCandidateEvaluator<T, U> branchingCandidateEvaluator=null;
+	/** Moves the initial columns of the unexplored nodes to disk, or null if all nodes are kept in memory **/
+	protected SpillingNodeStore<T, U> nodeStore=null;
+	/** Counts at how many nodes the column generation procedure terminated early because of tailing off **/
+	protected int nrNodesTailingOff=0;
+	/** Latency histograms of the individual phases of the column generation procedure, aggregated over all nodes **/
+	protected final MetricsRegistry metricsRegistry=new MetricsRegistry();
+	/** Policy which decides whether the pricing problems may stop early, or null if all pricing problems are solved to completion **/
+	protected PartialPricingPolicy partialPricingPolicy=null;
+	/** Executor which solves the pricing problems of every worker, or null if every worker creates its own executor **/
+	protected ExecutorService pricingExecutor=null;
+	/** Time budgets of the pricing problem solvers **/
+	protected final Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, TimeBudget> solverTimeBudgets=new HashMap<>();
+	/** Time budgets of the pricing problems, indexed by the position of the pricing problem in the list of pricing problems **/
+	protected final Map<Integer, TimeBudget> pricingProblemTimeBudgets=new HashMap<>();
+	/** Number of times a node may be put back in the queue because pricing ran out of its time budget, before it is solved without time budgets **/
+	protected int maxNodeRequeues=3;
+
+	/** Worker which processes the nodes using the master problem, pricing problems and branch creators provided to the constructor **/
+	protected final BAPWorker mainWorker;
+	/** Workers which are currently processing the Branch-and-Price tree. Outside the parallel Branch-and-Price procedure, this list only contains the main worker **/
+	private final List<BAPWorker> workers=new ArrayList<>();
+	/** BranchingDecisionListeners registered through {@link #addBranchingDecisionListener(BranchingDecisionListener)}; they are registered with the GraphManipulator of every worker **/
+	private final List<BranchingDecisionListener> branchingDecisionListeners=new ArrayList<>();
+	/** Maps the pricing problems of every worker to their index in the list of pricing problems **/
+	private final Map<V, Integer> pricingProblemIndices=new IdentityHashMap<>();
+	/** Number of workers which are currently processing a node (parallel Branch-and-Price only) **/
+	private int nrActiveWorkers=0;
+	/** Indicates whether the workers should stop processing nodes (parallel Branch-and-Price only) **/
+	private boolean stopWorkers=false;
+	/** File to which checkpoints of the Branch-and-Price tree are written, or null if no checkpoints are written **/
+	protected File checkpointFile=null;
+	/** Encodes the columns, branching decisions, inequalities and branching keys in the checkpoints **/
+	protected CheckpointCodec<U> checkpointCodec=null;
+	/** Primal heuristics, in the order in which they are invoked **/
+	protected final List<AbstractPrimalHeuristic<T, U, V>> primalHeuristics=new ArrayList<>();
+	/** Indicates whether the master problem of every node is seeded with the compatible columns from the column pool **/
+	protected boolean seedNodesFromColumnPool=false;
+	/** Caches whether the columns are compatible with the branching decisions **/
+	protected final CompatibilityCache<T, U> compatibilityCache=new CompatibilityCache<>();
+	/** Minimum time between two consecutive checkpoints (ms) **/
+	protected long checkpointInterval=0;
+	/** Point in time at which the last checkpoint was written **/
+	private long lastCheckpoint=0;
 
 	/**
 	 * Creates a new Branch-and-Price instance, thereby initializing the data structures, and the root node.
@@ -132,45 +201,25 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		this.branchCreators=branchCreators;
 		this.pricingProblems=pricingProblems;
 		this.solvers=solvers;
-		queue =new PriorityQueue<>(new DFSbapNodeComparator());
+		queue =new BAPNodeQueue<>(new DFSbapNodeComparator(), optimizationSenseMaster);
 		this.objectiveIncumbentSolution=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Integer.MAX_VALUE : -Integer.MAX_VALUE);
 		this.lowerBoundOnObjective=lowerBoundOnObjective;
 		this.upperBoundOnObjective=upperBoundOnObjective;
 		
 		//Create the root node
-		List<Integer> rootPath=new ArrayList<>();
 		int nodeID=nodeCounter++;
-		rootPath.add(nodeID);
 		if(optimizationSenseMaster==OptimizationSense.MINIMIZE)
-			rootNode=new BAPNode<>(nodeID, rootPath, new ArrayList<>(), new ArrayList<>(), lowerBoundOnObjective, Collections.emptyList());
+			rootNode=new BAPNode<>(nodeID, null, null, new ArrayList<>(), new ArrayList<>(), lowerBoundOnObjective);
 		else
-			rootNode=new BAPNode<>(nodeID, rootPath, new ArrayList<>(), new ArrayList<>(), upperBoundOnObjective, Collections.emptyList());
+			rootNode=new BAPNode<>(nodeID, null, null, new ArrayList<>(), new ArrayList<>(), upperBoundOnObjective);
 		queue.add(rootNode);
 		graphManipulator=new GraphManipulator(rootNode);
 		
-		//Initialize pricing algorithms
-		Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, PricingProblemBundle<T, U, V>> pricingProblemBundles=new HashMap<>();
-		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solverClass : solvers){
-			DefaultPricingProblemSolverFactory<T, U, V> factory=new DefaultPricingProblemSolverFactory<>(solverClass, dataModel);
-			PricingProblemBundle<T, U, V> bunddle=new PricingProblemBundle<>(solverClass, pricingProblems, factory);
-			pricingProblemBundles.put(solverClass, bunddle);
-		}
-		
-		//Create a pricing problem manager for parallel execution of the pricing problems
-		pricingProblemManager=new PricingProblemManager<>(pricingProblems, pricingProblemBundles);
-		
-		//Add the master problem and the pricing problem solver instances as BranchingDecisionListeners
-		this.addBranchingDecisionListener(master);
-		for(V pricingProblem : pricingProblems)
-			this.addBranchingDecisionListener(pricingProblem);
-		for(PricingProblemBundle<T, U, V> bunddle : pricingProblemBundles.values()){
-			for(AbstractPricingProblemSolver solverInstance : bunddle.solverInstances)
-				this.addBranchingDecisionListener(solverInstance);
-		}
-
-		//Register this class with the branch creators
-		for(AbstractBranchCreator<T,U,V> branchCreator : branchCreators)
-			branchCreator.registerBAP(this);
+		//Initialize pricing algorithms and create a pricing problem manager for parallel execution of the pricing problems.
+		//The master problem, the pricing problems and the pricing problem solver instances are registered as BranchingDecisionListeners
+		mainWorker=new BAPWorker(master, pricingProblems, branchCreators, graphManipulator);
+		workers.add(mainWorker);
+		pricingProblemManager=mainWorker.pricingProblemManager;
 
 		//Create a new notifier which informs associated listeners about events occurring the the Branch-and-Price procedure
 		notifier=new BAPNotifier();
@@ -221,88 +270,117 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	 * @param timeLimit Future point in time by which the algorithm should finish
 	 */
 	public void runBranchAndPrice(long timeLimit){
-		notifier.fireStartBAPEvent(); //Signal start Branch-and-Price process
-		this.runtime=System.currentTimeMillis();
-
-		//Check whether an warm start is provided, if not, invoke generateInitialFeasibleSolution
-		BAPNode<T, U> rootNode = queue.peek();
-		if(rootNode.getInitialColumns().isEmpty())
-			rootNode.addInitialColumns(this.generateInitialFeasibleSolution(rootNode));
+		this.startBranchAndPrice();
 
 		//Start processing nodes until the queue is empty
 		while(!queue.isEmpty()){
-			BAPNode<T, U> bapNode = queue.poll();
-			notifier.fireNextNodeEvent(bapNode);
-
-			//Prune this node if its bound is worse than the best found solution. Since all solutions are integral, we may round up/down, depending on the optimization sense
-			if(this.nodeCanBePruned(bapNode)){
-				notifier.firePruneNodeEvent(bapNode, bapNode.bound);
-				nodesProcessed++;
-				continue;
-			}
-			
-			graphManipulator.next(bapNode); //Prepare data structures for the next node
-
-			//Generate an initial solution for this node to guarantee that the master problem is feasible
-			if(bapNode.nodeID != 0){
-				bapNode.addInitialColumns(this.generateInitialFeasibleSolution(bapNode));
-			}
-
-			//Solve the next BAPNode
+			BAPNode<T, U> bapNode = this.pollNode();
 			try {
-				this.solveBAPNode(bapNode, timeLimit);
+				this.processNode(bapNode, mainWorker, timeLimit);
 			} catch (TimeLimitExceededException e) {
 				queue.add(bapNode);
 				notifier.fireTimeOutEvent(bapNode);
 				break;
 			}
+			if(this.isCheckpointDue())
+				this.writeCheckpoint();
+		}
 
-			//Prune this node if its bound is worse than the best found solution. Since all solutions are integral, we may round up/down, depending on the optimization sense
-			if(this.nodeCanBePruned(bapNode)){
-				notifier.firePruneNodeEvent(bapNode, bapNode.bound);
-				nodesProcessed++;
-				continue;
-			}
-			
-			//Check whether the node is infeasible, i.e. whether there are artifical columns in the solution. If so, ignore it and continue with the next node.
-			if(this.isInfeasibleNode(bapNode)){
-				notifier.fireNodeIsInfeasibleEvent(bapNode);
-				nodesProcessed++;
-				continue;
-			}
+		this.finishBranchAndPrice();
+	}
 
-			//If solution is integral, check whether it is better than the current best solution
-			if(this.isIntegerNode(bapNode)){
-				int integerObjective=MathProgrammingUtil.doubleToInt(bapNode.objective);
-				notifier.fireNodeIsIntegerEvent(bapNode, bapNode.bound, integerObjective);
-				if(optimizationSenseMaster == OptimizationSense.MINIMIZE && integerObjective < this.upperBoundOnObjective){
-					this.objectiveIncumbentSolution = integerObjective;
-					this.upperBoundOnObjective = integerObjective;
-					this.incumbentSolution =bapNode.solution;
-				}else if(optimizationSenseMaster == OptimizationSense.MAXIMIZE && integerObjective > this.lowerBoundOnObjective){
-					this.objectiveIncumbentSolution = integerObjective;
-					this.lowerBoundOnObjective = integerObjective;
-					this.incumbentSolution =bapNode.solution;
-				}
-			}else{ //We need to branch
-				notifier.fireNodeIsFractionalEvent(bapNode, bapNode.bound, bapNode.objective);
-				List<BAPNode<T, U>> newBranches=new ArrayList<>();
-				for(AbstractBranchCreator<T, U, V> bc : branchCreators){
-					newBranches.addAll(bc.branch(bapNode));
-					if(!newBranches.isEmpty()) break;
-				}
-				
-				if(newBranches.isEmpty())
-					throw new RuntimeException("BAP encountered fractional solution, but non of the BranchCreators produced any new branches?");
-				else {
-					queue.addAll(newBranches);
-					notifier.fireBranchEvent(bapNode, Collections.unmodifiableList(newBranches));
+	/**
+	 * Starts running the Branch-and-Price algorithm, using multiple workers which process the nodes of the Branch-and-Price tree in parallel. Each worker owns a replica of
+	 * the master problem, the pricing problems and the branch creators, which is obtained through {@link #createReplica(int)}. The first worker uses the objects provided to the constructor.
+	 * The workers share the queue of unexplored nodes, the incumbent solution and the bounds.
+	 * Whenever a worker processes a node which was created by another worker, the initial columns of the node are translated to the pricing problems of the worker through
+	 * {@link #translateColumn(AbstractColumn, AbstractPricingProblem)}. Branching decisions are applied to the replica of the worker which processes the node, so branching decisions must not
+	 * depend on the identity of the master problem or the pricing problems of the worker which created them.
+	 *
+	 * The following methods are invoked concurrently by the workers and must therefore be thread-safe: {@link #generateInitialFeasibleSolution(BAPNode)} and {@link #isIntegerNode(BAPNode)}.
+	 * Events are delivered to the BAPListeners one at a time; CGListeners are invoked concurrently. Each worker solves its pricing problems in parallel as well, so the total number of pricing threads equals
+	 * nrWorkers*{@link Configuration#MAXTHREADS}. Dual stabilizers, column pools, column aging policies, tailing off detectors and solver schedulers maintain state across the iterations of the column generation
+	 * procedure, and cannot be shared by concurrent workers; they are not supported by this method. BranchingDecisionListeners registered through
+	 * {@link #addBranchingDecisionListener(BranchingDecisionListener)} are registered with the GraphManipulator of every worker, so they receive the branching decisions of all workers
+	 * concurrently and must be thread-safe.
+	 * Note: In the current version of the code, one should not invoke this function multiple times on the same instance!
+	 * @param timeLimit Future point in time by which the algorithm should finish
+	 * @param nrWorkers number of workers processing nodes in parallel
+	 */
+	public void runBranchAndPrice(long timeLimit, int nrWorkers){
+		if(nrWorkers < 1)
+			throw new IllegalArgumentException("The number of workers must be at least 1");
+		if(nrWorkers == 1){
+			this.runBranchAndPrice(timeLimit);
+			return;
+		}
+		if(dualStabilizer != null || columnPool != null || columnAgingPolicy != null || tailingOffDetector != null || solverScheduler != null)
+			throw new UnsupportedOperationException("Dual stabilizers, column pools, column aging policies, tailing off detectors and solver schedulers cannot be shared by the workers of the parallel Branch-and-Price procedure");
+
+		//Create the workers. The first worker uses the objects provided to the constructor
+		ExecutorService executor=null;
+		try {
+			for(int workerID=1; workerID<nrWorkers; workerID++){
+				BAPReplica<T, U, V> replica=this.createReplica(workerID);
+				if(replica.pricingProblems.size() != pricingProblems.size())
+					throw new IllegalArgumentException("The replica of worker "+workerID+" must have the same number of pricing problems as the original Branch-and-Price instance");
+				BAPWorker worker=new BAPWorker(replica);
+				synchronized (this) {
+					workers.add(worker);
 				}
 			}
 
-			nodesProcessed++;
+			this.startBranchAndPrice();
+
+			//Process nodes until the queue is empty and none of the workers is processing a node
+			executor=Executors.newFixedThreadPool(nrWorkers);
+			List<Callable<Void>> tasks=new ArrayList<>();
+			for(BAPWorker worker : this.getWorkers()){
+				tasks.add(() -> {
+					worker.processNodes(timeLimit);
+					return null;
+				});
+			}
+			for(Future<Void> future : executor.invokeAll(tasks))
+				future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Parallel Branch-and-Price procedure got interrupted", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Worker failed while processing a node in the Branch-and-Price tree", e.getCause());
+		} finally {
+			if(executor != null)
+				executor.shutdownNow();
+			synchronized (this) {
+				for(BAPWorker worker : workers){
+					if(worker != mainWorker)
+						worker.close();
+				}
+				workers.retainAll(Collections.singletonList(mainWorker));
+			}
 		}
-		
+
+		this.finishBranchAndPrice();
+	}
+
+	/**
+	 * Signals the start of the Branch-and-Price procedure, and ensures that the root node has a set of initial columns
+	 */
+	private void startBranchAndPrice(){
+		notifier.fireStartBAPEvent(); //Signal start Branch-and-Price process
+		this.runtime=System.currentTimeMillis()-runtime; //The runtime is non-zero when the run is resumed from a checkpoint
+		this.lastCheckpoint=System.currentTimeMillis();
+
+		//Check whether an warm start is provided, if not, invoke generateInitialFeasibleSolution
+		BAPNode<T, U> rootNode = queue.peek();
+		if(rootNode != null && rootNode.nodeID == 0 && rootNode.getInitialColumns().isEmpty())
+			rootNode.addInitialColumns(this.generateInitialFeasibleSolution(rootNode));
+	}
+
+	/**
+	 * Computes the final bounds and signals that the Branch-and-Price procedure has been completed
+	 */
+	private void finishBranchAndPrice(){
 		//Update statistics
 		if(queue.isEmpty()){ //Problem solved to optimality
 			this.isOptimal=true;
@@ -312,20 +390,410 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 				this.upperBoundOnObjective=this.objectiveIncumbentSolution;
 		}else{ //Problem NOT solved to optimality
 			this.isOptimal=false;
-			if(optimizationSenseMaster == OptimizationSense.MINIMIZE) {
-				lowerBoundOnObjective = queue.peek().bound;
-				for (BAPNode bapNode : queue) {
-					lowerBoundOnObjective = Math.min(lowerBoundOnObjective, bapNode.bound);
+			if(optimizationSenseMaster == OptimizationSense.MINIMIZE)
+				lowerBoundOnObjective = queue.getBestBound();
+			else
+				upperBoundOnObjective = queue.getBestBound();
+		}
+		if(checkpointFile != null)
+			this.writeCheckpoint();
+		notifier.fireStopBAPEvent(); //Signal that BAP has been completed
+		this.runtime=System.currentTimeMillis()-runtime;
+	}
+
+	/**
+	 * Processes a node in the Branch-and-Price tree: the node is solved, after which it is pruned, it is found to be infeasible, it yields a new incumbent solution, or it is branched on.
+	 * The child nodes are added to the queue. This method may be invoked concurrently by multiple workers; access to the shared state of the Branch-and-Price tree is synchronized on this instance.
+	 * @param bapNode node in the Branch-and-Price tree
+	 * @param worker worker processing the node
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected void processNode(BAPNode<T,U> bapNode, BAPWorker worker, long timeLimit) throws TimeLimitExceededException {
+		notifier.fireNextNodeEvent(bapNode);
+
+		//Prune this node if its bound is worse than the best found solution. Since all solutions are integral, we may round up/down, depending on the optimization sense
+		if(this.nodeCanBePruned(bapNode)){
+			notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+			this.nodeProcessed(bapNode);
+			if(branchingCandidateEvaluator != null)
+				branchingCandidateEvaluator.nodeDiscarded(bapNode);
+			return;
+		}
+
+		worker.graphManipulator.next(bapNode); //Prepare data structures for the next node
+
+		//Generate an initial solution for this node to guarantee that the master problem is feasible. A node which is processed again, because pricing ran out of its
+		//time budget, because the time limit was reached, or because the node was restored from a checkpoint, already holds these columns.
+		if(bapNode.nodeID != 0 && !bapNode.isInitialSolutionGenerated()){
+			bapNode.addInitialColumns(this.generateInitialFeasibleSolution(bapNode));
+			bapNode.setInitialSolutionGenerated(true);
+		}
+		if(seedNodesFromColumnPool && columnPool != null)
+			this.seedFromColumnPool(bapNode);
+		worker.translateColumns(bapNode.initialColumns);
+
+		//Solve the next BAPNode
+		this.solveBAPNode(bapNode, timeLimit, worker);
+		if(branchingCandidateEvaluator != null)
+			branchingCandidateEvaluator.nodeSolved(bapNode, optimizationSenseMaster);
+
+		//Prune this node if its bound is worse than the best found solution. Since all solutions are integral, we may round up/down, depending on the optimization sense
+		if(this.nodeCanBePruned(bapNode)){
+			notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+			this.nodeProcessed(bapNode);
+			return;
+		}
+
+		//If pricing ran out of its time budget, the node has not been solved to optimality: artificial columns in its solution do not prove infeasibility, and an integer
+		//solution does not close the node, since its bound is still below its objective. Such a node is branched on, or put back in the queue, using its unchanged bound.
+		boolean timeBudgetExhausted=bapNode.isTimeBudgetExhausted();
+
+		//Check whether the node is infeasible, i.e. whether there are artifical columns in the solution. If so, ignore it and continue with the next node.
+		if(this.isInfeasibleNode(bapNode)){
+			if(timeBudgetExhausted){
+				this.requeueNode(bapNode);
+				return;
+			}
+			notifier.fireNodeIsInfeasibleEvent(bapNode);
+			this.nodeProcessed(bapNode);
+			return;
+		}
+
+		//If solution is integral, check whether it is better than the current best solution
+		boolean integerNode=this.isIntegerNode(bapNode);
+		if(integerNode){
+			int integerObjective=MathProgrammingUtil.doubleToInt(bapNode.objective);
+			notifier.fireNodeIsIntegerEvent(bapNode, bapNode.bound, integerObjective);
+			this.updateIncumbent(integerObjective, bapNode.solution);
+			if(timeBudgetExhausted && this.nodeCanBePruned(bapNode)){ //The new incumbent solution dominates the bound of the node
+				notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+				this.nodeProcessed(bapNode);
+				return;
+			}
+		}
+		if(!integerNode || timeBudgetExhausted){ //We need to branch
+			if(!integerNode)
+				notifier.fireNodeIsFractionalEvent(bapNode, bapNode.bound, bapNode.objective);
+
+			//Attempt to find an integer solution through the primal heuristics. The node is pruned if the new incumbent solution dominates its bound
+			if(!integerNode && !primalHeuristics.isEmpty()){
+				this.runPrimalHeuristics(bapNode, worker, timeLimit);
+				if(this.nodeCanBePruned(bapNode)){
+					notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+					this.nodeProcessed(bapNode);
+					return;
+				}
+			}
+
+			List<BAPNode<T, U>> newBranches=new ArrayList<>();
+			if(branchingCandidateEvaluator == null) {
+				for (AbstractBranchCreator<T, U, V> bc : worker.branchCreators) {
+					newBranches.addAll(bc.branch(bapNode));
+					if (!newBranches.isEmpty()) break;
 				}
-			}else{
-				upperBoundOnObjective = queue.peek().bound;
-				for (BAPNode bapNode : queue) {
-					upperBoundOnObjective = Math.max(upperBoundOnObjective, bapNode.bound);
+			}else
+				newBranches.addAll(this.selectBranchingCandidate(bapNode, worker, timeLimit));
+
+			if(newBranches.isEmpty() && timeBudgetExhausted){
+				this.requeueNode(bapNode);
+				return;
+			}else if(newBranches.isEmpty())
+				throw new RuntimeException("BAP encountered fractional solution, but non of the BranchCreators produced any new branches?");
+			else {
+				synchronized (this) {
+					if(nodeSelector != null)
+						nodeSelector.branchCreated(bapNode, newBranches);
+					queue.addAll(newBranches);
+					this.notifyAll(); //Wake up idle workers
 				}
+				notifier.fireBranchEvent(bapNode, Collections.unmodifiableList(newBranches));
+				bapNode.releaseColumns(); //The child nodes have inherited the relevant columns and inequalities
 			}
 		}
-		notifier.fireStopBAPEvent(); //Signal that BAP has been completed
-		this.runtime=System.currentTimeMillis()-runtime;
+
+		this.nodeProcessed(bapNode);
+	}
+
+	/**
+	 * Puts a node, for which pricing ran out of its time budget, back in the queue. The columns in the solution of the node are added to its initial columns,
+	 * such that the column generation procedure resumes from where it stopped when the node is processed again. Once the node has been put back in the queue
+	 * {@link #setMaxNodeRequeues(int) maxNodeRequeues} times, it is solved without time budgets, which guarantees that the node is eventually closed.
+	 * @param bapNode node to put back in the queue
+	 */
+	private void requeueNode(BAPNode<T,U> bapNode){
+		Set<U> initialColumns=new HashSet<>(bapNode.initialColumns);
+		List<U> solutionColumns=new ArrayList<>();
+		for(U column : bapNode.solution){
+			if(!column.isArtificialColumn && initialColumns.add(column))
+				solutionColumns.add(column);
+		}
+		bapNode.addInitialColumns(solutionColumns);
+		bapNode.setNrRequeues(bapNode.getNrRequeues()+1);
+		logger.debug("Pricing ran out of its time budget in node {}; putting the node back in the queue (attempt {})", bapNode.nodeID, bapNode.getNrRequeues());
+		synchronized (this) {
+			queue.closeNode(bapNode); //Re-index the node with the bound obtained by the column generation procedure
+			queue.add(bapNode);
+			this.updateGlobalBound();
+			this.notifyAll(); //Wake up idle workers
+		}
+	}
+
+	/**
+	 * Replaces the incumbent solution by the given integer solution if the latter is better, after which all nodes which are dominated by the new incumbent solution are removed from the queue.
+	 * In the parallel Branch-and-Price procedure, the columns of a solution found by a replica are translated to the pricing problems provided to the constructor before they are stored.
+	 * @param objective objective value of the integer solution
+	 * @param solution columns constituting the integer solution
+	 * @return true if the incumbent solution has been replaced
+	 */
+	protected boolean updateIncumbent(int objective, List<U> solution){
+		List<BAPNode<T, U>> prunedNodes;
+		synchronized (this) {
+			if (optimizationSenseMaster == OptimizationSense.MINIMIZE && objective < this.upperBoundOnObjective) {
+				this.objectiveIncumbentSolution = objective;
+				this.upperBoundOnObjective = objective;
+				this.incumbentSolution = this.translateToMainWorker(solution);
+			} else if (optimizationSenseMaster == OptimizationSense.MAXIMIZE && objective > this.lowerBoundOnObjective) {
+				this.objectiveIncumbentSolution = objective;
+				this.lowerBoundOnObjective = objective;
+				this.incumbentSolution = this.translateToMainWorker(solution);
+			} else
+				return false;
+			//Remove all nodes from the queue which are dominated by the new incumbent solution
+			prunedNodes = queue.pruneNodes(this::nodeCanBePruned);
+			nodesProcessed += prunedNodes.size();
+			this.updateGlobalBound();
+		}
+		for(BAPNode<T, U> prunedNode : prunedNodes){
+			notifier.firePruneNodeEvent(prunedNode, prunedNode.bound);
+			if(branchingCandidateEvaluator != null)
+				branchingCandidateEvaluator.nodeDiscarded(prunedNode);
+		}
+		return true;
+	}
+
+	/**
+	 * Invokes the primal heuristics at the given node, which has been solved and found to be fractional. Every solution found by a heuristic is offered to {@link #updateIncumbent(int, List)}.
+	 * After each heuristic, the branching decisions are restored to the state of the given node. The master problem is only restored by solving another node; heuristics which
+	 * solve nodes are therefore invoked after the heuristics which rely on the master problem (see {@link AbstractPrimalHeuristic#solvesNodes()}). Heuristics may change the
+	 * values of the columns in the solution of the node, e.g. by rounding them, or by solving other nodes which contain the same columns. Unless the node can be pruned, these
+	 * values are restored afterwards, so the node is branched on its own fractional solution.
+	 * @param bapNode fractional node in the Branch-and-Price tree
+	 * @param worker worker processing the node
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected void runPrimalHeuristics(BAPNode<T,U> bapNode, BAPWorker worker, long timeLimit) throws TimeLimitExceededException {
+		AbstractPrimalHeuristic.NodeSolver<T, U> nodeSolver=new AbstractPrimalHeuristic.NodeSolver<T, U>() {
+			@Override
+			public void solve(BAPNode<T, U> node, int iterationLimit) throws TimeLimitExceededException {
+				worker.graphManipulator.next(node);
+				ColGen<T,U,V> cg=runColumnGeneration(node, worker, iterationLimit, timeLimit);
+				node.storeSolution(cg.getObjective(), cg.getBound(), cg.getSolution(), cg.getCuts());
+				node.setTimeBudgetExhausted(cg.isTimeBudgetExhausted());
+			}
+
+			@Override
+			public List<BAPNode<T, U>> branch(BAPNode<T, U> node) {
+				for (AbstractBranchCreator<T, U, V> bc : worker.branchCreators) {
+					List<BAPNode<T, U>> childNodes=bc.branch(node);
+					if (!childNodes.isEmpty())
+						return childNodes;
+				}
+				return Collections.emptyList();
+			}
+
+			@Override
+			public boolean isIntegerNode(BAPNode<T, U> node) {
+				return AbstractBranchAndPrice.this.isIntegerNode(node);
+			}
+
+			@Override
+			public boolean isInfeasibleOrPruned(BAPNode<T, U> node) {
+				return isInfeasibleNode(node) || nodeCanBePruned(node);
+			}
+		};
+
+		double[] values=new double[bapNode.solution.size()];
+		for(int i=0; i<values.length; i++)
+			values[i]=bapNode.solution.get(i).value;
+
+		for(AbstractPrimalHeuristic<T, U, V> heuristic : primalHeuristics){
+			if(!heuristic.shouldRun(bapNode))
+				continue;
+			PrimalSolution<U> solution;
+			try {
+				solution=heuristic.run(bapNode, worker.master, nodeSolver, timeLimit);
+			}finally {
+				worker.graphManipulator.next(bapNode);
+			}
+			if(solution != null){
+				boolean improved=this.updateIncumbent(solution.objective, new ArrayList<>(solution.columns));
+				logger.debug("Primal heuristic {} found a solution with objective {} at node {} (improved: {})", heuristic.getClass().getSimpleName(), solution.objective, bapNode.nodeID, improved);
+			}
+		}
+
+		if(!this.nodeCanBePruned(bapNode)){
+			for(int i=0; i<values.length; i++)
+				bapNode.solution.get(i).value=values[i];
+		}
+	}
+
+	/**
+	 * Collects the branching candidates of all branch creators, and returns the child nodes of the candidate selected by the {@link BranchingCandidateEvaluator}.
+	 * @param bapNode fractional node in the Branch-and-Price tree
+	 * @param worker worker processing the node
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @return the child nodes of the selected candidate, or an empty list if none of the branch creators offers a candidate
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected List<BAPNode<T, U>> selectBranchingCandidate(BAPNode<T,U> bapNode, BAPWorker worker, long timeLimit) throws TimeLimitExceededException {
+		List<BranchingCandidate<T, U>> candidates=new ArrayList<>();
+		for(AbstractBranchCreator<T, U, V> bc : worker.branchCreators)
+			candidates.addAll(bc.getBranchingCandidates(bapNode));
+		if(candidates.isEmpty())
+			return Collections.emptyList();
+		BranchingCandidate<T, U> candidate=branchingCandidateEvaluator.selectCandidate(bapNode, candidates, optimizationSenseMaster,
+				(childNode, iterationLimit) -> this.evaluateChildNode(childNode, bapNode, worker, iterationLimit, timeLimit));
+		return candidate.childNodes;
+	}
+
+	/**
+	 * Solves a child node with a limited number of column generation iterations (strong branching). The child node itself is not modified, unless its column generation procedure
+	 * converges within the iteration limit and the time budget of the pricing problems, in which case its bound is updated. Afterwards, the data structures are restored to the state of the parent node.
+	 * @param childNode child node
+	 * @param parentNode parent node, i.e. the node which is currently being processed by the worker
+	 * @param worker worker processing the parent node
+	 * @param iterationLimit maximum number of column generation iterations
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @return the objective of the child node, infinity (negative infinity for a maximization problem) if the child node is proven to be infeasible, or NaN if the
+	 * child node could not be evaluated, i.e. if pricing ran out of its time budget, or if the solution of the child node still contains artificial columns when the
+	 * iteration limit is reached
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected double evaluateChildNode(BAPNode<T,U> childNode, BAPNode<T,U> parentNode, BAPWorker worker, int iterationLimit, long timeLimit) throws TimeLimitExceededException {
+		ColGen<T,U,V> cg;
+		worker.graphManipulator.next(childNode);
+		try {
+			cg=this.runColumnGeneration(childNode, worker, iterationLimit, timeLimit);
+		}finally {
+			worker.graphManipulator.next(parentNode);
+		}
+
+		if(cg.isTimeBudgetExhausted()) //The master problem has not been solved to optimality, nor has the child node been proven to be infeasible
+			return Double.NaN;
+		for(U column : cg.getSolution()){
+			if(!column.isArtificialColumn)
+				continue;
+			if(cg.isIterationLimitReached()) //Not enough columns have been generated yet to replace the artificial columns
+				return Double.NaN;
+			return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY);
+		}
+		if(!cg.isIterationLimitReached()) //The bound of the child node is valid
+			childNode.setBound(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(childNode.getBound(), cg.getBound()) : Math.min(childNode.getBound(), cg.getBound()));
+		return cg.getObjective();
+	}
+
+	/**
+	 * Solves a node which is not part of the queue, e.g. a child node during strong branching or a node of a dive, with a limited number of column generation iterations.
+	 * The branching decisions of the node must have been applied to the data structures of the worker.
+	 * @param bapNode node in the Branch-and-Price tree
+	 * @param worker worker processing the node
+	 * @param iterationLimit maximum number of column generation iterations
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @return the column generation procedure, which has been solved
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	private ColGen<T,U,V> runColumnGeneration(BAPNode<T,U> bapNode, BAPWorker worker, int iterationLimit, long timeLimit) throws TimeLimitExceededException {
+		ColGen<T,U,V> cg=null;
+		try {
+			List<U> initialColumns=new ArrayList<>(bapNode.initialColumns);
+			initialColumns.addAll(this.generateInitialFeasibleSolution(bapNode));
+			worker.translateColumns(initialColumns);
+			cg = new ColGen<>(dataModel, worker.master, worker.pricingProblems, solvers, worker.pricingProblemManager, initialColumns, objectiveIncumbentSolution, bapNode.getBound());
+			cg.setMetricsRegistry(metricsRegistry);
+			cg.setBoundCalculator(boundCalculator);
+			cg.setIterationLimit(iterationLimit);
+			cg.solve(timeLimit);
+		}finally {
+			if(cg != null) {
+				synchronized (this) {
+					timeSolvingMaster += cg.getMasterSolveTimeNanos();
+					timeSolvingPricing += cg.getPricingSolveTimeNanos();
+					totalNrIterations += cg.getNumberOfIterations();
+					totalGeneratedColumns += cg.getNrGeneratedColumns();
+				}
+			}
+		}
+		return cg;
+	}
+
+	/**
+	 * Removes the next node from the queue. If a node selector is used, the queue is rebuilt whenever the selector changed its ordering. In the parallel Branch-and-Price procedure,
+	 * this method is invoked while holding the lock on this instance.
+	 * @return the next node to be processed
+	 */
+	private BAPNode<T, U> pollNode(){
+		if(nodeSelector == null)
+			return queue.poll();
+		if(nodeSelector.updateOrdering())
+			this.rebuildQueue(nodeSelector);
+		BAPNode<T, U> bapNode=nodeSelector.selectNode(queue);
+		if(bapNode != null)
+			nodeSelector.nodeSelected(bapNode);
+		return bapNode;
+	}
+
+	/**
+	 * Returns whether a checkpoint should be written, i.e. whether checkpointing is enabled and the checkpoint interval has passed since the last checkpoint
+	 * @return true if a checkpoint should be written
+	 */
+	private boolean isCheckpointDue(){
+		return checkpointFile != null && System.currentTimeMillis()-lastCheckpoint >= checkpointInterval;
+	}
+
+	/**
+	 * Writes a checkpoint of the Branch-and-Price tree. This method must be invoked while none of the nodes is being processed.
+	 */
+	private synchronized void writeCheckpoint(){
+		logger.debug("Writing checkpoint to {}: {} open nodes", checkpointFile, queue.size());
+		BAPCheckpoint.write(this, checkpointFile, checkpointCodec);
+		lastCheckpoint=System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns a copy of the given columns, where every column which is associated with a pricing problem of another worker is replaced by its translation to the
+	 * corresponding pricing problem provided to the constructor (see {@link #translateColumn(AbstractColumn, AbstractPricingProblem)})
+	 * @param columns columns
+	 * @return columns associated with the pricing problems provided to the constructor
+	 */
+	List<U> translateToMainWorker(List<U> columns){
+		List<U> translatedColumns=new ArrayList<>(columns);
+		mainWorker.translateColumns(translatedColumns);
+		return translatedColumns;
+	}
+
+	/**
+	 * Increments the number of processed nodes, closes the given node in the queue, and updates the bound on the optimal solution
+	 * @param bapNode node which has been processed
+	 */
+	private synchronized void nodeProcessed(BAPNode<T,U> bapNode){
+		nodesProcessed++;
+		queue.closeNode(bapNode);
+		this.updateGlobalBound();
+	}
+
+	/**
+	 * Updates the bound on the optimal solution, based on the best bound over all open nodes in the Branch-and-Price tree. Once all nodes have been processed,
+	 * the bound is set when the Branch-and-Price procedure finishes.
+	 */
+	private void updateGlobalBound(){
+		if(!queue.hasOpenNodes())
+			return;
+		if(optimizationSenseMaster == OptimizationSense.MINIMIZE)
+			lowerBoundOnObjective=Math.max(lowerBoundOnObjective, Math.min(queue.getBestBound(), upperBoundOnObjective));
+		else
+			upperBoundOnObjective=Math.min(upperBoundOnObjective, Math.max(queue.getBestBound(), lowerBoundOnObjective));
 	}
 
 	/**
@@ -335,32 +803,82 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	 * @throws TimeLimitExceededException TimeLimitExceededException
 	 */
 	protected void solveBAPNode(BAPNode<T,U> bapNode, long timeLimit) throws TimeLimitExceededException {
+		this.solveBAPNode(bapNode, timeLimit, mainWorker);
+	}
+
+	/**
+	 * Solve a given Branch-and-Price node, using the master problem and pricing problems of the given worker
+	 * @param bapNode node in Branch-and-Price tree
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @param worker worker processing the node
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected void solveBAPNode(BAPNode<T,U> bapNode, long timeLimit, BAPWorker worker) throws TimeLimitExceededException {
 		ColGen<T,U,V> cg=null;
 		try {
-			cg = new ColGen<>(dataModel, master, pricingProblems, solvers, pricingProblemManager, bapNode.initialColumns, objectiveIncumbentSolution, bapNode.getBound()); //Solve the node
+			cg = new ColGen<>(dataModel, worker.master, worker.pricingProblems, solvers, worker.pricingProblemManager, bapNode.initialColumns, objectiveIncumbentSolution, bapNode.getBound()); //Solve the node
 			for(CGListener listener : columnGenerationEventListeners) cg.addCGEventListener(listener);
+			cg.setMetricsRegistry(metricsRegistry);
+			cg.setDualStabilizer(dualStabilizer);
+			cg.setColumnAgingPolicy(columnAgingPolicy);
+			cg.setBoundCalculator(boundCalculator);
+			cg.setSolverScheduler(solverScheduler);
+			cg.setTailingOffDetector(tailingOffDetector, solution -> this.canBranchEarly(bapNode, solution));
+			if(columnPool != null)
+				cg.setColumnPool(columnPool, column -> this.isCompatibleWithBranchingDecisions(bapNode, column));
+			//A node which repeatedly ran out of its time budget is solved without time budgets
+			worker.pricingProblemManager.setTimeBudgetsEnabled(bapNode.getNrRequeues() < maxNodeRequeues);
 			cg.solve(timeLimit);
 		}finally{
+			worker.pricingProblemManager.setTimeBudgetsEnabled(true);
 			//Update statistics
 			if(cg != null) {
-				timeSolvingMaster += cg.getMasterSolveTime();
-				timeSolvingPricing += cg.getPricingSolveTime();
-				totalNrIterations += cg.getNumberOfIterations();
-				totalGeneratedColumns += cg.getNrGeneratedColumns();
+				synchronized (this) {
+					timeSolvingMaster += cg.getMasterSolveTimeNanos();
+					timeSolvingPricing += cg.getPricingSolveTimeNanos();
+					totalNrIterations += cg.getNumberOfIterations();
+					totalGeneratedColumns += cg.getNrGeneratedColumns();
+					if(cg.isTailingOff())
+						nrNodesTailingOff++;
+				}
 				notifier.fireFinishCGEvent(bapNode, cg.getBound(), cg.getObjective(), cg.getNumberOfIterations(), cg.getMasterSolveTime(), cg.getPricingSolveTime(), cg.getNrGeneratedColumns());
 			}
 		}
 		bapNode.storeSolution(cg.getObjective(), cg.getBound(), cg.getSolution(), cg.getCuts());
+		bapNode.setTimeBudgetExhausted(cg.isTimeBudgetExhausted());
 	}
 
 	/**
 	 * Returns a unique node ID. The internal nodeCounter is incremented by one each time this method is invoked.
 	 * @return returns a unique node ID for the purpose of creating new BAPNodes, thereby guaranteeing that none of the nodes in the Branch-and-Price tree have this ID.
 	 */
-	protected int getUniqueNodeID(){
+	protected synchronized int getUniqueNodeID(){
 		return  nodeCounter++;
 	}
-	
+
+	/**
+	 * Creates a replica of the master problem, the pricing problems and the branch creators for a worker of the parallel Branch-and-Price procedure (see {@link #runBranchAndPrice(long, int)}).
+	 * The replica must be equivalent to the objects provided to the constructor, and may not share any mutable state with them. In particular, each replica requires its own
+	 * master problem (and hence its own solver environment), its own pricing problem objects (in the same order) and its own branch creators. The pricing problem solvers are
+	 * instantiated for the replica by the Branch-and-Price class.
+	 * @param workerID ID of the worker (1, 2, ..., nrWorkers-1)
+	 * @return a new replica
+	 */
+	protected BAPReplica<T, U, V> createReplica(int workerID){
+		throw new UnsupportedOperationException("Not implemented. You should override this function to use the parallel Branch-and-Price procedure");
+	}
+
+	/**
+	 * Translates a column to the corresponding pricing problem of another worker in the parallel Branch-and-Price procedure (see {@link #runBranchAndPrice(long, int)}).
+	 * The translated column must be identical to the given column, except for its associated pricing problem. This method is also invoked for artificial columns.
+	 * @param column column
+	 * @param pricingProblem pricing problem of the worker which corresponds to the pricing problem associated with the column
+	 * @return a copy of the column associated with the given pricing problem
+	 */
+	protected U translateColumn(U column, V pricingProblem){
+		throw new UnsupportedOperationException("Not implemented. You should override this function to use the parallel Branch-and-Price procedure");
+	}
+
 	/**
 	 * Returns the objective value of the best solution found
 	 * @return the objective of the best integer solution found during the Branch-and-Price search
@@ -395,13 +913,26 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	
 	/**
 	 * Returns strongest available bound on the objective function. If the problem is a minimization problem, the strongest available lower bound is returned,
-	 * if the problem is a maximization problem, the strongest available upper bound is returned
+	 * if the problem is a maximization problem, the strongest available upper bound is returned. While the Branch-and-Price procedure is running, the bound is updated whenever a node has been processed.
 	 * @return Returns the best bound on the optimal solution (upper bound if the master is a maximization problem, a lower bound if the master is a minimization problem)
 	 */
 	public double getBound(){
 		return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? this.lowerBoundOnObjective : this.upperBoundOnObjective);
 	}
 	
+	/**
+	 * Returns the relative gap between the best solution and the strongest available bound, i.e. |primal bound - dual bound| / |primal bound|. While the Branch-and-Price procedure is running, the
+	 * bound is updated whenever a node has been processed, so the gap may be queried at any time, e.g. from a BAPListener.
+	 * @return the relative optimality gap, or Double.MAX_VALUE if no feasible solution is known
+	 */
+	public double getOptimalityGap(){
+		double primalBound=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? this.upperBoundOnObjective : this.lowerBoundOnObjective);
+		double dualBound=this.getBound();
+		if(Math.abs(primalBound) == Double.MAX_VALUE)
+			return Double.MAX_VALUE;
+		return Math.abs(primalBound-dualBound)/Math.max(config.PRECISION, Math.abs(primalBound));
+	}
+
 	/**
 	 * Returns the number of processed nodes
 	 * @return the number of nodes processed
@@ -419,18 +950,18 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	}
 
 	/**
-	 * Total time spent on solving master problems
+	 * Total time spent on solving master problems (ms)
 	 * @return total time spent on solving master problems
 	 */
 	public long getMasterSolveTime(){
-		return timeSolvingMaster;
+		return TimeUnit.NANOSECONDS.toMillis(timeSolvingMaster);
 	}
 	/**
-	 * Total time spent on solving pricing problems
+	 * Total time spent on solving pricing problems (ms)
 	 * @return total time spent on solving pricing problems
 	 */
 	public long getPricingSolveTime(){
-		return timeSolvingPricing;
+		return TimeUnit.NANOSECONDS.toMillis(timeSolvingPricing);
 	}
 	/**
 	 * Counts how many columns have been generated over the entire Branch-and-Price tree
@@ -446,6 +977,21 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	public int getTotalNrIterations(){
 		return totalNrIterations;
 	}
+	/**
+	 * Counts at how many nodes the column generation procedure terminated early because it was tailing off
+	 * @return returns the number of nodes which were branched on before their column generation procedure converged
+	 */
+	public int getNrNodesTailingOff(){
+		return nrNodesTailingOff;
+	}
+	/**
+	 * Returns the latency histograms of the individual phases of the column generation procedure, aggregated over all nodes of the Branch-and-Price tree
+	 * (see {@link MetricsRegistry}). The registry may also be queried from a listener, while the Branch-and-Price procedure is running.
+	 * @return the metrics registry
+	 */
+	public MetricsRegistry getMetricsRegistry(){
+		return metricsRegistry;
+	}
 	/**
 	 * Returns the best solution found
 	 * @return Returns the columns corresponding with the best solution.
@@ -521,12 +1067,284 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	 * approach may be specified. This method may also be invoked during the search. The nodes already present in the queue will be reordered. As an example, one could prefer to
 	 * process the first layers of the Branch-and-Price tree in a Breath-First-Search manner, thereby improving the bound of the nodes and then process the remaining nodes in a DFS manner.
 	 * This example can also be achieved throuh a custom comparator.
+	 * Whenever the comparator is an {@link AbstractNodeSelector}, e.g. a best-bound, best-estimate or hybrid diving selector (see the bapNodeComparators package), the selector is registered with this instance,
+	 * thereby giving it access to the state of the search.
+	 * @param comparator comparator
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized void setNodeOrdering(Comparator<BAPNode> comparator){
+		if(comparator instanceof AbstractNodeSelector){
+			nodeSelector=(AbstractNodeSelector<T, U, V>) comparator;
+			nodeSelector.registerBAP(this);
+		}else
+			nodeSelector=null;
+		this.rebuildQueue(comparator);
+	}
+
+	/**
+	 * Reorders the nodes in the queue according to the given comparator
 	 * @param comparator comparator
 	 */
-	public void setNodeOrdering(Comparator<BAPNode> comparator){
-		Queue<BAPNode<T,U>> newQueue=new PriorityQueue<>(comparator);
-		newQueue.addAll(queue);
-		this.queue=newQueue;
+	private void rebuildQueue(Comparator<? super BAPNode<T, U>> comparator){
+		queue.setComparator(comparator);
+	}
+
+	/**
+	 * Registers a dual stabilizer which is used by the column generation procedure to stabilize the dual values of the master problem
+	 * before they are passed to the pricing problems (see {@link AbstractDualStabilizer}).
+	 * Not supported by the parallel Branch-and-Price procedure, see {@link #runBranchAndPrice(long, int)}.
+	 * @param dualStabilizer dual stabilizer, or null to disable dual stabilization
+	 */
+	public void setDualStabilizer(AbstractDualStabilizer<T, V> dualStabilizer){
+		this.dualStabilizer=dualStabilizer;
+	}
+
+	/**
+	 * Registers a column pool which is shared by all nodes in the Branch-and-Price tree. Columns generated at a node are stored in the pool, and can be
+	 * retrieved at other nodes, provided that they are compatible with the branching decisions of those nodes (see {@link ColumnPool}). By default, columns
+	 * are only retrieved from the pool when they have a negative reduced cost; see {@link #setColumnPoolSeeding(boolean)} to seed the master problem of every node with the pool.
+	 * Not supported by the parallel Branch-and-Price procedure, see {@link #runBranchAndPrice(long, int)}.
+	 * @param columnPool column pool, or null to disable the column pool
+	 */
+	public void setColumnPool(ColumnPool<T, U, V> columnPool){
+		this.columnPool=columnPool;
+	}
+
+	/**
+	 * Registers a bound calculator which is used by the column generation procedure to compute a bound on the master problem at each node
+	 * (see {@link AbstractBoundCalculator}). Nodes are pruned as soon as their bound exceeds the best integer solution.
+	 * @param boundCalculator bound calculator, or null to disable the default bound computation
+	 */
+	public void setBoundCalculator(AbstractBoundCalculator<T, V> boundCalculator){
+		this.boundCalculator=boundCalculator;
+	}
+
+	/**
+	 * Registers a scheduler which determines the order in which the pricing problem solvers are invoked (see {@link AdaptiveSolverScheduler}). The scheduler is shared
+	 * by all nodes, so the statistics gathered at a node are used at the subsequent nodes.
+	 * Not supported by the parallel Branch-and-Price procedure, see {@link #runBranchAndPrice(long, int)}.
+	 * @param solverScheduler solver scheduler, or null to invoke the solvers in the order in which they are provided
+	 */
+	public void setSolverScheduler(AdaptiveSolverScheduler<T, U, V> solverScheduler){
+		this.solverScheduler=solverScheduler;
+	}
+
+	/**
+	 * Registers a tailing off detector. When the column generation procedure at a node is tailing off, the procedure terminates early and the node is branched on
+	 * its current fractional solution (early branching). The bound of the node is the last bound computed by the column generation procedure. Without a bound calculator,
+	 * the bound of a node would remain the bound inherited from its parent; therefore a bound calculator must be registered first (see {@link #setBoundCalculator(AbstractBoundCalculator)}).
+	 * Not supported by the parallel Branch-and-Price procedure, see {@link #runBranchAndPrice(long, int)}.
+	 * @param tailingOffDetector tailing off detector, or null to solve every node to optimality
+	 */
+	public void setTailingOffDetector(TailingOffDetector tailingOffDetector){
+		if(tailingOffDetector != null && boundCalculator == null)
+			throw new IllegalStateException("A tailing off detector requires a bound calculator, see setBoundCalculator");
+		this.tailingOffDetector=tailingOffDetector;
+	}
+
+	/**
+	 * Tests whether the column generation procedure at the given node may terminate early with the given solution of the master problem. This is only allowed when
+	 * the solution is fractional: an integer solution cannot be branched on, and the node could not be pruned since its bound has not converged.
+	 * @param bapNode node in the Branch-and-Price tree
+	 * @param solution current solution of the master problem
+	 * @return true if the node may be branched on the given solution
+	 */
+	protected boolean canBranchEarly(BAPNode<T,U> bapNode, List<U> solution){
+		List<U> nodeSolution=bapNode.solution;
+		bapNode.solution=solution;
+		boolean integerSolution=this.isIntegerNode(bapNode);
+		bapNode.solution=nodeSolution;
+		return !integerSolution;
+	}
+
+	/**
+	 * Registers a node store which bounds the memory consumed by the unexplored nodes: whenever the initial columns of the queued nodes exceed the budget of the store, the columns of
+	 * the nodes which have been in the queue the longest are written to disk, and read back when the nodes are selected (see {@link SpillingNodeStore}). The store is closed by {@link #close()}.
+	 * @param nodeStore node store, or null to keep all nodes in memory
+	 */
+	public synchronized void setNodeStore(SpillingNodeStore<T, U> nodeStore){
+		this.nodeStore=nodeStore;
+		queue.setNodeStore(nodeStore);
+	}
+
+	/**
+	 * Registers an evaluator which selects the branching candidate with the best score among the candidates offered by all branch creators (see {@link BranchingCandidateEvaluator}
+	 * and {@link AbstractBranchCreator#getBranchingCandidates(BAPNode)}). The evaluator maintains pseudo-costs over the entire run, and evaluates candidates through strong branching
+	 * until their pseudo-costs are reliable.
+	 * @param branchingCandidateEvaluator branching candidate evaluator, or null to branch on the first candidate produced by the branch creators
+	 */
+	public void setBranchingCandidateEvaluator(BranchingCandidateEvaluator<T, U> branchingCandidateEvaluator){
+		this.branchingCandidateEvaluator=branchingCandidateEvaluator;
+	}
+
+	/**
+	 * Registers a column aging policy which removes columns that have not been used for a number of iterations from the master problem (see {@link ColumnAgingPolicy}).
+	 * Not supported by the parallel Branch-and-Price procedure, see {@link #runBranchAndPrice(long, int)}.
+	 * @param columnAgingPolicy column aging policy, or null to keep all columns in the master problem
+	 */
+	public void setColumnAgingPolicy(ColumnAgingPolicy<T, U, V> columnAgingPolicy){
+		this.columnAgingPolicy=columnAgingPolicy;
+	}
+
+	/**
+	 * Tests whether a column is compatible with all branching decisions which lead to the given node
+	 * @param bapNode node in the Branch-and-Price tree
+	 * @param column column
+	 * @return true if the column is compatible with all branching decisions of the node
+	 */
+	protected boolean isCompatibleWithBranchingDecisions(BAPNode<T,U> bapNode, U column){
+		return compatibilityCache.isCompatible(bapNode, column);
+	}
+
+	/**
+	 * Adds all columns from the column pool which are compatible with the branching decisions of the given node to the initial columns of the node, thereby
+	 * seeding its master problem with the columns generated elsewhere in the Branch-and-Price tree
+	 * @param bapNode node in the Branch-and-Price tree
+	 */
+	protected void seedFromColumnPool(BAPNode<T,U> bapNode){
+		long time=System.nanoTime();
+		Set<U> initialColumns=new HashSet<>(bapNode.initialColumns);
+		List<U> poolColumns=new ArrayList<>();
+		for(U column : columnPool.getColumns()){
+			if(!initialColumns.contains(column) && this.isCompatibleWithBranchingDecisions(bapNode, column))
+				poolColumns.add(column);
+		}
+		bapNode.addInitialColumns(poolColumns);
+		metricsRegistry.recordSince(MetricsRegistry.COLUMN_POOL_SEEDING, time);
+		logger.debug("Seeded node {} with {} columns from the column pool", bapNode.nodeID, poolColumns.size());
+	}
+
+	/**
+	 * Registers a primal heuristic, which attempts to find integer solutions at the fractional nodes of the Branch-and-Price tree (see {@link AbstractPrimalHeuristic}).
+	 * Heuristics are invoked in the order in which they are registered, except that heuristics which solve nodes, such as diving heuristics, are invoked after all heuristics which
+	 * do not (see {@link AbstractPrimalHeuristic#solvesNodes()}). The master problem of a node is not restored after solving the nodes of a dive, so a heuristic which relies on
+	 * the columns of the node residing in the master problem, such as a restricted master heuristic, cannot be invoked after a dive.
+	 * @param primalHeuristic primal heuristic
+	 */
+	public void addPrimalHeuristic(AbstractPrimalHeuristic<T, U, V> primalHeuristic){
+		primalHeuristic.registerBAP(this);
+		int index=primalHeuristics.size();
+		if(!primalHeuristic.solvesNodes()){ //Insert the heuristic before the first heuristic which solves nodes
+			while(index > 0 && primalHeuristics.get(index-1).solvesNodes())
+				index--;
+		}
+		primalHeuristics.add(index, primalHeuristic);
+	}
+
+	/**
+	 * Enables or disables seeding the master problem of every node with the columns from the column pool (see {@link #setColumnPool(ColumnPool)}) which are compatible with the
+	 * branching decisions of the node. Compatibility is tested once per column and branching decision (see {@link CompatibilityCache}). Without seeding, a child node only
+	 * inherits the compatible columns of the solution of its parent.
+	 * @param seedNodesFromColumnPool true to seed the master problem of every node with the column pool
+	 */
+	public void setColumnPoolSeeding(boolean seedNodesFromColumnPool){
+		this.seedNodesFromColumnPool=seedNodesFromColumnPool;
+	}
+
+	/**
+	 * Returns the cache which records whether the columns are compatible with the branching decisions
+	 * @return the compatibility cache
+	 */
+	public CompatibilityCache<T, U> getCompatibilityCache(){
+		return compatibilityCache;
+	}
+
+	/**
+	 * Registers a policy which decides whether the pricing problems may stop early, e.g. after a fixed number of columns has been found.
+	 * See {@link PartialPricingPolicy}.
+	 * @param partialPricingPolicy partial pricing policy, or null to solve all pricing problems to completion
+	 */
+	public void setPartialPricingPolicy(PartialPricingPolicy partialPricingPolicy){
+		this.partialPricingPolicy=partialPricingPolicy;
+		pricingProblemManager.setPartialPricingPolicy(partialPricingPolicy);
+	}
+
+	/**
+	 * Sets the executor which solves the pricing problems, see {@link PricingProblemManager#setExecutor(ExecutorService)}. In the parallel Branch-and-Price procedure, the executor is shared
+	 * by all workers, which allows a work-stealing pool to balance the pricing problems of all workers over a single set of threads. The executor is not shut down by this class.
+	 * @param pricingExecutor executor, or null to let every worker create its own executor of type {@link Configuration#PRICING_EXECUTOR}
+	 */
+	public void setPricingExecutor(ExecutorService pricingExecutor){
+		this.pricingExecutor=pricingExecutor;
+		pricingProblemManager.setExecutor(pricingExecutor);
+	}
+
+	/**
+	 * Sets the time budget of all instances of the given solver, see {@link PricingProblemManager#setTimeBudget(Class, TimeBudget)}. A solver instance which runs out of its budget
+	 * does not produce columns, and no bound is derived from the pricing round; the node is not aborted. In the parallel Branch-and-Price procedure, the budget applies to every worker.
+	 * @param solver solver
+	 * @param timeBudget time budget, or null to remove the budget
+	 */
+	public void setPricingTimeBudget(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, TimeBudget timeBudget){
+		if(timeBudget == null)
+			solverTimeBudgets.remove(solver);
+		else
+			solverTimeBudgets.put(solver, timeBudget);
+		pricingProblemManager.setTimeBudget(solver, timeBudget);
+	}
+
+	/**
+	 * Sets the time budget of the solver instances of the given pricing problem, see {@link #setPricingTimeBudget(Class, TimeBudget)}. In the parallel Branch-and-Price procedure,
+	 * the budget applies to the corresponding pricing problem of every worker.
+	 * @param pricingProblem one of the pricing problems provided to the constructor
+	 * @param timeBudget time budget, or null to remove the budget
+	 */
+	public void setPricingTimeBudget(V pricingProblem, TimeBudget timeBudget){
+		int index=pricingProblems.indexOf(pricingProblem);
+		if(index < 0)
+			throw new IllegalArgumentException("Unknown pricing problem: "+pricingProblem);
+		if(timeBudget == null)
+			pricingProblemTimeBudgets.remove(index);
+		else
+			pricingProblemTimeBudgets.put(index, timeBudget);
+		pricingProblemManager.setTimeBudget(pricingProblem, timeBudget);
+	}
+
+	/**
+	 * Sets the number of times a node may be put back in the queue because pricing ran out of its time budget (see {@link #setPricingTimeBudget(Class, TimeBudget)}).
+	 * When the node is processed again after it has been put back in the queue this many times, its pricing problems are solved without time budgets.
+	 * @param maxNodeRequeues maximum number of times a node is put back in the queue (default: 3)
+	 */
+	public void setMaxNodeRequeues(int maxNodeRequeues){
+		if(maxNodeRequeues < 0)
+			throw new IllegalArgumentException("The maximum number of requeues must be non-negative");
+		this.maxNodeRequeues=maxNodeRequeues;
+	}
+
+	/**
+	 * Enables periodic checkpoints of the Branch-and-Price tree. A checkpoint contains the open nodes, the incumbent solution, the inequalities in the master problem, the columns in the column pool,
+	 * the pseudo-costs of the branching candidate evaluator and the statistics of the run. Checkpoints are written between nodes, whenever the checkpoint interval has passed since the previous
+	 * checkpoint, as well as at the end of the run, e.g. when the time limit is reached. In the parallel Branch-and-Price procedure, the workers stop selecting new nodes when a checkpoint is due, and the
+	 * checkpoint is written as soon as all workers are idle. Each checkpoint replaces the previous checkpoint. A run can be resumed from a checkpoint through {@link #restoreCheckpoint(File, CheckpointCodec)}.
+	 * The state of node selectors is not part of a checkpoint.
+	 * @param checkpointFile file to which the checkpoints are written, or null to disable checkpoints
+	 * @param checkpointCodec codec which encodes the columns, branching decisions, inequalities and branching keys
+	 * @param checkpointInterval minimum time between two consecutive checkpoints (ms)
+	 */
+	public void setCheckpointing(File checkpointFile, CheckpointCodec<U> checkpointCodec, long checkpointInterval){
+		if(checkpointFile != null && checkpointCodec == null)
+			throw new IllegalArgumentException("A codec is required to write checkpoints");
+		if(checkpointInterval < 0)
+			throw new IllegalArgumentException("The checkpoint interval must be non-negative");
+		this.checkpointFile=checkpointFile;
+		this.checkpointCodec=checkpointCodec;
+		this.checkpointInterval=checkpointInterval;
+	}
+
+	/**
+	 * Restores the state of this instance from a checkpoint written by a previous run (see {@link #setCheckpointing(File, CheckpointCodec, long)}), possibly in another JVM. The open nodes of the
+	 * checkpoint replace the root node; nodes which were processed in the previous run are not solved again. The incumbent solution, the bounds, the statistics and the inequalities are restored
+	 * as well. The columns of the column pool and the pseudo-costs are only restored if a column pool (see {@link #setColumnPool(ColumnPool)}), respectively a branching candidate evaluator
+	 * (see {@link #setBranchingCandidateEvaluator(BranchingCandidateEvaluator)}), has been registered before invoking this method. Afterwards, the run is continued through runBranchAndPrice.
+	 * This method can only be invoked before the Branch-and-Price procedure has been started.
+	 * @param checkpointFile checkpoint file
+	 * @param checkpointCodec codec which decodes the columns, branching decisions, inequalities and branching keys
+	 */
+	public synchronized void restoreCheckpoint(File checkpointFile, CheckpointCodec<U> checkpointCodec){
+		if(nodesProcessed > 0 || queue.size() != 1 || queue.peek() != rootNode || rootNode.nodeID != 0)
+			throw new RuntimeException("This method can only be invoked at the start of the Branch-and-Price procedure, before runBranchAndPrice is invoked");
+		BAPCheckpoint.restore(this, checkpointFile, checkpointCodec);
+		logger.debug("Restored checkpoint from {}: {} open nodes, {} nodes processed", checkpointFile, queue.size(), nodesProcessed);
 	}
 
 	/**
@@ -535,25 +1353,185 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	public void close(){
 		master.close();
 		pricingProblemManager.close();
+		if(nodeStore != null)
+			nodeStore.close();
+	}
+
+
+	/**
+	 * Worker which processes nodes in the Branch-and-Price tree. Each worker owns a master problem, pricing problems, pricing problem solvers and branch creators,
+	 * as well as a GraphManipulator which applies the branching decisions of the node being processed to these objects.
+	 */
+	protected final class BAPWorker{
+		/** Master problem **/
+		protected final AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master;
+		/** Pricing problems **/
+		protected final List<V> pricingProblems;
+		/** Branch creators which determine how to branch **/
+		protected final List<? extends AbstractBranchCreator<T, U, V>> branchCreators;
+		/** Pricing problem manager which solves the pricing problems of this worker in parallel **/
+		protected final PricingProblemManager<T, U, V> pricingProblemManager;
+		/** Applies the branching decisions to the master problem, pricing problems and solvers of this worker **/
+		protected final GraphManipulator graphManipulator;
+
+		/**
+		 * Creates a new worker
+		 * @param master master problem
+		 * @param pricingProblems pricing problems
+		 * @param branchCreators branch creators
+		 * @param graphManipulator GraphManipulator of this worker
+		 */
+		private BAPWorker(AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master, List<V> pricingProblems, List<? extends AbstractBranchCreator<T, U, V>> branchCreators, GraphManipulator graphManipulator){
+			this.master=master;
+			this.pricingProblems=pricingProblems;
+			this.branchCreators=branchCreators;
+			this.graphManipulator=graphManipulator;
+			for(int i=0; i<pricingProblems.size(); i++)
+				pricingProblemIndices.put(pricingProblems.get(i), i);
+
+			//Initialize pricing algorithms
+			Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, PricingProblemBundle<T, U, V>> pricingProblemBundles=new HashMap<>();
+			for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solverClass : solvers){
+				DefaultPricingProblemSolverFactory<T, U, V> factory=new DefaultPricingProblemSolverFactory<>(solverClass, dataModel);
+				PricingProblemBundle<T, U, V> bunddle=new PricingProblemBundle<>(solverClass, pricingProblems, factory);
+				pricingProblemBundles.put(solverClass, bunddle);
+			}
+
+			//Create a pricing problem manager for parallel execution of the pricing problems
+			pricingProblemManager=new PricingProblemManager<>(pricingProblems, pricingProblemBundles);
+			pricingProblemManager.setPartialPricingPolicy(partialPricingPolicy);
+			if(pricingExecutor != null)
+				pricingProblemManager.setExecutor(pricingExecutor);
+			for(Map.Entry<Class<? extends AbstractPricingProblemSolver<T, U, V>>, TimeBudget> entry : solverTimeBudgets.entrySet())
+				pricingProblemManager.setTimeBudget(entry.getKey(), entry.getValue());
+			for(Map.Entry<Integer, TimeBudget> entry : pricingProblemTimeBudgets.entrySet())
+				pricingProblemManager.setTimeBudget(pricingProblems.get(entry.getKey()), entry.getValue());
+
+			//Add the master problem and the pricing problem solver instances as BranchingDecisionListeners
+			graphManipulator.addBranchingDecisionListener(master);
+			for(V pricingProblem : pricingProblems)
+				graphManipulator.addBranchingDecisionListener(pricingProblem);
+			for(PricingProblemBundle<T, U, V> bunddle : pricingProblemBundles.values()){
+				for(AbstractPricingProblemSolver solverInstance : bunddle.solverInstances)
+					graphManipulator.addBranchingDecisionListener(solverInstance);
+			}
+
+			//Register this class with the branch creators
+			for(AbstractBranchCreator<T,U,V> branchCreator : branchCreators)
+				branchCreator.registerBAP(AbstractBranchAndPrice.this);
+		}
+
+		/**
+		 * Creates a new worker from a replica
+		 * @param replica replica of the master problem, pricing problems and branch creators
+		 */
+		private BAPWorker(BAPReplica<T, U, V> replica){
+			this(replica.master, replica.pricingProblems, replica.branchCreators, new GraphManipulator(rootNode));
+			synchronized (AbstractBranchAndPrice.this) {
+				for(BranchingDecisionListener listener : branchingDecisionListeners)
+					graphManipulator.addBranchingDecisionListener(listener);
+			}
+		}
+
+		/**
+		 * Replaces every column which is associated with a pricing problem of another worker by its translation (see {@link #translateColumn(AbstractColumn, AbstractPricingProblem)})
+		 * @param columns columns
+		 */
+		private void translateColumns(List<U> columns){
+			for(ListIterator<U> it=columns.listIterator(); it.hasNext(); ){
+				U column=it.next();
+				Integer index=pricingProblemIndices.get(column.associatedPricingProblem);
+				if(index != null && pricingProblems.get(index) != column.associatedPricingProblem)
+					it.set(translateColumn(column, pricingProblems.get(index)));
+			}
+		}
+
+		/**
+		 * Processes nodes from the shared queue until the queue is empty and none of the other workers is processing a node, or until the workers are requested to stop.
+		 * @param timeLimit future point in time by which the method must be finished
+		 * @throws InterruptedException if the worker got interrupted while waiting for a node
+		 */
+		private void processNodes(long timeLimit) throws InterruptedException {
+			AbstractBranchAndPrice<T, U, V> bap=AbstractBranchAndPrice.this;
+			while(true){
+				BAPNode<T, U> bapNode;
+				synchronized (bap) {
+					//Wait for a node. While a checkpoint is due, no new nodes are selected, and the checkpoint is written once all workers are idle
+					while(true){
+						boolean checkpointDue=isCheckpointDue();
+						if(checkpointDue && nrActiveWorkers == 0){
+							writeCheckpoint();
+							checkpointDue=false;
+						}
+						if(stopWorkers || (queue.isEmpty() && nrActiveWorkers == 0))
+							return;
+						if(!queue.isEmpty() && !checkpointDue)
+							break;
+						bap.wait();
+					}
+					bapNode=pollNode();
+					nrActiveWorkers++;
+				}
+
+				boolean processed=false;
+				try {
+					processNode(bapNode, this, timeLimit);
+					processed=true;
+				} catch (TimeLimitExceededException e) {
+					synchronized (bap) {
+						queue.add(bapNode);
+					}
+					notifier.fireTimeOutEvent(bapNode);
+				} finally {
+					synchronized (bap) {
+						nrActiveWorkers--;
+						if(!processed)
+							stopWorkers=true;
+						bap.notifyAll();
+					}
+				}
+			}
+		}
+
+		/**
+		 * Destroys the master problem and the pricing problems of this worker
+		 */
+		private void close(){
+			master.close();
+			pricingProblemManager.close();
+		}
 	}
 
 
 	//----------------------------- Listeners and Notifiers -----------------------------
 
 	/**
-	 * Adds a BranchingDecisionListener
+	 * Adds a BranchingDecisionListener. The listener is registered with the GraphManipulator of every worker, including the workers of the parallel Branch-and-Price procedure
+	 * (see {@link #runBranchAndPrice(long, int)}). Listeners should be added before the Branch-and-Price procedure is started.
 	 * @param listener listener
 	 */
-	public void addBranchingDecisionListener(BranchingDecisionListener listener){
-		graphManipulator.addBranchingDecisionListener(listener);
+	public synchronized void addBranchingDecisionListener(BranchingDecisionListener listener){
+		branchingDecisionListeners.add(listener);
+		for(BAPWorker worker : workers)
+			worker.graphManipulator.addBranchingDecisionListener(listener);
 	}
 
 	/**
-	 * Removes a BranchingDecisionListener
+	 * Removes a BranchingDecisionListener from the GraphManipulator of every worker
 	 * @param listener listener
 	 */
-	public void removeBranchingDecisionListener(BranchingDecisionListener listener){
-		graphManipulator.removeBranchingDecisionListener(listener);
+	public synchronized void removeBranchingDecisionListener(BranchingDecisionListener listener){
+		branchingDecisionListeners.remove(listener);
+		for(BAPWorker worker : workers)
+			worker.graphManipulator.removeBranchingDecisionListener(listener);
+	}
+
+	/**
+	 * Returns a snapshot of the workers which are currently processing the Branch-and-Price tree
+	 * @return workers
+	 */
+	private synchronized List<BAPWorker> getWorkers(){
+		return new ArrayList<>(workers);
 	}
 
 	/**
@@ -621,7 +1599,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		/**
 		 * Fires a StartEvent
 		 */
-		public void fireStartBAPEvent(){
+		public synchronized void fireStartBAPEvent(){
 			StartEvent startEvent =null;
 			for(BAPListener listener : listeners){
 				if(startEvent ==null)
@@ -633,7 +1611,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		/**
 		 * Fires a FinishEvent
 		 */
-		public void fireStopBAPEvent(){
+		public synchronized void fireStopBAPEvent(){
 			FinishEvent finishEvent =null;
 			for(BAPListener listener : listeners){
 				if(finishEvent ==null)
@@ -648,7 +1626,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param nodeBound Bound on the node
 		 * @param nodeValue Objective value of the node
 		 */
-		public void fireNodeIsFractionalEvent(BAPNode node, double nodeBound, double nodeValue){
+		public synchronized void fireNodeIsFractionalEvent(BAPNode node, double nodeBound, double nodeValue){
 			NodeIsFractionalEvent nodeIsFractionalEvent=null;
 			for(BAPListener listener : listeners){
 				if(nodeIsFractionalEvent==null)
@@ -663,7 +1641,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param nodeBound Bound on the node
 		 * @param nodeValue Objective value of the node
 		 */
-		public void fireNodeIsIntegerEvent(BAPNode node, double nodeBound, int nodeValue){
+		public synchronized void fireNodeIsIntegerEvent(BAPNode node, double nodeBound, int nodeValue){
 			NodeIsIntegerEvent nodeIsIntegerEvent=null;
 			for(BAPListener listener : listeners){
 				if(nodeIsIntegerEvent==null)
@@ -676,7 +1654,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * Fires a NodeIsInfeasibleEvent
 		 * @param node Node which is infeasible
 		 */
-		public void fireNodeIsInfeasibleEvent(BAPNode node){
+		public synchronized void fireNodeIsInfeasibleEvent(BAPNode node){
 			NodeIsInfeasibleEvent nodeIsInfeasibleEvent=null;
 			for(BAPListener listener : listeners){
 				if(nodeIsInfeasibleEvent==null)
@@ -690,7 +1668,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param node Node being pruned
 		 * @param nodeBound Bound on the node
 		 */
-		public void firePruneNodeEvent(BAPNode node, double nodeBound){
+		public synchronized void firePruneNodeEvent(BAPNode node, double nodeBound){
 			PruneNodeEvent pruneNodeEvent=null;
 			for(BAPListener listener : listeners){
 				if(pruneNodeEvent==null)
@@ -703,7 +1681,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * Fires a ProcessingNextNodeEvent
 		 * @param node Node which will be processed
 		 */
-		public  void fireNextNodeEvent(BAPNode node){
+		public synchronized void fireNextNodeEvent(BAPNode node){
 			ProcessingNextNodeEvent processingNextNodeEvent=null;
 			for(BAPListener listener : listeners){
 				if(processingNextNodeEvent==null)
@@ -722,7 +1700,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param pricingSolveTime Total time spent on solving pricing problems for this node
 		 * @param nrGeneratedColumns Total number of columns generated for this node
 		 */
-		public void fireFinishCGEvent(BAPNode node, double nodeBound, double nodeValue, int numberOfCGIterations, long masterSolveTime, long pricingSolveTime, int nrGeneratedColumns){
+		public synchronized void fireFinishCGEvent(BAPNode node, double nodeBound, double nodeValue, int numberOfCGIterations, long masterSolveTime, long pricingSolveTime, int nrGeneratedColumns){
 			FinishProcessingNodeEvent finishProcessingNodeEvent =null;
 			for(BAPListener listener : listeners){
 				if(finishProcessingNodeEvent ==null)
@@ -736,7 +1714,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param parentNode Parent node
 		 * @param childNodes Child nodes spawned from the branching process
 		 */
-		public void fireBranchEvent(BAPNode parentNode, List<BAPNode> childNodes){
+		public synchronized void fireBranchEvent(BAPNode parentNode, List<BAPNode> childNodes){
 			BranchEvent branchEvent=null;
 			for(BAPListener listener : listeners){
 				if(branchEvent==null)
@@ -749,7 +1727,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * Fires a TimeLimitExceededEvent
 		 * @param node Node which was being processed when the event occurred
 		 */
-		public  void fireTimeOutEvent(BAPNode node){
+		public synchronized void fireTimeOutEvent(BAPNode node){
 			TimeLimitExceededEvent timeLimitExceededEvent =null;
 			for(BAPListener listener : listeners){
 				if(timeLimitExceededEvent ==null)
@@ -101,6 +101,21 @@ public abstract class AbstractBranchCreator<T,U extends AbstractColumn<T, V>,V e
 		return this.getBranches(parentNode);
 	}
 
+	/**
+	 * Returns the candidates on which the given node may be branched (see {@link BranchingCandidate}). This method is used instead of {@link #branch(BAPNode)} whenever a
+	 * {@link BranchingCandidateEvaluator} is registered with the Branch-and-Price instance; the evaluator selects the candidate with the best score. By default, the branches created
+	 * by {@link #branch(BAPNode)} constitute a single candidate without a key, for which no pseudo-costs are maintained. Branch creators which are able to branch on multiple objects
+	 * (e.g. multiple fractional edges) should override this method, creating the child nodes of each candidate through {@link #createBranch(BAPNode, BranchingDecision, List, List)}.
+	 * @param parentNode Node on which we branch
+	 * @return List of branching candidates, or an empty list if no branches can be created
+	 */
+	public List<BranchingCandidate<T,U>> getBranchingCandidates(BAPNode<T,U> parentNode){
+		List<BAPNode<T,U>> childNodes=this.branch(parentNode);
+		if(childNodes.isEmpty())
+			return Collections.emptyList();
+		return Collections.singletonList(new BranchingCandidate<>(null, childNodes));
+	}
+
 	/**
 	 * This method decides whether the branching can be performed. To reduce overhead, this method should also store on which aspect of the problem
 	 * it should branch, e.g. an edge or a variable.
@@ -127,16 +142,12 @@ public abstract class AbstractBranchCreator<T,U extends AbstractColumn<T, V>,V e
 	 */
 	protected <B extends BranchingDecision<T,U>> BAPNode<T,U> createBranch(BAPNode<T,U> parentNode, B branchingDecision, List<U> solution, List<AbstractInequality> inequalities){
 		int childNodeID= bap.getUniqueNodeID();
-		List<Integer> rootPath1=new ArrayList<>(parentNode.rootPath);
-		rootPath1.add(childNodeID);
 		//Copy columns from the parent to the child. The columns need to comply with the Branching Decision. Artificial columns are ignored
 		List<U> initSolution= solution.stream().filter(column -> !column.isArtificialColumn && branchingDecision.columnIsCompatibleWithBranchingDecision(column)).collect(Collectors.toList());
 		//Copy inequalities to the child node whenever applicable
 		List<AbstractInequality> initCuts= inequalities.stream().filter(inequality -> branchingDecision.inEqualityIsCompatibleWithBranchingDecision(inequality)).collect(Collectors.toList());
 
-		List<BranchingDecision> branchingDecisions=new ArrayList<>(parentNode.branchingDecisions);
-		branchingDecisions.add(branchingDecision);
-		return new BAPNode<>(childNodeID, rootPath1, initSolution, initCuts, parentNode.bound, branchingDecisions);
+		return new BAPNode<>(childNodeID, parentNode, branchingDecision, initSolution, initCuts, parentNode.bound);
 	}
 
 }
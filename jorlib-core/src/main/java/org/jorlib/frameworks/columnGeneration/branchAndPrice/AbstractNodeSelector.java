@@ -0,0 +1,113 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractNodeSelector.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Node selector which determines the order in which the nodes in the Branch-and-Price tree are processed. Contrary to a plain {@link Comparator}, a node selector has access to
+ * the state of the search: it is registered with the Branch-and-Price instance (see {@link AbstractBranchAndPrice#setNodeOrdering(Comparator)}), so it may query
+ * the incumbent solution and the bounds, and it is informed whenever a node is selected or branched on.<br>
+ * The queue of unexplored nodes is a priority queue, so the relative order of two nodes may not change while they reside in the queue. A selector which changes its ordering,
+ * e.g. because it switches between diving and best-bound search, must report this through {@link #updateOrdering()}, after which the queue is rebuilt.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+@SuppressWarnings("rawtypes") //Node orderings are comparators on raw BAPNodes (see AbstractBranchAndPrice#setNodeOrdering)
+public abstract class AbstractNodeSelector<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> implements Comparator<BAPNode>{
+
+	/** Branch-and-Price instance which uses this selector **/
+	protected AbstractBranchAndPrice<T, U, V> bap=null;
+
+	/**
+	 * Registers the Branch-and-Price problem which uses this selector.
+	 * @param bap Branch-and-Price class
+	 */
+	protected void registerBAP(AbstractBranchAndPrice<T, U, V> bap){
+		if(this.bap != null && this.bap != bap)
+			throw new RuntimeException("This class can only be associated with a Branch-and-Price problem once!");
+		this.bap=bap;
+	}
+
+	/**
+	 * Invoked when the given node has been selected from the queue, just before it is processed.
+	 * @param node selected node
+	 */
+	protected void nodeSelected(BAPNode<T, U> node){}
+
+	/**
+	 * Invoked when the given node has been branched on, before the child nodes are added to the queue. Selectors may use this method to initialize
+	 * the child nodes, e.g. by computing an estimate (see {@link BAPNode#setEstimate(double)}).
+	 * @param parentNode node which has been branched on
+	 * @param childNodes child nodes
+	 */
+	protected void branchCreated(BAPNode<T, U> parentNode, List<BAPNode<T, U>> childNodes){}
+
+	/**
+	 * Selects the next node to be processed and removes it from the queue. By default, the head of the queue, i.e. the smallest node according to this selector, is selected.
+	 * Selectors which take more than the relative order of the nodes into account, e.g. the effort to move from the previously processed node to the next node, may override this
+	 * method, using {@link BAPNodeQueue#getNodesWithinBound(double, int)} and {@link BAPNodeQueue#poll(BAPNode)}.
+	 * @param queue queue of unexplored nodes
+	 * @return the node which is removed from the queue, or null if the queue is empty
+	 */
+	protected BAPNode<T, U> selectNode(BAPNodeQueue<T, U> queue){
+		return queue.poll();
+	}
+
+	/**
+	 * Invoked before a node is selected from the queue. A selector which changes the relative order of the nodes in the queue must return true, after which the queue is rebuilt.
+	 * @return true if the ordering of the nodes has changed since the last invocation of this method
+	 */
+	protected boolean updateOrdering(){
+		return false;
+	}
+
+	/**
+	 * Returns the optimization sense of the master problem
+	 * @return the optimization sense of the master problem
+	 */
+	protected OptimizationSense getOptimizationSense(){
+		return bap.optimizationSenseMaster;
+	}
+
+	/**
+	 * Compares two values in the objective space, such that the better value comes first, i.e. the smaller value of a minimization problem or the larger value of a maximization problem.
+	 * @param value1 first value
+	 * @param value2 second value
+	 * @return a negative integer, zero, or a positive integer if the first value is better than, equal to, or worse than the second value
+	 */
+	protected int compareObjectiveValues(double value1, double value2){
+		return (this.getOptimizationSense() == OptimizationSense.MINIMIZE ? Double.compare(value1, value2) : Double.compare(value2, value1));
+	}
+}
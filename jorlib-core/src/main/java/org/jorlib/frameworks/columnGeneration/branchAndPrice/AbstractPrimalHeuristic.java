@@ -0,0 +1,213 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractPrimalHeuristic.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Primal heuristic which attempts to find an integer solution at a node of the Branch-and-Price tree. Without primal heuristics, integer solutions are only found when the
+ * solution of a node happens to be integral. Heuristics are registered through {@link AbstractBranchAndPrice#addPrimalHeuristic(AbstractPrimalHeuristic)}, and are invoked, in the order in
+ * which they were registered, after a node has been solved and found to be fractional, before the node is branched on. Heuristics which solve nodes (see {@link #solvesNodes()}) are
+ * always invoked after the heuristics which do not. A solution found by a heuristic immediately replaces the incumbent
+ * solution if it improves upon it, after which the queue is pruned; the node itself is pruned as well if its bound is no longer better than the incumbent.<br>
+ * A heuristic is invoked at the nodes whose depth is a multiple of its frequency, up to its maximum depth. A frequency of 0 restricts the heuristic to the root node.
+ * In the parallel Branch-and-Price procedure, heuristics are invoked concurrently by the workers, each using the master problem of its own worker.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public abstract class AbstractPrimalHeuristic<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Branch-and-Price instance which uses this heuristic **/
+	protected AbstractBranchAndPrice<T, U, V> bap=null;
+	/** The heuristic is invoked at the nodes whose depth is a multiple of the frequency; 0 restricts the heuristic to the root node **/
+	protected final int frequency;
+	/** Maximum depth of the nodes at which the heuristic is invoked **/
+	protected final int maxDepth;
+
+	/** Number of times the heuristic has been invoked **/
+	private final AtomicInteger nrCalls=new AtomicInteger();
+	/** Number of solutions found by the heuristic **/
+	private final AtomicInteger nrSolutions=new AtomicInteger();
+	/** Total time spent in the heuristic (ms) **/
+	private final AtomicLong time=new AtomicLong();
+
+	/**
+	 * Creates a new primal heuristic
+	 * @param frequency the heuristic is invoked at the nodes whose depth is a multiple of the frequency; 0 restricts the heuristic to the root node
+	 * @param maxDepth maximum depth of the nodes at which the heuristic is invoked
+	 */
+	public AbstractPrimalHeuristic(int frequency, int maxDepth){
+		if(frequency < 0 || maxDepth < 0)
+			throw new IllegalArgumentException("The frequency and the maximum depth must be non-negative");
+		this.frequency=frequency;
+		this.maxDepth=maxDepth;
+	}
+
+	/**
+	 * Registers the Branch-and-Price problem which uses this heuristic.
+	 * @param bap Branch-and-Price class
+	 */
+	protected void registerBAP(AbstractBranchAndPrice<T, U, V> bap){
+		if(this.bap != null && this.bap != bap)
+			throw new RuntimeException("This class can only be associated with a Branch-and-Price problem once!");
+		this.bap=bap;
+	}
+
+	/**
+	 * Returns whether the heuristic should be invoked at the given node
+	 * @param node node in the Branch-and-Price tree
+	 * @return true if the heuristic should be invoked
+	 */
+	protected boolean shouldRun(BAPNode<T, U> node){
+		int depth=node.getNodeDepth();
+		return depth <= maxDepth && (frequency == 0 ? depth == 0 : depth % frequency == 0);
+	}
+
+	/**
+	 * Invokes the heuristic and records its statistics
+	 * @param node node in the Branch-and-Price tree, which has been solved
+	 * @param master master problem, containing the columns and branching decisions of the node
+	 * @param nodeSolver solves the nodes below the given node
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @return an integer solution, or null if no solution was found
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	final PrimalSolution<U> run(BAPNode<T, U> node, AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master, NodeSolver<T, U> nodeSolver, long timeLimit) throws TimeLimitExceededException {
+		nrCalls.incrementAndGet();
+		long startTime=System.currentTimeMillis();
+		try {
+			PrimalSolution<U> solution=this.findSolution(node, master, nodeSolver, timeLimit);
+			if(solution != null)
+				nrSolutions.incrementAndGet();
+			return solution;
+		}finally {
+			time.addAndGet(System.currentTimeMillis()-startTime);
+		}
+	}
+
+	/**
+	 * Attempts to find an integer solution at the given node. The solution of the node is available through {@link BAPNode#getSolution()}. The master problem contains the
+	 * columns of the node, and the branching decisions leading to the node have been applied to the master problem and the pricing problems; any modification of the master problem
+	 * must be reverted before this method returns. Nodes below the given node, e.g. the nodes of a dive, may be solved through the nodeSolver, in which case {@link #solvesNodes()} must
+	 * return true. The branching decisions are restored to the state of the given node after this method returns, but the master problem is not: it may still contain the model of the
+	 * last node which has been solved.
+	 * @param node node in the Branch-and-Price tree, which has been solved
+	 * @param master master problem
+	 * @param nodeSolver solves the nodes below the given node
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @return an integer solution, or null if no solution was found
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected abstract PrimalSolution<U> findSolution(BAPNode<T, U> node, AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master, NodeSolver<T, U> nodeSolver, long timeLimit) throws TimeLimitExceededException;
+
+	/**
+	 * Returns whether the heuristic solves nodes through the {@link NodeSolver}. Solving a node replaces the content of the master problem, which is not restored afterwards, since
+	 * masters typically rebuild their model when a branching decision is performed, and ignore reversals. Such heuristics are therefore invoked after all heuristics which do not
+	 * solve nodes, e.g. after a heuristic which relies on the columns of the node residing in the master problem.
+	 * @return true if the heuristic solves nodes, false otherwise (default)
+	 */
+	protected boolean solvesNodes(){
+		return false;
+	}
+
+	/**
+	 * Returns the optimization sense of the master problem
+	 * @return the optimization sense of the master problem
+	 */
+	protected OptimizationSense getOptimizationSense(){
+		return bap.optimizationSenseMaster;
+	}
+
+	/**
+	 * Returns the number of times the heuristic has been invoked
+	 * @return the number of calls
+	 */
+	public int getNrCalls(){
+		return nrCalls.get();
+	}
+
+	/**
+	 * Returns the number of solutions found by the heuristic, including solutions which did not improve the incumbent solution
+	 * @return the number of solutions found
+	 */
+	public int getNrSolutions(){
+		return nrSolutions.get();
+	}
+
+	/**
+	 * Returns the total time spent in the heuristic
+	 * @return the total time spent in the heuristic (ms)
+	 */
+	public long getTime(){
+		return time.get();
+	}
+
+	/**
+	 * Solves the nodes below the node at which the heuristic is invoked, using the master problem and the pricing problems of the worker which processes the node
+	 */
+	public interface NodeSolver<T, U extends AbstractColumn<T, ?>>{
+		/**
+		 * Applies the branching decisions of the given node, and solves the node with a limited number of column generation iterations. The solution is stored in the node.
+		 * @param node node below the node at which the heuristic is invoked
+		 * @param iterationLimit maximum number of column generation iterations
+		 * @throws TimeLimitExceededException TimeLimitExceededException
+		 */
+		void solve(BAPNode<T, U> node, int iterationLimit) throws TimeLimitExceededException;
+
+		/**
+		 * Creates the child nodes of a solved node, using the branch creators of the Branch-and-Price instance. The child nodes are not added to the queue.
+		 * @param node solved node
+		 * @return the child nodes, or an empty list if none of the branch creators produced any branches
+		 */
+		List<BAPNode<T, U>> branch(BAPNode<T, U> node);
+
+		/**
+		 * Tests whether the solution of a solved node is integer (see {@link AbstractBranchAndPrice#isIntegerNode(BAPNode)})
+		 * @param node solved node
+		 * @return true if the solution of the node is integer
+		 */
+		boolean isIntegerNode(BAPNode<T, U> node);
+
+		/**
+		 * Tests whether a solved node is infeasible, or can be pruned given the incumbent solution
+		 * @param node solved node
+		 * @return true if the node is infeasible or can be pruned
+		 */
+		boolean isInfeasibleOrPruned(BAPNode<T, U> node);
+	}
+}
@@ -0,0 +1,285 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPCheckpoint.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.CheckpointCodec;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Writes checkpoints of a Branch-and-Price run to disk, and restores a Branch-and-Price instance from a checkpoint (see {@link AbstractBranchAndPrice#setCheckpointing(File, CheckpointCodec, long)}).
+ * A checkpoint contains the open nodes of the Branch-and-Price tree, the incumbent solution, the inequalities in the master problem, the columns in the column pool, the pseudo-costs
+ * and the statistics of the run. Nodes which have been processed are not part of the checkpoint, and are hence never solved again. A checkpoint is first written to a temporary
+ * file, which then replaces the previous checkpoint, so a run which is killed while writing a checkpoint leaves the previous checkpoint intact.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+final class BAPCheckpoint {
+
+	/** Identifies a checkpoint file **/
+	private static final int MAGIC=0x4a4f5243;
+	/** Version of the checkpoint format **/
+	private static final int VERSION=3;
+
+	private BAPCheckpoint(){}
+
+	/**
+	 * Writes a checkpoint of the given Branch-and-Price instance. This method must be invoked while none of the nodes in the Branch-and-Price tree is being processed.
+	 * @param bap Branch-and-Price instance
+	 * @param file checkpoint file
+	 * @param codec codec which encodes the columns, branching decisions, inequalities and branching keys
+	 */
+	static <T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> void write(AbstractBranchAndPrice<T, U, V> bap, File file, CheckpointCodec<U> codec){
+		File tmpFile=new File(file.getAbsoluteFile().getParentFile(), file.getName()+".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+
+				//Statistics
+				out.writeInt(bap.nodeCounter);
+				out.writeInt(bap.nodesProcessed);
+				out.writeLong(bap.timeSolvingMaster);
+				out.writeLong(bap.timeSolvingPricing);
+				out.writeLong(System.currentTimeMillis()-bap.runtime);
+				out.writeInt(bap.totalGeneratedColumns);
+				out.writeInt(bap.totalNrIterations);
+				out.writeInt(bap.nrNodesTailingOff);
+				out.writeDouble(bap.lowerBoundOnObjective);
+				out.writeDouble(bap.upperBoundOnObjective);
+				out.writeDouble(bap.rootNode.getBound());
+
+				//Incumbent solution and inequalities
+				out.writeInt(bap.objectiveIncumbentSolution);
+				writeColumns(bap.incumbentSolution, out, codec);
+				writeInequalities(bap.master.hasCutHandler() ? bap.master.getCuts() : Collections.emptyList(), out, codec);
+
+				//Open nodes
+				out.writeInt(bap.queue.size());
+				for(BAPNode<T, U> node : bap.queue){
+					List<Integer> rootPath=node.getRootPath();
+					List<BranchingDecision<?, ?>> branchingDecisions=node.getBranchingDecisions();
+					out.writeInt(node.nodeID);
+					out.writeInt(rootPath.size());
+					for(int nodeID : rootPath)
+						out.writeInt(nodeID);
+					out.writeInt(branchingDecisions.size());
+					for(BranchingDecision<?, ?> bd : branchingDecisions)
+						codec.encodeBranchingDecision(bd, out);
+					out.writeDouble(node.getBound());
+					out.writeDouble(node.getEstimate());
+					out.writeBoolean(node.isTimeBudgetExhausted());
+					out.writeBoolean(node.isInitialSolutionGenerated());
+					out.writeInt(node.getNrRequeues());
+					writeColumns(bap.translateToMainWorker(bap.queue.getInitialColumns(node)), out, codec);
+					writeInequalities(node.initialInequalities, out, codec);
+				}
+
+				//Column pool and pseudo-costs
+				out.writeBoolean(bap.columnPool != null);
+				if(bap.columnPool != null)
+					writeColumns(bap.columnPool.getColumns(), out, codec);
+				out.writeBoolean(bap.branchingCandidateEvaluator != null);
+				if(bap.branchingCandidateEvaluator != null)
+					bap.branchingCandidateEvaluator.getPseudoCosts().write(out, codec);
+			}
+			try {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to write checkpoint to "+file, e);
+		}
+	}
+
+	/**
+	 * Restores the state of the given Branch-and-Price instance from a checkpoint. The open nodes of the checkpoint replace the root node. The columns of the column pool and the pseudo-costs are
+	 * only restored if a column pool, respectively a branching candidate evaluator, has been registered with the Branch-and-Price instance.
+	 * @param bap Branch-and-Price instance, which has not been started yet
+	 * @param file checkpoint file
+	 * @param codec codec which decodes the columns, branching decisions, inequalities and branching keys
+	 */
+	static <T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> void restore(AbstractBranchAndPrice<T, U, V> bap, File file, CheckpointCodec<U> codec){
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if(in.readInt() != MAGIC)
+				throw new IOException("Not a Branch-and-Price checkpoint");
+			int version=in.readInt();
+			if(version != VERSION)
+				throw new IOException("Unsupported checkpoint version: "+version);
+
+			//Statistics
+			bap.nodeCounter=in.readInt();
+			bap.nodesProcessed=in.readInt();
+			bap.timeSolvingMaster=in.readLong();
+			bap.timeSolvingPricing=in.readLong();
+			bap.runtime=in.readLong();
+			bap.totalGeneratedColumns=in.readInt();
+			bap.totalNrIterations=in.readInt();
+			bap.nrNodesTailingOff=in.readInt();
+			bap.lowerBoundOnObjective=in.readDouble();
+			bap.upperBoundOnObjective=in.readDouble();
+			bap.rootNode.setBound(in.readDouble());
+
+			//Incumbent solution and inequalities
+			bap.objectiveIncumbentSolution=in.readInt();
+			bap.incumbentSolution=readColumns(in, codec);
+			List<AbstractInequality> cuts=readInequalities(in, codec);
+			if(!cuts.isEmpty())
+				bap.master.addCuts(cuts);
+
+			//Open nodes. Their ancestors are recreated without columns, and are shared by the nodes in the same subtree
+			bap.queue.clear();
+			Map<Integer, BAPNode<T, U>> ancestors=new HashMap<>();
+			ancestors.put(bap.rootNode.nodeID, bap.rootNode);
+			int nrNodes=in.readInt();
+			for(int i=0; i<nrNodes; i++){
+				int nodeID=in.readInt();
+				int pathLength=in.readInt();
+				List<Integer> rootPath=new ArrayList<>(pathLength);
+				for(int j=0; j<pathLength; j++)
+					rootPath.add(in.readInt());
+				int nrBranchingDecisions=in.readInt();
+				List<BranchingDecision<?, ?>> branchingDecisions=new ArrayList<>(nrBranchingDecisions);
+				for(int j=0; j<nrBranchingDecisions; j++)
+					branchingDecisions.add(codec.decodeBranchingDecision(in));
+				double bound=in.readDouble();
+				double estimate=in.readDouble();
+				boolean timeBudgetExhausted=in.readBoolean();
+				boolean initialSolutionGenerated=in.readBoolean();
+				int nrRequeues=in.readInt();
+				List<U> initialColumns=readColumns(in, codec);
+				List<AbstractInequality> initialInequalities=readInequalities(in, codec);
+				BAPNode<T, U> node;
+				if(nodeID == bap.rootNode.nodeID){ //The root node has not been processed yet
+					node=bap.rootNode;
+					node.setBound(bound);
+					node.addInitialColumns(initialColumns);
+				}else{
+					BAPNode<T, U> parent=bap.rootNode;
+					for(int j=1; j<pathLength-1; j++){
+						BAPNode<T, U> ancestor=ancestors.get(rootPath.get(j));
+						if(ancestor == null){
+							ancestor=new BAPNode<>(rootPath.get(j), parent, branchingDecisions.get(j-1), Collections.emptyList(), Collections.emptyList(), parent.getBound());
+							ancestors.put(ancestor.nodeID, ancestor);
+						}
+						parent=ancestor;
+					}
+					node=new BAPNode<>(nodeID, parent, branchingDecisions.get(nrBranchingDecisions-1), initialColumns, initialInequalities, bound);
+				}
+				node.setEstimate(estimate);
+				node.setTimeBudgetExhausted(timeBudgetExhausted);
+				node.setInitialSolutionGenerated(initialSolutionGenerated);
+				node.setNrRequeues(nrRequeues);
+				bap.queue.add(node);
+			}
+
+			//Column pool and pseudo-costs
+			if(in.readBoolean()){
+				List<U> poolColumns=readColumns(in, codec);
+				if(bap.columnPool != null)
+					bap.columnPool.addColumns(poolColumns);
+			}
+			if(in.readBoolean()){
+				PseudoCosts pseudoCosts=(bap.branchingCandidateEvaluator != null ? bap.branchingCandidateEvaluator.getPseudoCosts() : new PseudoCosts());
+				pseudoCosts.read(in, codec);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to restore checkpoint from "+file, e);
+		}
+	}
+
+	/**
+	 * Writes a list of columns
+	 * @param columns columns
+	 * @param out output
+	 * @param codec codec which encodes the columns
+	 * @throws IOException if the columns cannot be written
+	 */
+	private static <U> void writeColumns(List<U> columns, DataOutput out, CheckpointCodec<U> codec) throws IOException {
+		out.writeInt(columns.size());
+		for(U column : columns)
+			codec.encode(column, out);
+	}
+
+	/**
+	 * Reads a list of columns which has been written by {@link #writeColumns(List, DataOutput, CheckpointCodec)}
+	 * @param in input
+	 * @param codec codec which decodes the columns
+	 * @return list of columns
+	 * @throws IOException if the columns cannot be read
+	 */
+	private static <U> List<U> readColumns(DataInput in, CheckpointCodec<U> codec) throws IOException {
+		int nrColumns=in.readInt();
+		List<U> columns=new ArrayList<>(nrColumns);
+		for(int i=0; i<nrColumns; i++)
+			columns.add(codec.decode(in));
+		return columns;
+	}
+
+	/**
+	 * Writes a list of inequalities
+	 * @param inequalities inequalities
+	 * @param out output
+	 * @param codec codec which encodes the inequalities
+	 * @throws IOException if the inequalities cannot be written
+	 */
+	private static void writeInequalities(List<AbstractInequality> inequalities, DataOutput out, CheckpointCodec<?> codec) throws IOException {
+		out.writeInt(inequalities.size());
+		for(AbstractInequality inequality : inequalities)
+			codec.encodeInequality(inequality, out);
+	}
+
+	/**
+	 * Reads a list of inequalities which has been written by {@link #writeInequalities(List, DataOutput, CheckpointCodec)}
+	 * @param in input
+	 * @param codec codec which decodes the inequalities
+	 * @return list of inequalities
+	 * @throws IOException if the inequalities cannot be read
+	 */
+	private static List<AbstractInequality> readInequalities(DataInput in, CheckpointCodec<?> codec) throws IOException {
+		int nrInequalities=in.readInt();
+		List<AbstractInequality> inequalities=new ArrayList<>(nrInequalities);
+		for(int i=0; i<nrInequalities; i++)
+			inequalities.add(codec.decodeInequality(in));
+		return inequalities;
+	}
+}
@@ -28,6 +28,7 @@ package org.jorlib.frameworks.columnGeneration.branchAndPrice;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,14 +48,18 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 
 	/** Unique node ID **/
 	public final int nodeID;
-	/** Sequence of the IDs of the nodes encountered while walking from the root of the BAP tree to this node. rootPath[0]=0, rootPath[last(rootPath)]=this.nodeID **/
-	protected final List<Integer> rootPath;
-	/** List of branching decisions that lead to this node. **/
-	protected final List<BranchingDecision> branchingDecisions;
-	/** Columns used to initialize the master problem **/
-	protected final List<U> initialColumns;
+	/** Parent of this node in the BAP tree, or null if this is the root node. The path from the root to this node is shared with the other nodes in the same subtree **/
+	protected final BAPNode<T,U> parent;
+	/** Branching decision that links this node to its parent, or null if this is the root node **/
+	protected final BranchingDecision branchingDecision;
+	/** Depth of this node in the BAP tree; the depth of the root node is 0 **/
+	protected final int depth;
+	/** Columns used to initialize the master problem. The list is replaced while the columns of the node are spilled to disk, see {@link SpillingNodeStore} **/
+	protected List<U> initialColumns;
 	/** Valid inequalities used to initialize the master problem of this node **/
 	protected final List<AbstractInequality> initialInequalities;
+	/** Estimate of the objective value of the best integer solution in the subtree rooted at this node. Used by node selectors such as the BestEstimateNodeSelector **/
+	protected double estimate;
 
 
 	//Data after solving the node:
@@ -67,38 +72,85 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 	protected List<U> solution;
 	/** List of inequalities in the master problem after solving this node **/
 	protected List<AbstractInequality> inequalities;
+	/** Indicates whether pricing ran out of its time budget while solving this node, in which case the node has not been solved to optimality **/
+	protected boolean timeBudgetExhausted=false;
+	/** Indicates whether the columns of the initial feasible solution of this node have been added to its initial columns **/
+	protected boolean initialSolutionGenerated=false;
+	/** Number of times this node has been put back in the queue because pricing ran out of its time budget **/
+	protected int nrRequeues=0;
 
 	/**
 	 * Creates a new BAPNode
 	 * @param nodeID ID of the Node
-	 * @param rootPath Sequence of the IDs of the nodes encountered while walking from the root of the BAP tree to this node. rootPath[0]=0, rootPath[last(rootPath)]=this.nodeID
-	 * @param initialColumns Columns used to initialize the master problem
-	 * @param initialInequalities Valid inequalities used to initialize the master problem of this node
+	 * @param parent Parent of this node, or null if this is the root node
+	 * @param branchingDecision Branching decision that links this node to its parent, or null if this is the root node
+	 * @param initialColumns Columns used to initialize the master problem. The list is copied.
+	 * @param initialInequalities Valid inequalities used to initialize the master problem of this node. The list is copied.
 	 * @param bound Bound on the optimum solution of this node. If the bound of this node exceeds the best incumbent integer solution, this node will be pruned. The bound may be inherited from the parent.
-	 * @param branchingDecisions List of branching decisions that lead to this node.
 	 */
-	public BAPNode(int nodeID, List<Integer> rootPath, List<U> initialColumns, List<AbstractInequality> initialInequalities, double bound, List<BranchingDecision> branchingDecisions){
+	public BAPNode(int nodeID, BAPNode<T,U> parent, BranchingDecision branchingDecision, List<U> initialColumns, List<AbstractInequality> initialInequalities, double bound){
+		if((parent == null) != (branchingDecision == null))
+			throw new IllegalArgumentException("A node has a branching decision if and only if it has a parent");
 		this.nodeID=nodeID;
-		this.initialColumns = initialColumns;
-		this.initialInequalities = initialInequalities;
-		this.branchingDecisions=branchingDecisions;
-		this.rootPath=rootPath;
+		this.parent=parent;
+		this.branchingDecision=branchingDecision;
+		this.depth=(parent == null ? 0 : parent.depth+1);
+		this.initialColumns = new ArrayList<>(initialColumns);
+		this.initialInequalities = new ArrayList<>(initialInequalities);
 		this.bound=bound;
+		this.estimate=bound;
 		this.solution=new ArrayList<>();
 		this.inequalities =new ArrayList<>();
 	}
 
+	/**
+	 * Creates a new BAPNode from the path from the root of the BAP tree to this node. The ancestors of the node are created as well, without columns or inequalities;
+	 * they are not shared with the other nodes in the tree, so moving between nodes created through this constructor replays all branching decisions from the root node.
+	 * @param nodeID ID of the Node
+	 * @param rootPath Sequence of the IDs of the nodes encountered while walking from the root of the BAP tree to this node. rootPath[0]=0, rootPath[last(rootPath)]=this.nodeID
+	 * @param initialColumns Columns used to initialize the master problem. The list is copied.
+	 * @param initialInequalities Valid inequalities used to initialize the master problem of this node. The list is copied.
+	 * @param bound Bound on the optimum solution of this node. If the bound of this node exceeds the best incumbent integer solution, this node will be pruned. The bound may be inherited from the parent.
+	 * @param branchingDecisions List of branching decisions that lead to this node.
+	 * @deprecated nodes refer to their parent; use {@link #BAPNode(int, BAPNode, BranchingDecision, List, List, double)}, or {@link AbstractBranchCreator#createBranch(BAPNode, BranchingDecision, List, List)} to create child nodes
+	 */
+	@Deprecated
+	public BAPNode(int nodeID, List<Integer> rootPath, List<U> initialColumns, List<AbstractInequality> initialInequalities, double bound, List<BranchingDecision> branchingDecisions){
+		this(nodeID, BAPNode.<T,U>createAncestors(rootPath, branchingDecisions, bound), (branchingDecisions.isEmpty() ? null : branchingDecisions.get(branchingDecisions.size()-1)),
+				initialColumns, initialInequalities, bound);
+	}
+
+	/**
+	 * Creates the ancestors of a node from the path from the root of the BAP tree to the node, see {@link #BAPNode(int, List, List, List, double, List)}
+	 * @param rootPath Sequence of the IDs of the nodes encountered while walking from the root of the BAP tree to the node
+	 * @param branchingDecisions List of branching decisions that lead to the node
+	 * @param bound bound of the ancestors
+	 * @return parent of the node, or null if the node is the root node
+	 */
+	private static <T,U extends AbstractColumn<T, ?>> BAPNode<T,U> createAncestors(List<Integer> rootPath, List<BranchingDecision> branchingDecisions, double bound){
+		if(rootPath.size() != branchingDecisions.size()+1)
+			throw new IllegalArgumentException("The path from the root node must contain one more node than there are branching decisions");
+		BAPNode<T,U> parent=null;
+		for(int i=0; i<rootPath.size()-1; i++)
+			parent=new BAPNode<>(rootPath.get(i), parent, (i == 0 ? null : branchingDecisions.get(i-1)), Collections.emptyList(), Collections.emptyList(), bound);
+		return parent;
+	}
+
 
 	/**
-	 * Returns the ID of its parent in the Branch-and-Price tree. For memory efficiency, no pointer to the ancestor is returned. As maintaining a link to every
-	 * parent may be expensive.
+	 * Returns the ID of its parent in the Branch-and-Price tree.
 	 * @return ID of parent node, or -1 if this is the root node
 	 */
 	public int getParentID(){
-		if(nodeID == 0)
-			return -1;
-		else
-			return rootPath.get(rootPath.size()-2);
+		return (parent == null ? -1 : parent.nodeID);
+	}
+
+	/**
+	 * Returns the parent of this node in the Branch-and-Price tree. Once a node has been branched on, it only retains its ID, objective, bound and branching decision.
+	 * @return parent node, or null if this is the root node
+	 */
+	public BAPNode<T,U> getParent(){
+		return parent;
 	}
 
 	/**
@@ -106,10 +158,68 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 	 * @return The branching decision that links this node to its parent, or null if this node is the root node
 	 */
 	public BranchingDecision getBranchingDecision(){
-		if(nodeID == 0)
-			return null;
-		else
-			return branchingDecisions.get(branchingDecisions.size()-1);
+		return branchingDecision;
+	}
+
+	/**
+	 * Returns the sequence of the IDs of the nodes encountered while walking from the root of the BAP tree to this node. The list is computed by walking up the tree.
+	 * @return list of node IDs, starting with the ID of the root node, and ending with the ID of this node
+	 */
+	public List<Integer> getRootPath(){
+		Integer[] rootPath=new Integer[depth+1];
+		for(BAPNode<T,U> node=this; node != null; node=node.parent)
+			rootPath[node.depth]=node.nodeID;
+		return Arrays.asList(rootPath);
+	}
+
+	/**
+	 * Returns the branching decisions that lead from the root of the BAP tree to this node. The list is computed by walking up the tree.
+	 * @return list of branching decisions, ordered from the root node to this node
+	 */
+	public List<BranchingDecision<?, ?>> getBranchingDecisions(){
+		BranchingDecision<?, ?>[] branchingDecisions=new BranchingDecision<?, ?>[depth];
+		for(BAPNode<T,U> node=this; node.parent != null; node=node.parent)
+			branchingDecisions[node.depth-1]=node.branchingDecision;
+		return Arrays.asList(branchingDecisions);
+	}
+
+	/**
+	 * Returns the number of branching decisions which must be reversed and executed to move from this node to the given node, i.e. the length of the path between both nodes in the tree
+	 * @param node node in the Branch-and-Price tree
+	 * @return the number of edges on the path between this node and the given node
+	 */
+	public int getReplayDistance(BAPNode<?,?> node){
+		return this.depth+node.depth-2*getMutualAncestor(this, node).depth;
+	}
+
+	/**
+	 * Returns the first mutual ancestor of two nodes, found by walking up the tree from both nodes. If the nodes belong to different trees, e.g. because the tree has been restored
+	 * from a checkpoint, the root node of the first tree is returned, as both roots are equivalent.
+	 * @param node1 first node
+	 * @param node2 second node
+	 * @return the deepest node which is an ancestor of both nodes, where a node is considered to be an ancestor of itself
+	 */
+	static BAPNode<?,?> getMutualAncestor(BAPNode<?,?> node1, BAPNode<?,?> node2){
+		while(node1.depth > node2.depth)
+			node1=node1.parent;
+		while(node2.depth > node1.depth)
+			node2=node2.parent;
+		while(node1 != node2 && node1.parent != null){
+			node1=node1.parent;
+			node2=node2.parent;
+		}
+		return node1;
+	}
+
+	/**
+	 * Releases the columns and inequalities of this node once its child nodes have been created. The child nodes refer to this node as their parent, so the node remains in
+	 * memory as long as any of its descendants does; only its ID, objective, bound and branching decision are retained.
+	 */
+	protected void releaseColumns(){
+		initialColumns.clear();
+		initialInequalities.clear();
+		solution=Collections.emptyList();
+		inequalities=Collections.emptyList();
 	}
 
 	/**
@@ -160,6 +270,57 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 		this.inequalities=inequalities;
 	}
 
+	/**
+	 * Records whether pricing ran out of its time budget while solving this node. If so, the column generation procedure terminated before the master problem was solved
+	 * to optimality: artificial columns in the solution do not prove that the node is infeasible, and an integer solution does not close the node.
+	 * @param timeBudgetExhausted true if pricing ran out of its time budget
+	 */
+	public void setTimeBudgetExhausted(boolean timeBudgetExhausted){
+		this.timeBudgetExhausted=timeBudgetExhausted;
+	}
+
+	/**
+	 * Returns whether pricing ran out of its time budget while solving this node.
+	 * @return true if pricing ran out of its time budget while solving this node
+	 */
+	public boolean isTimeBudgetExhausted(){
+		return timeBudgetExhausted;
+	}
+
+	/**
+	 * Records whether the columns of the initial feasible solution of this node (see {@link AbstractBranchAndPrice#generateInitialFeasibleSolution(BAPNode)}) have been added
+	 * to its initial columns. The initial solution is generated only once, even if the node is processed again after pricing ran out of its time budget, or after the node
+	 * has been restored from a checkpoint.
+	 * @param initialSolutionGenerated true if the initial columns contain the initial feasible solution of this node
+	 */
+	public void setInitialSolutionGenerated(boolean initialSolutionGenerated){
+		this.initialSolutionGenerated=initialSolutionGenerated;
+	}
+
+	/**
+	 * Returns whether the columns of the initial feasible solution of this node have been added to its initial columns.
+	 * @return true if the initial columns contain the initial feasible solution of this node
+	 */
+	public boolean isInitialSolutionGenerated(){
+		return initialSolutionGenerated;
+	}
+
+	/**
+	 * Sets the number of times this node has been put back in the queue because pricing ran out of its time budget (see {@link AbstractBranchAndPrice#setMaxNodeRequeues(int)}).
+	 * @param nrRequeues number of times this node has been put back in the queue
+	 */
+	public void setNrRequeues(int nrRequeues){
+		this.nrRequeues=nrRequeues;
+	}
+
+	/**
+	 * Returns the number of times this node has been put back in the queue because pricing ran out of its time budget.
+	 * @return number of times this node has been put back in the queue
+	 */
+	public int getNrRequeues(){
+		return nrRequeues;
+	}
+
 	/**
 	 * Returns a set of columns which are used to initialize the master problem when this node is being solved.These columns are usually
 	 * inherited from the parent of this node.
@@ -194,6 +355,23 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 		return bound;
 	}
 
+	/**
+	 * Gets the estimate of the objective value of the best integer solution in the subtree rooted at this node. Unless an estimate has been provided, the estimate equals the
+	 * bound with which the node was created.
+	 * @return the estimated objective value of this node
+	 */
+	public double getEstimate(){
+		return estimate;
+	}
+
+	/**
+	 * Records an estimate of the objective value of the best integer solution in the subtree rooted at this node. This method should only be invoked before the node is added to the queue.
+	 * @param estimate estimated objective value
+	 */
+	public void setEstimate(double estimate){
+		this.estimate=estimate;
+	}
+
 	/**
 	 * Returns a list of columns constituting the solution of this node.
 	 * @return a list of columns constituting the solution of this node.
@@ -215,7 +393,7 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 	 * @return Depth of node in the Branch-and-Price tree
 	 */
 	public int getNodeDepth(){
-		return rootPath.size();
+		return depth;
 	}
 
 	/**
@@ -0,0 +1,313 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPNodeQueue.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Queue of unexplored nodes in the Branch-and-Price tree. The nodes are polled in the order defined by a comparator (see {@link AbstractBranchAndPrice#setNodeOrdering(Comparator)}).
+ * In addition, the queue maintains an index of the bounds of all open nodes, i.e. the nodes in the queue and the nodes which have been polled but are still being processed
+ * (see {@link #closeNode(BAPNode)}). The index provides the best bound over all open nodes in constant time, and allows for the removal of all dominated nodes at once whenever
+ * a better incumbent solution is found (see {@link #pruneNodes(Predicate)}).<br>
+ * The bound of a node is recorded when it is added to the queue; the bound of a node should not be modified while it resides in the queue.
+ * Optionally, the initial columns of the queued nodes may be moved to disk through a {@link SpillingNodeStore}.
+ * This class is not thread-safe.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class BAPNodeQueue<T, U extends AbstractColumn<T, ?>> extends AbstractQueue<BAPNode<T, U>> {
+
+	/** Defines whether the master problem is a minimization or a maximization problem **/
+	private final OptimizationSense optimizationSense;
+	/** Nodes in the queue, in the order in which they are polled **/
+	private PriorityQueue<BAPNode<T, U>> queue;
+	/** Open nodes, sorted from best to worst bound **/
+	private final TreeSet<Entry> boundIndex;
+	/** Index entry of every open node, by nodeID **/
+	private final Map<Integer, Entry> entries=new HashMap<>();
+	/** Best bound over all open nodes **/
+	private double bestBound;
+	/** Moves the initial columns of the queued nodes to disk, or null if all nodes are kept in memory **/
+	private SpillingNodeStore<T, U> nodeStore=null;
+
+	/**
+	 * Creates a new queue
+	 * @param comparator comparator which defines the order in which the nodes are polled
+	 * @param optimizationSense optimization sense of the master problem
+	 */
+	public BAPNodeQueue(Comparator<? super BAPNode<T, U>> comparator, OptimizationSense optimizationSense){
+		this.optimizationSense=optimizationSense;
+		this.queue=new PriorityQueue<>(comparator);
+		Comparator<Entry> boundComparator=(optimizationSense == OptimizationSense.MINIMIZE ?
+				Comparator.comparingDouble((Entry entry) -> entry.bound) : Comparator.comparingDouble((Entry entry) -> entry.bound).reversed());
+		boundIndex=new TreeSet<>(boundComparator.thenComparingInt(entry -> entry.node.nodeID));
+		this.updateBestBound();
+	}
+
+	/**
+	 * Changes the order in which the nodes are polled. The nodes in the queue are reordered.
+	 * @param comparator comparator which defines the order in which the nodes are polled
+	 */
+	public void setComparator(Comparator<? super BAPNode<T, U>> comparator){
+		PriorityQueue<BAPNode<T, U>> newQueue=new PriorityQueue<>(comparator);
+		newQueue.addAll(queue);
+		this.queue=newQueue;
+	}
+
+	/**
+	 * Registers a node store which moves the initial columns of the queued nodes to disk whenever its memory budget is exceeded
+	 * @param nodeStore node store, or null to keep all nodes in memory
+	 */
+	public void setNodeStore(SpillingNodeStore<T, U> nodeStore){
+		if(this.nodeStore != null){ //Read back all nodes from the previous store
+			for(BAPNode<T, U> node : queue)
+				this.nodeStore.nodePolled(node);
+		}
+		this.nodeStore=nodeStore;
+		if(nodeStore != null){
+			for(BAPNode<T, U> node : queue)
+				nodeStore.nodeQueued(node);
+		}
+	}
+
+	/**
+	 * Adds a node to the queue. The node becomes an open node, unless it is already open, e.g. because it is put back in the queue after its processing was interrupted.
+	 * @param node node
+	 * @return true
+	 */
+	@Override
+	public boolean offer(BAPNode<T, U> node) {
+		Entry entry=entries.get(node.nodeID);
+		if(entry == null){
+			entry=new Entry(node);
+			entries.put(node.nodeID, entry);
+			boundIndex.add(entry);
+			this.updateBestBound();
+		}
+		entry.queued=true;
+		queue.offer(node);
+		if(nodeStore != null)
+			nodeStore.nodeQueued(node);
+		return true;
+	}
+
+	/**
+	 * Retrieves and removes the next node. The node remains open until {@link #closeNode(BAPNode)} is invoked.
+	 * @return the next node, or null if the queue is empty
+	 */
+	@Override
+	public BAPNode<T, U> poll() {
+		BAPNode<T, U> node=queue.poll();
+		if(node != null) {
+			entries.get(node.nodeID).queued = false;
+			if(nodeStore != null)
+				nodeStore.nodePolled(node);
+		}
+		return node;
+	}
+
+	/**
+	 * Retrieves and removes a specific node from the queue, regardless of its position in the queue. The node remains open until {@link #closeNode(BAPNode)} is invoked.
+	 * @param node node in the queue
+	 * @return true if the node resided in the queue
+	 */
+	public boolean poll(BAPNode<T, U> node) {
+		Entry entry=entries.get(node.nodeID);
+		if(entry == null || !entry.queued || !queue.remove(node))
+			return false;
+		entry.queued=false;
+		if(nodeStore != null)
+			nodeStore.nodePolled(node);
+		return true;
+	}
+
+	/**
+	 * Returns the nodes in the queue whose bound is not worse than the given bound, ordered from the best to the worst bound. The nodes remain in the queue.
+	 * @param boundLimit worst bound of the nodes which are returned
+	 * @param maxNodes maximum number of nodes which are returned
+	 * @return nodes in the queue whose bound is not worse than the given bound
+	 */
+	public List<BAPNode<T, U>> getNodesWithinBound(double boundLimit, int maxNodes){
+		List<BAPNode<T, U>> nodes=new ArrayList<>();
+		for(Iterator<Entry> it=boundIndex.iterator(); it.hasNext() && nodes.size() < maxNodes; ){
+			Entry entry=it.next();
+			if(optimizationSense == OptimizationSense.MINIMIZE ? entry.bound > boundLimit : entry.bound < boundLimit)
+				break;
+			if(entry.queued)
+				nodes.add(entry.node);
+		}
+		return nodes;
+	}
+
+	@Override
+	public BAPNode<T, U> peek() {
+		return queue.peek();
+	}
+
+	@Override
+	public int size() {
+		return queue.size();
+	}
+
+	@Override
+	public Iterator<BAPNode<T, U>> iterator() {
+		Iterator<BAPNode<T, U>> iterator=queue.iterator();
+		return new Iterator<BAPNode<T, U>>() {
+			/** Last node returned by the iterator **/
+			private BAPNode<T, U> node;
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public BAPNode<T, U> next() {
+				node=iterator.next();
+				return node;
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+				closeNode(node);
+				if(nodeStore != null)
+					nodeStore.nodeRemoved(node);
+			}
+		};
+	}
+
+	@Override
+	public void clear() {
+		if(nodeStore != null){
+			for(BAPNode<T, U> node : queue)
+				nodeStore.nodeRemoved(node);
+		}
+		queue.clear();
+		boundIndex.clear();
+		entries.clear();
+		this.updateBestBound();
+	}
+
+	/**
+	 * Marks a node which has been polled as closed, i.e. the node has been processed and its children, if any, have been added to the queue.
+	 * @param node node
+	 */
+	public void closeNode(BAPNode<T, U> node){
+		Entry entry=entries.remove(node.nodeID);
+		if(entry != null){
+			boundIndex.remove(entry);
+			this.updateBestBound();
+		}
+	}
+
+	/**
+	 * Removes all nodes from the queue which can be pruned. The nodes are tested from the worst to the best bound, until a node is encountered which cannot be pruned;
+	 * the predicate must therefore be monotone in the bound of the nodes. Open nodes which are being processed are not removed.
+	 * @param canBePruned predicate which tests whether a node can be pruned
+	 * @return the nodes which have been removed
+	 */
+	public List<BAPNode<T, U>> pruneNodes(Predicate<BAPNode<T, U>> canBePruned){
+		List<BAPNode<T, U>> prunedNodes=new ArrayList<>();
+		for(Iterator<Entry> it=boundIndex.descendingIterator(); it.hasNext(); ){
+			Entry entry=it.next();
+			if(!canBePruned.test(entry.node))
+				break;
+			if(entry.queued){
+				it.remove();
+				entries.remove(entry.node.nodeID);
+				prunedNodes.add(entry.node);
+				if(nodeStore != null)
+					nodeStore.nodeRemoved(entry.node);
+			}
+		}
+		if(!prunedNodes.isEmpty()){
+			Set<BAPNode<T, U>> prunedNodeSet=Collections.newSetFromMap(new IdentityHashMap<>());
+			prunedNodeSet.addAll(prunedNodes);
+			queue.removeIf(prunedNodeSet::contains);
+			this.updateBestBound();
+		}
+		return prunedNodes;
+	}
+
+	/**
+	 * Returns the initial columns of a node in the queue, including the columns which have been moved to disk by the node store
+	 * @param node node in the queue
+	 * @return the initial columns of the node
+	 */
+	List<U> getInitialColumns(BAPNode<T, U> node){
+		return (nodeStore == null ? node.initialColumns : nodeStore.getInitialColumns(node));
+	}
+
+	/**
+	 * Returns whether there are open nodes, i.e. nodes in the queue or nodes which are being processed
+	 * @return true if there are open nodes
+	 */
+	public boolean hasOpenNodes(){
+		return !boundIndex.isEmpty();
+	}
+
+	/**
+	 * Returns the best bound over all open nodes in constant time: the smallest bound of a minimization problem, the largest bound of a maximization problem.
+	 * @return the best bound over all open nodes, or the worst possible bound if there are no open nodes
+	 */
+	public double getBestBound(){
+		return bestBound;
+	}
+
+	/**
+	 * Updates the best bound over all open nodes
+	 */
+	private void updateBestBound(){
+		if(boundIndex.isEmpty())
+			bestBound=(optimizationSense == OptimizationSense.MINIMIZE ? Double.MAX_VALUE : -Double.MAX_VALUE);
+		else
+			bestBound=boundIndex.first().bound;
+	}
+
+	/**
+	 * Index entry of an open node
+	 */
+	private final class Entry{
+		/** Open node **/
+		private final BAPNode<T, U> node;
+		/** Bound of the node when it was added to the queue **/
+		private final double bound;
+		/** Indicates whether the node resides in the queue **/
+		private boolean queued=false;
+
+		private Entry(BAPNode<T, U> node){
+			this.node=node;
+			this.bound=node.getBound();
+		}
+	}
+}
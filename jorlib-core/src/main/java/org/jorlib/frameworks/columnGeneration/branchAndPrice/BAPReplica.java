@@ -0,0 +1,66 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPReplica.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Replica of the master problem, the pricing problems and the branch creators used by a single worker of the parallel Branch-and-Price procedure
+ * (see {@link AbstractBranchAndPrice#runBranchAndPrice(long, int)}). A worker applies the branching decisions of the node it is processing to its own replica,
+ * so the objects in a replica may not be shared with any other replica, nor with the objects provided to the constructor of {@link AbstractBranchAndPrice}.
+ * The pricing problems must be provided in the same order as the pricing problems provided to the constructor of {@link AbstractBranchAndPrice}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class BAPReplica<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Master problem **/
+	public final AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master;
+	/** Pricing problems **/
+	public final List<V> pricingProblems;
+	/** Branch creators which determine how to branch **/
+	public final List<? extends AbstractBranchCreator<T, U, V>> branchCreators;
+
+	/**
+	 * Creates a new replica
+	 * @param master master problem
+	 * @param pricingProblems pricing problems, in the same order as the pricing problems of the original Branch-and-Price instance
+	 * @param branchCreators branch creators
+	 */
+	public BAPReplica(AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master, List<V> pricingProblems, List<? extends AbstractBranchCreator<T, U, V>> branchCreators){
+		this.master=master;
+		this.pricingProblems=pricingProblems;
+		this.branchCreators=branchCreators;
+	}
+}
@@ -0,0 +1,111 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BranchingCandidate.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+
+/**
+ * Candidate for branching, offered by an {@link AbstractBranchCreator} (see {@link AbstractBranchCreator#getBranchingCandidates(BAPNode)}). A candidate consists of the child
+ * nodes which would be created when branching on the candidate, a key which identifies the object being branched on (e.g. an edge or a variable), and for every child node,
+ * the distance by which the branching decision moves the fractional value of the object (e.g. f and 1-f when branching on a variable with fractional part f).
+ * The key and the distances are used to maintain pseudo-costs (see {@link PseudoCosts}).
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class BranchingCandidate<T, U extends AbstractColumn<T, ?>> {
+
+	/** Object being branched on, or null if no pseudo-costs are maintained for this candidate. The key must implement equals and hashCode. **/
+	public final Object key;
+	/** Child nodes created when branching on this candidate **/
+	public final List<BAPNode<T, U>> childNodes;
+	/** For every child node, the distance by which the branching decision moves the fractional value of the object being branched on **/
+	private final double[] distances;
+	/** Score of this candidate; the candidate with the highest score is selected **/
+	private double score=0;
+
+	/**
+	 * Creates a new candidate. The distance of every child node equals 1.
+	 * @param key object being branched on, or null if no pseudo-costs are maintained for this candidate
+	 * @param childNodes child nodes created when branching on this candidate
+	 */
+	public BranchingCandidate(Object key, List<BAPNode<T, U>> childNodes){
+		this(key, childNodes, null);
+	}
+
+	/**
+	 * Creates a new candidate
+	 * @param key object being branched on, or null if no pseudo-costs are maintained for this candidate
+	 * @param childNodes child nodes created when branching on this candidate
+	 * @param distances for every child node, the distance by which the branching decision moves the fractional value of the object being branched on, or null if all distances equal 1
+	 */
+	public BranchingCandidate(Object key, List<BAPNode<T, U>> childNodes, double[] distances){
+		if(distances != null && distances.length != childNodes.size())
+			throw new IllegalArgumentException("The number of distances must equal the number of child nodes");
+		this.key=key;
+		this.childNodes=Collections.unmodifiableList(childNodes);
+		if(distances == null){
+			distances=new double[childNodes.size()];
+			Arrays.fill(distances, 1);
+		}
+		this.distances=distances;
+	}
+
+	/**
+	 * Returns the distance of the given child node
+	 * @param childIndex index of the child node
+	 * @return the distance by which the branching decision of the child node moves the fractional value of the object being branched on
+	 */
+	public double getDistance(int childIndex){
+		return distances[childIndex];
+	}
+
+	/**
+	 * Returns the score of this candidate
+	 * @return the score of this candidate
+	 */
+	public double getScore(){
+		return score;
+	}
+
+	/**
+	 * Sets the score of this candidate
+	 * @param score score
+	 */
+	public void setScore(double score){
+		this.score=score;
+	}
+
+	@Override
+	public String toString(){
+		return "Branching candidate: "+key+", score: "+score;
+	}
+}
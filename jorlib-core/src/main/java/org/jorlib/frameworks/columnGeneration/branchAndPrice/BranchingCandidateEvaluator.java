@@ -0,0 +1,259 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BranchingCandidateEvaluator.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selects the branching candidate with the best score among the candidates offered by the branch creators (reliability branching). The score of a candidate is the product
+ * of the estimated deteriorations of the objective of its child nodes. The deterioration of a child node is estimated either through its pseudo-cost, or, when the pseudo-cost
+ * of the child is not yet reliable, by solving the child node with a limited number of column generation iterations (strong branching). The deteriorations observed during
+ * strong branching, as well as the deteriorations observed when the child nodes of the selected candidates are solved, are recorded in the pseudo-costs. Hence strong branching
+ * is only required until the pseudo-costs have become reliable.<br>
+ * Setting the reliability threshold to 0 yields pure pseudo-cost branching; setting it to Integer.MAX_VALUE yields pure strong branching.
+ * The evaluator is registered through {@link AbstractBranchAndPrice#setBranchingCandidateEvaluator(BranchingCandidateEvaluator)}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class BranchingCandidateEvaluator<T, U extends AbstractColumn<T, ?>> {
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(BranchingCandidateEvaluator.class);
+
+	/** Minimum deterioration used in the score of a candidate, such that a single child without deterioration does not nullify the score **/
+	private static final double MIN_GAIN=1e-6;
+
+	/** Maximum number of candidates which are evaluated through strong branching at a single node **/
+	private final int maxStrongBranchingCandidates;
+	/** Maximum number of column generation iterations used to evaluate a child node through strong branching **/
+	private final int iterationLimit;
+	/** Number of observations after which the pseudo-cost of a child is considered to be reliable **/
+	private final int reliabilityThreshold;
+	/** Pseudo-costs, persisting over the entire Branch-and-Price run **/
+	private final PseudoCosts pseudoCosts;
+	/** Child nodes of the selected candidates for which the deterioration of the objective has not been recorded yet **/
+	private final Map<Integer, Observation> pendingObservations=new ConcurrentHashMap<>();
+	/** Number of child nodes evaluated through strong branching **/
+	private int nrStrongBranchingEvaluations=0;
+
+	/**
+	 * Creates a new evaluator
+	 * @param maxStrongBranchingCandidates maximum number of candidates which are evaluated through strong branching at a single node
+	 * @param iterationLimit maximum number of column generation iterations used to evaluate a child node through strong branching
+	 * @param reliabilityThreshold number of observations after which the pseudo-cost of a child is considered to be reliable
+	 */
+	public BranchingCandidateEvaluator(int maxStrongBranchingCandidates, int iterationLimit, int reliabilityThreshold){
+		this(maxStrongBranchingCandidates, iterationLimit, reliabilityThreshold, new PseudoCosts());
+	}
+
+	/**
+	 * Creates a new evaluator
+	 * @param maxStrongBranchingCandidates maximum number of candidates which are evaluated through strong branching at a single node
+	 * @param iterationLimit maximum number of column generation iterations used to evaluate a child node through strong branching
+	 * @param reliabilityThreshold number of observations after which the pseudo-cost of a child is considered to be reliable
+	 * @param pseudoCosts pseudo-costs, e.g. obtained from a previous run
+	 */
+	public BranchingCandidateEvaluator(int maxStrongBranchingCandidates, int iterationLimit, int reliabilityThreshold, PseudoCosts pseudoCosts){
+		if(maxStrongBranchingCandidates < 0)
+			throw new IllegalArgumentException("The maximum number of strong branching candidates must be non-negative");
+		if(iterationLimit < 1)
+			throw new IllegalArgumentException("The iteration limit must be at least 1");
+		if(reliabilityThreshold < 0)
+			throw new IllegalArgumentException("The reliability threshold must be non-negative");
+		this.maxStrongBranchingCandidates=maxStrongBranchingCandidates;
+		this.iterationLimit=iterationLimit;
+		this.reliabilityThreshold=reliabilityThreshold;
+		this.pseudoCosts=pseudoCosts;
+	}
+
+	/**
+	 * Selects the candidate with the best score. When the pseudo-costs of a candidate are unreliable, its child nodes are evaluated through strong branching, up to a maximum
+	 * number of candidates. The candidates are evaluated in the order of their pseudo-cost scores.
+	 * @param parentNode node which is branched on
+	 * @param candidates branching candidates
+	 * @param optimizationSense optimization sense of the master problem
+	 * @param childNodeSolver solves a child node with a limited number of column generation iterations
+	 * @return the selected candidate
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	public BranchingCandidate<T, U> selectCandidate(BAPNode<T, U> parentNode, List<BranchingCandidate<T, U>> candidates, OptimizationSense optimizationSense, ChildNodeSolver<T, U> childNodeSolver) throws TimeLimitExceededException {
+		if(candidates.isEmpty())
+			throw new IllegalArgumentException("No branching candidates available");
+
+		BranchingCandidate<T, U> selectedCandidate;
+		if(candidates.size() == 1)
+			selectedCandidate=candidates.get(0);
+		else{
+			//Compute the pseudo-cost scores
+			List<BranchingCandidate<T, U>> unreliableCandidates=new ArrayList<>();
+			for(BranchingCandidate<T, U> candidate : candidates){
+				double score=1;
+				boolean reliable=true;
+				for(int i=0; i<candidate.childNodes.size(); i++){
+					score*=Math.max(MIN_GAIN, pseudoCosts.getPseudoCost(candidate.key, i)*candidate.getDistance(i));
+					reliable&=pseudoCosts.getNrObservations(candidate.key, i) >= reliabilityThreshold;
+				}
+				candidate.setScore(score);
+				if(!reliable)
+					unreliableCandidates.add(candidate);
+			}
+
+			//Evaluate the most promising unreliable candidates through strong branching
+			unreliableCandidates.sort(Comparator.comparingDouble((BranchingCandidate<T, U> candidate) -> candidate.getScore()).reversed());
+			for(BranchingCandidate<T, U> candidate : unreliableCandidates.subList(0, Math.min(maxStrongBranchingCandidates, unreliableCandidates.size()))){
+				double score=1;
+				for(int i=0; i<candidate.childNodes.size(); i++){
+					double objective=childNodeSolver.solve(candidate.childNodes.get(i), iterationLimit);
+					synchronized (this) {
+						nrStrongBranchingEvaluations++;
+					}
+					if(Double.isNaN(objective)){ //The child node could not be evaluated; fall back to its pseudo-cost estimate without recording an observation
+						score*=Math.max(MIN_GAIN, pseudoCosts.getPseudoCost(candidate.key, i)*candidate.getDistance(i));
+						continue;
+					}
+					double gain=this.getGain(parentNode.getObjective(), objective, optimizationSense);
+					pseudoCosts.update(candidate.key, i, gain/candidate.getDistance(i));
+					score*=Math.max(MIN_GAIN, gain);
+				}
+				candidate.setScore(score);
+			}
+
+			selectedCandidate=candidates.get(0);
+			for(BranchingCandidate<T, U> candidate : candidates){
+				if(candidate.getScore() > selectedCandidate.getScore())
+					selectedCandidate=candidate;
+			}
+			logger.debug("Selected {} out of {} candidates at node {}", selectedCandidate, candidates.size(), parentNode.nodeID);
+		}
+
+		//Record the deterioration of the objective once the child nodes have been solved
+		if(selectedCandidate.key != null){
+			for(int i=0; i<selectedCandidate.childNodes.size(); i++)
+				pendingObservations.put(selectedCandidate.childNodes.get(i).nodeID, new Observation(selectedCandidate.key, i, selectedCandidate.getDistance(i), parentNode.getObjective()));
+		}
+		return selectedCandidate;
+	}
+
+	/**
+	 * Invoked after a node has been solved. If the node is a child of a selected candidate, the deterioration of the objective is recorded in the pseudo-costs.
+	 * @param node node which has been solved
+	 * @param optimizationSense optimization sense of the master problem
+	 */
+	public void nodeSolved(BAPNode<T, U> node, OptimizationSense optimizationSense){
+		Observation observation=pendingObservations.remove(node.nodeID);
+		if(observation == null)
+			return;
+		for(U column : node.getSolution()){
+			if(column.isArtificialColumn) //The node is infeasible
+				return;
+		}
+		pseudoCosts.update(observation.key, observation.childIndex, this.getGain(observation.parentObjective, node.getObjective(), optimizationSense)/observation.distance);
+	}
+
+	/**
+	 * Removes a node for which no deterioration will be observed, e.g. because it has been pruned before it was solved
+	 * @param node node
+	 */
+	public void nodeDiscarded(BAPNode<T, U> node){
+		pendingObservations.remove(node.nodeID);
+	}
+
+	/**
+	 * Computes the deterioration of the objective
+	 * @param parentObjective objective of the parent node
+	 * @param childObjective objective of the child node
+	 * @param optimizationSense optimization sense of the master problem
+	 * @return the deterioration of the objective, which is non-negative
+	 */
+	private double getGain(double parentObjective, double childObjective, OptimizationSense optimizationSense){
+		return Math.max(0, optimizationSense == OptimizationSense.MINIMIZE ? childObjective-parentObjective : parentObjective-childObjective);
+	}
+
+	/**
+	 * Returns the pseudo-costs
+	 * @return the pseudo-costs
+	 */
+	public PseudoCosts getPseudoCosts(){
+		return pseudoCosts;
+	}
+
+	/**
+	 * Returns the number of child nodes which have been evaluated through strong branching
+	 * @return the number of strong branching evaluations
+	 */
+	public synchronized int getNrStrongBranchingEvaluations(){
+		return nrStrongBranchingEvaluations;
+	}
+
+	/**
+	 * Solves a child node with a limited number of column generation iterations
+	 */
+	public interface ChildNodeSolver<T, U extends AbstractColumn<T, ?>>{
+		/**
+		 * Solves the given child node with a limited number of column generation iterations
+		 * @param childNode child node
+		 * @param iterationLimit maximum number of column generation iterations
+		 * @return the objective of the child node after the column generation iterations, infinity (negative infinity for a maximization problem) if the child node is proven to
+		 * be infeasible, or NaN if the child node could not be evaluated, e.g. because its solution still contains artificial columns when the iteration limit is reached. For such a
+		 * child node, the pseudo-cost estimate is used and no observation is recorded.
+		 * @throws TimeLimitExceededException TimeLimitExceededException
+		 */
+		double solve(BAPNode<T, U> childNode, int iterationLimit) throws TimeLimitExceededException;
+	}
+
+	/**
+	 * Child node for which the deterioration of the objective has not been recorded yet
+	 */
+	private static final class Observation{
+		/** Object being branched on **/
+		private final Object key;
+		/** Index of the child node **/
+		private final int childIndex;
+		/** Distance of the child node **/
+		private final double distance;
+		/** Objective of the parent node **/
+		private final double parentObjective;
+
+		private Observation(Object key, int childIndex, double distance, double parentObjective){
+			this.key=key;
+			this.childIndex=childIndex;
+			this.distance=distance;
+			this.parentObjective=parentObjective;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CompatibilityCache.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.MapMaker;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+
+/**
+ * Caches, for every branching decision, whether the columns which have been tested against the decision are compatible with it
+ * (see {@link BranchingDecision#columnIsCompatibleWithBranchingDecision(AbstractColumn)}). A column is compatible with a node in the Branch-and-Price tree if it is compatible
+ * with every branching decision on the path from the root to the node. Since a branching decision is shared by all nodes in the subtree below it, each column only needs
+ * to be tested once per decision, regardless of the number of nodes in the subtree, or the number of times the column is tested at a node.<br>
+ * Both the decisions and the columns are referenced weakly and compared by identity: the verdicts of a decision are discarded once the nodes referring to the decision
+ * have been discarded, and the verdict of a column is discarded once the column is no longer referenced, e.g. because it has been removed from the column pool.
+ * This class is thread-safe.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class CompatibilityCache<T, U extends AbstractColumn<T, ?>> {
+
+	/** For every branching decision, the columns which have been tested against the decision, and whether they are compatible **/
+	private final ConcurrentMap<BranchingDecision<?, ?>, ConcurrentMap<U, Boolean>> verdicts=new MapMaker().weakKeys().makeMap();
+	/** Number of tests answered from the cache **/
+	private final AtomicLong nrHits=new AtomicLong();
+	/** Number of tests which invoked the branching decision **/
+	private final AtomicLong nrMisses=new AtomicLong();
+
+	/**
+	 * Tests whether a column is compatible with all branching decisions which lead to the given node
+	 * @param node node in the Branch-and-Price tree
+	 * @param column column
+	 * @return true if the column is compatible with all branching decisions of the node
+	 */
+	public boolean isCompatible(BAPNode<T, U> node, U column){
+		for(BAPNode<T, U> ancestor=node; ancestor.parent != null; ancestor=ancestor.parent){
+			if(!this.isCompatible(ancestor.branchingDecision, column))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether a column is compatible with the given branching decision
+	 * @param bd branching decision
+	 * @param column column
+	 * @return true if the column is compatible with the branching decision
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"}) //Branching decisions are raw types in BAPNode
+	public boolean isCompatible(BranchingDecision bd, U column){
+		ConcurrentMap<U, Boolean> decisionVerdicts=verdicts.computeIfAbsent(bd, k -> new MapMaker().weakKeys().makeMap());
+		Boolean compatible=decisionVerdicts.get(column);
+		if(compatible != null){
+			nrHits.incrementAndGet();
+			return compatible;
+		}
+		nrMisses.incrementAndGet();
+		compatible=bd.columnIsCompatibleWithBranchingDecision(column);
+		decisionVerdicts.put(column, compatible);
+		return compatible;
+	}
+
+	/**
+	 * Returns the columns which are compatible with all branching decisions which lead to the given node
+	 * @param node node in the Branch-and-Price tree
+	 * @param columns columns
+	 * @return the compatible columns, in the order of the given collection
+	 */
+	public List<U> getCompatibleColumns(BAPNode<T, U> node, Collection<U> columns){
+		List<U> compatibleColumns=new ArrayList<>();
+		for(U column : columns){
+			if(this.isCompatible(node, column))
+				compatibleColumns.add(column);
+		}
+		return compatibleColumns;
+	}
+
+	/**
+	 * Returns the number of tests which were answered from the cache
+	 * @return the number of cache hits
+	 */
+	public long getNrHits(){
+		return nrHits.get();
+	}
+
+	/**
+	 * Returns the number of tests which invoked the branching decision
+	 * @return the number of cache misses
+	 */
+	public long getNrMisses(){
+		return nrMisses.get();
+	}
+
+	/**
+	 * Discards all verdicts
+	 */
+	public void clear(){
+		verdicts.clear();
+	}
+}
@@ -26,7 +26,11 @@
  */
 package org.jorlib.frameworks.columnGeneration.branchAndPrice;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.Stack;
 
@@ -56,7 +60,7 @@ public class GraphManipulator {
 	 * This stack keeps track of all the branching decisions that lead from the root node of the BAP tree to the last node for which
 	 * this.next(BAPNode<?,?> nextNode) has been invoked.
 	 */
-	private Stack<BranchingDecision> changeHistory;
+	private Stack<BranchingDecision<?, ?>> changeHistory;
 	
 	public GraphManipulator(BAPNode rootNode){
 		this.previousNode=rootNode;
@@ -65,41 +69,36 @@ public class GraphManipulator {
 	}
 	
 	/**
-	 * Prepares the data structures for the next node to be solved.
+	 * Prepares the data structures for the next node to be solved. The branching decisions which lead from the first mutual ancestor of the previous node and the next node to
+	 * the previous node are reverted, after which the branching decisions which lead from the mutual ancestor to the next node are performed. Each listener receives the
+	 * complete change at once (see {@link BranchingDecisionListener#branchingDecisionsChanged(List, List)}).
 	 * @param nextNode The next node to be solved
 	 */
 	public void next(BAPNode<?,?> nextNode){
-		logger.trace("Previous node: {}, history: {}", previousNode.nodeID, previousNode.rootPath);
-		logger.trace("Next node: {}, history: {}, nrBranchingDec: {}", nextNode.nodeID, nextNode.rootPath);
+		logger.trace("Previous node: {}, depth: {}", previousNode.nodeID, previousNode.depth);
+		logger.trace("Next node: {}, depth: {}", nextNode.nodeID, nextNode.depth);
 		
 		//1. Revert state of the data structures back to the first mutual ancestor of <previousNode> and <nextNode>
-		//1a. Find the number of mutual ancestors.
-		int mutualNodesOnPath=0;
-		for(int i=0; i<Math.min(previousNode.rootPath.size(), nextNode.rootPath.size()); i++){
-			if(previousNode.rootPath.get(i) != nextNode.rootPath.get(i))
-				break;
-			mutualNodesOnPath++;
-		}
-		logger.trace("number of mutualNodesOnPath: {}", mutualNodesOnPath);
+		//1a. Find the first mutual ancestor by walking up the tree from both nodes.
+		int mutualDepth=BAPNode.getMutualAncestor(previousNode, nextNode).depth;
+		logger.trace("depth of first mutual ancestor: {}", mutualDepth);
 		
 		//1b. revert until the first mutual ancestor
-		while(changeHistory.size() > mutualNodesOnPath-1){
+		List<BranchingDecision<?, ?>> reversedDecisions=new ArrayList<>();
+		while(changeHistory.size() > mutualDepth){
 			logger.trace("Reverting 1 branch lvl");
-			BranchingDecision bd=changeHistory.pop();
-			//Revert the branching decision!
-			this.rewindBranchingDecision(bd);
+			reversedDecisions.add(changeHistory.pop());
 		}
 		// 2. Modify the data structures by performing the branching decisions which lead from the first mutual ancestor to the nextNode.
 		// The Branching Decisions are stored in the changeHistory
-		logger.trace("Next node nrBranchingDec: {}, changeHist.size: {}", nextNode.branchingDecisions.size(), changeHistory.size());
-		for(int i=changeHistory.size(); i< nextNode.branchingDecisions.size(); i++){
-			//Get the next branching decision and add it to the changeHistory
-			BranchingDecision bd=nextNode.branchingDecisions.get(i);
-			changeHistory.add(bd);
-			//Execute the decision
-			logger.trace("BAP exec branchingDecision: {}", bd);
-			this.performBranchingDecision(bd);
-		}
+		logger.trace("Next node nrBranchingDec: {}, changeHist.size: {}", nextNode.depth, changeHistory.size());
+		BranchingDecision<?, ?>[] performedDecisions=new BranchingDecision<?, ?>[nextNode.depth-mutualDepth];
+		for(BAPNode<?,?> node=nextNode; node.depth > mutualDepth; node=node.parent)
+			performedDecisions[node.depth-mutualDepth-1]=node.branchingDecision;
+		changeHistory.addAll(Arrays.asList(performedDecisions));
+		logger.trace("BAP exec branchingDecisions: {}", (Object) performedDecisions);
+
+		this.changeBranchingDecisions(reversedDecisions, Arrays.asList(performedDecisions));
 		this.previousNode=nextNode;
 	}
 	
@@ -107,10 +106,12 @@ public class GraphManipulator {
 	 * Revert all currently active branching decisions, thereby restoring all data structures to their original state (i.e the state they were in at the root node)
 	 */
 	public void restore(){
-		while(!changeHistory.isEmpty()){
-			BranchingDecision bd = changeHistory.pop();
-			this.rewindBranchingDecision(bd);
-		}
+		List<BranchingDecision<?, ?>> reversedDecisions=new ArrayList<>();
+		while(!changeHistory.isEmpty())
+			reversedDecisions.add(changeHistory.pop());
+		this.changeBranchingDecisions(reversedDecisions, Collections.emptyList());
+		while(previousNode.parent != null)
+			previousNode=previousNode.parent;
 	}
 
 	/**
@@ -128,20 +129,16 @@ public class GraphManipulator {
 	protected void removeBranchingDecisionListener(BranchingDecisionListener listener){	listeners.remove(listener);	}
 
 	/**
-	 * Inform the listeners that a branching decision has been executed
-	 * @param bd branching decision
-	 */
-	private void performBranchingDecision(BranchingDecision bd){
-		for(BranchingDecisionListener listener : listeners)
-			listener.branchingDecisionPerformed(bd);
-	}
-
-	/**
-	 * Inform the listeners that a branching decision has been reversed due to backtracking
-	 * @param bd branching decision
+	 * Inform the listeners that branching decisions have been reversed due to backtracking, and that branching decisions have been executed
+	 * @param reversedDecisions branching decisions which have been reversed, in the order in which they were reversed
+	 * @param performedDecisions branching decisions which have been executed, in the order in which they were executed
 	 */
-	private void rewindBranchingDecision(BranchingDecision bd){
+	private void changeBranchingDecisions(List<BranchingDecision<?, ?>> reversedDecisions, List<BranchingDecision<?, ?>> performedDecisions){
+		if(reversedDecisions.isEmpty() && performedDecisions.isEmpty())
+			return;
+		List<BranchingDecision<?, ?>> reversed=Collections.unmodifiableList(reversedDecisions);
+		List<BranchingDecision<?, ?>> performed=Collections.unmodifiableList(performedDecisions);
 		for(BranchingDecisionListener listener : listeners)
-			listener.branchingDecisionReversed(bd);
+			listener.branchingDecisionsChanged(reversed, performed);
 	}
 }
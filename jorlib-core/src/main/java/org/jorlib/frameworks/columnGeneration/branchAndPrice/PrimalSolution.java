@@ -0,0 +1,61 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PrimalSolution.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+
+/**
+ * Integer solution found by a primal heuristic (see {@link AbstractPrimalHeuristic}), consisting of a set of columns and their objective value.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class PrimalSolution<U extends AbstractColumn<?, ?>> {
+
+	/** Objective value of the solution **/
+	public final int objective;
+	/** Columns constituting the solution **/
+	public final List<U> columns;
+
+	/**
+	 * Creates a new solution
+	 * @param objective objective value of the solution
+	 * @param columns columns constituting the solution
+	 */
+	public PrimalSolution(int objective, List<U> columns){
+		this.objective=objective;
+		this.columns=Collections.unmodifiableList(columns);
+	}
+
+	@Override
+	public String toString(){
+		return "PrimalSolution objective: "+objective+" columns: "+columns;
+	}
+}
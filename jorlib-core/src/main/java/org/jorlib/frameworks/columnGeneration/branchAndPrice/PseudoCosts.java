@@ -0,0 +1,200 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PseudoCosts.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.io.CheckpointCodec;
+
+/**
+ * Pseudo-costs of branching candidates. The pseudo-cost of a child of a candidate is the average deterioration of the objective per unit of distance observed when branching on
+ * the object identified by the key of the candidate (see {@link BranchingCandidate}). Children are identified by their index: when branching on a variable, index 0 could be the
+ * down-branch, and index 1 the up-branch. Whenever no observations are available for a key, the average pseudo-cost over all keys is used instead.
+ * The pseudo-costs persist over the entire Branch-and-Price run. All methods are thread-safe.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class PseudoCosts {
+
+	/** For every key and child index, the sum of the observed unit gains **/
+	private final Map<Object, double[]> sums=new HashMap<>();
+	/** For every key and child index, the number of observations **/
+	private final Map<Object, int[]> counts=new HashMap<>();
+	/** For every child index, the sum of the observed unit gains over all keys **/
+	private double[] totalSums=new double[2];
+	/** For every child index, the number of observations over all keys **/
+	private int[] totalCounts=new int[2];
+
+	/**
+	 * Records an observation
+	 * @param key object being branched on
+	 * @param childIndex index of the child node
+	 * @param unitGain deterioration of the objective divided by the distance of the child node
+	 */
+	public synchronized void update(Object key, int childIndex, double unitGain){
+		if(key == null || Double.isNaN(unitGain) || Double.isInfinite(unitGain))
+			return;
+		unitGain=Math.max(0, unitGain);
+		double[] sum=sums.get(key);
+		int[] count=counts.get(key);
+		if(sum == null || sum.length <= childIndex){
+			sum=(sum == null ? new double[Math.max(2, childIndex+1)] : Arrays.copyOf(sum, childIndex+1));
+			count=(count == null ? new int[sum.length] : Arrays.copyOf(count, childIndex+1));
+			sums.put(key, sum);
+			counts.put(key, count);
+		}
+		sum[childIndex]+=unitGain;
+		count[childIndex]++;
+		if(totalSums.length <= childIndex){
+			totalSums=Arrays.copyOf(totalSums, childIndex+1);
+			totalCounts=Arrays.copyOf(totalCounts, childIndex+1);
+		}
+		totalSums[childIndex]+=unitGain;
+		totalCounts[childIndex]++;
+	}
+
+	/**
+	 * Returns the pseudo-cost of the given child. Whenever no observations are available for the key, the average pseudo-cost over all keys is returned, or 1 if no observations are available at all.
+	 * @param key object being branched on
+	 * @param childIndex index of the child node
+	 * @return the average deterioration of the objective per unit of distance
+	 */
+	public synchronized double getPseudoCost(Object key, int childIndex){
+		int count=this.getNrObservations(key, childIndex);
+		if(count > 0)
+			return sums.get(key)[childIndex]/count;
+		else if(childIndex < totalCounts.length && totalCounts[childIndex] > 0)
+			return totalSums[childIndex]/totalCounts[childIndex];
+		else
+			return 1;
+	}
+
+	/**
+	 * Returns the number of observations of the given child
+	 * @param key object being branched on
+	 * @param childIndex index of the child node
+	 * @return the number of observations
+	 */
+	public synchronized int getNrObservations(Object key, int childIndex){
+		int[] count=(key == null ? null : counts.get(key));
+		return (count == null || count.length <= childIndex ? 0 : count[childIndex]);
+	}
+
+	/**
+	 * Writes all observations to a checkpoint of the Branch-and-Price tree
+	 * @param out output
+	 * @param codec codec which encodes the keys
+	 * @throws IOException if the observations cannot be written
+	 */
+	synchronized void write(DataOutput out, CheckpointCodec<?> codec) throws IOException {
+		out.writeInt(sums.size());
+		for(Map.Entry<Object, double[]> entry : sums.entrySet()){
+			codec.encodeBranchingKey(entry.getKey(), out);
+			writeObservations(entry.getValue(), counts.get(entry.getKey()), out);
+		}
+		writeObservations(totalSums, totalCounts, out);
+	}
+
+	/**
+	 * Replaces all observations by the observations read from a checkpoint of the Branch-and-Price tree
+	 * @param in input
+	 * @param codec codec which decodes the keys
+	 * @throws IOException if the observations cannot be read
+	 */
+	synchronized void read(DataInput in, CheckpointCodec<?> codec) throws IOException {
+		this.clear();
+		int nrKeys=in.readInt();
+		for(int i=0; i<nrKeys; i++){
+			Object key=codec.decodeBranchingKey(in);
+			int nrChildren=in.readInt();
+			sums.put(key, readSums(nrChildren, in));
+			counts.put(key, readCounts(nrChildren, in));
+		}
+		int nrChildren=in.readInt();
+		totalSums=readSums(nrChildren, in);
+		totalCounts=readCounts(nrChildren, in);
+	}
+
+	/**
+	 * Writes the observations of a single key
+	 * @param sum sum of the observed unit gains, for every child index
+	 * @param count number of observations, for every child index
+	 * @param out output
+	 * @throws IOException if the observations cannot be written
+	 */
+	private static void writeObservations(double[] sum, int[] count, DataOutput out) throws IOException {
+		out.writeInt(sum.length);
+		for(double value : sum)
+			out.writeDouble(value);
+		for(int value : count)
+			out.writeInt(value);
+	}
+
+	/**
+	 * Reads the sums of the observed unit gains of a single key
+	 * @param nrChildren number of child indices
+	 * @param in input
+	 * @return sum of the observed unit gains, for every child index
+	 * @throws IOException if the observations cannot be read
+	 */
+	private static double[] readSums(int nrChildren, DataInput in) throws IOException {
+		double[] sum=new double[nrChildren];
+		for(int i=0; i<nrChildren; i++)
+			sum[i]=in.readDouble();
+		return sum;
+	}
+
+	/**
+	 * Reads the number of observations of a single key
+	 * @param nrChildren number of child indices
+	 * @param in input
+	 * @return number of observations, for every child index
+	 * @throws IOException if the observations cannot be read
+	 */
+	private static int[] readCounts(int nrChildren, DataInput in) throws IOException {
+		int[] count=new int[nrChildren];
+		for(int i=0; i<nrChildren; i++)
+			count[i]=in.readInt();
+		return count;
+	}
+
+	/**
+	 * Removes all observations
+	 */
+	public synchronized void clear(){
+		sums.clear();
+		counts.clear();
+		totalSums=new double[2];
+		totalCounts=new int[2];
+	}
+}
@@ -0,0 +1,325 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SpillingNodeStore.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.ColumnCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Node store which bounds the memory consumed by the unexplored nodes in the Branch-and-Price tree. The initial columns of the nodes in the queue constitute the bulk of the memory
+ * consumed by the tree. Whenever the total number of initial columns of the queued nodes exceeds the budget, the initial columns of the nodes which have been in the queue the longest
+ * are written to a local file, using the provided {@link ColumnCodec}, and removed from memory. When a node is selected from the queue, its columns are read back.
+ * While a node is spilled, {@link BAPNode#getInitialColumns()} returns an empty list. Only the initial columns are spilled: the initial inequalities of the queued nodes always
+ * remain in memory. Space in the file is reclaimed when the file grows large and most of its records are obsolete.<br>
+ * The store is registered through {@link AbstractBranchAndPrice#setNodeStore(SpillingNodeStore)}. This class is not thread-safe; it is only accessed by the queue of the Branch-and-Price instance.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class SpillingNodeStore<T, U extends AbstractColumn<T, ?>> implements Closeable {
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(SpillingNodeStore.class);
+
+	/** Minimum number of obsolete bytes in the file before the file is compacted **/
+	private static final long COMPACTION_THRESHOLD=64L << 20;
+
+	/** Encodes and decodes the columns **/
+	private final ColumnCodec<U> codec;
+	/** Maximum number of initial columns of the queued nodes which are kept in memory **/
+	private final int maxColumnsInMemory;
+	/** File storing the spilled nodes **/
+	private File file;
+	/** Handle to the file storing the spilled nodes **/
+	private RandomAccessFile raf;
+
+	/** Queued nodes whose columns reside in memory, in the order in which they were added, together with their number of initial columns at the time they were added **/
+	private final LinkedHashMap<Integer, ResidentNode> residentNodes=new LinkedHashMap<>();
+	/** Total number of initial columns of the resident nodes, as counted when they were added **/
+	private int nrResidentColumns=0;
+	/** For every spilled node, the offset and the length of its record in the file **/
+	private final Map<Integer, long[]> spilledNodes=new HashMap<>();
+	/** Number of bytes in the file occupied by records which are no longer needed **/
+	private long obsoleteBytes=0;
+	/** Total number of nodes which have been written to the file **/
+	private int nrSpills=0;
+	/** Total number of nodes which have been read from the file **/
+	private int nrLoads=0;
+
+	/**
+	 * Creates a new node store which writes the spilled nodes to a temporary file
+	 * @param codec codec which encodes and decodes the columns
+	 * @param maxColumnsInMemory maximum number of initial columns of the queued nodes which are kept in memory
+	 */
+	public SpillingNodeStore(ColumnCodec<U> codec, int maxColumnsInMemory){
+		this(codec, maxColumnsInMemory, null);
+	}
+
+	/**
+	 * Creates a new node store
+	 * @param codec codec which encodes and decodes the columns
+	 * @param maxColumnsInMemory maximum number of initial columns of the queued nodes which are kept in memory
+	 * @param file file to which the spilled nodes are written, or null to use a temporary file. The file is overwritten, and deleted when the store is closed.
+	 */
+	public SpillingNodeStore(ColumnCodec<U> codec, int maxColumnsInMemory, File file){
+		if(maxColumnsInMemory < 0)
+			throw new IllegalArgumentException("The maximum number of columns in memory must be non-negative");
+		this.codec=codec;
+		this.maxColumnsInMemory=maxColumnsInMemory;
+		try {
+			this.file=(file == null ? File.createTempFile("jorlib-nodes", ".bin") : file);
+			this.file.deleteOnExit();
+			this.raf=new RandomAccessFile(this.file, "rw");
+			raf.setLength(0);
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to create node store file", e);
+		}
+	}
+
+	/**
+	 * Invoked when a node has been added to the queue. If the budget is exceeded, the nodes which have been in the queue the longest are spilled.
+	 * @param node node
+	 */
+	protected void nodeQueued(BAPNode<T, U> node){
+		if(residentNodes.containsKey(node.nodeID) || spilledNodes.containsKey(node.nodeID))
+			return;
+		residentNodes.put(node.nodeID, new ResidentNode(node));
+		nrResidentColumns+=node.initialColumns.size();
+		for(Iterator<ResidentNode> it=residentNodes.values().iterator(); nrResidentColumns > maxColumnsInMemory && it.hasNext(); ){
+			ResidentNode coldNode=it.next();
+			it.remove();
+			nrResidentColumns-=coldNode.nrColumns;
+			this.spill(coldNode.node);
+		}
+	}
+
+	/**
+	 * Invoked when a node has been removed from the queue in order to be processed. If the node has been spilled, its columns are read back.
+	 * @param node node
+	 */
+	protected void nodePolled(BAPNode<T, U> node){
+		ResidentNode residentNode=residentNodes.remove(node.nodeID);
+		if(residentNode != null)
+			nrResidentColumns-=residentNode.nrColumns;
+		else{
+			long[] record=spilledNodes.remove(node.nodeID);
+			if(record != null)
+				this.load(node, record);
+		}
+	}
+
+	/**
+	 * Invoked when a node has been removed from the queue without being processed, e.g. because it has been pruned. The node is discarded.
+	 * @param node node
+	 */
+	protected void nodeRemoved(BAPNode<T, U> node){
+		ResidentNode residentNode=residentNodes.remove(node.nodeID);
+		if(residentNode != null)
+			nrResidentColumns-=residentNode.nrColumns;
+		else{
+			long[] record=spilledNodes.remove(node.nodeID);
+			if(record != null){
+				obsoleteBytes+=record[1];
+				this.reclaimSpace();
+			}
+		}
+	}
+
+	/**
+	 * Writes the initial columns of a node to the file, and removes them from memory
+	 * @param node node
+	 */
+	private void spill(BAPNode<T, U> node){
+		try {
+			ByteArrayOutputStream buffer=new ByteArrayOutputStream();
+			DataOutputStream out=new DataOutputStream(buffer);
+			out.writeInt(node.initialColumns.size());
+			for(U column : node.initialColumns)
+				codec.encode(column, out);
+			out.flush();
+			long offset=raf.length();
+			raf.seek(offset);
+			raf.write(buffer.toByteArray());
+			spilledNodes.put(node.nodeID, new long[]{offset, buffer.size()});
+			node.initialColumns=new ArrayList<>(); //The list may be referenced elsewhere, e.g. through a view returned by BAPNode.getInitialColumns()
+			nrSpills++;
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to spill node "+node.nodeID+" to "+file, e);
+		}
+	}
+
+	/**
+	 * Reads the initial columns of a node back from the file
+	 * @param node node
+	 * @param record offset and length of the record of the node
+	 */
+	private void load(BAPNode<T, U> node, long[] record){
+		node.initialColumns.addAll(this.read(node, record));
+		nrLoads++;
+		obsoleteBytes+=record[1];
+		this.reclaimSpace();
+	}
+
+	/**
+	 * Reads the initial columns of a node from the file
+	 * @param node node
+	 * @param record offset and length of the record of the node
+	 * @return the initial columns of the node
+	 */
+	private List<U> read(BAPNode<T, U> node, long[] record){
+		try {
+			byte[] bytes=new byte[(int) record[1]];
+			raf.seek(record[0]);
+			raf.readFully(bytes);
+			DataInputStream in=new DataInputStream(new ByteArrayInputStream(bytes));
+			int nrColumns=in.readInt();
+			List<U> columns=new ArrayList<>(nrColumns);
+			for(int i=0; i<nrColumns; i++)
+				columns.add(codec.decode(in));
+			return columns;
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to load node "+node.nodeID+" from "+file, e);
+		}
+	}
+
+	/**
+	 * Returns the initial columns of a queued node without removing the node from the store. If the node has been spilled, the columns are read from the file.
+	 * @param node node
+	 * @return the initial columns of the node
+	 */
+	List<U> getInitialColumns(BAPNode<T, U> node){
+		long[] record=spilledNodes.get(node.nodeID);
+		return (record == null ? node.initialColumns : this.read(node, record));
+	}
+
+	/**
+	 * Reclaims the space occupied by obsolete records. The file is truncated when no nodes are spilled, and compacted when the majority of the file is obsolete.
+	 */
+	private void reclaimSpace(){
+		try {
+			if(spilledNodes.isEmpty()){
+				raf.setLength(0);
+				obsoleteBytes=0;
+			}else if(obsoleteBytes > COMPACTION_THRESHOLD && 2*obsoleteBytes > raf.length()){
+				this.compact();
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to reclaim space in "+file, e);
+		}
+	}
+
+	/**
+	 * Copies the records of the spilled nodes to a new file
+	 * @throws IOException if the file cannot be compacted
+	 */
+	private void compact() throws IOException {
+		logger.debug("Compacting node store: {} bytes, of which {} obsolete", raf.length(), obsoleteBytes);
+		File compactedFile=File.createTempFile("jorlib-nodes", ".bin", file.getAbsoluteFile().getParentFile());
+		compactedFile.deleteOnExit();
+		RandomAccessFile compactedRaf=new RandomAccessFile(compactedFile, "rw");
+		for(long[] record : spilledNodes.values()){
+			byte[] bytes=new byte[(int) record[1]];
+			raf.seek(record[0]);
+			raf.readFully(bytes);
+			record[0]=compactedRaf.length();
+			compactedRaf.seek(record[0]);
+			compactedRaf.write(bytes);
+		}
+		raf.close();
+		if(!file.delete())
+			logger.warn("Unable to delete {}", file);
+		file=compactedFile;
+		raf=compactedRaf;
+		obsoleteBytes=0;
+	}
+
+	/**
+	 * Returns the number of nodes whose columns currently reside on disk
+	 * @return the number of spilled nodes
+	 */
+	public int getNrSpilledNodes(){
+		return spilledNodes.size();
+	}
+
+	/**
+	 * Returns the total number of times a node has been written to disk
+	 * @return the total number of spills
+	 */
+	public int getNrSpills(){
+		return nrSpills;
+	}
+
+	/**
+	 * Returns the total number of times a node has been read from disk
+	 * @return the total number of loads
+	 */
+	public int getNrLoads(){
+		return nrLoads;
+	}
+
+	/**
+	 * Closes and deletes the file
+	 */
+	@Override
+	public void close() {
+		try {
+			raf.close();
+		} catch (IOException e) {
+			logger.warn("Unable to close {}", file, e);
+		}
+		if(!file.delete())
+			logger.warn("Unable to delete {}", file);
+		residentNodes.clear();
+		spilledNodes.clear();
+	}
+
+	/**
+	 * Queued node whose columns reside in memory. The initial columns of a queued node may change, e.g. when the initial solution of the root node is generated, so the number of
+	 * columns which is accounted for the node is recorded when the node is added.
+	 */
+	private final class ResidentNode{
+		/** Node **/
+		private final BAPNode<T, U> node;
+		/** Number of initial columns of the node at the time it was added **/
+		private final int nrColumns;
+
+		private ResidentNode(BAPNode<T, U> node){
+			this.node=node;
+			this.nrColumns=node.initialColumns.size();
+		}
+	}
+}
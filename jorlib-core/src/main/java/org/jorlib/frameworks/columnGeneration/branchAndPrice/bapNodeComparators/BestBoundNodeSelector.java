@@ -0,0 +1,55 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BestBoundNodeSelector.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractNodeSelector;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Best-bound node selection: the node with the best bound (the smallest lower bound of a minimization problem, the largest upper bound of a maximization problem) is processed first.
+ * This strategy minimizes the number of nodes which need to be processed to prove optimality, but it tends to find integer solutions late. Ties are broken in favor of the deepest node, and
+ * subsequently in favor of the node with the smallest nodeID.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class BestBoundNodeSelector<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends AbstractNodeSelector<T, U, V> {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public int compare(BAPNode o1, BAPNode o2) {
+        int result=this.compareObjectiveValues(o1.getBound(), o2.getBound());
+        if(result == 0)
+            result=Integer.compare(o2.getNodeDepth(), o1.getNodeDepth());
+        if(result == 0)
+            result=Integer.compare(o1.nodeID, o2.nodeID);
+        return result;
+    }
+}
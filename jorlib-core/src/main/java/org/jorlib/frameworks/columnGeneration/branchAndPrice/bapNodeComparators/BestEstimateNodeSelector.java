@@ -0,0 +1,105 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BestEstimateNodeSelector.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators;
+
+import java.util.List;
+import java.util.function.ToDoubleBiFunction;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractNodeSelector;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Best-estimate node selection: the node with the best estimate of the objective value of the best integer solution in its subtree is processed first (see {@link BAPNode#getEstimate()}).
+ * The estimate of a child node is computed when its parent is branched on. By default, the estimate equals the bound of the child plus a penalty proportional to the fractionality of
+ * the solution of the parent, i.e. the sum over all columns of min(value-floor(value), ceil(value)-value). A custom estimator, e.g. one based on pseudo-costs, may be provided through
+ * the constructor. Ties are broken in favor of the node with the best bound, and subsequently in favor of the node with the smallest nodeID.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class BestEstimateNodeSelector<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends AbstractNodeSelector<T, U, V> {
+
+    /** Computes the estimate of a child node, given its parent node, or null if the fractionality of the parent is used **/
+    private final ToDoubleBiFunction<BAPNode<T, U>, BAPNode<T, U>> estimator;
+    /** Expected deterioration of the objective value per unit of fractionality **/
+    private final double fractionalityWeight;
+
+    /**
+     * Creates a new selector which estimates the objective value of a child node from the fractionality of the solution of its parent
+     * @param fractionalityWeight expected deterioration of the objective value per unit of fractionality
+     */
+    public BestEstimateNodeSelector(double fractionalityWeight){
+        if(fractionalityWeight < 0)
+            throw new IllegalArgumentException("The fractionality weight must be non-negative");
+        this.estimator=null;
+        this.fractionalityWeight=fractionalityWeight;
+    }
+
+    /**
+     * Creates a new selector with a custom estimator
+     * @param estimator function which computes the estimate of a child node (second argument), given its parent node (first argument). The parent node has been solved; the child node has not.
+     */
+    public BestEstimateNodeSelector(ToDoubleBiFunction<BAPNode<T, U>, BAPNode<T, U>> estimator){
+        this.estimator=estimator;
+        this.fractionalityWeight=0;
+    }
+
+    /**
+     * Computes the estimates of the child nodes
+     * @param parentNode node which has been branched on
+     * @param childNodes child nodes
+     */
+    @Override
+    protected void branchCreated(BAPNode<T, U> parentNode, List<BAPNode<T, U>> childNodes) {
+        if(estimator != null){
+            for(BAPNode<T, U> childNode : childNodes)
+                childNode.setEstimate(estimator.applyAsDouble(parentNode, childNode));
+        }else{
+            double fractionality=0;
+            for(U column : parentNode.getSolution())
+                fractionality+=Math.min(column.value-Math.floor(column.value), Math.ceil(column.value)-column.value);
+            double penalty=(this.getOptimizationSense() == OptimizationSense.MINIMIZE ? 1 : -1)*fractionalityWeight*fractionality;
+            for(BAPNode<T, U> childNode : childNodes)
+                childNode.setEstimate(childNode.getBound()+penalty);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public int compare(BAPNode o1, BAPNode o2) {
+        int result=this.compareObjectiveValues(o1.getEstimate(), o2.getEstimate());
+        if(result == 0)
+            result=this.compareObjectiveValues(o1.getBound(), o2.getBound());
+        if(result == 0)
+            result=Integer.compare(o1.nodeID, o2.nodeID);
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * HybridDivingNodeSelector.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractNodeSelector;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Hybrid node selection which alternates between diving and best-bound search. A dive starts at the node with the best bound, and proceeds in a Depth-First-Search
+ * manner through the children of the nodes in the dive, aiming to find an integer solution quickly. The dive ends, after which the search restarts from the node with the best bound, whenever:
+ * <ul>
+ *     <li>a node in the dive is not branched on (the node is pruned, infeasible, or integer),</li>
+ *     <li>the dive exceeds the maximum dive depth,</li>
+ *     <li>an incumbent solution is available and the bound of the node in the dive is too weak: the bound of the node deteriorated by more than maxBoundQuotient*gap with respect to
+ *     the bound of the node at which the dive started, where gap is the difference between the incumbent objective and the latter bound.</li>
+ * </ul>
+ * Note: when nodes are processed in parallel, a dive may be interleaved with the processing of other nodes.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class HybridDivingNodeSelector<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends AbstractNodeSelector<T, U, V> {
+
+    /** Maximum number of levels of a dive **/
+    private final int maxDiveDepth;
+    /** Maximum deterioration of the bound during a dive, relative to the gap between the bound at the start of the dive and the incumbent objective **/
+    private final double maxBoundQuotient;
+
+    /** IDs of the unexplored nodes which belong to the current dive **/
+    private final Set<Integer> diveNodes=new HashSet<>();
+    /** Bound of the node at which the current dive started **/
+    private double diveStartBound;
+    /** Depth of the node at which the current dive started **/
+    private int diveStartDepth;
+    /** Indicates whether the node which was selected last has been branched on **/
+    private boolean lastNodeBranched=true;
+    /** Indicates whether the current dive must be ended **/
+    private boolean endDive=false;
+
+    /**
+     * Creates a new hybrid diving selector without limits on the dive depth and the deterioration of the bound
+     */
+    public HybridDivingNodeSelector(){
+        this(Integer.MAX_VALUE, Double.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new hybrid diving selector
+     * @param maxDiveDepth maximum number of levels of a dive
+     * @param maxBoundQuotient maximum deterioration of the bound during a dive, relative to the gap between the bound at the start of the dive and the incumbent objective
+     */
+    public HybridDivingNodeSelector(int maxDiveDepth, double maxBoundQuotient){
+        if(maxDiveDepth < 1)
+            throw new IllegalArgumentException("The maximum dive depth must be at least 1");
+        if(maxBoundQuotient < 0)
+            throw new IllegalArgumentException("The maximum bound quotient must be non-negative");
+        this.maxDiveDepth=maxDiveDepth;
+        this.maxBoundQuotient=maxBoundQuotient;
+    }
+
+    /**
+     * Starts a new dive if the selected node does not belong to the current dive
+     * @param node selected node
+     */
+    @Override
+    protected void nodeSelected(BAPNode<T, U> node) {
+        if(!diveNodes.remove(node.nodeID)){
+            diveNodes.clear();
+            diveStartBound=node.getBound();
+            diveStartDepth=node.getNodeDepth();
+        }
+        lastNodeBranched=false;
+    }
+
+    /**
+     * Adds the child nodes to the current dive, unless the dive must be ended
+     * @param parentNode node which has been branched on
+     * @param childNodes child nodes
+     */
+    @Override
+    protected void branchCreated(BAPNode<T, U> parentNode, List<BAPNode<T, U>> childNodes) {
+        lastNodeBranched=true;
+        if(parentNode.getNodeDepth()+1-diveStartDepth > maxDiveDepth || this.boundIsTooWeak(parentNode.getBound())){
+            endDive=true;
+            return;
+        }
+        for(BAPNode<T, U> childNode : childNodes)
+            diveNodes.add(childNode.nodeID);
+    }
+
+    /**
+     * Tests whether the given bound deteriorated too much with respect to the bound at the start of the dive
+     * @param bound bound of a node in the dive
+     * @return true if the dive must be ended
+     */
+    private boolean boundIsTooWeak(double bound){
+        if(!bap.hasSolution())
+            return false;
+        double gap=Math.abs(bap.getObjective()-diveStartBound);
+        double deterioration=(this.getOptimizationSense() == OptimizationSense.MINIMIZE ? bound-diveStartBound : diveStartBound-bound);
+        return deterioration > maxBoundQuotient*gap;
+    }
+
+    /**
+     * Ends the current dive whenever the node which was selected last has not been branched on, or when the dive was ended while branching.
+     * @return true if the dive has been ended, in which case the remaining nodes of the dive lose their priority
+     */
+    @Override
+    protected boolean updateOrdering() {
+        if(!lastNodeBranched)
+            endDive=true;
+        boolean reorder=endDive && !diveNodes.isEmpty();
+        if(endDive)
+            diveNodes.clear();
+        endDive=false;
+        return reorder;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public int compare(BAPNode o1, BAPNode o2) {
+        boolean inDive1=diveNodes.contains(o1.nodeID);
+        boolean inDive2=diveNodes.contains(o2.nodeID);
+        int result;
+        if(inDive1 != inDive2) //Nodes in the current dive are processed first
+            result=(inDive1 ? -1 : 1);
+        else if(inDive1) //Depth-First-Search within the dive
+            result=Integer.compare(o2.getNodeDepth(), o1.getNodeDepth());
+        else //Best-bound search outside the dive
+            result=this.compareObjectiveValues(o1.getBound(), o2.getBound());
+        if(result == 0)
+            result=Integer.compare(o2.nodeID, o1.nodeID);
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PathLocalityNodeSelector.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators;
+
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractNodeSelector;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNodeQueue;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.GraphManipulator;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Best-bound node selection which takes the effort into account to move from one node to the next. Before a node is solved, the {@link GraphManipulator} reverts the branching
+ * decisions which lead from the first mutual ancestor of the previous node and the next node to the previous node, and performs the branching decisions which lead from the mutual
+ * ancestor to the next node. Every decision which is reverted or performed modifies the master problem, the pricing problems and the solvers, so jumping between distant parts of the
+ * tree can be expensive.<br>
+ * This selector considers all nodes whose bound lies within a relative tolerance of the best bound in the queue, and selects the node which is closest to the previously selected
+ * node in the tree (see {@link BAPNode#getReplayDistance(BAPNode)}), typically a child or a sibling of that node. Ties are broken in favor of the node with the best bound. With a
+ * tolerance of 0, the selector only deviates from {@link BestBoundNodeSelector} when several nodes share the best bound.<br>
+ * Note: when nodes are processed in parallel, the previously selected node is not necessarily the node which was last solved by the worker which processes the next node.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class PathLocalityNodeSelector<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends BestBoundNodeSelector<T, U, V> {
+
+    /** Relative deviation from the best bound which is tolerated to reduce the distance between consecutive nodes **/
+    private final double boundTolerance;
+    /** Maximum number of nodes which are considered when a node is selected **/
+    private final int maxCandidates;
+
+    /** Node which was selected last **/
+    private BAPNode<T, U> lastNode=null;
+
+    /**
+     * Creates a new selector which only considers the nodes which share the best bound, and at most 16 nodes at a time
+     */
+    public PathLocalityNodeSelector(){
+        this(0, 16);
+    }
+
+    /**
+     * Creates a new selector
+     * @param boundTolerance relative deviation from the best bound which is tolerated: a node is considered if the difference between its bound and the best bound does not exceed
+     *                       boundTolerance*max(1,|best bound|)
+     * @param maxCandidates maximum number of nodes which are considered when a node is selected
+     */
+    public PathLocalityNodeSelector(double boundTolerance, int maxCandidates){
+        if(boundTolerance < 0)
+            throw new IllegalArgumentException("The bound tolerance must be non-negative");
+        if(maxCandidates < 1)
+            throw new IllegalArgumentException("The number of candidates must be at least 1");
+        this.boundTolerance=boundTolerance;
+        this.maxCandidates=maxCandidates;
+    }
+
+    /**
+     * Selects the node which is closest to the previously selected node, among the nodes whose bound lies within the tolerance of the best bound
+     * @param queue queue of unexplored nodes
+     * @return the node which is removed from the queue, or null if the queue is empty
+     */
+    @Override
+    protected BAPNode<T, U> selectNode(BAPNodeQueue<T, U> queue) {
+        BAPNode<T, U> head=queue.peek();
+        if(head == null || lastNode == null)
+            return queue.poll();
+
+        double bestBound=head.getBound();
+        double tolerance=boundTolerance*Math.max(1, Math.abs(bestBound));
+        double boundLimit=(this.getOptimizationSense() == OptimizationSense.MINIMIZE ? bestBound+tolerance : bestBound-tolerance);
+        List<BAPNode<T, U>> candidates=queue.getNodesWithinBound(boundLimit, maxCandidates);
+
+        //The candidates are ordered from the best to the worst bound, so the first node with the smallest distance has the best bound
+        BAPNode<T, U> selectedNode=head;
+        int minDistance=lastNode.getReplayDistance(head);
+        for(BAPNode<T, U> candidate : candidates){
+            int distance=lastNode.getReplayDistance(candidate);
+            if(distance < minDistance){
+                selectedNode=candidate;
+                minDistance=distance;
+            }
+        }
+        if(selectedNode == head)
+            return queue.poll();
+        queue.poll(selectedNode);
+        return selectedNode;
+    }
+
+    @Override
+    protected void nodeSelected(BAPNode<T, U> node) {
+        lastNode=node;
+    }
+}
@@ -26,6 +26,8 @@
  */
 package org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions;
 
+import java.util.List;
+
 /**
  * Interface defining a BranchingDecision Listener. Every BranchingDecision listener is informed about branching
  * decisions which are executed.
@@ -45,4 +47,19 @@ public interface BranchingDecisionListener {
      * @param bd branching decision
      */
     void branchingDecisionReversed(BranchingDecision bd);
+
+    /**
+     * This method is called whenever the Branch-and-Price procedure moves from one node to another: the branching decisions which lead from the first mutual
+     * ancestor of both nodes to the previous node are reversed, and the branching decisions which lead from the mutual ancestor to the next node are executed.
+     * By default, {@link #branchingDecisionReversed(BranchingDecision)} and {@link #branchingDecisionPerformed(BranchingDecision)} are invoked for each decision.
+     * Listeners for which every change is expensive, e.g. a master problem which is rebuilt whenever a decision is executed, may override this method to process the entire change at once.
+     * @param reversedDecisions branching decisions which are reversed, ordered from the previous node towards the mutual ancestor
+     * @param performedDecisions branching decisions which are executed, ordered from the mutual ancestor towards the next node
+     */
+    default void branchingDecisionsChanged(List<BranchingDecision<?, ?>> reversedDecisions, List<BranchingDecision<?, ?>> performedDecisions){
+        for(BranchingDecision<?, ?> bd : reversedDecisions)
+            this.branchingDecisionReversed(bd);
+        for(BranchingDecision<?, ?> bd : performedDecisions)
+            this.branchingDecisionPerformed(bd);
+    }
 }
@@ -0,0 +1,106 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DivingHeuristic.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.primalHeuristics;
+
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractPrimalHeuristic;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.PrimalSolution;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.MathProgrammingUtil;
+
+/**
+ * Diving heuristic with limited backtracking: starting from a fractional node, the heuristic repeatedly branches, using the branch creators of the Branch-and-Price instance,
+ * and descends into the first child node which is feasible and cannot be pruned, until an integer solution is found. Each node of the dive is solved with a limited number of
+ * column generation iterations. Whenever a child node turns out to be infeasible, the heuristic backtracks to its next sibling, until the maximum number of backtracks is reached.
+ * The nodes of the dive are not added to the queue.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class DivingHeuristic<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends AbstractPrimalHeuristic<T, U, V> {
+
+	/** Maximum number of branching levels of a dive **/
+	protected final int maxDiveDepth;
+	/** Maximum number of backtracks of a dive **/
+	protected final int maxBacktracks;
+	/** Maximum number of column generation iterations per node of the dive **/
+	protected final int iterationLimit;
+
+	/**
+	 * Creates a new diving heuristic
+	 * @param frequency the heuristic is invoked at the nodes whose depth is a multiple of the frequency; 0 restricts the heuristic to the root node
+	 * @param maxDepth maximum depth of the nodes at which the heuristic is invoked
+	 * @param maxDiveDepth maximum number of branching levels of a dive
+	 * @param maxBacktracks maximum number of backtracks of a dive
+	 * @param iterationLimit maximum number of column generation iterations per node of the dive
+	 */
+	public DivingHeuristic(int frequency, int maxDepth, int maxDiveDepth, int maxBacktracks, int iterationLimit){
+		super(frequency, maxDepth);
+		if(maxDiveDepth < 1 || maxBacktracks < 0 || iterationLimit < 1)
+			throw new IllegalArgumentException("The maximum dive depth and the iteration limit must be positive, and the maximum number of backtracks must be non-negative");
+		this.maxDiveDepth=maxDiveDepth;
+		this.maxBacktracks=maxBacktracks;
+		this.iterationLimit=iterationLimit;
+	}
+
+	@Override
+	protected boolean solvesNodes(){
+		return true;
+	}
+
+	@Override
+	protected PrimalSolution<U> findSolution(BAPNode<T, U> node, AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master, NodeSolver<T, U> nodeSolver, long timeLimit) throws TimeLimitExceededException {
+		BAPNode<T, U> currentNode=node;
+		int nrBacktracks=0;
+		for(int depth=0; depth<maxDiveDepth; depth++){
+			List<BAPNode<T, U>> childNodes=nodeSolver.branch(currentNode);
+			BAPNode<T, U> nextNode=null;
+			for(BAPNode<T, U> childNode : childNodes){
+				nodeSolver.solve(childNode, iterationLimit);
+				if(!nodeSolver.isInfeasibleOrPruned(childNode)){
+					nextNode=childNode;
+					break;
+				}
+				if(++nrBacktracks > maxBacktracks)
+					return null;
+			}
+			if(nextNode == null) //None of the child nodes is feasible
+				return null;
+			if(nodeSolver.isIntegerNode(nextNode))
+				return new PrimalSolution<>(MathProgrammingUtil.doubleToInt(nextNode.getObjective()), nextNode.getSolution());
+			currentNode=nextNode;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,74 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * RestrictedMasterHeuristic.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.primalHeuristics;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractPrimalHeuristic;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.PrimalSolution;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Restricted master heuristic: solves the master problem of a node as an integer program over the columns which have been generated so far. The master problem must
+ * implement {@link AbstractMaster#solveIntegerProgram(long)}. Since the master problem accumulates the columns generated at the nodes processed by the same worker, the
+ * heuristic becomes stronger, but also more expensive, deeper in the tree; it is therefore typically invoked at the root node and with a low frequency.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class RestrictedMasterHeuristic<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends AbstractPrimalHeuristic<T, U, V> {
+
+	/** Maximum time spent solving the integer program per invocation (ms) **/
+	protected final long maxSolveTime;
+
+	/**
+	 * Creates a new restricted master heuristic
+	 * @param frequency the heuristic is invoked at the nodes whose depth is a multiple of the frequency; 0 restricts the heuristic to the root node
+	 * @param maxDepth maximum depth of the nodes at which the heuristic is invoked
+	 * @param maxSolveTime maximum time spent solving the integer program per invocation (ms)
+	 */
+	public RestrictedMasterHeuristic(int frequency, int maxDepth, long maxSolveTime){
+		super(frequency, maxDepth);
+		this.maxSolveTime=maxSolveTime;
+	}
+
+	@Override
+	protected PrimalSolution<U> findSolution(BAPNode<T, U> node, AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master, NodeSolver<T, U> nodeSolver, long timeLimit) throws TimeLimitExceededException {
+		long heuristicTimeLimit=Math.min(timeLimit, System.currentTimeMillis()+maxSolveTime);
+		try {
+			return master.solveIntegerProgram(heuristicTimeLimit);
+		} catch (TimeLimitExceededException e) {
+			if(heuristicTimeLimit < timeLimit) //Only the time budget of the heuristic has been exhausted
+				return null;
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * RoundingHeuristic.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.primalHeuristics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractPrimalHeuristic;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.PrimalSolution;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Rounding heuristic: rounds the fractional solution of a node by selecting the columns whose value is at least the rounding threshold. Whether the selected columns
+ * constitute a feasible solution, and what its objective is, depends on the problem; both are determined by the solution evaluator provided to the constructor.
+ * The value of each selected column is set to 1, so the columns of the solution returned by the heuristic carry their rounded values.
+ * The heuristic is cheap, and can therefore be invoked at every node.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class RoundingHeuristic<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends AbstractPrimalHeuristic<T, U, V> {
+
+	/** Columns whose value is at least the threshold are selected **/
+	protected final double threshold;
+	/** Returns the objective of a set of columns, or null if the columns do not constitute a feasible solution **/
+	protected final Function<List<U>, Integer> solutionEvaluator;
+
+	/**
+	 * Creates a new rounding heuristic
+	 * @param frequency the heuristic is invoked at the nodes whose depth is a multiple of the frequency; 0 restricts the heuristic to the root node
+	 * @param maxDepth maximum depth of the nodes at which the heuristic is invoked
+	 * @param threshold columns whose value is at least the threshold are selected
+	 * @param solutionEvaluator returns the objective of a set of columns, or null if the columns do not constitute a feasible solution
+	 */
+	public RoundingHeuristic(int frequency, int maxDepth, double threshold, Function<List<U>, Integer> solutionEvaluator){
+		super(frequency, maxDepth);
+		this.threshold=threshold;
+		this.solutionEvaluator=solutionEvaluator;
+	}
+
+	@Override
+	protected PrimalSolution<U> findSolution(BAPNode<T, U> node, AbstractMaster<T, U, V, ? extends MasterData<T, U, V, ?>> master, NodeSolver<T, U> nodeSolver, long timeLimit) {
+		List<U> columns=new ArrayList<>();
+		for(U column : node.getSolution()){
+			if(column.isArtificialColumn)
+				return null;
+			if(column.value >= threshold)
+				columns.add(column);
+		}
+		Integer objective=solutionEvaluator.apply(columns);
+		if(objective == null)
+			return null;
+		for(U column : columns)
+			column.value=1;
+		return new PrimalSolution<>(objective, columns);
+	}
+}
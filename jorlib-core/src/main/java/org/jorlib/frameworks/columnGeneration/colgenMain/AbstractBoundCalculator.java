@@ -0,0 +1,59 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractBoundCalculator.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Computes a bound on the optimal objective of the master problem from the master problem and the bounds on the pricing problems. The bounds on the pricing
+ * problems are obtained through {@link org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver#getBound()}, which must return a bound on the
+ * reduced cost of the most attractive column of the pricing problem, i.e. a lower bound on the smallest reduced cost when the master problem is a minimization problem,
+ * and an upper bound on the largest reduced cost when the master problem is a maximization problem. The reduced cost includes the dual variable of the convexity
+ * constraint of the pricing problem (if any).<br>
+ * A bound calculator is registered through {@link ColGen#setBoundCalculator(AbstractBoundCalculator)}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <V> type of pricing problem
+ */
+public abstract class AbstractBoundCalculator<T, V extends AbstractPricingProblem<T>> {
+
+	/**
+	 * Computes a bound on the optimal objective of the master problem
+	 * @param optimizationSenseMaster optimization sense of the master problem
+	 * @param boundComponent value originating from the master problem, see {@link org.jorlib.frameworks.columnGeneration.master.AbstractMaster#getBoundComponent()}
+	 * @param pricingProblems pricing problems
+	 * @param pricingProblemBounds bounds on the reduced costs of the most attractive columns of the pricing problems, in the same order as the pricing problems
+	 * @return bound on the optimal objective of the master problem
+	 */
+	public abstract double calculateBound(OptimizationSense optimizationSenseMaster, double boundComponent, List<V> pricingProblems, double[] pricingProblemBounds);
+}
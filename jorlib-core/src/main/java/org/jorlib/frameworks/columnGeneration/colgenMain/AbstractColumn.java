@@ -49,6 +49,8 @@ public abstract class AbstractColumn<T, V extends AbstractPricingProblem<T>>{
 	
 	/** The pricing problem to which this column belongs **/
 	public final V associatedPricingProblem;
+	/** Cached hash code of this column, or 0 if the hash code has not been computed yet **/
+	private int fingerprint=0;
 	
 	/**
 	 * Constructs a new column
@@ -72,6 +74,20 @@ public abstract class AbstractColumn<T, V extends AbstractPricingProblem<T>>{
 	 */
 	public abstract int hashCode();
 
+	/**
+	 * Returns the hash code of this column, which is computed only once. As the fields of a column do not change, the hash code can safely be cached; this avoids re-hashing
+	 * large columns, e.g. when the columns generated by the pricing problems are tested for duplicates.
+	 * @return the hash code of this column
+	 */
+	public final int getFingerprint(){
+		int h=fingerprint;
+		if(h == 0){
+			h=this.hashCode();
+			fingerprint=h;
+		}
+		return h;
+	}
+
 	/**
 	 * Gives a textual representation of a column
 	 */
@@ -27,20 +27,30 @@
 package org.jorlib.frameworks.columnGeneration.colgenMain;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.*;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.ColumnAgingPolicy;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
 import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
 import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.pricing.AdaptiveSolverScheduler;
+import org.jorlib.frameworks.columnGeneration.pricing.PartialPricingPolicy;
 import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemBundle;
 import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemManager;
+import org.jorlib.frameworks.columnGeneration.pricing.TimeBudget;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
 import org.jorlib.frameworks.columnGeneration.pricing.DefaultPricingProblemSolverFactory;
+import org.jorlib.frameworks.columnGeneration.pricing.stabilization.AbstractDualStabilizer;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.jorlib.frameworks.columnGeneration.util.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -89,14 +99,44 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	protected double boundOnMasterObjective =0;
 	/** Total number of column generation iterations. **/
 	protected int nrOfColGenIterations=0;
-	/**Total time spent on the column generation procedure**/
+	/**Total time spent on the column generation procedure (ns)**/
 	protected long colGenSolveTime;
-	/** Total time spent on solving the master problem **/
+	/** Total time spent on solving the master problem (ns) **/
 	protected long masterSolveTime=0;
-	/** Total time spent on solving the pricing problem **/
+	/** Total time spent on solving the pricing problem (ns) **/
 	protected long pricingSolveTime=0;
+	/** Latency histograms of the individual phases of the column generation procedure **/
+	protected MetricsRegistry metricsRegistry=new MetricsRegistry();
 	/** Total number of columns generated and added to the master problem **/
 	protected int nrGeneratedColumns=0;
+	/** Dual stabilizer which stabilizes the dual values before they are passed to the pricing problems, or null if no stabilization is used **/
+	protected AbstractDualStabilizer<T, V> dualStabilizer=null;
+	/** Pool of previously generated columns which is scanned before the pricing problem solvers are invoked, or null if no pool is used **/
+	protected ColumnPool<T, U, V> columnPool=null;
+	/** Only columns from the column pool which satisfy this filter may be added to the master problem **/
+	protected Predicate<U> columnPoolFilter=column -> true;
+	/** Total number of columns which have been retrieved from the column pool and added to the master problem **/
+	protected int nrColumnsFromPool=0;
+	/** Policy which removes columns that have not been used for a number of iterations from the master problem, or null if columns are never removed **/
+	protected ColumnAgingPolicy<T, U, V> columnAgingPolicy=null;
+	/** Total number of columns removed from the master problem by the column aging policy **/
+	protected int nrRemovedColumns=0;
+	/** Computes a bound on the optimal objective of the master problem, or null if no bound is computed **/
+	protected AbstractBoundCalculator<T, V> boundCalculator=null;
+	/** Detects tailing off of the column generation procedure, or null if the procedure always runs until optimality **/
+	protected TailingOffDetector tailingOffDetector=null;
+	/** The procedure may only terminate early when the solution of the master problem satisfies this condition **/
+	protected Predicate<List<U>> earlyTerminationCondition=solution -> true;
+	/** Indicates whether the column generation procedure terminated early because of tailing off **/
+	protected boolean tailingOff=false;
+	/** Determines the order in which the pricing problem solvers are invoked, or null if they are invoked in the order in which they are provided **/
+	protected AdaptiveSolverScheduler<T, U, V> solverScheduler=null;
+	/** Maximum number of column generation iterations **/
+	protected int iterationLimit=Integer.MAX_VALUE;
+	/** Indicates whether the column generation procedure terminated because the iteration limit was reached **/
+	protected boolean iterationLimitReached=false;
+	/** Indicates whether the column generation procedure terminated without proof of optimality because a solver instance ran out of its time budget **/
+	protected boolean timeBudgetExhausted=false;
 	
 	/**
 	 * Create a new column generation instance
@@ -104,7 +144,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * @param master master problem
 	 * @param pricingProblems pricing problems
 	 * @param solvers pricing problem solvers
-	 * @param initSolution initial solution
+	 * @param initSolution initial solution. Columns which are already present in the master problem are skipped.
 	 * @param cutoffValue cutoff Value. If the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}. If the master is a maximization problem, the Colgen procedure is terminated if {@code floor(boundOnMasterObjective) <= cutoffValue}.
 	 * @param boundOnMasterObjective Bound on the best attainable objective value from the master problem. Assuming that the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}.
 	 */
@@ -144,7 +184,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * @param master master problem
 	 * @param pricingProblem pricing problem
 	 * @param solvers pricing problem solvers
-	 * @param initSolution initial solution
+	 * @param initSolution initial solution. Columns which are already present in the master problem are skipped.
 	 * @param cutoffValue cutoff Value. If the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}. If the master is a maximization problem, the Colgen procedure is terminated if {@code floor(boundOnMasterObjective) <= cutoffValue}.
 	 * @param boundOnMasterObjective Bound on the best attainable objective value from the master problem. Assuming that the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}.
 	 */
@@ -165,7 +205,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * @param pricingProblems pricing problems
 	 * @param solvers pricing problem solvers
 	 * @param pricingProblemManager pricing problem manager
-	 * @param initSolution initial solution
+	 * @param initSolution initial solution. Columns which are already present in the master problem are skipped.
 	 * @param cutoffValue cutoff Value. If the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}. If the master is a maximization problem, the Colgen procedure is terminated if {@code floor(boundOnMasterObjective) <= cutoffValue}.
 	 * @param boundOnMasterObjective Bound on the best attainable objective value from the master problem. Assuming that the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}.
 	 */
@@ -183,7 +223,11 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		this.pricingProblems=pricingProblems;
 		this.solvers=solvers;
 		this.pricingProblemManager=pricingProblemManager;
-		master.addColumns(initSolution);
+		//Columns which are already present in the master problem, e.g. because a node is solved again after pricing ran out of its time budget, are not added again
+		for(U column : initSolution){
+			if(!master.getColumns(column.associatedPricingProblem).contains(column))
+				master.addColumn(column);
+		}
 		this.cutoffValue = cutoffValue;
 		this.boundOnMasterObjective=boundOnMasterObjective;
 
@@ -198,6 +242,8 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * with the next column generation iteration.<br>
 	 * If no new columns are found, the method checks for violated inequalities. If there are violated inequalities, they are added to the master problem and the method continues with the
 	 * next column generation iteration.<br>
+	 * When pipelined pricing is enabled (see {@link Configuration#PIPELINED_PRICING}), the master problem is re-optimized as soon as a sufficient number of columns
+	 * has been produced, while the remaining pricing problems continue to run on the old dual values.<br>
 	 * The solve procedure terminates under any of the following conditions:
 	 * <ol>
 	 * <li>the solver could not identify new columns</li>
@@ -209,13 +255,43 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * @throws TimeLimitExceededException Exception is thrown when time limit is exceeded
 	 */
 	public void solve(long timeLimit) throws TimeLimitExceededException{
+		if(tailingOffDetector != null && boundCalculator == null)
+			throw new IllegalStateException("A tailing off detector requires a bound calculator, see setBoundCalculator");
+
 		//set time limit pricing problems
 		pricingProblemManager.setTimeLimit(timeLimit);
-		colGenSolveTime=System.currentTimeMillis();
+		pricingProblemManager.setMetricsRegistry(metricsRegistry);
+		pricingProblemManager.setExistingColumnTest(column -> master.getColumns(column.associatedPricingProblem).contains(column));
+		colGenSolveTime=System.nanoTime();
 		
+		if(dualStabilizer != null)
+			dualStabilizer.reset();
+		if(tailingOffDetector != null)
+			tailingOffDetector.reset();
+		tailingOff=false;
+		iterationLimitReached=false;
+		timeBudgetExhausted=false;
+		notifier.fireStartCGEvent();
+		try {
+			this.colGenLoop(timeLimit);
+		}finally {
+			//Pricing problems which are still running in the background (pipelined pricing) must be finished before the pricing problems are modified
+			pricingProblemManager.awaitPipelinedPricingProblems();
+		}
+		if(!tailingOff && !iterationLimitReached && !timeBudgetExhausted) //When solved to optimality, the bound on the master problem objective equals the objective value.
+			this.boundOnMasterObjective = (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(this.boundOnMasterObjective, this.objectiveMasterProblem) : Math.min(this.boundOnMasterObjective, this.objectiveMasterProblem));
+		colGenSolveTime=System.nanoTime()-colGenSolveTime;
+		notifier.fireFinishCGEvent();
+	}
+
+	/**
+	 * Main loop of the column generation procedure, alternating between solving the master problem and the pricing problems.
+	 * @param timeLimit Future point in time (ms) by which the procedure should be finished.
+	 * @throws TimeLimitExceededException Exception is thrown when time limit is exceeded
+	 */
+	private void colGenLoop(long timeLimit) throws TimeLimitExceededException{
 		boolean foundNewColumns=false; //Identify whether the pricing problem generated new columns
 		boolean hasNewCuts; //Identify whether the master problem violates any valid inequalities
-		notifier.fireStartCGEvent();
 		do{
 			nrOfColGenIterations++;
 			hasNewCuts=false;
@@ -227,9 +303,11 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 			if(Math.abs(objectiveMasterProblem - boundOnMasterObjective)<config.PRECISION){
 				//Check whether there are inequalities. Otherwise potentially an infeasible integer solution (e.g. TSP solution with subtours) might be returned.
 				if(config.CUTSENABLED){
-					long time=System.currentTimeMillis();
+					long time=System.nanoTime();
 					hasNewCuts=master.hasNewCuts();
-					masterSolveTime+=(System.currentTimeMillis()-time); //Generating inequalities is considered part of the master problem
+					time=System.nanoTime()-time;
+					metricsRegistry.record(MetricsRegistry.CUT_SEPARATION, time);
+					masterSolveTime+=time; //Generating inequalities is considered part of the master problem
 					if(hasNewCuts)
 						continue;
 					else
@@ -237,10 +315,31 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 				}else
 					break;
 			}
-			
+
+			//Terminate when the iteration limit is reached. The bound computed in the previous iterations remains valid.
+			if(nrOfColGenIterations >= iterationLimit){
+				iterationLimitReached=true;
+				break;
+			}
+
+			//Terminate early when the procedure is tailing off. The bound computed in the previous iterations remains valid.
+			if(tailingOffDetector != null){
+				tailingOffDetector.addIteration(objectiveMasterProblem, boundOnMasterObjective);
+				if(tailingOffDetector.isTailingOff() && this.canTerminateEarly()){
+					logger.debug("Column generation is tailing off after {} iterations. Objective: {}, bound: {}", nrOfColGenIterations, objectiveMasterProblem, boundOnMasterObjective);
+					tailingOff=true;
+					break;
+				}
+			}
+
+			//Determine which columns have not been used for a number of iterations. These columns can only be removed after the pricing problems have been initialized.
+			List<U> agedColumns=(columnAgingPolicy == null ? Collections.emptyList() : columnAgingPolicy.updateAges(master, pricingProblems));
+
 			//Solve the pricing problem and possibly update the bound on the master problem objective
 			List<U> newColumns=this.invokePricingProblems(timeLimit); //List containing new columns generated by the pricing problem
 			foundNewColumns=!newColumns.isEmpty();
+			if(foundNewColumns)
+				this.removeColumns(agedColumns);
 
 			//Check whether the boundOnMasterObjective exceeds the cutoff value
 			if(boundOnMasterExceedsCutoffValue())
@@ -249,15 +348,14 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 				notifier.fireTimeLimitExceededEvent();
 				throw new TimeLimitExceededException();
 			}else if(config.CUTSENABLED && !foundNewColumns){ //Check for inequalities. This can only be done if the master problem hasn't changed (no columns can be added).
-				long time=System.currentTimeMillis();
+				long time=System.nanoTime();
 				hasNewCuts=master.hasNewCuts();
-				masterSolveTime+=(System.currentTimeMillis()-time); //Generating inequalities is considered part of the master problem
+				time=System.nanoTime()-time;
+				metricsRegistry.record(MetricsRegistry.CUT_SEPARATION, time);
+				masterSolveTime+=time; //Generating inequalities is considered part of the master problem
 			}
 			
 		}while(foundNewColumns || hasNewCuts);
-		this.boundOnMasterObjective = (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(this.boundOnMasterObjective, this.objectiveMasterProblem) : Math.min(this.boundOnMasterObjective, this.objectiveMasterProblem)); //When solved to optimality, the bound on the master problem objective equals the objective value.
-		colGenSolveTime=System.currentTimeMillis()-colGenSolveTime;
-		notifier.fireFinishCGEvent();
 	}
 
 	/**
@@ -267,16 +365,20 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 */
 	protected void invokeMaster(long timeLimit) throws TimeLimitExceededException {
 		notifier.fireStartMasterEvent();
-		long time=System.currentTimeMillis();
+		long time=System.nanoTime();
 		master.solve(timeLimit);
 		objectiveMasterProblem =master.getObjective();
-		masterSolveTime+=(System.currentTimeMillis()-time);
+		time=System.nanoTime()-time;
+		metricsRegistry.record(MetricsRegistry.MASTER_SOLVE, time);
+		masterSolveTime+=time;
 		notifier.fireFinishMasterEvent();
 	}
 
 	/**
 	 * Invokes the solve methods of the algorithms which solve the Pricing Problem. In addition, after solving the Pricing Problems
 	 * and before any new columns are added to the Master Problem, this method invokes the {@link #calculateBoundOnMasterObjective(Class solver) calculateBoundOnMasterObjective} method.
+	 * When a dual stabilizer is registered, the pricing problems are solved again on less stabilized dual values whenever a mispricing occurs.
+	 * When a column pool is registered, the pool is re-priced first; the pricing problem solvers are only invoked if the pool does not yield any columns.
 	 * @param timeLimit Future point in time by which the Pricing Problem must be finished
 	 * @return list of new columns which have to be added to the Master Problem, or an empty list if no columns could be identified
 	 * @throws TimeLimitExceededException TimeLimitExceededException
@@ -284,40 +386,192 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	protected List<U> invokePricingProblems(long timeLimit) throws TimeLimitExceededException {
 		//Solve the pricing problem
 		List<U> newColumns=new ArrayList<>();
-		long time=System.currentTimeMillis();
-
-		//Update data in pricing problems
-		for(V pricingProblem : pricingProblems){
-			master.initializePricingProblem(pricingProblem);
-		}
+		long time=System.nanoTime();
 
 		//Solve pricing problems in the order of the pricing algorithms
 		notifier.fireStartPricingEvent();
 		pricingProblemManager.setTimeLimit(timeLimit);
-		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : solvers){
-			newColumns=pricingProblemManager.solvePricingProblems(solver);
-
-			//Calculate a bound on the optimal solution of the master problem
-			this.boundOnMasterObjective =(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)) : Math.min(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)));
-
-			//Stop when we found new columns
-			if(!newColumns.isEmpty()){
-				break;
-			}
-		}
+		do{
+			//Update data in pricing problems. With pipelined pricing, the pricing problems are updated by the pricingProblemManager when they are scheduled.
+			if(!config.PIPELINED_PRICING) {
+				for (V pricingProblem : pricingProblems) {
+					this.initializePricingProblem(pricingProblem);
+				}
+			}else
+				pricingProblemManager.startPipelinedPricingRound(); //The master problem has been solved again, or the dual values are less stabilized
+			newColumns=this.priceColumnPool();
+			if(newColumns.isEmpty())
+				newColumns=this.invokePricingSolvers(timeLimit);
+			//When the dual values are stabilized, failing to find new columns may be caused by a mispricing. In that case, the pricing problems are solved again on less stabilized dual values.
+		}while(newColumns.isEmpty() && dualStabilizer != null && dualStabilizer.handleMispricing());
+		if(dualStabilizer != null && !newColumns.isEmpty())
+			dualStabilizer.columnsFound();
+		newColumns=this.limitNumberOfColumns(newColumns);
 		notifier.fireFinishPricingEvent(newColumns);
 
-		pricingSolveTime+=(System.currentTimeMillis()-time);
+		pricingSolveTime+=(System.nanoTime()-time);
 		nrGeneratedColumns+=newColumns.size();
 		//Add columns to the master problem
 		if(!newColumns.isEmpty()){
 			for(U column : newColumns){
+				long insertionTime=System.nanoTime();
 				master.addColumn(column);
+				metricsRegistry.recordSince(MetricsRegistry.COLUMN_INSERTION, insertionTime);
 			}
+			if(columnPool != null)
+				columnPool.addColumns(newColumns);
 		}
 		return newColumns;
 	}
 
+	/**
+	 * Tests whether the procedure may terminate early. This is only the case when the solution of the master problem does not contain artificial columns,
+	 * and satisfies the early termination condition (see {@link #setTailingOffDetector(TailingOffDetector, Predicate)}).
+	 * @return true if the procedure may terminate early
+	 */
+	protected boolean canTerminateEarly(){
+		List<U> solution=master.getSolution();
+		for(U column : solution){
+			if(column.isArtificialColumn)
+				return false;
+		}
+		return earlyTerminationCondition.test(solution);
+	}
+
+	/**
+	 * Limits the number of columns which are added to the master problem to Configuration.MAX_COLUMNS_PER_ITERATION. The pricing problems take turns in contributing
+	 * their columns, in the order in which they were generated (solvers using a {@link org.jorlib.frameworks.columnGeneration.pricing.ColumnCollector} return their
+	 * most attractive columns first). Columns which are not selected are stored in the column pool, if any.
+	 * @param columns columns generated by the pricing problems
+	 * @return columns which are added to the master problem
+	 */
+	protected List<U> limitNumberOfColumns(List<U> columns){
+		int maxColumns=Math.max(1, config.MAX_COLUMNS_PER_ITERATION);
+		if(columns.size() <= maxColumns)
+			return columns;
+		Map<V, Iterator<U>> columnsPerPricingProblem=new LinkedHashMap<>();
+		for(Map.Entry<V, List<U>> entry : columns.stream().collect(Collectors.groupingBy(column -> column.associatedPricingProblem, LinkedHashMap::new, Collectors.toList())).entrySet())
+			columnsPerPricingProblem.put(entry.getKey(), entry.getValue().iterator());
+		List<U> selectedColumns=new ArrayList<>(maxColumns);
+		while(selectedColumns.size() < maxColumns){
+			for(Iterator<U> it : columnsPerPricingProblem.values()){
+				if(it.hasNext() && selectedColumns.size() < maxColumns)
+					selectedColumns.add(it.next());
+			}
+		}
+		if(columnPool != null){
+			for(Iterator<U> it : columnsPerPricingProblem.values())
+				it.forEachRemaining(columnPool::addColumn);
+		}
+		return selectedColumns;
+	}
+
+	/**
+	 * Removes columns from the master problem. When a column pool is used, the removed columns are stored in the pool, so they can be retrieved cheaply
+	 * when they become attractive again.
+	 * @param columns columns to remove
+	 */
+	protected void removeColumns(List<U> columns){
+		for(U column : columns){
+			master.removeColumn(column);
+			if(columnPool != null)
+				columnPool.addColumn(column);
+		}
+		nrRemovedColumns+=columns.size();
+	}
+
+	/**
+	 * Re-prices the columns in the column pool against the dual values currently stored in the pricing problems. Columns which are already present in the
+	 * master problem are ignored. With pipelined pricing, pricing problems which are still being solved on older dual values are skipped.
+	 * Note that no bound on the master problem can be derived from the column pool.
+	 * @return list of columns from the pool with a negative reduced cost, or an empty list if no such columns exist
+	 */
+	protected List<U> priceColumnPool(){
+		if(columnPool == null || columnPool.size() == 0)
+			return Collections.emptyList();
+		List<U> poolColumns=new ArrayList<>();
+		for(V pricingProblem : pricingProblems){
+			if(config.PIPELINED_PRICING){
+				if(pricingProblemManager.isSolving(pricingProblem))
+					continue;
+				this.initializePricingProblem(pricingProblem);
+			}
+			Set<U> masterColumns=master.getColumns(pricingProblem);
+			poolColumns.addAll(columnPool.getColumnsWithNegativeReducedCost(pricingProblem, optimizationSenseMaster, column -> !masterColumns.contains(column) && columnPoolFilter.test(column)));
+		}
+		nrColumnsFromPool+=poolColumns.size();
+		return poolColumns;
+	}
+
+	/**
+	 * Invokes the pricing problem solvers one by one in a hierarchical fashion, until one of the solvers produces new columns. After each solver, a bound
+	 * on the master problem is computed, provided that all pricing problems have been solved on the dual values of the master problem.
+	 * @param timeLimit Future point in time by which the Pricing Problem must be finished
+	 * @return list of new columns, or an empty list if no columns could be identified
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	private List<U> invokePricingSolvers(long timeLimit) throws TimeLimitExceededException {
+		List<U> newColumns=new ArrayList<>();
+		List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solverOrder=(solverScheduler == null ? solvers : solverScheduler.getSolverOrder(solvers));
+		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : solverOrder){
+			long time=System.nanoTime();
+			if(config.PIPELINED_PRICING)
+				newColumns=this.invokePricingProblemsPipelined(solver, timeLimit);
+			else
+				newColumns=pricingProblemManager.solvePricingProblems(solver);
+
+			//Columns which are already present in the master problem, e.g. columns produced on stabilized dual values, have been discarded by the pricingProblemManager
+			if(solverScheduler != null)
+				solverScheduler.update(solver, newColumns.size(), System.nanoTime()-time);
+
+			//Calculate a bound on the optimal solution of the master problem. This is only possible when all pricing problems have been solved on the dual values of the master problem.
+			if(pricingProblemManager.isPricingRoundComplete() && (dualStabilizer == null || !dualStabilizer.isStabilizing())){
+				double bound=this.calculateBoundOnMasterObjective(solver);
+				this.boundOnMasterObjective =(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(boundOnMasterObjective, bound) : Math.min(boundOnMasterObjective, bound));
+			}
+
+			//Stop when we found new columns
+			if(!newColumns.isEmpty()){
+				break;
+			}
+		}
+		//If the last solver ran out of its time budget for some of the pricing problems, the absence of new columns does not prove optimality
+		timeBudgetExhausted=newColumns.isEmpty() && pricingProblemManager.isTimeBudgetExhausted();
+		return newColumns;
+	}
+
+	/**
+	 * Supplies the dual values of the master problem to the given pricing problem. If a dual stabilizer has been registered, the dual values are stabilized
+	 * before the pricing problem is solved.
+	 * @param pricingProblem pricing problem
+	 */
+	protected void initializePricingProblem(V pricingProblem){
+		long time=System.nanoTime();
+		master.initializePricingProblem(pricingProblem);
+		metricsRegistry.recordSince(MetricsRegistry.DUAL_EXTRACTION, time);
+		if(dualStabilizer != null)
+			dualStabilizer.stabilize(pricingProblem);
+	}
+
+	/**
+	 * Solves the pricing problems in a pipelined fashion (see {@link PricingProblemManager#solvePricingProblemsPipelined(Class, int, java.util.function.Consumer, long)}).
+	 * Columns which were produced on outdated dual values may already be present in the master problem; these columns are filtered out.
+	 * @param solver solver used to solve the pricing problems
+	 * @param timeLimit Future point in time by which the Pricing Problem must be finished
+	 * @return list of new columns which are not yet present in the master problem, or an empty list if all pricing problems have been solved on the latest dual values without producing new columns
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected List<U> invokePricingProblemsPipelined(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, long timeLimit) throws TimeLimitExceededException {
+		Set<U> newColumns=new LinkedHashSet<>();
+		do{
+			for(U column : pricingProblemManager.solvePricingProblemsPipelined(solver, config.PIPELINED_PRICING_COLUMN_THRESHOLD, this::initializePricingProblem, timeLimit)){
+				if(!master.getColumns(column.associatedPricingProblem).contains(column))
+					newColumns.add(column);
+			}
+		}while(newColumns.isEmpty() && !pricingProblemManager.isPricingRoundComplete() && !pricingProblemManager.isTimeBudgetExhausted());
+		return new ArrayList<>(newColumns);
+	}
+
 	/**
 	 * Compute bound on the optimal objective value attainable by the the current master problem. The bound may be based on both information from the master,
 	 * as well as information from the pricing problem solutions.<br>
@@ -327,7 +581,8 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * <li>{@link AbstractMaster#getBoundComponent()} for the master problem</li>
 	 * <li>{@link PricingProblemManager#getBoundsOnPricingProblems(Class)}  method for the pricing problems</li>
 	 * </ul>
-	 * NOTE: This method is not implemented by default.
+	 * By default, the bound is computed by the bound calculator registered through {@link #setBoundCalculator(AbstractBoundCalculator)}, e.g. a {@link LagrangianBoundCalculator}
+	 * or a {@link FarleyBoundCalculator}. When no bound calculator is registered, no bound is computed, unless this method is overridden.
 	 * NOTE2: When calling this method, it is guaranteed that the master problem has not been changed (no columns or inequalities are added) since the last time its
 	 * {@link #solve(long timeLimit) solve} method was invoked!
 	 * 
@@ -335,13 +590,140 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * @return bound on the optimal master problem solution
 	 */
 	protected double calculateBoundOnMasterObjective(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver){
-		//This method is not implemented as it is problem dependent. Override this method.
-		//The following methods are at your disposal (see documentation):
-		//double master.getLowerboundComponent()
-		//double[] pricingProblemManager.getUpperBound(solver)
-		return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? -Double.MAX_VALUE : Double.MAX_VALUE);
+		if(boundCalculator == null)
+			return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? -Double.MAX_VALUE : Double.MAX_VALUE);
+		return boundCalculator.calculateBound(optimizationSenseMaster, master.getBoundComponent(), pricingProblems, pricingProblemManager.getBoundsOnPricingProblems(solver));
 	}
 	
+	/**
+	 * Registers a dual stabilizer. The stabilizer modifies the dual values supplied by the master problem before they are passed to the pricing problems,
+	 * see {@link AbstractDualStabilizer}. This method must be invoked before {@link #solve(long) solve}.
+	 * @param dualStabilizer dual stabilizer, or null to disable dual stabilization
+	 */
+	public void setDualStabilizer(AbstractDualStabilizer<T, V> dualStabilizer){
+		this.dualStabilizer=dualStabilizer;
+	}
+
+	/**
+	 * Registers a column pool. Columns generated by the pricing problems are stored in the pool. Before the pricing problem solvers are invoked, the columns in
+	 * the pool are re-priced against the current dual values, see {@link ColumnPool}. This method must be invoked before {@link #solve(long) solve}.
+	 * @param columnPool column pool, or null to disable the column pool
+	 */
+	public void setColumnPool(ColumnPool<T, U, V> columnPool){
+		this.setColumnPool(columnPool, column -> true);
+	}
+
+	/**
+	 * Registers a column pool. Columns generated by the pricing problems are stored in the pool. Before the pricing problem solvers are invoked, the columns in
+	 * the pool are re-priced against the current dual values, see {@link ColumnPool}. This method must be invoked before {@link #solve(long) solve}.
+	 * @param columnPool column pool, or null to disable the column pool
+	 * @param columnPoolFilter only columns from the pool which satisfy this filter are added to the master problem, e.g. columns which are compatible with the
+	 *                         branching decisions of the node in the Branch-and-Price tree
+	 */
+	public void setColumnPool(ColumnPool<T, U, V> columnPool, Predicate<U> columnPoolFilter){
+		this.columnPool=columnPool;
+		this.columnPoolFilter=columnPoolFilter;
+	}
+
+	/**
+	 * Registers a bound calculator which is used by {@link #calculateBoundOnMasterObjective(Class)} to compute a bound on the optimal objective of the master problem.
+	 * The column generation procedure terminates as soon as the bound exceeds the cutoff value, or when the bound equals the objective of the master problem.
+	 * @param boundCalculator bound calculator, or null to disable the default bound computation
+	 */
+	public void setBoundCalculator(AbstractBoundCalculator<T, V> boundCalculator){
+		this.boundCalculator=boundCalculator;
+	}
+
+	/**
+	 * Registers a tailing off detector. When the detector signals that the gap between the objective and the bound stagnates, the procedure terminates early. In that case,
+	 * the bound returned by {@link #getBound()} is the last bound computed by {@link #calculateBoundOnMasterObjective(Class)}. A bound calculator must be registered as
+	 * well (see {@link #setBoundCalculator(AbstractBoundCalculator)}). This method must be invoked before {@link #solve(long) solve}.
+	 * @param tailingOffDetector tailing off detector, or null to disable early termination
+	 */
+	public void setTailingOffDetector(TailingOffDetector tailingOffDetector){
+		this.setTailingOffDetector(tailingOffDetector, solution -> true);
+	}
+
+	/**
+	 * Registers a tailing off detector. When the detector signals that the gap between the objective and the bound stagnates, and the current solution of the master
+	 * problem satisfies the early termination condition, the procedure terminates early. In that case, the bound returned by {@link #getBound()} is the last bound computed by
+	 * {@link #calculateBoundOnMasterObjective(Class)}. A bound calculator must be registered as well (see {@link #setBoundCalculator(AbstractBoundCalculator)}).
+	 * This method must be invoked before {@link #solve(long) solve}.
+	 * @param tailingOffDetector tailing off detector, or null to disable early termination
+	 * @param earlyTerminationCondition condition on the solution of the master problem, e.g. the solution must be fractional
+	 */
+	public void setTailingOffDetector(TailingOffDetector tailingOffDetector, Predicate<List<U>> earlyTerminationCondition){
+		this.tailingOffDetector=tailingOffDetector;
+		this.earlyTerminationCondition=earlyTerminationCondition;
+	}
+
+	/**
+	 * Limits the number of column generation iterations. When the limit is reached, the procedure terminates after solving the master problem, and the bound returned
+	 * by {@link #getBound()} is the last bound computed by {@link #calculateBoundOnMasterObjective(Class)}. This is used to obtain a quick estimate of the
+	 * objective, e.g. during strong branching. This method must be invoked before {@link #solve(long) solve}.
+	 * @param iterationLimit maximum number of column generation iterations
+	 */
+	public void setIterationLimit(int iterationLimit){
+		if(iterationLimit < 1)
+			throw new IllegalArgumentException("The iteration limit must be at least 1");
+		this.iterationLimit=iterationLimit;
+	}
+
+	/**
+	 * Registers a scheduler which determines the order in which the pricing problem solvers are invoked, based on their past performance (see {@link AdaptiveSolverScheduler}).
+	 * The last solver in the list of solvers must be an exact solver. This method must be invoked before {@link #solve(long) solve}.
+	 * @param solverScheduler solver scheduler, or null to invoke the solvers in the order in which they are provided
+	 */
+	public void setSolverScheduler(AdaptiveSolverScheduler<T, U, V> solverScheduler){
+		this.solverScheduler=solverScheduler;
+	}
+
+	/**
+	 * Registers a column aging policy. Columns which have not been used for a number of iterations are removed from the master problem, see {@link ColumnAgingPolicy}.
+	 * This method must be invoked before {@link #solve(long) solve}.
+	 * @param columnAgingPolicy column aging policy, or null to keep all columns in the master problem
+	 */
+	public void setColumnAgingPolicy(ColumnAgingPolicy<T, U, V> columnAgingPolicy){
+		this.columnAgingPolicy=columnAgingPolicy;
+	}
+
+	/**
+	 * Registers a policy which decides whether the pricing problems may stop early, e.g. after a fixed number of columns has been found.
+	 * See {@link PartialPricingPolicy}.
+	 * @param partialPricingPolicy partial pricing policy, or null to solve all pricing problems to completion
+	 */
+	public void setPartialPricingPolicy(PartialPricingPolicy partialPricingPolicy){
+		pricingProblemManager.setPartialPricingPolicy(partialPricingPolicy);
+	}
+
+	/**
+	 * Sets the executor which solves the pricing problems in parallel, see {@link PricingProblemManager#setExecutor(ExecutorService)}. The executor is not shut down when this
+	 * column generation instance is closed.
+	 * @param executor executor, or null to use an executor of type {@link Configuration#PRICING_EXECUTOR}
+	 */
+	public void setPricingExecutor(ExecutorService executor){
+		pricingProblemManager.setExecutor(executor);
+	}
+
+	/**
+	 * Sets the time budget of all instances of the given solver, see {@link PricingProblemManager#setTimeBudget(Class, TimeBudget)}. A solver instance which runs out of its budget
+	 * does not produce columns; it does not abort the column generation procedure.
+	 * @param solver solver
+	 * @param timeBudget time budget, or null to remove the budget
+	 */
+	public void setPricingTimeBudget(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, TimeBudget timeBudget){
+		pricingProblemManager.setTimeBudget(solver, timeBudget);
+	}
+
+	/**
+	 * Sets the time budget of the solver instances of the given pricing problem, see {@link PricingProblemManager#setTimeBudget(AbstractPricingProblem, TimeBudget)}
+	 * @param pricingProblem pricing problem
+	 * @param timeBudget time budget, or null to remove the budget
+	 */
+	public void setPricingTimeBudget(V pricingProblem, TimeBudget timeBudget){
+		pricingProblemManager.setTimeBudget(pricingProblem, timeBudget);
+	}
+
 	/**
 	 * Returns the objective value of the column generation procedure
 	 * @return Returns the objective value of the column generation procedure
@@ -369,30 +751,66 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	}
 
 	/**
-	 * Returns the total runtime
+	 * Returns the total runtime (ms)
 	 * @return Returns how much time it took to solve the column generation problem. This time equals:
 	 * {@link #getMasterSolveTime()}+{@link #getPricingSolveTime()}+(small amount of overhead).
 	 */
 	public long getRuntime(){
-		return colGenSolveTime;
+		return TimeUnit.NANOSECONDS.toMillis(colGenSolveTime);
 	}
 
 	/**
-	 * Returns how much time was spent on solving the master problem
+	 * Returns how much time was spent on solving the master problem (ms)
 	 * @return Returns how much time was spent on solving the master problem
 	 */
 	public long getMasterSolveTime(){
-		return masterSolveTime;
+		return TimeUnit.NANOSECONDS.toMillis(masterSolveTime);
 	}
 
 	/**
-	 * Returns how much time was spent on solving the pricing problems
+	 * Returns how much time was spent on solving the pricing problems (ms)
 	 * @return Returns how much time was spent on solving the pricing problems
 	 */
 	public long getPricingSolveTime(){
+		return TimeUnit.NANOSECONDS.toMillis(pricingSolveTime);
+	}
+
+	/**
+	 * Returns how much time was spent on solving the master problem (ns). Unlike {@link #getMasterSolveTime()}, the value is not truncated, so it can be accumulated
+	 * over many invocations of the column generation procedure without losing precision.
+	 * @return Returns how much time was spent on solving the master problem
+	 */
+	public long getMasterSolveTimeNanos(){
+		return masterSolveTime;
+	}
+
+	/**
+	 * Returns how much time was spent on solving the pricing problems (ns). Unlike {@link #getPricingSolveTime()}, the value is not truncated, so it can be accumulated
+	 * over many invocations of the column generation procedure without losing precision.
+	 * @return Returns how much time was spent on solving the pricing problems
+	 */
+	public long getPricingSolveTimeNanos(){
 		return pricingSolveTime;
 	}
 
+	/**
+	 * Returns the latency histograms of the individual phases of the column generation procedure (see {@link MetricsRegistry}). The registry may also be queried
+	 * from a listener, while the procedure is running.
+	 * @return the metrics registry
+	 */
+	public MetricsRegistry getMetricsRegistry(){
+		return metricsRegistry;
+	}
+
+	/**
+	 * Sets the registry in which the latency histograms of the individual phases of the column generation procedure are recorded, e.g. a registry which is shared by
+	 * all nodes in a Branch-and-Price tree. This method must be invoked before {@link #solve(long) solve}.
+	 * @param metricsRegistry metrics registry
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry){
+		this.metricsRegistry=metricsRegistry;
+	}
+
 	/**
 	 * Returns how many columns have been generated in total
 	 * @return Returns how many columns have been generated in total
@@ -401,6 +819,47 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		return nrGeneratedColumns;
 	}
 
+	/**
+	 * Returns how many of the generated columns have been retrieved from the column pool
+	 * @return Returns how many of the generated columns have been retrieved from the column pool
+	 */
+	public int getNrColumnsFromPool(){
+		return nrColumnsFromPool;
+	}
+
+	/**
+	 * Returns whether the procedure terminated early because it was tailing off. If so, the gap between {@link #getObjective()} and {@link #getBound()} may not be closed.
+	 * @return true if the procedure terminated early because it was tailing off
+	 */
+	public boolean isTailingOff(){
+		return tailingOff;
+	}
+
+	/**
+	 * Returns whether the procedure terminated because the iteration limit was reached (see {@link #setIterationLimit(int)}). If so, the gap between {@link #getObjective()} and {@link #getBound()} may not be closed.
+	 * @return true if the procedure terminated because the iteration limit was reached
+	 */
+	public boolean isIterationLimitReached(){
+		return iterationLimitReached;
+	}
+
+	/**
+	 * Returns whether the procedure terminated because no new columns were found, while some of the pricing problems ran out of their time budget (see {@link #setPricingTimeBudget(Class, TimeBudget)}).
+	 * If so, the gap between {@link #getObjective()} and {@link #getBound()} may not be closed.
+	 * @return true if the procedure terminated without proof of optimality because a solver instance ran out of its time budget
+	 */
+	public boolean isTimeBudgetExhausted(){
+		return timeBudgetExhausted;
+	}
+
+	/**
+	 * Returns how many columns have been removed from the master problem by the column aging policy
+	 * @return Returns how many columns have been removed from the master problem by the column aging policy
+	 */
+	public int getNrRemovedColumns(){
+		return nrRemovedColumns;
+	}
+
 	/**
 	 * Returns the solution maintained by the master problem
 	 * @return Returns the solution maintained by the master problem
@@ -0,0 +1,77 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnCoefficients.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+/**
+ * Sparse representation of a column, used to compute the reduced cost of the column from the dual values stored in its pricing problem
+ * ({@link org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem#dualCosts dualCosts} and
+ * {@link org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem#dualCost dualCost}). The reduced cost of the column is defined as:
+ * {@code cost - sum_i coefficients[i]*dualCosts[indices[i]] - dualCostCoefficient*dualCost}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class ColumnCoefficients {
+
+	/** Objective coefficient of the column **/
+	public final double cost;
+	/** Indices of the entries in the dualCosts array of the pricing problem for which the column has a non-zero coefficient **/
+	public final int[] indices;
+	/** Coefficients of the column, {@code coefficients[i]} is the coefficient which is multiplied with {@code dualCosts[indices[i]]} **/
+	public final double[] coefficients;
+	/** Coefficient which is multiplied with the dualCost of the pricing problem, e.g. 1 if the dualCost holds the dual of a convexity constraint **/
+	public final double dualCostCoefficient;
+
+	/**
+	 * Creates a new sparse column representation
+	 * @param cost objective coefficient of the column
+	 * @param indices indices of the entries in the dualCosts array of the pricing problem for which the column has a non-zero coefficient
+	 * @param coefficients coefficients of the column
+	 * @param dualCostCoefficient coefficient which is multiplied with the dualCost of the pricing problem
+	 */
+	public ColumnCoefficients(double cost, int[] indices, double[] coefficients, double dualCostCoefficient){
+		if(indices.length != coefficients.length)
+			throw new IllegalArgumentException("The number of indices must match the number of coefficients");
+		this.cost=cost;
+		this.indices=indices;
+		this.coefficients=coefficients;
+		this.dualCostCoefficient=dualCostCoefficient;
+	}
+
+	/**
+	 * Computes the reduced cost of the column
+	 * @param dualCosts dual values
+	 * @param dualCost dual value
+	 * @return reduced cost of the column
+	 */
+	public double getReducedCost(double[] dualCosts, double dualCost){
+		double reducedCost=cost-dualCostCoefficient*dualCost;
+		for(int i=0; i<indices.length; i++)
+			reducedCost-=coefficients[i]*dualCosts[indices[i]];
+		return reducedCost;
+	}
+}
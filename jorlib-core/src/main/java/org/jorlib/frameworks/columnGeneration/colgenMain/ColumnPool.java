@@ -0,0 +1,207 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnPool.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+
+/**
+ * Pool of columns which have been generated by the pricing problems. Columns which are no longer present in the master problem, e.g. because they were
+ * generated at a different node in the Branch-and-Price tree, can be retrieved from this pool. Before the pricing problem solvers are invoked,
+ * {@link ColGen} re-prices the columns in the pool against the current dual values. The solvers are only invoked when the pool does not contain any
+ * column with a negative reduced cost.<br>
+ * For each column, a sparse representation ({@link ColumnCoefficients}) is computed once, when the column is added to the pool. Re-pricing the pool
+ * hence comes down to computing a sparse dot product per column.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class ColumnPool<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Configuration file **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Function which computes the sparse representation of a column **/
+	protected final Function<U, ColumnCoefficients> coefficientFunction;
+	/** Maximum number of columns in the pool. When the pool is full, the oldest columns are removed. **/
+	protected final int maxSize;
+	/** Columns in the pool, grouped by pricing problem, in order of insertion **/
+	protected final Map<V, LinkedHashMap<U, ColumnCoefficients>> columns;
+	/** Number of columns in the pool **/
+	protected int size=0;
+
+	/**
+	 * Creates a new column pool of unlimited size
+	 * @param coefficientFunction Function which computes the sparse representation of a column
+	 */
+	public ColumnPool(Function<U, ColumnCoefficients> coefficientFunction){
+		this(coefficientFunction, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new column pool
+	 * @param coefficientFunction Function which computes the sparse representation of a column
+	 * @param maxSize maximum number of columns in the pool. When the pool is full, the oldest columns are removed.
+	 */
+	public ColumnPool(Function<U, ColumnCoefficients> coefficientFunction, int maxSize){
+		this.coefficientFunction=coefficientFunction;
+		this.maxSize=maxSize;
+		this.columns=new LinkedHashMap<>();
+	}
+
+	/**
+	 * Adds a column to the pool. Artificial columns and columns which are already present in the pool are ignored.
+	 * @param column column
+	 */
+	public void addColumn(U column){
+		if(column.isArtificialColumn)
+			return;
+		LinkedHashMap<U, ColumnCoefficients> poolColumns=columns.computeIfAbsent(column.associatedPricingProblem, k -> new LinkedHashMap<>());
+		if(poolColumns.containsKey(column))
+			return;
+		poolColumns.put(column, coefficientFunction.apply(column));
+		size++;
+		if(size > maxSize)
+			this.removeOldestColumn();
+	}
+
+	/**
+	 * Adds a number of columns to the pool
+	 * @param newColumns columns
+	 */
+	public void addColumns(Collection<U> newColumns){
+		for(U column : newColumns)
+			this.addColumn(column);
+	}
+
+	/**
+	 * Removes a column from the pool
+	 * @param column column
+	 * @return true if the column was present in the pool
+	 */
+	public boolean removeColumn(U column){
+		LinkedHashMap<U, ColumnCoefficients> poolColumns=columns.get(column.associatedPricingProblem);
+		if(poolColumns == null || poolColumns.remove(column) == null)
+			return false;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Removes the oldest column from the pool
+	 */
+	private void removeOldestColumn(){
+		//The oldest column of the pricing problem with the largest number of columns is removed
+		LinkedHashMap<U, ColumnCoefficients> largest=null;
+		for(LinkedHashMap<U, ColumnCoefficients> poolColumns : columns.values()){
+			if(largest == null || poolColumns.size() > largest.size())
+				largest=poolColumns;
+		}
+		Iterator<U> it=largest.keySet().iterator();
+		it.next();
+		it.remove();
+		size--;
+	}
+
+	/**
+	 * Returns true if the column is present in the pool
+	 * @param column column
+	 * @return true if the column is present in the pool
+	 */
+	public boolean contains(U column){
+		LinkedHashMap<U, ColumnCoefficients> poolColumns=columns.get(column.associatedPricingProblem);
+		return poolColumns != null && poolColumns.containsKey(column);
+	}
+
+	/**
+	 * Computes the reduced cost of a column in the pool, using the dual values currently stored in the pricing problem of the column
+	 * @param column column
+	 * @return reduced cost of the column
+	 */
+	public double getReducedCost(U column){
+		ColumnCoefficients coefficients=columns.get(column.associatedPricingProblem).get(column);
+		return coefficients.getReducedCost(column.associatedPricingProblem.dualCosts, column.associatedPricingProblem.dualCost);
+	}
+
+	/**
+	 * Re-prices the columns in the pool associated with the given pricing problem, using the dual values currently stored in the pricing problem.
+	 * @param pricingProblem pricing problem
+	 * @param optimizationSenseMaster optimization sense of the master problem. If the master is a minimization problem, columns with a negative reduced cost are returned;
+	 *                                otherwise columns with a positive reduced cost are returned.
+	 * @param filter only columns which satisfy the filter are returned, e.g. columns which are not yet present in the master problem
+	 * @return list of columns with a negative reduced cost (minimization) or positive reduced cost (maximization), in order of insertion in the pool
+	 */
+	public List<U> getColumnsWithNegativeReducedCost(V pricingProblem, OptimizationSense optimizationSenseMaster, Predicate<U> filter){
+		LinkedHashMap<U, ColumnCoefficients> poolColumns=columns.get(pricingProblem);
+		if(poolColumns == null || pricingProblem.dualCosts == null)
+			return Collections.emptyList();
+		List<U> newColumns=new ArrayList<>();
+		for(Map.Entry<U, ColumnCoefficients> entry : poolColumns.entrySet()){
+			double reducedCost=entry.getValue().getReducedCost(pricingProblem.dualCosts, pricingProblem.dualCost);
+			boolean attractive=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? reducedCost < -config.PRECISION : reducedCost > config.PRECISION);
+			if(attractive && filter.test(entry.getKey()))
+				newColumns.add(entry.getKey());
+		}
+		return newColumns;
+	}
+
+	/**
+	 * Returns all columns in the pool, grouped by pricing problem, in order of insertion
+	 * @return list of columns in the pool
+	 */
+	public List<U> getColumns(){
+		List<U> poolColumns=new ArrayList<>(size);
+		for(LinkedHashMap<U, ColumnCoefficients> pricingProblemColumns : columns.values())
+			poolColumns.addAll(pricingProblemColumns.keySet());
+		return poolColumns;
+	}
+
+	/**
+	 * Returns the number of columns in the pool
+	 * @return the number of columns in the pool
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * Removes all columns from the pool
+	 */
+	public void clear(){
+		columns.clear();
+		size=0;
+	}
+}
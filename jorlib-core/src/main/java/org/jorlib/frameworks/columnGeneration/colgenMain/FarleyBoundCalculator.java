@@ -0,0 +1,63 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * FarleyBoundCalculator.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Farley bound for master problems without convexity constraints, in which every column has an objective coefficient of 1, e.g. Cutting Stock or Graph Coloring.
+ * Let rc be the reduced cost of the most attractive column over all pricing problems. The bound equals {@code boundComponent / (1 - rc)}, where boundComponent is the
+ * (non-negative) objective value of the master problem. When no column has an attractive reduced cost, the bound equals boundComponent.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <V> type of pricing problem
+ */
+public class FarleyBoundCalculator<T, V extends AbstractPricingProblem<T>> extends AbstractBoundCalculator<T, V> {
+
+	@Override
+	public double calculateBound(OptimizationSense optimizationSenseMaster, double boundComponent, List<V> pricingProblems, double[] pricingProblemBounds) {
+		if(optimizationSenseMaster == OptimizationSense.MINIMIZE){
+			double minReducedCost=0;
+			for(double reducedCost : pricingProblemBounds)
+				minReducedCost=Math.min(minReducedCost, reducedCost);
+			return boundComponent/(1-minReducedCost);
+		}else{
+			double maxReducedCost=0;
+			for(double reducedCost : pricingProblemBounds)
+				maxReducedCost=Math.max(maxReducedCost, reducedCost);
+			if(maxReducedCost >= 1) //No finite bound exists
+				return Double.MAX_VALUE;
+			return boundComponent/(1-maxReducedCost);
+		}
+	}
+}
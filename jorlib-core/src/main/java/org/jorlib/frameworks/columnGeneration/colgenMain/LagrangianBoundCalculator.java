@@ -0,0 +1,76 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * LagrangianBoundCalculator.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Lagrangian bound for master problems in which the columns of each pricing problem are subject to a convexity constraint {@literal sum_j x_j <= K}
+ * (or {@literal sum_j x_j = K}). For a minimization problem, the bound equals: {@code boundComponent + sum_k K_k * min(0, rc_k)}, where rc_k is a lower bound
+ * on the smallest reduced cost of pricing problem k. For a maximization problem, the bound equals: {@code boundComponent + sum_k K_k * max(0, rc_k)}.
+ * Typically, boundComponent is the objective value of the master problem.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <V> type of pricing problem
+ */
+public class LagrangianBoundCalculator<T, V extends AbstractPricingProblem<T>> extends AbstractBoundCalculator<T, V> {
+
+	/** Right hand side K of the convexity constraint of each pricing problem **/
+	protected final ToDoubleFunction<V> convexityBound;
+
+	/**
+	 * Creates a new Lagrangian bound calculator, assuming that at most one column of each pricing problem can be selected (K=1).
+	 */
+	public LagrangianBoundCalculator(){
+		this(pricingProblem -> 1);
+	}
+
+	/**
+	 * Creates a new Lagrangian bound calculator
+	 * @param convexityBound function which returns the right hand side K of the convexity constraint of each pricing problem
+	 */
+	public LagrangianBoundCalculator(ToDoubleFunction<V> convexityBound){
+		this.convexityBound=convexityBound;
+	}
+
+	@Override
+	public double calculateBound(OptimizationSense optimizationSenseMaster, double boundComponent, List<V> pricingProblems, double[] pricingProblemBounds) {
+		double bound=boundComponent;
+		for(int i=0; i<pricingProblemBounds.length; i++){
+			double reducedCost=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.min(0, pricingProblemBounds[i]) : Math.max(0, pricingProblemBounds[i]));
+			bound+=convexityBound.applyAsDouble(pricingProblems.get(i))*reducedCost;
+		}
+		return bound;
+	}
+}
@@ -0,0 +1,99 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * TailingOffDetector.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Detects tailing off of the column generation procedure: a large number of iterations in which the gap between the objective of the master problem and the bound on
+ * the master problem barely closes. The detector keeps a sliding window of the gap over the last windowSize iterations. Tailing off is detected when the gap closed over
+ * this window, relative to the objective, is smaller than minRelativeImprovement. Iterations without a finite bound are ignored, so tailing off can only be detected when
+ * the bound is computed by a bound calculator, see {@link ColGen#setBoundCalculator(AbstractBoundCalculator)}. A stagnating objective alone does not indicate tailing off,
+ * as long as the bound keeps improving, and vice versa.<br>
+ * When tailing off is detected, the column generation procedure terminates early. In a Branch-and-Price context, the node is branched on its current fractional
+ * solution; the bound of the node is the last (valid) bound computed by the column generation procedure.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class TailingOffDetector {
+
+	/** Number of iterations over which the improvement is measured **/
+	protected final int windowSize;
+	/** Minimum relative improvement over the window **/
+	protected final double minRelativeImprovement;
+	/** Gap between the objective of the master problem and the bound on the master problem in the last windowSize+1 iterations **/
+	protected final Deque<Double> gaps;
+	/** Objective of the master problem in the last iteration **/
+	protected double lastObjective;
+
+	/**
+	 * Creates a new tailing off detector
+	 * @param windowSize number of iterations over which the improvement is measured
+	 * @param minRelativeImprovement minimum relative improvement over the window, e.g. 0.0001 for 0.01%
+	 */
+	public TailingOffDetector(int windowSize, double minRelativeImprovement){
+		if(windowSize < 1)
+			throw new IllegalArgumentException("The window size must be at least 1");
+		this.windowSize=windowSize;
+		this.minRelativeImprovement=minRelativeImprovement;
+		gaps=new ArrayDeque<>(windowSize+1);
+	}
+
+	/**
+	 * Records the objective of the master problem and the bound on the master problem after an iteration of the column generation procedure. Iterations
+	 * in which no finite bound is available are ignored.
+	 * @param objective objective of the master problem
+	 * @param bound bound on the master problem
+	 */
+	public void addIteration(double objective, double bound){
+		if(Math.abs(bound) >= Double.MAX_VALUE || Double.isNaN(bound))
+			return;
+		if(gaps.size() > windowSize)
+			gaps.removeFirst();
+		gaps.addLast(Math.abs(objective-bound));
+		lastObjective=objective;
+	}
+
+	/**
+	 * Tests whether the column generation procedure is tailing off
+	 * @return true if the gap closed over the last windowSize iterations, relative to the objective, is smaller than the minimum relative improvement
+	 */
+	public boolean isTailingOff(){
+		if(gaps.size() <= windowSize)
+			return false;
+		return (gaps.getFirst()-gaps.getLast())/Math.max(1, Math.abs(lastObjective)) < minRelativeImprovement;
+	}
+
+	/**
+	 * Clears the sliding window
+	 */
+	public void reset(){
+		gaps.clear();
+	}
+}
@@ -0,0 +1,104 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CheckpointCodec.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+
+/**
+ * Encodes the user-defined objects of a Branch-and-Price run in a compact binary format, and decodes them again. The codec is used to write checkpoints of the
+ * Branch-and-Price tree (see {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice#setCheckpointing(java.io.File, CheckpointCodec, long)}).
+ * Checkpoints are read back in a new JVM, so decoded objects must refer to the objects of the new run: a codec would typically write the index of the pricing problem
+ * associated with a column or a branching decision, and resolve it against the list of pricing problems when decoding.
+ * Encoding inequalities and branching keys is optional; the default implementations throw an UnsupportedOperationException, and are only invoked when the run contains
+ * inequalities, or pseudo-costs respectively.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public interface CheckpointCodec<U> extends ColumnCodec<U> {
+
+	/**
+	 * Writes the given branching decision
+	 * @param branchingDecision branching decision
+	 * @param out output
+	 * @throws IOException if the branching decision cannot be written
+	 */
+	void encodeBranchingDecision(BranchingDecision<?, ?> branchingDecision, DataOutput out) throws IOException;
+
+	/**
+	 * Reads a branching decision which has been written by {@link #encodeBranchingDecision(BranchingDecision, DataOutput)}
+	 * @param in input
+	 * @return the decoded branching decision
+	 * @throws IOException if the branching decision cannot be read
+	 */
+	BranchingDecision<?, ?> decodeBranchingDecision(DataInput in) throws IOException;
+
+	/**
+	 * Writes the given inequality
+	 * @param inequality inequality
+	 * @param out output
+	 * @throws IOException if the inequality cannot be written
+	 */
+	default void encodeInequality(AbstractInequality inequality, DataOutput out) throws IOException{
+		throw new UnsupportedOperationException("Not implemented. You should override this function to checkpoint runs with inequalities");
+	}
+
+	/**
+	 * Reads an inequality which has been written by {@link #encodeInequality(AbstractInequality, DataOutput)}
+	 * @param in input
+	 * @return the decoded inequality
+	 * @throws IOException if the inequality cannot be read
+	 */
+	default AbstractInequality decodeInequality(DataInput in) throws IOException{
+		throw new UnsupportedOperationException("Not implemented. You should override this function to checkpoint runs with inequalities");
+	}
+
+	/**
+	 * Writes the key of a branching candidate, i.e. the object being branched on (see {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.BranchingCandidate})
+	 * @param key key
+	 * @param out output
+	 * @throws IOException if the key cannot be written
+	 */
+	default void encodeBranchingKey(Object key, DataOutput out) throws IOException{
+		throw new UnsupportedOperationException("Not implemented. You should override this function to checkpoint runs with pseudo-costs");
+	}
+
+	/**
+	 * Reads a key which has been written by {@link #encodeBranchingKey(Object, DataOutput)}
+	 * @param in input
+	 * @return the decoded key
+	 * @throws IOException if the key cannot be read
+	 */
+	default Object decodeBranchingKey(DataInput in) throws IOException{
+		throw new UnsupportedOperationException("Not implemented. You should override this function to checkpoint runs with pseudo-costs");
+	}
+}
@@ -0,0 +1,59 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnCodec.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes columns in a compact binary format, and decodes them again. Codecs are used to write columns to disk, e.g. when nodes of the Branch-and-Price tree are moved
+ * out of memory (see {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.SpillingNodeStore}). A decoded column must be equal to the encoded column
+ * (see {@link org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn#equals(Object)}), and must be associated with the same pricing problem object; a codec would typically write
+ * the index of the pricing problem and resolve it against the list of pricing problems when decoding.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public interface ColumnCodec<U> {
+
+	/**
+	 * Writes the given column
+	 * @param column column
+	 * @param out output
+	 * @throws IOException if the column cannot be written
+	 */
+	void encode(U column, DataOutput out) throws IOException;
+
+	/**
+	 * Reads a column which has been written by {@link #encode(Object, DataOutput)}
+	 * @param in input
+	 * @return the decoded column
+	 * @throws IOException if the column cannot be read
+	 */
+	U decode(DataInput in) throws IOException;
+}
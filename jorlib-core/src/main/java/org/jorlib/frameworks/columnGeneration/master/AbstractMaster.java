@@ -31,6 +31,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.PrimalSolution;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
@@ -160,6 +161,19 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 	 */
 	protected abstract boolean solveMasterProblem(long timeLimit) throws TimeLimitExceededException;
 	
+	/**
+	 * Solves the master problem as an integer program, restricted to the columns which are currently present in the master problem. This method is used by the
+	 * restricted master heuristic ({@link org.jorlib.frameworks.columnGeneration.branchAndPrice.primalHeuristics.RestrictedMasterHeuristic}). An implementation would typically
+	 * impose integrality on the variables of the columns, solve the model, and relax the variables again: the master problem must be restored to its linear relaxation before this method returns.
+	 * Artificial columns may not be part of the solution.
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @return the best integer solution found, or null if no integer solution was found
+	 * @throws TimeLimitExceededException if time limit is exceeded
+	 */
+	public PrimalSolution<U> solveIntegerProgram(long timeLimit) throws TimeLimitExceededException{
+		throw new UnsupportedOperationException("Not implemented. You should override this function to use the restricted master heuristic");
+	}
+
 	/**
 	 * Get the reduced cost information required for a particular pricingProblem. The pricing problem often looks like:
 	 * {@literal a_1x_1+a_2x_2+...+a_nx_n <= b}, where a_i are dual variables, and b some constant. The dual information is stored in
@@ -231,6 +245,14 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 	public List<AbstractInequality> getCuts(){
 		return cutHandler.getCuts();
 	}
+
+	/**
+	 * Returns whether a handle to a cutHandler has been provided in the constructor of this class, i.e. whether this master supports inequalities
+	 * @return true if this master has a cutHandler
+	 */
+	public boolean hasCutHandler(){
+		return cutHandler != null;
+	}
 	
 	/**
 	 * Add a column to the model
@@ -248,6 +270,34 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 		}
 	}
 
+	/**
+	 * Removes a column from the model, e.g. because it has not been used for a number of iterations (see {@link ColumnAgingPolicy}).
+	 * Implementations should remove the variable corresponding to the column from the model, and invoke {@link MasterData#removeColumn(AbstractColumn)}.
+	 * @param column column to remove
+	 */
+	public void removeColumn(U column){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
+	/**
+	 * Returns the value of the variable corresponding to the column in the last solution of the master problem. This information is required by the {@link ColumnAgingPolicy}.
+	 * @param column column
+	 * @return value of the column
+	 */
+	public double getColumnValue(U column){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
+	/**
+	 * Returns the reduced cost of the variable corresponding to the column in the last solution of the master problem. This information is required by the
+	 * {@link ColumnAgingPolicy} when a reduced cost threshold is used.
+	 * @param column column
+	 * @return reduced cost of the column
+	 */
+	public double getReducedCost(U column){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
 	/**
 	 * Returns all columns generated for the given pricing problem.
 	 * @param pricingProblem Pricing problem
@@ -266,11 +316,13 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 	
 	/**
 	 * To compute a bound on the optimal solution of the relaxed master problem, multiple components
-	 * are required, including information from the master problem. This function returns that information.
+	 * are required, including information from the master problem. This function returns that information. By default, the objective value of the master problem
+	 * is returned, which is the component required by the {@link org.jorlib.frameworks.columnGeneration.colgenMain.LagrangianBoundCalculator} and the
+	 * {@link org.jorlib.frameworks.columnGeneration.colgenMain.FarleyBoundCalculator}.
 	 * @return value originating from the master problem which is required to calculate a bound on the optimal objective of the master problem
 	 */
 	public double getBoundComponent(){
-		throw new UnsupportedOperationException("Not implemented. You should override this function");
+		return this.getObjective();
 	}
 	/**
 	 * Export the master problem to a file e.g. an .lp file
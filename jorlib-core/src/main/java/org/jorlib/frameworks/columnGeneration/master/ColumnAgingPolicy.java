@@ -0,0 +1,139 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnAgingPolicy.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+
+/**
+ * Keeps track of the age of the columns in the master problem. The age of a column is the number of consecutive master problem iterations in which the column
+ * has not been used, i.e. the column had value 0 (non-basic) and, when a reduced cost threshold is provided, a reduced cost of at least this threshold.
+ * Columns which reach the maximum age are removed from the master problem by the column generation procedure, thereby keeping the size of the master problem,
+ * and hence its solve time, under control. Columns which are used in the current solution of the master problem are never removed. Artificial columns are never removed.<br>
+ * The master problem must implement {@link AbstractMaster#getColumnValue(AbstractColumn)} and {@link AbstractMaster#removeColumn(AbstractColumn)}, as well as
+ * {@link AbstractMaster#getReducedCost(AbstractColumn)} when a reduced cost threshold is used.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class ColumnAgingPolicy<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Configuration file **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Number of consecutive iterations a column may remain unused before it is removed **/
+	protected final int maxAge;
+	/** Columns with a reduced cost below this threshold are not considered to be unused **/
+	protected final double reducedCostThreshold;
+	/** Indicates whether the reduced costs of the columns are taken into account **/
+	protected final boolean useReducedCosts;
+	/** Age of the columns in the master problem **/
+	protected Map<U, Integer> ages=new HashMap<>();
+
+	/**
+	 * Creates a new aging policy which removes columns which have been non-basic for maxAge consecutive iterations.
+	 * @param maxAge number of consecutive iterations a column may remain non-basic before it is removed
+	 */
+	public ColumnAgingPolicy(int maxAge){
+		this(maxAge, 0, false);
+	}
+
+	/**
+	 * Creates a new aging policy which removes columns which have been non-basic, with a reduced cost of at least reducedCostThreshold, for maxAge consecutive iterations.
+	 * For maximization problems, the reduced costs are negated before they are compared against the threshold.
+	 * @param maxAge number of consecutive iterations a column may remain unused before it is removed
+	 * @param reducedCostThreshold columns with a reduced cost below this threshold are not considered to be unused
+	 */
+	public ColumnAgingPolicy(int maxAge, double reducedCostThreshold){
+		this(maxAge, reducedCostThreshold, true);
+	}
+
+	private ColumnAgingPolicy(int maxAge, double reducedCostThreshold, boolean useReducedCosts){
+		if(maxAge < 1)
+			throw new IllegalArgumentException("The maximum age of a column must be at least 1");
+		this.maxAge=maxAge;
+		this.reducedCostThreshold=reducedCostThreshold;
+		this.useReducedCosts=useReducedCosts;
+	}
+
+	/**
+	 * Updates the ages of the columns, based on the last solution of the master problem. This method must be invoked after the master problem has been solved,
+	 * and before the master problem is modified.
+	 * @param master master problem
+	 * @param pricingProblems pricing problems
+	 * @return the columns which reached the maximum age, and which should be removed from the master problem
+	 */
+	public List<U> updateAges(AbstractMaster<?, U, V, ?> master, List<V> pricingProblems){
+		List<U> agedColumns=new ArrayList<>();
+		Map<U, Integer> newAges=new HashMap<>();
+		for(V pricingProblem : pricingProblems){
+			for(U column : master.getColumns(pricingProblem)){
+				if(column.isArtificialColumn || !this.isUnused(master, column))
+					continue;
+				int age=ages.getOrDefault(column, 0)+1;
+				if(age >= maxAge)
+					agedColumns.add(column);
+				else
+					newAges.put(column, age);
+			}
+		}
+		ages=newAges;
+		return agedColumns;
+	}
+
+	/**
+	 * Tests whether a column is unused in the last solution of the master problem.
+	 * @param master master problem
+	 * @param column column
+	 * @return true if the column is unused
+	 */
+	protected boolean isUnused(AbstractMaster<?, U, V, ?> master, U column){
+		if(master.getColumnValue(column) > config.PRECISION)
+			return false;
+		if(!useReducedCosts)
+			return true;
+		double reducedCost=(master.getOptimizationSense() == OptimizationSense.MINIMIZE ? master.getReducedCost(column) : -master.getReducedCost(column));
+		return reducedCost >= reducedCostThreshold-config.PRECISION;
+	}
+
+	/**
+	 * Resets the ages of all columns
+	 */
+	public void reset(){
+		ages.clear();
+	}
+}
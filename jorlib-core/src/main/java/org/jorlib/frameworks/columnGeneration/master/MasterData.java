@@ -78,6 +78,16 @@ public class MasterData<T, U extends AbstractColumn<T, V>, V extends AbstractPri
 			varMap.get(column.associatedPricingProblem).put(column, variable);
 	}
 
+	/**
+	 * Removes a column (O(1) time). Note that this changes the position of the last column registered with the same pricing problem,
+	 * see {@link OrderedBiMap#remove(Object)}.
+	 * @param column column
+	 * @return the variable corresponding to the column, or null if the column was not registered with the master problem
+	 */
+	public X removeColumn(U column){
+		return varMap.get(column.associatedPricingProblem).remove(column);
+	}
+
 	//============= Single Pricing Problem methods ====================
 
 	/**
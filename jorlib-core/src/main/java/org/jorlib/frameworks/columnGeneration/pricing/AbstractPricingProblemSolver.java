@@ -61,14 +61,18 @@ public abstract class AbstractPricingProblemSolver<T,U extends AbstractColumn<T,
 	protected final T dataModel;
 	/** Pricing problem **/
 	protected final V pricingProblem;
-	/** Time by which the algorithm needs to be finished. **/
-	protected long timeLimit;
+	/** Time by which the algorithm needs to be finished. Written by the {@link PricingProblemManager} when the solver is started, possibly from another thread. **/
+	protected volatile long timeLimit;
 	/** Objective of pricing problem (best column) **/
 	protected double objective;
 	/** Columns generated **/
 	protected List<U> columns;
 	/** Boolean indicating whether the pricing problem could be solved. Certain branching decisions may render the pricing problem infeasible **/
 	protected boolean pricingProblemInfeasible;
+	/** Bound on the pricing problem reported during the last invocation of the solver, or NaN if no bound has been reported **/
+	private double reportedBound=Double.NaN;
+	/** Flag which is raised when the solver is requested to stop, e.g. because sufficient columns have been found by the other pricing problems **/
+	private volatile boolean cancelled=false;
 
 	/**
 	 * Creates a new solver instance for a particular pricing problem
@@ -88,6 +92,7 @@ public abstract class AbstractPricingProblemSolver<T,U extends AbstractColumn<T,
 	@Override
 	public Void call() throws Exception {
 		columns.clear();
+		reportedBound=Double.NaN;
 		this.setObjective();
 		this.solve();
 		return null;
@@ -125,6 +130,29 @@ public abstract class AbstractPricingProblemSolver<T,U extends AbstractColumn<T,
 		this.timeLimit=timeLimit;
 	}
 	
+	/**
+	 * Requests the solver to stop. Cancellation is cooperative: solvers which may run for a long time (e.g. exact solvers) should check {@link #isCancelled()}
+	 * periodically and return the columns found so far as soon as the flag has been raised.
+	 */
+	public void cancel(){
+		this.cancelled=true;
+	}
+
+	/**
+	 * Returns whether the solver has been requested to stop. The flag is cleared each time the solver is scheduled by the {@link PricingProblemManager}.
+	 * @return true if the solver has been requested to stop
+	 */
+	public boolean isCancelled(){
+		return cancelled;
+	}
+
+	/**
+	 * Clears the cancellation flag
+	 */
+	void clearCancellation(){
+		this.cancelled=false;
+	}
+
 	/**
 	 * Returns the cost of the most negative reduced cost column. If the pricing problem is an maximization problem, then any feasible solution is
 	 * a lower bound.
@@ -143,12 +171,40 @@ public abstract class AbstractPricingProblemSolver<T,U extends AbstractColumn<T,
 	/**
 	 * Returns a bound on the objective of the pricing problem. If the pricing problem is solved to optimality, this function would typically return the objective value.
 	 * Alternatively, the objective value of a relaxation of the Pricing Problem may be returned, e.g. the LP relaxation when the Pricing Problem is implemented as a MIP, or the value of a Lagrangian Relaxation.
+	 * When a {@link org.jorlib.frameworks.columnGeneration.colgenMain.AbstractBoundCalculator} is used, this method must return a bound on the reduced cost of the most attractive column.
 	 * @return a bound on the objective of the pricing problem)
 	 */
 	public double getBound(){
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	/**
+	 * Reports a bound on the objective of the pricing problem, with the same meaning as {@link #getBound()}, from within {@link #generateNewColumns()}. Solvers which obtain a bound
+	 * as a by-product of generating columns, e.g. the objective value of a pricing problem solved to optimality, or the best bound of a MIP solver, should report it through this
+	 * method: the {@link PricingProblemManager} then collects the columns and the bounds in a single pass, and {@link #getBound()} is not invoked for this pricing round.
+	 * The reported bound must be valid for the dual values with which the pricing problem was solved.
+	 * @param bound bound on the objective of the pricing problem
+	 */
+	protected void reportBound(double bound){
+		this.reportedBound=bound;
+	}
+
+	/**
+	 * Returns whether a bound has been reported during the last invocation of the solver (see {@link #reportBound(double)})
+	 * @return true if a bound has been reported
+	 */
+	public boolean hasReportedBound(){
+		return !Double.isNaN(reportedBound);
+	}
+
+	/**
+	 * Returns the bound reported during the last invocation of the solver (see {@link #reportBound(double)})
+	 * @return the reported bound, or NaN if no bound has been reported
+	 */
+	public double getReportedBound(){
+		return reportedBound;
+	}
+
 	/**
 	 * Returns the list of negative reduced cost columns generated by the solver
 	 * @return List of columns with negative reduced cost, or an empty list when no such column exists.
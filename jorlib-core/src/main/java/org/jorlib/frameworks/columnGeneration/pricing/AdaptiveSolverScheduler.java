@@ -0,0 +1,175 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AdaptiveSolverScheduler.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+
+/**
+ * Determines the order in which the pricing problem solvers are invoked by the column generation procedure. By default, the solvers are invoked in the order
+ * in which they are provided, until one of them produces columns. This scheduler tracks, for each solver, an exponentially smoothed hit rate (the fraction of
+ * invocations which produced columns) and the time spent per produced column. The solvers are invoked in order of decreasing productivity (produced columns per unit
+ * of time); solvers with a hit rate below minHitRate are skipped, except once every probeInterval iterations, so their statistics remain up to date.<br>
+ * The last solver in the list of solvers is assumed to be the exact solver. This solver is never skipped, and it is always invoked last: the column generation
+ * procedure can only terminate after the exact solver failed to produce columns, so the bound on the master problem remains valid.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class AdaptiveSolverScheduler<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Weight of the most recent invocation in the smoothed statistics **/
+	protected final double smoothingFactor;
+	/** Solvers with a hit rate below this value are skipped **/
+	protected final double minHitRate;
+	/** Skipped solvers are invoked once every probeInterval iterations **/
+	protected final int probeInterval;
+	/** Statistics per solver **/
+	protected final Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, SolverStatistics> statistics=new HashMap<>();
+	/** Number of times the solver order has been requested **/
+	protected int iteration=0;
+
+	/**
+	 * Creates a new scheduler with smoothing factor 0.2, which skips solvers with a hit rate below 0.1, and probes skipped solvers every 10 iterations.
+	 */
+	public AdaptiveSolverScheduler(){
+		this(0.2, 0.1, 10);
+	}
+
+	/**
+	 * Creates a new scheduler
+	 * @param smoothingFactor weight of the most recent invocation in the smoothed statistics (between 0 and 1)
+	 * @param minHitRate solvers with a hit rate below this value are skipped
+	 * @param probeInterval skipped solvers are invoked once every probeInterval iterations
+	 */
+	public AdaptiveSolverScheduler(double smoothingFactor, double minHitRate, int probeInterval){
+		if(smoothingFactor <= 0 || smoothingFactor > 1)
+			throw new IllegalArgumentException("The smoothing factor must be in (0,1]");
+		if(probeInterval < 1)
+			throw new IllegalArgumentException("The probe interval must be at least 1");
+		this.smoothingFactor=smoothingFactor;
+		this.minHitRate=minHitRate;
+		this.probeInterval=probeInterval;
+	}
+
+	/**
+	 * Returns the order in which the solvers should be invoked during the current iteration. The last solver (exact solver) is always the last solver in the returned list.
+	 * Solvers which have not been invoked before are invoked in their original order, before any other solver.
+	 * @param solvers solvers, ordered from heuristic to exact. An IllegalArgumentException is thrown if this list is empty.
+	 * @return solvers in the order in which they should be invoked
+	 */
+	public List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> getSolverOrder(List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solvers){
+		if(solvers.isEmpty())
+			throw new IllegalArgumentException("At least one pricing problem solver is required");
+		iteration++;
+		boolean probe=(iteration % probeInterval == 0);
+		List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> order=new ArrayList<>(solvers.size());
+		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : solvers.subList(0, solvers.size()-1)){
+			SolverStatistics stats=statistics.get(solver);
+			if(stats == null || probe || stats.hitRate >= minHitRate)
+				order.add(solver);
+		}
+		order.sort(Comparator.comparingDouble(solver -> -this.getProductivity(solver))); //Stable sort: ties retain the original order
+		order.add(solvers.get(solvers.size()-1));
+		return order;
+	}
+
+	/**
+	 * Updates the statistics of a solver after it has been invoked
+	 * @param solver solver
+	 * @param nrColumns number of columns produced by the solver
+	 * @param nanos time spent by the solver (ns)
+	 */
+	public void update(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, int nrColumns, long nanos){
+		SolverStatistics stats=statistics.get(solver);
+		if(stats == null){
+			stats=new SolverStatistics();
+			stats.hitRate=(nrColumns > 0 ? 1 : 0);
+			stats.columns=nrColumns;
+			stats.time=nanos;
+			statistics.put(solver, stats);
+		}else{
+			stats.hitRate=smoothingFactor*(nrColumns > 0 ? 1 : 0)+(1-smoothingFactor)*stats.hitRate;
+			stats.columns=smoothingFactor*nrColumns+(1-smoothingFactor)*stats.columns;
+			stats.time=smoothingFactor*nanos+(1-smoothingFactor)*stats.time;
+		}
+		stats.invocations++;
+	}
+
+	/**
+	 * Returns the productivity of a solver: the smoothed number of produced columns per nanosecond. Solvers which have not been invoked before have infinite productivity.
+	 * @param solver solver
+	 * @return productivity of the solver
+	 */
+	public double getProductivity(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver){
+		SolverStatistics stats=statistics.get(solver);
+		if(stats == null)
+			return Double.POSITIVE_INFINITY;
+		return stats.columns/Math.max(1, stats.time);
+	}
+
+	/**
+	 * Returns the smoothed hit rate of a solver, i.e. the fraction of the invocations in which the solver produced columns
+	 * @param solver solver
+	 * @return hit rate of the solver, or 1 if the solver has not been invoked before
+	 */
+	public double getHitRate(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver){
+		SolverStatistics stats=statistics.get(solver);
+		return stats == null ? 1 : stats.hitRate;
+	}
+
+	/**
+	 * Clears the statistics of all solvers
+	 */
+	public void reset(){
+		statistics.clear();
+		iteration=0;
+	}
+
+	/**
+	 * Smoothed statistics of a solver
+	 */
+	protected static final class SolverStatistics{
+		/** Fraction of invocations which produced columns **/
+		protected double hitRate;
+		/** Number of columns produced per invocation **/
+		protected double columns;
+		/** Time per invocation (ns) **/
+		protected double time;
+		/** Number of invocations **/
+		protected int invocations=0;
+	}
+}
@@ -0,0 +1,200 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnCollector.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Collects the candidate columns produced by a pricing problem solver, and keeps the K most attractive ones. Optionally, near-duplicate columns are rejected:
+ * each column is mapped to a signature (a {@link BitSet}, e.g. the set of customers visited by a route), and two columns are considered near-duplicates when the
+ * Hamming distance between their signatures is smaller than a given threshold. Of two near-duplicates, only the most attractive column is kept. This way,
+ * the master problem receives a diverse batch of columns.<br>
+ * A solver typically creates a collector, offers every candidate column it encounters through {@link #offer(AbstractColumn, double)}, and returns
+ * {@link #getColumns()} from its {@link AbstractPricingProblemSolver#generateNewColumns()} method. A collector is not thread-safe; each solver instance should use its own collector.
+ * The total number of columns added to the master problem per iteration can be capped through Configuration.MAX_COLUMNS_PER_ITERATION.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class ColumnCollector<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Maximum number of columns kept by the collector **/
+	protected final int maxColumns;
+	/** Optimization sense of the master problem. For minimization problems, columns with a smaller reduced cost are more attractive. **/
+	protected final OptimizationSense optimizationSenseMaster;
+	/** Function which maps a column to its signature, or null if near-duplicates are not rejected **/
+	protected final Function<U, BitSet> signatureFunction;
+	/** Columns whose signatures differ in less than this number of positions are considered near-duplicates **/
+	protected final int minHammingDistance;
+	/** Columns kept by the collector, sorted from most attractive to least attractive **/
+	protected final List<Candidate> candidates;
+
+	/**
+	 * Creates a new collector which keeps the maxColumns most attractive columns
+	 * @param maxColumns maximum number of columns kept by the collector
+	 * @param optimizationSenseMaster optimization sense of the master problem
+	 */
+	public ColumnCollector(int maxColumns, OptimizationSense optimizationSenseMaster){
+		this(maxColumns, optimizationSenseMaster, null, 0);
+	}
+
+	/**
+	 * Creates a new collector which keeps the maxColumns most attractive columns, and which rejects near-duplicate columns
+	 * @param maxColumns maximum number of columns kept by the collector
+	 * @param optimizationSenseMaster optimization sense of the master problem
+	 * @param signatureFunction function which maps a column to its signature
+	 * @param minHammingDistance columns whose signatures differ in less than this number of positions are considered near-duplicates
+	 */
+	public ColumnCollector(int maxColumns, OptimizationSense optimizationSenseMaster, Function<U, BitSet> signatureFunction, int minHammingDistance){
+		if(maxColumns < 1)
+			throw new IllegalArgumentException("A column collector must be able to hold at least one column");
+		this.maxColumns=maxColumns;
+		this.optimizationSenseMaster=optimizationSenseMaster;
+		this.signatureFunction=signatureFunction;
+		this.minHammingDistance=minHammingDistance;
+		this.candidates=new ArrayList<>(maxColumns+1);
+	}
+
+	/**
+	 * Offers a candidate column to the collector. The column is kept if it is among the maxColumns most attractive columns, and if no more attractive near-duplicate
+	 * column has been collected. Less attractive near-duplicates of the column are discarded.
+	 * @param column candidate column
+	 * @param reducedCost reduced cost of the column
+	 * @return true if the column is kept by the collector
+	 */
+	public boolean offer(U column, double reducedCost){
+		if(candidates.size() == maxColumns && !this.isMoreAttractive(reducedCost, candidates.get(maxColumns-1).reducedCost))
+			return false;
+		BitSet signature=(signatureFunction == null ? null : signatureFunction.apply(column));
+
+		//Check for (near-)duplicates
+		List<Candidate> nearDuplicates=new ArrayList<>();
+		for(Candidate candidate : candidates){
+			if(candidate.column.equals(column) || (signature != null && this.hammingDistance(signature, candidate.signature) < minHammingDistance)){
+				if(!this.isMoreAttractive(reducedCost, candidate.reducedCost))
+					return false;
+				nearDuplicates.add(candidate);
+			}
+		}
+		candidates.removeAll(nearDuplicates);
+
+		//Insert the column at the right position
+		int position=candidates.size();
+		while(position > 0 && this.isMoreAttractive(reducedCost, candidates.get(position-1).reducedCost))
+			position--;
+		candidates.add(position, new Candidate(column, reducedCost, signature));
+		if(candidates.size() > maxColumns)
+			candidates.remove(candidates.size()-1);
+		return true;
+	}
+
+	/**
+	 * Returns the collected columns, sorted from most attractive to least attractive
+	 * @return the collected columns
+	 */
+	public List<U> getColumns(){
+		List<U> columns=new ArrayList<>(candidates.size());
+		for(Candidate candidate : candidates)
+			columns.add(candidate.column);
+		return columns;
+	}
+
+	/**
+	 * Returns the reduced cost a candidate column must improve upon in order to be kept by the collector. Solvers may use this value to prune their search.
+	 * @return reduced cost of the least attractive collected column when the collector is full; otherwise Double.MAX_VALUE (minimization) or -Double.MAX_VALUE (maximization)
+	 */
+	public double getThreshold(){
+		if(candidates.size() < maxColumns)
+			return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Double.MAX_VALUE : -Double.MAX_VALUE);
+		return candidates.get(maxColumns-1).reducedCost;
+	}
+
+	/**
+	 * Returns the number of collected columns
+	 * @return the number of collected columns
+	 */
+	public int size(){
+		return candidates.size();
+	}
+
+	/**
+	 * Removes all collected columns
+	 */
+	public void clear(){
+		candidates.clear();
+	}
+
+	/**
+	 * Tests whether reduced cost a is strictly more attractive than reduced cost b
+	 * @param a reduced cost
+	 * @param b reduced cost
+	 * @return true if a is more attractive than b
+	 */
+	private boolean isMoreAttractive(double a, double b){
+		return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? a < b : a > b);
+	}
+
+	/**
+	 * Computes the Hamming distance between two signatures
+	 * @param a signature
+	 * @param b signature
+	 * @return number of positions in which the signatures differ
+	 */
+	private int hammingDistance(BitSet a, BitSet b){
+		BitSet difference=(BitSet)a.clone();
+		difference.xor(b);
+		return difference.cardinality();
+	}
+
+	/**
+	 * Column collected by the collector
+	 */
+	protected final class Candidate{
+		/** Column **/
+		protected final U column;
+		/** Reduced cost of the column **/
+		protected final double reducedCost;
+		/** Signature of the column, or null if near-duplicates are not rejected **/
+		protected final BitSet signature;
+
+		private Candidate(U column, double reducedCost, BitSet signature){
+			this.column=column;
+			this.reducedCost=reducedCost;
+			this.signature=signature;
+		}
+	}
+}
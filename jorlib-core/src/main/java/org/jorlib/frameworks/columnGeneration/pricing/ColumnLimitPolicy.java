@@ -0,0 +1,54 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnLimitPolicy.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+/**
+ * Partial pricing policy which cancels the remaining pricing problems as soon as a given number of columns has been found.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class ColumnLimitPolicy implements PartialPricingPolicy {
+
+	/** Number of columns after which the remaining pricing problems are cancelled **/
+	private final int maxColumns;
+
+	/**
+	 * Creates a new policy
+	 * @param maxColumns number of columns after which the remaining pricing problems are cancelled
+	 */
+	public ColumnLimitPolicy(int maxColumns){
+		if(maxColumns < 1)
+			throw new IllegalArgumentException("The number of columns must be positive");
+		this.maxColumns=maxColumns;
+	}
+
+	@Override
+	public boolean stopPricing(int nrColumns, int nrPricingProblemsWithColumns, int nrSolvedPricingProblems, int nrPricingProblems) {
+		return nrColumns >= maxColumns;
+	}
+}
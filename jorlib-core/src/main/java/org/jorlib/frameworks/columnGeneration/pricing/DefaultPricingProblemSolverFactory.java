@@ -29,9 +29,10 @@ package org.jorlib.frameworks.columnGeneration.pricing;
 import java.lang.reflect.InvocationTargetException;
 
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
 
 /**
- * Factory class which produces a solver instances for a given pricing problem
+ * Factory class which produces a solver instances for a given pricing problem. The instances of a {@link PooledPricingProblemSolver} produced by the same factory share a pool of workers.
  * 
  * @author Joris Kinable
  * @version 13-4-2015
@@ -45,6 +46,11 @@ public final class  DefaultPricingProblemSolverFactory<T,U extends AbstractColum
 	/** Data model **/
 	private final T dataModel;
 
+	/** Maximum number of workers shared by the instances of a {@link PooledPricingProblemSolver} **/
+	private final int poolCapacity;
+	/** Pool of workers shared by the instances of a {@link PooledPricingProblemSolver}, or null if no such instance has been created **/
+	private SolverWorkerPool workerPool=null;
+
 
 	/**
 	 * Creates a new factory.
@@ -53,8 +59,23 @@ public final class  DefaultPricingProblemSolverFactory<T,U extends AbstractColum
 	 * @param dataModel The data model
 	 */
 	public DefaultPricingProblemSolverFactory(Class<? extends AbstractPricingProblemSolver<T, U, V>> solverClass, T dataModel){
+		this(solverClass, dataModel, Configuration.getConfiguration().MAXTHREADS);
+	}
+
+	/**
+	 * Creates a new factory.
+	 *
+	 * @param solverClass The solver for which this factory produces instances
+	 * @param dataModel The data model
+	 * @param poolCapacity Maximum number of workers shared by the instances of the solver, if the solver is a {@link PooledPricingProblemSolver}. Typically, this equals the number of
+	 *                     pricing problems which are solved in parallel.
+	 */
+	public DefaultPricingProblemSolverFactory(Class<? extends AbstractPricingProblemSolver<T, U, V>> solverClass, T dataModel, int poolCapacity){
+		if(poolCapacity < 1)
+			throw new IllegalArgumentException("The capacity of the pool must be at least 1");
 		this.solverClass=solverClass;
 		this.dataModel=dataModel;
+		this.poolCapacity=poolCapacity;
 	}
 
 	/**
@@ -76,6 +97,12 @@ public final class  DefaultPricingProblemSolverFactory<T,U extends AbstractColum
 			e.printStackTrace();
 		}
 
+		//Pooled solver instances share the workers of this factory
+		if(solverInstance instanceof PooledPricingProblemSolver){
+			if(workerPool == null)
+				workerPool=new SolverWorkerPool(poolCapacity);
+			((PooledPricingProblemSolver<?, ?, ?, ?>) solverInstance).setWorkerPool(workerPool);
+		}
 		return solverInstance;
 	}
 }
@@ -0,0 +1,50 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PartialPricingPolicy.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+/**
+ * Policy which decides whether the pricing problems may stop early. By default, the {@link PricingProblemManager} waits until every pricing problem
+ * has been solved. When a PartialPricingPolicy is registered, the policy is consulted each time a pricing problem has been solved. As soon as the policy
+ * is satisfied, the pricing problems which have not started yet are skipped, and the solvers which are still running are requested to stop
+ * (see {@link AbstractPricingProblemSolver#isCancelled()}).<br>
+ * The policy is only consulted when at least one new column has been found. Bounds on the master problem are not computed when pricing stops early.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public interface PartialPricingPolicy {
+
+	/**
+	 * Decides whether the remaining pricing problems may be cancelled.
+	 * @param nrColumns number of columns found so far
+	 * @param nrPricingProblemsWithColumns number of pricing problems which produced at least one column so far
+	 * @param nrSolvedPricingProblems number of pricing problems which have been solved so far
+	 * @param nrPricingProblems total number of pricing problems
+	 * @return true if the remaining pricing problems may be cancelled
+	 */
+	boolean stopPricing(int nrColumns, int nrPricingProblemsWithColumns, int nrSolvedPricingProblems, int nrPricingProblems);
+}
@@ -0,0 +1,193 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PooledPricingProblemSolver.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+
+/**
+ * Pricing problem solver whose expensive resources, e.g. a MIP model, are shared by the instances of the solver. By default, a {@link PricingProblemBundle} creates one solver
+ * instance per pricing problem, and each instance typically owns its own model; with thousands of pricing problems, this requires thousands of models. The instances of a pooled solver
+ * are lightweight: they merely record the state of their pricing problem, such as the branching decisions which affect it. The models are held by workers (of type W), which are created
+ * on demand by the solver instances, up to the capacity of a pool which is shared by all instances produced by the same {@link DefaultPricingProblemSolverFactory}.<br>
+ * Each time a solver instance is invoked, it acquires a worker from the pool, initializes the worker with the data and the branching state of its pricing problem
+ * ({@link #initializeWorker(Object, boolean)}), supplies the dual values ({@link #setObjective(Object)}), generates the columns ({@link #generateNewColumns(Object)}) and returns the
+ * worker to the pool. A solver instance preferably receives the worker it used last; if no branching decisions have been performed or reversed since, the worker does not need to be
+ * re-initialized.<br>
+ * As the worker is returned to the pool after the columns have been generated, solvers which provide bounds should report them through {@link #reportBound(double)} rather
+ * than implementing {@link #getBound()}. Subclasses must provide the constructor (T dataModel, V pricingProblem) required by the {@link DefaultPricingProblemSolverFactory}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ * @param <W> type of worker
+ */
+public abstract class PooledPricingProblemSolver<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>, W> extends AbstractPricingProblemSolver<T, U, V> {
+
+	/** Pool of workers shared by the instances of this solver **/
+	private SolverWorkerPool workerPool=null;
+	/** Counter which is incremented each time a branching decision affecting this solver instance is performed or reversed **/
+	private volatile int branchingState=0;
+
+	/**
+	 * Creates a new solver instance for a particular pricing problem
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 */
+	public PooledPricingProblemSolver(T dataModel, V pricingProblem){
+		super(dataModel, pricingProblem);
+	}
+
+	/**
+	 * Registers the pool of workers which is shared by the instances of this solver. This method is invoked by the {@link DefaultPricingProblemSolverFactory}.
+	 * @param workerPool pool of workers
+	 */
+	void setWorkerPool(SolverWorkerPool workerPool){
+		this.workerPool=workerPool;
+	}
+
+	/**
+	 * The dual values are supplied to the worker through {@link #setObjective(Object)}, once a worker has been acquired
+	 */
+	@Override
+	protected final void setObjective() {
+	}
+
+	/**
+	 * Acquires a worker, initializes it for the pricing problem of this solver instance, and generates new columns on the worker
+	 * @return List of columns with negative reduced cost
+	 * @throws TimeLimitExceededException if the time limit is exceeded, possibly while waiting for a worker, or if the thread is interrupted while waiting for a worker
+	 */
+	@Override
+	protected final List<U> generateNewColumns() throws TimeLimitExceededException {
+		if(workerPool == null)
+			workerPool=new SolverWorkerPool(1); //Solver instance which has not been created by a DefaultPricingProblemSolverFactory
+		SolverWorkerPool.Slot slot;
+		try {
+			slot=workerPool.acquire(this, timeLimit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); //Cancelled while waiting for a worker; no columns are generated, hence this is not a proof of optimality
+			throw new TimeLimitExceededException();
+		}
+		try {
+			boolean reused=(slot.worker != null && slot.lastSolverInstance == this && slot.lastBranchingState == branchingState);
+			if(slot.worker == null)
+				slot.worker=this.createWorker();
+			slot.lastSolverInstance=null;
+			@SuppressWarnings("unchecked")
+			W worker=(W) slot.worker;
+			this.initializeWorker(worker, reused);
+			slot.lastSolverInstance=this;
+			slot.lastBranchingState=branchingState;
+			this.setObjective(worker);
+			return this.generateNewColumns(worker);
+		}finally {
+			workerPool.release(slot, this);
+		}
+	}
+
+	/**
+	 * Creates a new worker. This method is invoked on demand, until the capacity of the pool has been reached.
+	 * @return a new worker
+	 */
+	protected abstract W createWorker();
+
+	/**
+	 * Initializes the worker for the pricing problem of this solver instance: the data of the pricing problem and the branching decisions which affect it are loaded into the worker.
+	 * @param worker worker
+	 * @param reused true if the worker was initialized by this solver instance during its last invocation, and no branching decisions have been performed or reversed since. In that case,
+	 *               only the dual values, which are supplied by {@link #setObjective(Object)}, have changed.
+	 */
+	protected abstract void initializeWorker(W worker, boolean reused);
+
+	/**
+	 * Supplies the dual values of the pricing problem to the worker. This method is invoked directly before {@link #generateNewColumns(Object)}.
+	 * @param worker worker
+	 */
+	protected abstract void setObjective(W worker);
+
+	/**
+	 * Generates one or more new columns with negative reduced cost on the given worker
+	 * @param worker worker which has been initialized for the pricing problem of this solver instance
+	 * @return List of columns with negative reduced cost
+	 * @throws TimeLimitExceededException thrown when timelimit is exceeded
+	 */
+	protected abstract List<U> generateNewColumns(W worker) throws TimeLimitExceededException;
+
+	/**
+	 * Closes a worker and performs cleanup
+	 * @param worker worker
+	 */
+	protected abstract void closeWorker(W worker);
+
+	/**
+	 * Closes a worker held by the pool
+	 * @param worker worker
+	 */
+	@SuppressWarnings("unchecked")
+	final void closeWorkerInstance(Object worker){
+		this.closeWorker((W) worker);
+	}
+
+	/**
+	 * Returns the number of workers which have been created by the instances of this solver
+	 * @return the number of workers
+	 */
+	public int getNrWorkers(){
+		return (workerPool == null ? 0 : workerPool.getNrWorkers());
+	}
+
+	/**
+	 * Records that the branching state of this solver instance has changed, so its worker must be re-initialized before the next invocation. Subclasses which override this
+	 * method must invoke it.
+	 * @param reversedDecisions branching decisions which are reversed
+	 * @param performedDecisions branching decisions which are executed
+	 */
+	@Override
+	public void branchingDecisionsChanged(List<BranchingDecision<?, ?>> reversedDecisions, List<BranchingDecision<?, ?>> performedDecisions) {
+		branchingState++;
+		for(BranchingDecision<?, ?> bd : reversedDecisions)
+			this.branchingDecisionReversed(bd);
+		for(BranchingDecision<?, ?> bd : performedDecisions)
+			this.branchingDecisionPerformed(bd);
+	}
+
+	/**
+	 * Closes the pool of workers shared by the instances of this solver. The solver instances themselves hold no resources.
+	 */
+	@Override
+	public void close() {
+		if(workerPool != null)
+			workerPool.close(this);
+	}
+}
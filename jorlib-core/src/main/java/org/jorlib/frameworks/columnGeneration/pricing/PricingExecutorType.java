@@ -0,0 +1,59 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingExecutorType.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Types of executors which the {@link PricingProblemManager} may use to solve the pricing problems in parallel, see {@link org.jorlib.frameworks.columnGeneration.util.Configuration#PRICING_EXECUTOR}.
+ * Other executors, e.g. an executor which starts a virtual thread per task for solvers which spend most of their time waiting on external processes, can be supplied
+ * through {@link PricingProblemManager#setExecutor(ExecutorService)}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public enum PricingExecutorType {
+	/** Thread pool consisting of a fixed number of threads which share a single task queue **/
+	FIXED_THREAD_POOL,
+	/** Work-stealing pool in which every thread has its own task queue; idle threads steal tasks from busy threads. Suited for many pricing problems with unequal solve times **/
+	WORK_STEALING;
+
+	/**
+	 * Creates a new executor of this type
+	 * @param nrThreads number of threads, resp. the targeted parallelism level of a work-stealing pool
+	 * @return a new executor
+	 */
+	public ExecutorService createExecutor(int nrThreads){
+		switch (this){
+			case WORK_STEALING:
+				return Executors.newWorkStealingPool(nrThreads);
+			default:
+				return Executors.newFixedThreadPool(nrThreads);
+		}
+	}
+}
@@ -33,7 +33,8 @@ import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 
 /**
  * Each pricing problem (PricingProblem) is solved by some algorithm (AbstractPricingProblemSolver). This class is a container which holds
- * all instance of a particular AbstractPricingProblemSolver. Typically, there exists an instance for each pricing problem.
+ * all instance of a particular AbstractPricingProblemSolver. Typically, there exists an instance for each pricing problem. For large numbers of pricing problems,
+ * consider a {@link PooledPricingProblemSolver}: its instances are lightweight and share a bounded number of workers which hold the expensive resources.
  * The instances are produced by a PricingProblemSolverFactory. This class takes a solver, list of pricing problems and a solverFactory
  * and it produces the necessary solver instances.
  * 
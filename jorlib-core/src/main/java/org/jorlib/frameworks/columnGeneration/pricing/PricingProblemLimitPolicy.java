@@ -0,0 +1,54 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingProblemLimitPolicy.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+/**
+ * Partial pricing policy which cancels the remaining pricing problems as soon as a given number of pricing problems have produced columns.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class PricingProblemLimitPolicy implements PartialPricingPolicy {
+
+	/** Number of pricing problems with columns after which the remaining pricing problems are cancelled **/
+	private final int maxPricingProblems;
+
+	/**
+	 * Creates a new policy
+	 * @param maxPricingProblems number of pricing problems with columns after which the remaining pricing problems are cancelled
+	 */
+	public PricingProblemLimitPolicy(int maxPricingProblems){
+		if(maxPricingProblems < 1)
+			throw new IllegalArgumentException("The number of pricing problems must be positive");
+		this.maxPricingProblems=maxPricingProblems;
+	}
+
+	@Override
+	public boolean stopPricing(int nrColumns, int nrPricingProblemsWithColumns, int nrSolvedPricingProblems, int nrPricingProblems) {
+		return nrPricingProblemsWithColumns >= maxPricingProblems;
+	}
+}
@@ -28,18 +28,28 @@ package org.jorlib.frameworks.columnGeneration.pricing;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.jorlib.frameworks.columnGeneration.util.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Class which takes care of the parallel execution of the algorithms for the pricing problems.
@@ -54,6 +64,8 @@ import org.jorlib.frameworks.columnGeneration.util.Configuration;
  */
 public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
 
+	/** Logger for this class **/
+	private final Logger logger = LoggerFactory.getLogger(PricingProblemManager.class);
 	/** Configuration file **/
 	private static final Configuration config=Configuration.getConfiguration();
 
@@ -70,10 +82,53 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 	 */
 	private final Map<AbstractPricingProblemSolver<T, U, V>, Callable<Double>> ppBoundTasks;
 
-	/** Executors **/
-	private final ExecutorService executor;
-	/** Futures **/
-	private final List<Future<Void>> futures;
+	/** Executor which runs the pricing tasks **/
+	private ExecutorService executor;
+	/** Indicates whether the executor has been created by this manager, in which case it is shut down when the manager is closed **/
+	private boolean ownsExecutor;
+
+	/** Policy which decides whether the pricing problems may stop early, or null if all pricing problems are solved to completion **/
+	private PartialPricingPolicy partialPricingPolicy=null;
+	/** Registry in which the solve times of the pricing problems are recorded, or null if no solve times are recorded **/
+	private volatile MetricsRegistry metricsRegistry=null;
+	/** Names under which the solve times of the individual pricing problems are recorded, i.e. {@link MetricsRegistry#PRICING_SOLVE}+"."+pricingProblem.name **/
+	private final Map<V, String> pricingSolveMetrics;
+
+	/** Test which determines whether a column already exists, e.g. in the master problem, or null if only duplicates within a single invocation are discarded **/
+	private Predicate<U> existingColumnTest=null;
+	/** Number of duplicate columns which have been discarded **/
+	private long nrDuplicateColumns=0;
+
+	/** Pipelined pricing: pricing tasks which have finished, but which have not yet been collected **/
+	private final BlockingQueue<PricingTask> finishedPipelinedTasks;
+	/** Pipelined pricing: pricing problems for which a solver instance is currently running, mapped to the task running the solver instance **/
+	private final Map<V, PricingTask> busyPricingProblems;
+	/** Pipelined pricing: counter which is incremented each time the dual values of the master problem change, see {@link #startPipelinedPricingRound()} **/
+	private int pricingRound=0;
+	/** Pipelined pricing: solver which has been used during the current pricing round **/
+	private Class<? extends AbstractPricingProblemSolver<T, U, V>> pipelinedSolver=null;
+	/** Pipelined pricing: pricing problems which have been solved by the pipelined solver on the dual values of the current pricing round **/
+	private final Set<V> solvedPricingProblems=new HashSet<>();
+	/** Pipelined pricing: pricing problems for which the pipelined solver failed with an exception on the dual values of the current pricing round **/
+	private final Set<V> failedPricingProblems=new HashSet<>();
+	/** Pipelined pricing: indicates whether a solver instance ran out of its time budget during the current pricing round **/
+	private boolean pipelinedBudgetExhausted=false;
+	/** Indicates whether during the last invocation of the pricing problems, all pricing problems have been solved on the latest dual values **/
+	private boolean pricingRoundComplete=true;
+
+	/** Bounds reported by the solver instances while solving the pricing problems on the latest dual values (see {@link AbstractPricingProblemSolver#reportBound(double)}) **/
+	private final Map<AbstractPricingProblemSolver<T, U, V>, Double> reportedBounds=new HashMap<>();
+
+	/** Time by which the pricing problems must be finished **/
+	private volatile long timeLimit=Long.MAX_VALUE;
+	/** Time budgets per solver **/
+	private final Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, TimeBudget> solverTimeBudgets=new ConcurrentHashMap<>();
+	/** Time budgets per pricing problem **/
+	private final Map<V, TimeBudget> pricingProblemTimeBudgets=new ConcurrentHashMap<>();
+	/** Indicates whether the time budgets are applied to the solver instances **/
+	private volatile boolean timeBudgetsEnabled=true;
+	/** Indicates whether during the last invocation of the pricing problems, a solver instance ran out of its time budget **/
+	private boolean timeBudgetExhausted=false;
 	
 	/**
 	 * Creates a new pricing problem manager
@@ -82,6 +137,11 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 	 */
 	public PricingProblemManager(List<V> pricingProblems, Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, PricingProblemBundle<T, U, V>> pricingProblemBundles){
 		this.pricingProblemBundles=pricingProblemBundles;
+
+		//The metric names are built once, rather than each time a pricing problem is solved
+		pricingSolveMetrics=new HashMap<>();
+		for(V pricingProblem : pricingProblems)
+			pricingSolveMetrics.put(pricingProblem, MetricsRegistry.PRICING_SOLVE+"."+pricingProblem.name);
 		
 		//Create tasks which calculate bounds on the pricing problems
 		ppBoundTasks=new HashMap<>();
@@ -98,52 +158,368 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 		}
 		
 		//Define workers
-		executor = Executors.newFixedThreadPool(config.MAXTHREADS); //Creates a threat pool consisting of MAXTHREADS threats
-		futures=new ArrayList<>(pricingProblems.size());
+		executor=config.PRICING_EXECUTOR.createExecutor(config.MAXTHREADS); //Creates a pool consisting of MAXTHREADS threads
+		ownsExecutor=true;
+		finishedPipelinedTasks=new LinkedBlockingQueue<>();
+		busyPricingProblems=new HashMap<>();
 	}
 	
 	/**
-	 * Solve the pricing problems in parallel
+	 * Solve the pricing problems in parallel. If a {@link PartialPricingPolicy} has been registered, the remaining pricing problems are cancelled as soon
+	 * as the policy is satisfied. When one of the solver instances exceeds the time limit, the other pricing problems of this invocation are cancelled, and the
+	 * method returns once all of them have stopped; the manager remains usable afterwards. A solver instance which merely exceeds its time budget (see {@link TimeBudget})
+	 * does not produce any columns, and renders the pricing round incomplete. A solver instance which fails with any other exception is logged, and likewise renders the pricing
+	 * round incomplete. If the invoking thread is interrupted while waiting for the pricing problems, e.g. because
+	 * a parallel Branch-and-Price procedure is shutting down, the pricing problems are cancelled and a TimeLimitExceededException is thrown.
 	 * @param solver the solver which should be used to solve the pricing problem(s)
 	 * @return List of columns which have been generated by the solvers. The list is aggregated over each pricing problem..
 	 * @throws TimeLimitExceededException exception thrown when timelimit is exceeded.
 	 */
 	public List<U> solvePricingProblems(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver) throws TimeLimitExceededException{
 		PricingProblemBundle<T, U, V> bundle=pricingProblemBundles.get(solver);
+		BlockingQueue<PricingTask> finishedTasks=new LinkedBlockingQueue<>();
+		reportedBounds.clear();
 		
 		//1. schedule pricing problems
+		List<PricingTask> tasks=new ArrayList<>(bundle.solverInstances.size());
 		for(AbstractPricingProblemSolver<T, U, V> solverInstance : bundle.solverInstances){
-			Future<Void> f=executor.submit(solverInstance);
-        	futures.add(f);
+			PricingTask task=new PricingTask(solverInstance, pricingRound, finishedTasks);
+			tasks.add(task);
+			executor.submit(task);
 		}
 		
 		//2. Wait for completion and check whether any of the threads has thrown an exception which needs to be handled upstream
-		for(Future<Void> f: futures){
+		int nrOutstandingTasks=tasks.size();
+		int nrSolvedPricingProblems=0;
+		int nrPricingProblemsWithColumns=0;
+		int nrColumns=0;
+		boolean cancelled=false;
+		boolean budgetExhausted=false;
+		boolean failed=false;
+		while(nrOutstandingTasks > 0){
+			PricingTask task;
 			try {
-				f.get(); //get() is a blocking procedure
-			} catch (ExecutionException e) {
-				if(e.getCause() instanceof TimeLimitExceededException){
-					this.shutdownAndAwaitTermination(executor); //Shut down the executor.
-					throw (TimeLimitExceededException)e.getCause(); //Propagate the exception
-				}else
-					e.printStackTrace();
-				
+				task=finishedTasks.take(); //take() is a blocking procedure
 			} catch (InterruptedException e) {
-				e.printStackTrace();
+				//The pricing problems which have not been collected are abandoned, so no bound can be derived from this round
+				Thread.currentThread().interrupt();
+				for(PricingTask t : tasks)
+					t.cancel();
+				pricingRoundComplete=false;
+				throw new TimeLimitExceededException();
+			}
+			nrOutstandingTasks--;
+			task.collected=true;
+			if(task.exception instanceof TimeLimitExceededException){
+				//Stop the remaining pricing problems of this invocation, so they do not interfere with subsequent invocations
+				for(PricingTask t : tasks){
+					if(t.cancel())
+						nrOutstandingTasks--; //Task was never started
+				}
+				this.awaitTasks(finishedTasks, nrOutstandingTasks);
+				throw (TimeLimitExceededException)task.exception; //Propagate the exception
+			}else if(task.exception != null){
+				//The pricing problem has not been solved, so no bound can be derived from this round
+				logger.error("Solver {} failed to solve pricing problem {}", task.solverInstance.getName(), task.solverInstance.pricingProblem, task.exception);
+				failed=true;
+				continue;
+			}
+			budgetExhausted|=task.budgetExhausted;
+			if(!Double.isNaN(task.bound))
+				reportedBounds.put(task.solverInstance, task.bound);
+
+			nrSolvedPricingProblems++;
+			nrColumns+=task.columns.size();
+			if(!task.columns.isEmpty())
+				nrPricingProblemsWithColumns++;
+
+			//Cancel the remaining pricing problems if the partial pricing policy is satisfied
+			if(!cancelled && partialPricingPolicy != null && nrColumns > 0 && nrSolvedPricingProblems < tasks.size() &&
+					partialPricingPolicy.stopPricing(nrColumns, nrPricingProblemsWithColumns, nrSolvedPricingProblems, tasks.size())){
+				cancelled=true;
+				for(PricingTask t : tasks){
+					if(t.cancel())
+						nrOutstandingTasks--; //Task was never started
+				}
 			}
 		}
 		
 		//3. Collect and return results
 		List<U> newColumns=new ArrayList<>();
+		for(PricingTask task : tasks){
+			if(task.collected)
+				newColumns.addAll(task.columns);
+		}
+
+		timeBudgetExhausted=budgetExhausted;
+		pricingRoundComplete=!cancelled && !budgetExhausted && !failed;
+		return this.removeDuplicates(newColumns);
+	}
+
+	/**
+	 * Waits until the given number of tasks has finished. The method returns early if the thread is interrupted.
+	 * @param finishedTasks queue to which the tasks are added when they finish
+	 * @param nrTasks number of tasks
+	 */
+	private void awaitTasks(BlockingQueue<PricingTask> finishedTasks, int nrTasks){
+		try {
+			for(int i=0; i<nrTasks; i++)
+				finishedTasks.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Removes the columns which occur more than once in the given list, as well as the columns which already exist according to the test registered
+	 * through {@link #setExistingColumnTest(Predicate)}. Columns are indexed by their pricing problem and their cached hash code (see {@link AbstractColumn#getFingerprint()}),
+	 * so each column is hashed at most once. The number of discarded columns is recorded under {@link MetricsRegistry#DUPLICATE_COLUMNS}.
+	 * @param columns columns generated by the solver instances
+	 * @return the columns without duplicates, in the order in which they were generated
+	 */
+	List<U> removeDuplicates(List<U> columns){
+		if(columns.isEmpty())
+			return columns;
+		Set<ColumnKey> index=new HashSet<>();
+		List<U> uniqueColumns=new ArrayList<>(columns.size());
+		for(U column : columns){
+			if(index.add(new ColumnKey(column)) && (existingColumnTest == null || !existingColumnTest.test(column)))
+				uniqueColumns.add(column);
+		}
+		int nrDuplicates=columns.size()-uniqueColumns.size();
+		if(nrDuplicates > 0){
+			nrDuplicateColumns+=nrDuplicates;
+			MetricsRegistry registry=metricsRegistry;
+			if(registry != null)
+				registry.increment(MetricsRegistry.DUPLICATE_COLUMNS, nrDuplicates);
+		}
+		return uniqueColumns;
+	}
+
+	/**
+	 * Registers a test which determines whether a column generated by the pricing problems already exists, typically because it is present in the master problem.
+	 * Such columns are discarded before they are returned, as adding a column to the master problem twice is an error. Columns which occur more than once among the columns
+	 * returned by a single invocation of the pricing problems are always discarded.<br>
+	 * The test is invoked on the thread which invokes the pricing problems.
+	 * @param existingColumnTest test which returns true if a column already exists, or null to only discard duplicates within a single invocation
+	 */
+	public void setExistingColumnTest(Predicate<U> existingColumnTest){
+		this.existingColumnTest=existingColumnTest;
+	}
+
+	/**
+	 * Returns the number of columns generated by the pricing problems which have been discarded because they were duplicates
+	 * @return the number of discarded duplicate columns
+	 */
+	public long getNrDuplicateColumns(){
+		return nrDuplicateColumns;
+	}
+
+	/**
+	 * Sets the executor which runs the pricing tasks, e.g. a {@link java.util.concurrent.ForkJoinPool} which is shared by several managers, or, on Java 21 and later, an executor which
+	 * starts a virtual thread per task for solvers which mostly wait on external processes. The executor is not shut down when this manager is closed. By default, each manager creates
+	 * its own executor of type {@link org.jorlib.frameworks.columnGeneration.util.Configuration#PRICING_EXECUTOR}.<br>
+	 * This method may not be invoked while pricing problems are being solved.
+	 * @param executor executor, or null to restore the default executor
+	 */
+	public void setExecutor(ExecutorService executor){
+		if(!busyPricingProblems.isEmpty())
+			throw new IllegalStateException("The executor cannot be replaced while pricing problems are being solved");
+		if(ownsExecutor)
+			this.executor.shutdown();
+		ownsExecutor=(executor == null);
+		this.executor=(ownsExecutor ? config.PRICING_EXECUTOR.createExecutor(config.MAXTHREADS) : executor);
+	}
+
+	/**
+	 * Registers a policy which decides whether the pricing problems may stop early, see {@link PartialPricingPolicy}. The policy does not apply to
+	 * pipelined pricing.
+	 * @param partialPricingPolicy partial pricing policy, or null to solve all pricing problems to completion
+	 */
+	public void setPartialPricingPolicy(PartialPricingPolicy partialPricingPolicy){
+		this.partialPricingPolicy=partialPricingPolicy;
+	}
+
+	/**
+	 * Sets the registry in which the solve time of each pricing problem is recorded, both under {@link MetricsRegistry#PRICING_SOLVE} and under
+	 * {@link MetricsRegistry#PRICING_SOLVE}+"."+pricingProblem.name
+	 * @param metricsRegistry metrics registry, or null if no solve times should be recorded
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry){
+		this.metricsRegistry=metricsRegistry;
+	}
+
+	/**
+	 * Solve the pricing problems in a pipelined fashion. Contrary to {@link #solvePricingProblems(Class)}, this method does not wait until every
+	 * solver instance has finished. Columns are collected as soon as a solver instance produces them, and the method returns as soon as at least
+	 * {@code columnThreshold} columns are available. The remaining solver instances keep running in the background on the old dual values; their columns
+	 * are returned by subsequent invocations of this method.<br>
+	 * Pricing problems are initialized with fresh dual values through the {@code pricingProblemInitializer} right before their solver instance is scheduled.
+	 * A pricing problem which is still being solved on outdated dual values is only rescheduled once its running solver instance finishes. Whenever the dual values
+	 * of the master problem change, {@link #startPipelinedPricingRound()} must be invoked before this method; otherwise, this method continues the current pricing round.
+	 * A pricing problem for which the solver fails with an exception other than a TimeLimitExceededException is logged, and is not solved again during the current pricing round;
+	 * the pricing round is then incomplete. Use {@link #isPricingRoundComplete()} to check whether all pricing problems have been solved on the latest dual values, and invoke
+	 * {@link #awaitPipelinedPricingProblems()} before the pricing problems or their solvers are modified.
+	 *
+	 * @param solver the solver which should be used to solve the pricing problem(s)
+	 * @param columnThreshold number of columns after which this method returns
+	 * @param pricingProblemInitializer function which supplies the latest dual values to a pricing problem, typically {@link org.jorlib.frameworks.columnGeneration.master.AbstractMaster#initializePricingProblem(AbstractPricingProblem)}
+	 * @param timeLimit future point in time by which this method must return
+	 * @return List of columns which have been generated by the solvers. The columns may have been generated on outdated dual values.
+	 * @throws TimeLimitExceededException exception thrown when timelimit is exceeded.
+	 */
+	public List<U> solvePricingProblemsPipelined(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, int columnThreshold, Consumer<V> pricingProblemInitializer, long timeLimit) throws TimeLimitExceededException{
+		PricingProblemBundle<T, U, V> bundle=pricingProblemBundles.get(solver);
+		int threshold=Math.max(1, columnThreshold);
+		if(solver != pipelinedSolver){ //A different solver is used on the same dual values: none of the pricing problems has been solved by this solver yet
+			this.clearPipelinedPricingRound();
+			pipelinedSolver=solver;
+		}
+
+		//1. schedule all pricing problems which are currently idle, and which have not been solved on the latest dual values yet
 		for(AbstractPricingProblemSolver<T, U, V> solverInstance : bundle.solverInstances){
-			newColumns.addAll(solverInstance.getColumns());
+			if(!solvedPricingProblems.contains(solverInstance.pricingProblem) && !failedPricingProblems.contains(solverInstance.pricingProblem))
+				this.schedulePipelinedTask(solverInstance, pricingProblemInitializer);
 		}
-		
-		return newColumns;
+
+		//2. Collect columns as they come in
+		List<U> newColumns=new ArrayList<>();
+		while(newColumns.size() < threshold && solvedPricingProblems.size()+failedPricingProblems.size() < bundle.solverInstances.size()){
+			PricingTask result;
+			try {
+				result=finishedPipelinedTasks.poll(Math.max(0, timeLimit-System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new TimeLimitExceededException();
+			}
+			if(result == null) //Time limit exceeded while waiting
+				throw new TimeLimitExceededException();
+			busyPricingProblems.remove(result.solverInstance.pricingProblem);
+
+			boolean currentRound=(result.round == pricingRound && result.solverInstance.getClass() == solver);
+			if(result.exception instanceof TimeLimitExceededException)
+				throw (TimeLimitExceededException)result.exception;
+			else if(result.exception != null){
+				logger.error("Solver {} failed to solve pricing problem {}", result.solverInstance.getName(), result.solverInstance.pricingProblem, result.exception);
+				if(currentRound){ //The pricing problem has not been solved, so no bound can be derived from this round
+					failedPricingProblems.add(result.solverInstance.pricingProblem);
+					continue;
+				}
+			}
+			newColumns.addAll(result.columns);
+
+			if(currentRound){
+				solvedPricingProblems.add(result.solverInstance.pricingProblem);
+				pipelinedBudgetExhausted|=result.budgetExhausted;
+				if(!Double.isNaN(result.bound))
+					reportedBounds.put(result.solverInstance, result.bound);
+			}else if(newColumns.size() < threshold){
+				//The pricing problem was solved on outdated dual values. Solve it again on the latest dual values.
+				for(AbstractPricingProblemSolver<T, U, V> solverInstance : bundle.solverInstances){
+					if(solverInstance.pricingProblem == result.solverInstance.pricingProblem && !solvedPricingProblems.contains(solverInstance.pricingProblem) && !failedPricingProblems.contains(solverInstance.pricingProblem))
+						this.schedulePipelinedTask(solverInstance, pricingProblemInitializer);
+				}
+			}
+		}
+
+		timeBudgetExhausted=pipelinedBudgetExhausted;
+		pricingRoundComplete=(solvedPricingProblems.size() == bundle.solverInstances.size() && !pipelinedBudgetExhausted);
+		return this.removeDuplicates(newColumns);
+	}
+
+	/**
+	 * Signals that the dual values of the master problem have changed, e.g. because the master problem has been solved again. Solver instances which are still running
+	 * in the background were started on the previous dual values; their columns are still returned by {@link #solvePricingProblemsPipelined(Class, int, Consumer, long)}, but their
+	 * pricing problems are solved again on the new dual values. Repeated invocations of {@link #solvePricingProblemsPipelined(Class, int, Consumer, long)} without invoking
+	 * this method continue the current pricing round: pricing problems which have already been solved on the current dual values are not solved again.
+	 */
+	public void startPipelinedPricingRound(){
+		pricingRound++;
+		this.clearPipelinedPricingRound();
+	}
+
+	/**
+	 * Forgets which pricing problems have been solved during the current pricing round
+	 */
+	private void clearPipelinedPricingRound(){
+		solvedPricingProblems.clear();
+		failedPricingProblems.clear();
+		reportedBounds.clear();
+		pipelinedBudgetExhausted=false;
+	}
+
+	/**
+	 * Schedules the given solver instance for execution, unless a solver instance is already running for the same pricing problem.
+	 * @param solverInstance solver instance
+	 * @param pricingProblemInitializer function which supplies the latest dual values to the pricing problem
+	 */
+	private void schedulePipelinedTask(AbstractPricingProblemSolver<T, U, V> solverInstance, Consumer<V> pricingProblemInitializer){
+		if(busyPricingProblems.containsKey(solverInstance.pricingProblem))
+			return;
+		pricingProblemInitializer.accept(solverInstance.pricingProblem);
+		PricingTask task=new PricingTask(solverInstance, pricingRound, finishedPipelinedTasks);
+		busyPricingProblems.put(solverInstance.pricingProblem, task);
+		executor.submit(task);
+	}
+
+	/**
+	 * Returns true if, during the last invocation of the pricing problems, all pricing problems have been solved on the latest dual values.
+	 * When pipelined pricing is used, {@link #solvePricingProblemsPipelined(Class, int, Consumer, long)} may return before all pricing problems have been solved.
+	 * Bounds on the pricing problems, and hence on the master problem, are only valid if this method returns true.
+	 * @return true if all pricing problems have been solved on the latest dual values
+	 */
+	public boolean isPricingRoundComplete(){
+		return pricingRoundComplete;
+	}
+
+	/**
+	 * Returns true if, during the last invocation of the pricing problems, at least one solver instance ran out of its time budget (see {@link TimeBudget}). The pricing
+	 * problems of these solver instances have not been solved, so the absence of new columns does not prove that no column with negative reduced cost exists.
+	 * @return true if a solver instance ran out of its time budget
+	 */
+	public boolean isTimeBudgetExhausted(){
+		return timeBudgetExhausted;
+	}
+
+	/**
+	 * Returns true if a solver instance is currently solving the given pricing problem in the background.
+	 * @param pricingProblem pricing problem
+	 * @return true if the pricing problem is being solved
+	 */
+	public boolean isSolving(V pricingProblem){
+		return busyPricingProblems.containsKey(pricingProblem);
+	}
+
+	/**
+	 * Stops all solver instances which are running in the background (pipelined pricing), and waits until they have finished. Their columns are discarded.
+	 * This method must be invoked before the pricing problems or their solvers are modified, e.g. before a branching decision is performed. The method waits
+	 * no longer than the time limit (see {@link #setTimeLimit(long)}); solver instances which are still running at that point remain registered as running,
+	 * so their pricing problems are not scheduled again until they finish.
+	 */
+	public void awaitPipelinedPricingProblems(){
+		//Tasks which have not started yet never will; running solver instances are requested to stop
+		busyPricingProblems.values().removeIf(PricingTask::cancel);
+		while(!busyPricingProblems.isEmpty()){
+			try {
+				PricingTask result=finishedPipelinedTasks.poll(Math.max(0, timeLimit-System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+				if(result == null){
+					logger.warn("Time limit exceeded while waiting for the solver instances of pricing problems {}", busyPricingProblems.keySet());
+					return;
+				}
+				busyPricingProblems.remove(result.solverInstance.pricingProblem);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		finishedPipelinedTasks.clear();
 	}
 	
 	/**
-	 * Invokes {@link AbstractPricingProblemSolver#getBound()}  getUpperBound} in parallel for all pricing problems defined.
+	 * Invokes {@link AbstractPricingProblemSolver#getBound()}  getUpperBound} in parallel for all pricing problems defined. Solver instances which reported a bound while solving
+	 * their pricing problem on the latest dual values (see {@link AbstractPricingProblemSolver#reportBound(double)}) are not invoked again: their reported bound is used instead.
+	 * When every solver instance reported a bound, no tasks are submitted at all. Since a bound which could not be computed cannot be replaced by a valid value,
+	 * a failing solver instance causes this method to throw a RuntimeException, after the remaining tasks have been cancelled.
 	 * @param solver the solver on which {@link AbstractPricingProblemSolver#getBound()}  getUpperBound} is invoked.
 	 * @return array containing the bounds calculated for each pricing problem
 	 */
@@ -151,59 +527,209 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 		//Get the bunddle of solverInstances corresponding to the solverID
 		PricingProblemBundle<T, U, V> bunddle=pricingProblemBundles.get(solver);
 		double[] bounds=new double[bunddle.solverInstances.size()];
-		//Submit all the relevant getUpperBound() tasks to the executor
+		//Submit the getUpperBound() tasks of the solver instances which did not report a bound to the executor
 		List<Future<Double>> futureList=new ArrayList<>();
 		for(AbstractPricingProblemSolver<T, U, V> solverInstance : bunddle.solverInstances){
-			Callable<Double> task=ppBoundTasks.get(solverInstance);
-			Future<Double> f=executor.submit(task);
-			futureList.add(f);
+			Double reportedBound=reportedBounds.get(solverInstance);
+			futureList.add(reportedBound == null ? executor.submit(ppBoundTasks.get(solverInstance)) : null);
 		}
 		//Query the results of each task one by one
 		for(int i=0; i<bounds.length; i++){
+			if(futureList.get(i) == null){
+				bounds[i]=reportedBounds.get(bunddle.solverInstances.get(i));
+				continue;
+			}
 			try {
 				bounds[i]=futureList.get(i).get(); //Get result, note that this is a blocking procedure!
 			} catch (InterruptedException | ExecutionException e) {
-				e.printStackTrace();
+				for(Future<Double> future : futureList){
+					if(future != null)
+						future.cancel(true);
+				}
+				AbstractPricingProblemSolver<T, U, V> solverInstance=bunddle.solverInstances.get(i);
+				if(e instanceof InterruptedException){
+					Thread.currentThread().interrupt();
+					throw new RuntimeException("Interrupted while computing the bound on pricing problem "+solverInstance.pricingProblem, e);
+				}
+				throw new RuntimeException("Failed to compute a bound on pricing problem "+solverInstance.pricingProblem, e.getCause());
 			}
 		}
 		return bounds;
 	}
 	
 	/**
-	 * Future point in time when the pricing problem must be finished
-	 * @param timeLimit set time limit for each solver (future point in time).
+	 * Future point in time when the pricing problem must be finished. Only the deadline is stored: each solver instance receives its own time limit when it is started,
+	 * i.e. the earliest of this deadline and the limits imposed by its time budgets (see {@link #setTimeBudget(Class, TimeBudget)}). Solver instances which are still running,
+	 * e.g. during pipelined pricing, keep the limit they were started with.
+	 * @param timeLimit time limit of the pricing problems (future point in time).
 	 */
 	public void setTimeLimit(long timeLimit){
-		for(PricingProblemBundle<T, U, V> bunddle : pricingProblemBundles.values()){
-			for(AbstractPricingProblemSolver<T, U, V> solverInstance : bunddle.solverInstances){
-				solverInstance.setTimeLimit(timeLimit);
+		this.timeLimit=timeLimit;
+	}
+
+	/**
+	 * Sets the time budget of all instances of the given solver. Each time a solver instance is started, its time limit is set to the earliest of the time limit of the pricing problems
+	 * (see {@link #setTimeLimit(long)}) and the limits imposed by the budget of its solver and the budget of its pricing problem. A solver instance which exceeds its budget, by throwing a
+	 * {@link TimeLimitExceededException} or by returning without columns after its time limit, is considered to have found no columns, and no bound is derived from the pricing round
+	 * (see {@link #isPricingRoundComplete()}). Only when the time limit of the pricing problems itself is exceeded, the TimeLimitExceededException is propagated.
+	 * @param solver solver
+	 * @param timeBudget time budget, or null to remove the budget
+	 */
+	public void setTimeBudget(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, TimeBudget timeBudget){
+		if(timeBudget == null)
+			solverTimeBudgets.remove(solver);
+		else
+			solverTimeBudgets.put(solver, timeBudget);
+	}
+
+	/**
+	 * Sets the time budget of all solver instances of the given pricing problem, see {@link #setTimeBudget(Class, TimeBudget)}
+	 * @param pricingProblem pricing problem
+	 * @param timeBudget time budget, or null to remove the budget
+	 */
+	public void setTimeBudget(V pricingProblem, TimeBudget timeBudget){
+		if(timeBudget == null)
+			pricingProblemTimeBudgets.remove(pricingProblem);
+		else
+			pricingProblemTimeBudgets.put(pricingProblem, timeBudget);
+	}
+
+	/**
+	 * Enables or disables the time budgets of the solvers and the pricing problems. While disabled, every solver instance which is started receives the time limit of the
+	 * pricing problems (see {@link #setTimeLimit(long)}); the budgets themselves are retained. Solver instances which are already running keep their limit.
+	 * @param timeBudgetsEnabled true to apply the time budgets (default), false to ignore them
+	 */
+	public void setTimeBudgetsEnabled(boolean timeBudgetsEnabled){
+		this.timeBudgetsEnabled=timeBudgetsEnabled;
+	}
+
+	/**
+	 * Returns the time limit of a solver instance which starts now, taking the time budgets of its solver and its pricing problem into account
+	 * @param solverInstance solver instance
+	 * @return future point in time by which the solver instance must be finished
+	 */
+	private long getTimeLimit(AbstractPricingProblemSolver<T, U, V> solverInstance){
+		long now=System.currentTimeMillis();
+		long limit=timeLimit;
+		if(!timeBudgetsEnabled)
+			return limit;
+		TimeBudget solverTimeBudget=solverTimeBudgets.get(solverInstance.getClass());
+		if(solverTimeBudget != null)
+			limit=Math.min(limit, solverTimeBudget.getTimeLimit(now, timeLimit));
+		TimeBudget pricingProblemTimeBudget=pricingProblemTimeBudgets.get(solverInstance.pricingProblem);
+		if(pricingProblemTimeBudget != null)
+			limit=Math.min(limit, pricingProblemTimeBudget.getTimeLimit(now, timeLimit));
+		return limit;
+	}
+	
+	/**
+	 * Task which solves a single pricing problem. When the task finishes, it is added to a queue of finished tasks.
+	 */
+	private final class PricingTask implements Callable<Void>{
+		/** Solver instance which is invoked by this task **/
+		private final AbstractPricingProblemSolver<T, U, V> solverInstance;
+		/** Pricing round during which the task was scheduled **/
+		private final int round;
+		/** Queue to which this task is added when it finishes **/
+		private final BlockingQueue<PricingTask> finishedTasks;
+		/** Indicates whether the task has been started or cancelled before it started **/
+		private final AtomicBoolean started=new AtomicBoolean(false);
+		/** Columns produced by the solver instance **/
+		private final List<U> columns=new ArrayList<>();
+		/** Exception thrown by the solver instance, or null if the solver finished normally **/
+		private Exception exception=null;
+		/** Indicates whether the task has finished and its results have been taken from the queue of finished tasks **/
+		private boolean collected=false;
+		/** Indicates whether the solver instance ran out of its time budget before the time limit of the pricing problems was reached **/
+		private boolean budgetExhausted=false;
+		/** Bound reported by the solver instance, or NaN if no bound has been reported **/
+		private double bound=Double.NaN;
+
+		private PricingTask(AbstractPricingProblemSolver<T, U, V> solverInstance, int round, BlockingQueue<PricingTask> finishedTasks){
+			this.solverInstance=solverInstance;
+			this.round=round;
+			this.finishedTasks=finishedTasks;
+			solverInstance.clearCancellation();
+		}
+
+		@Override
+		public Void call() {
+			if(!started.compareAndSet(false, true))
+				return null; //Task has been cancelled before it started
+			long time=System.nanoTime();
+			long budgetTimeLimit=getTimeLimit(solverInstance);
+			solverInstance.setTimeLimit(budgetTimeLimit);
+			try {
+				solverInstance.call();
+				columns.addAll(solverInstance.getColumns());
+				bound=solverInstance.getReportedBound();
+			} catch (Exception e) {
+				exception=e;
+			}finally {
+				//A solver instance which ran out of its budget has found no columns, but the pricing procedure may continue
+				long now=System.currentTimeMillis();
+				if(budgetTimeLimit < timeLimit && now < timeLimit && now >= budgetTimeLimit && (exception instanceof TimeLimitExceededException || (exception == null && columns.isEmpty()))){
+					exception=null;
+					columns.clear();
+					bound=Double.NaN;
+					budgetExhausted=true;
+				}
+				MetricsRegistry registry=metricsRegistry;
+				if(registry != null){
+					time=System.nanoTime()-time;
+					registry.record(MetricsRegistry.PRICING_SOLVE, time);
+					registry.record(pricingSolveMetrics.get(solverInstance.pricingProblem), time);
+				}
+				finishedTasks.add(this);
 			}
+			return null;
+		}
+
+		/**
+		 * Cancels the task. If the task has not been started yet, it will never start. If the task is running, the solver instance is requested to stop.
+		 * @return true if the task has been cancelled before it started, false if the task is running or has finished
+		 */
+		private boolean cancel(){
+			if(started.compareAndSet(false, true))
+				return true;
+			solverInstance.cancel();
+			return false;
 		}
 	}
-	
+
 	/**
-	 * Shut down the executors
+	 * Key which identifies a column in the index of generated columns. Two keys are equal if their columns belong to the same pricing problem and are equal.
 	 */
-	private void shutdownAndAwaitTermination(ExecutorService pool) {
-		// Prevent new tasks from being submitted
-		pool.shutdownNow(); 
-		try {
-			// Wait a while for tasks to respond to being cancelled
-			if (!pool.awaitTermination(60, TimeUnit.SECONDS))
-				System.err.println("Pool did not terminate");
-		} catch (InterruptedException ie) {
-			// (Re-)Cancel if current thread also interrupted
-			pool.shutdownNow();
-			// Preserve interrupt nodeStatus
-			Thread.currentThread().interrupt();
+	private static final class ColumnKey{
+		/** Column **/
+		private final AbstractColumn<?, ?> column;
+
+		private ColumnKey(AbstractColumn<?, ?> column){
+			this.column=column;
+		}
+
+		@Override
+		public int hashCode(){
+			return 31*System.identityHashCode(column.associatedPricingProblem)+column.getFingerprint();
+		}
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o)
+				return true;
+			if(!(o instanceof ColumnKey))
+				return false;
+			AbstractColumn<?, ?> other=((ColumnKey) o).column;
+			return column.associatedPricingProblem == other.associatedPricingProblem && column.equals(other);
 		}
 	}
-	
+
 	/**
 	 * Close the pricing problems
 	 */
 	public void close(){
-		executor.shutdownNow();
+		if(ownsExecutor)
+			executor.shutdownNow();
 		//Close pricing problems
 		for(PricingProblemBundle<T, U, V> bunddle : pricingProblemBundles.values()){
 			for(AbstractPricingProblemSolver<T, U, V> solverInstance : bunddle.solverInstances){
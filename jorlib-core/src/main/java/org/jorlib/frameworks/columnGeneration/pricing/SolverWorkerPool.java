@@ -0,0 +1,155 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SolverWorkerPool.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+
+/**
+ * Bounded pool of solver workers which are shared by the instances of a {@link PooledPricingProblemSolver}. Workers are created on demand, up to the capacity of the pool;
+ * a solver instance which requests a worker while all workers are in use waits until one is released. When possible, a solver instance receives the worker it used last.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+final class SolverWorkerPool {
+
+	/** Maximum number of workers **/
+	private final int capacity;
+	/** Workers which are not in use, the most recently released worker first **/
+	private final Deque<Slot> idleSlots=new ArrayDeque<>();
+	/** Number of workers which have been created, or are being created **/
+	private int nrWorkers=0;
+	/** Indicates whether the pool has been closed **/
+	private boolean closed=false;
+
+	/**
+	 * Creates a new pool
+	 * @param capacity maximum number of workers
+	 */
+	SolverWorkerPool(int capacity){
+		if(capacity < 1)
+			throw new IllegalArgumentException("The capacity of the pool must be at least 1");
+		this.capacity=capacity;
+	}
+
+	/**
+	 * Acquires a worker for the given solver instance. If the pool has not reached its capacity and no idle worker is available, a slot without a worker is returned, and the caller
+	 * must create the worker.
+	 * @param solverInstance solver instance which requests the worker
+	 * @param timeLimit future point in time until which the solver instance may wait for a worker
+	 * @return a slot holding the worker
+	 * @throws TimeLimitExceededException if no worker became available before the time limit
+	 * @throws InterruptedException if the thread got interrupted while waiting for a worker
+	 */
+	synchronized Slot acquire(PooledPricingProblemSolver<?, ?, ?, ?> solverInstance, long timeLimit) throws TimeLimitExceededException, InterruptedException {
+		while(true){
+			if(closed)
+				throw new IllegalStateException("The pool of solver workers has been closed");
+			//Prefer the worker which was used last by this solver instance, as it may not need to be re-initialized
+			for(Iterator<Slot> it=idleSlots.iterator(); it.hasNext(); ){
+				Slot slot=it.next();
+				if(slot.lastSolverInstance == solverInstance){
+					it.remove();
+					return slot;
+				}
+			}
+			//Take the least recently used worker, so recently used workers remain available for their solver instances
+			if(!idleSlots.isEmpty())
+				return idleSlots.pollLast();
+			if(nrWorkers < capacity){
+				nrWorkers++;
+				return new Slot();
+			}
+			long waitTime=timeLimit-System.currentTimeMillis();
+			if(waitTime <= 0)
+				throw new TimeLimitExceededException();
+			this.wait(waitTime);
+		}
+	}
+
+	/**
+	 * Returns a worker to the pool. If the slot does not hold a worker, e.g. because the worker could not be created, the slot is discarded. If the pool has been closed, the worker is closed.
+	 * @param slot slot holding the worker
+	 * @param solverInstance solver instance which used the worker
+	 */
+	void release(Slot slot, PooledPricingProblemSolver<?, ?, ?, ?> solverInstance){
+		synchronized (this) {
+			if(slot.worker != null && !closed){
+				idleSlots.addFirst(slot);
+				this.notifyAll();
+				return;
+			}
+			nrWorkers--;
+			this.notifyAll();
+		}
+		if(slot.worker != null)
+			solverInstance.closeWorkerInstance(slot.worker);
+	}
+
+	/**
+	 * Closes the pool: the idle workers are closed immediately, the workers which are in use are closed when they are released.
+	 * @param solverInstance solver instance which closes the workers
+	 */
+	void close(PooledPricingProblemSolver<?, ?, ?, ?> solverInstance){
+		Slot[] slots;
+		synchronized (this) {
+			if(closed)
+				return;
+			closed=true;
+			slots=idleSlots.toArray(new Slot[0]);
+			idleSlots.clear();
+			nrWorkers-=slots.length;
+			this.notifyAll();
+		}
+		for(Slot slot : slots)
+			solverInstance.closeWorkerInstance(slot.worker);
+	}
+
+	/**
+	 * Returns the number of workers which have been created
+	 * @return the number of workers
+	 */
+	synchronized int getNrWorkers(){
+		return nrWorkers;
+	}
+
+	/**
+	 * Slot in the pool, holding a single worker
+	 */
+	static final class Slot{
+		/** Worker, or null if the worker has not been created yet **/
+		Object worker=null;
+		/** Solver instance which used the worker last **/
+		PooledPricingProblemSolver<?, ?, ?, ?> lastSolverInstance=null;
+		/** Branching state of the solver instance when it used the worker last **/
+		int lastBranchingState=-1;
+	}
+}
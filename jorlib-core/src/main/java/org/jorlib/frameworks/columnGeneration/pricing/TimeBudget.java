@@ -0,0 +1,109 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * TimeBudget.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+/**
+ * Time budget of a pricing problem solver, see {@link PricingProblemManager#setTimeBudget(Class, TimeBudget)} and {@link PricingProblemManager#setTimeBudget(AbstractPricingProblem, TimeBudget)}.
+ * Each time a solver instance is started, it receives a time limit which equals the smallest of: a fraction of the time remaining until the time limit of the column generation
+ * procedure, and a hard cap on the solve time. A solver instance which exceeds its budget is considered to have found no columns; as the pricing problem has not been solved,
+ * no bound is derived from it.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class TimeBudget {
+
+	/** Fraction of the remaining time which may be used **/
+	private final double fractionOfRemainingTime;
+	/** Maximum solve time (ms) **/
+	private final long maxSolveTime;
+
+	/**
+	 * Creates a new time budget
+	 * @param fractionOfRemainingTime fraction of the time remaining until the time limit of the column generation procedure which may be used, in (0,1]
+	 * @param maxSolveTime maximum solve time (ms)
+	 */
+	public TimeBudget(double fractionOfRemainingTime, long maxSolveTime){
+		if(fractionOfRemainingTime <= 0 || fractionOfRemainingTime > 1)
+			throw new IllegalArgumentException("The fraction of the remaining time must be in (0,1]");
+		if(maxSolveTime < 0)
+			throw new IllegalArgumentException("The maximum solve time must be non-negative");
+		this.fractionOfRemainingTime=fractionOfRemainingTime;
+		this.maxSolveTime=maxSolveTime;
+	}
+
+	/**
+	 * Creates a time budget which consists of a fraction of the remaining time
+	 * @param fractionOfRemainingTime fraction of the time remaining until the time limit of the column generation procedure which may be used, in (0,1]
+	 * @return time budget
+	 */
+	public static TimeBudget fractionOfRemainingTime(double fractionOfRemainingTime){
+		return new TimeBudget(fractionOfRemainingTime, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a time budget which consists of a hard cap on the solve time
+	 * @param maxSolveTime maximum solve time (ms)
+	 * @return time budget
+	 */
+	public static TimeBudget maxSolveTime(long maxSolveTime){
+		return new TimeBudget(1, maxSolveTime);
+	}
+
+	/**
+	 * Returns the time limit of a solver instance which starts now
+	 * @param now current time ({@code System.currentTimeMillis()})
+	 * @param timeLimit time limit of the column generation procedure (future point in time)
+	 * @return future point in time by which the solver instance must be finished, never later than the given time limit
+	 */
+	public long getTimeLimit(long now, long timeLimit){
+		long remainingTime=Math.max(0, timeLimit-now);
+		long solveTime=Math.min(maxSolveTime, (long)(fractionOfRemainingTime*remainingTime));
+		return now+Math.min(remainingTime, solveTime); //The conversion to double may round the budget up beyond the remaining time, e.g. if the time limit is Long.MAX_VALUE
+	}
+
+	/**
+	 * Returns the fraction of the remaining time which may be used
+	 * @return the fraction of the remaining time which may be used
+	 */
+	public double getFractionOfRemainingTime(){
+		return fractionOfRemainingTime;
+	}
+
+	/**
+	 * Returns the maximum solve time (ms)
+	 * @return the maximum solve time (ms)
+	 */
+	public long getMaxSolveTime(){
+		return maxSolveTime;
+	}
+
+	@Override
+	public String toString(){
+		return "TimeBudget{fractionOfRemainingTime="+fractionOfRemainingTime+", maxSolveTime="+maxSolveTime+"}";
+	}
+}
@@ -0,0 +1,203 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractDualStabilizer.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+
+/**
+ * Dual stabilization for the column generation procedure. Dual values obtained from the master problem tend to oscillate heavily between consecutive
+ * column generation iterations, which slows down convergence. A dual stabilizer sits in between the master problem and the pricing problems: after the
+ * master problem has stored its dual values in a pricing problem (see {@link org.jorlib.frameworks.columnGeneration.master.AbstractMaster#initializePricingProblem(AbstractPricingProblem)}),
+ * the stabilizer replaces them by stabilized dual values, which are computed from the master duals and a stability center. The stability center is the
+ * dual vector used to price out the columns during the last successful iteration.<br>
+ * Because the pricing problems are solved on the stabilized dual values, it may happen that no columns are found even though columns with negative reduced
+ * cost (with respect to the master duals) exist. This is called a mispricing. Whenever a mispricing occurs, {@link #handleMispricing()} is invoked, and the
+ * pricing problems are solved again on dual values which are closer to the master duals. The column generation procedure can only terminate when the pricing
+ * problems fail to produce columns on unstabilized dual values.<br>
+ * Implementations of this class define how a single dual value is stabilized, see {@link #stabilizeDualValue(double, double)}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of data model
+ * @param <V> type of pricing problem
+ */
+public abstract class AbstractDualStabilizer<T, V extends AbstractPricingProblem<T>> {
+
+	/** Configuration file **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Stability centers of the pricing problems: dual values ({@code dualCosts}) used to solve the pricing problem during the last successful iteration **/
+	private final Map<V, double[]> centerDualCosts;
+	/** Stability centers of the pricing problems: dual value ({@code dualCost}) used to solve the pricing problem during the last successful iteration **/
+	private final Map<V, Double> centerDualCost;
+	/** Stabilized dual values ({@code dualCosts}) supplied to the pricing problems during the current iteration **/
+	private final Map<V, double[]> separationDualCosts;
+	/** Stabilized dual value ({@code dualCost}) supplied to the pricing problems during the current iteration **/
+	private final Map<V, Double> separationDualCost;
+	/** Pricing problems for which the stabilized dual values differ from the dual values of the master problem **/
+	private final Set<V> stabilizedPricingProblems;
+
+	/** Number of consecutive mispricings during the current iteration **/
+	protected int nrMispricings=0;
+	/** Total number of mispricings **/
+	protected int totalNrMispricings=0;
+
+	/**
+	 * Creates a new dual stabilizer
+	 */
+	public AbstractDualStabilizer(){
+		centerDualCosts=new HashMap<>();
+		centerDualCost=new HashMap<>();
+		separationDualCosts=new HashMap<>();
+		separationDualCost=new HashMap<>();
+		stabilizedPricingProblems=new HashSet<>();
+	}
+
+	/**
+	 * Replaces the dual values stored in the pricing problem by stabilized dual values. This method must be invoked right after the master problem has
+	 * stored its dual values in the pricing problem. The dual arrays supplied by the master problem are not modified.
+	 * @param pricingProblem pricing problem
+	 */
+	public void stabilize(V pricingProblem){
+		double[] outDualCosts=pricingProblem.dualCosts;
+		double outDualCost=pricingProblem.dualCost;
+
+		double[] center=centerDualCosts.get(pricingProblem);
+		if(outDualCosts == null || center == null || center.length != outDualCosts.length){
+			//No (compatible) stability center available: use the master duals as they are
+			separationDualCosts.put(pricingProblem, outDualCosts);
+			separationDualCost.put(pricingProblem, outDualCost);
+			stabilizedPricingProblems.remove(pricingProblem);
+			return;
+		}
+
+		boolean stabilized=false;
+		double[] sepDualCosts=new double[outDualCosts.length];
+		for(int i=0; i<outDualCosts.length; i++){
+			sepDualCosts[i]=this.stabilizeDualValue(center[i], outDualCosts[i]);
+			stabilized |= Math.abs(sepDualCosts[i]-outDualCosts[i]) > config.PRECISION;
+		}
+		double sepDualCost=this.stabilizeDualValue(centerDualCost.get(pricingProblem), outDualCost);
+		stabilized |= Math.abs(sepDualCost-outDualCost) > config.PRECISION;
+
+		separationDualCosts.put(pricingProblem, sepDualCosts);
+		separationDualCost.put(pricingProblem, sepDualCost);
+		if(stabilized)
+			stabilizedPricingProblems.add(pricingProblem);
+		else
+			stabilizedPricingProblems.remove(pricingProblem);
+		pricingProblem.initPricingProblem(sepDualCosts, sepDualCost);
+	}
+
+	/**
+	 * Computes a single stabilized dual value
+	 * @param centerValue value of the dual in the stability center
+	 * @param outValue value of the dual in the master problem
+	 * @return stabilized dual value
+	 */
+	protected abstract double stabilizeDualValue(double centerValue, double outValue);
+
+	/**
+	 * Returns true if, during the current iteration, the dual values supplied to at least one of the pricing problems differ from the dual values of the master problem.
+	 * Bounds on the master problem which are computed from the pricing problems are not valid while the dual values are being stabilized.
+	 * @return true if the dual values are being stabilized
+	 */
+	public boolean isStabilizing(){
+		return !stabilizedPricingProblems.isEmpty();
+	}
+
+	/**
+	 * Invoked when the pricing problems, solved on the stabilized dual values, did not produce any new columns. If the dual values were stabilized, this
+	 * may be a mispricing: the stabilization is weakened and the pricing problems have to be solved again. If the dual values were not stabilized, the
+	 * absence of new columns is conclusive.
+	 * @return true if the pricing problems have to be solved again, false if the absence of new columns is conclusive
+	 */
+	public boolean handleMispricing(){
+		if(!this.isStabilizing())
+			return false;
+		nrMispricings++;
+		totalNrMispricings++;
+		this.mispricingOccurred();
+		return true;
+	}
+
+	/**
+	 * Invoked when the pricing problems produced new columns. The stabilized dual values used during this iteration become the new stability centers.
+	 */
+	public void columnsFound(){
+		for(Map.Entry<V, double[]> entry : separationDualCosts.entrySet()){
+			if(entry.getValue() == null)
+				continue;
+			centerDualCosts.put(entry.getKey(), entry.getValue().clone());
+			centerDualCost.put(entry.getKey(), separationDualCost.get(entry.getKey()));
+		}
+		this.iterationSucceeded();
+		nrMispricings=0;
+	}
+
+	/**
+	 * Hook which is invoked each time a mispricing occurs, before the pricing problems are solved again. Implementations should weaken the stabilization
+	 * such that, after a finite number of consecutive mispricings, the stabilized dual values coincide with the master duals.
+	 * The number of consecutive mispricings during the current iteration is available through {@link #nrMispricings}.
+	 */
+	protected abstract void mispricingOccurred();
+
+	/**
+	 * Hook which is invoked when the pricing problems produced new columns, before the counter of consecutive mispricings is reset. Can be used to adapt
+	 * the stabilization parameters.
+	 */
+	protected void iterationSucceeded(){
+		//Nothing to do here
+	}
+
+	/**
+	 * Discards the stability centers. Invoked at the start of each column generation procedure.
+	 */
+	public void reset(){
+		centerDualCosts.clear();
+		centerDualCost.clear();
+		separationDualCosts.clear();
+		separationDualCost.clear();
+		stabilizedPricingProblems.clear();
+		nrMispricings=0;
+	}
+
+	/**
+	 * Returns the total number of mispricings
+	 * @return the total number of mispricings
+	 */
+	public int getTotalNrMispricings(){
+		return totalNrMispricings;
+	}
+}
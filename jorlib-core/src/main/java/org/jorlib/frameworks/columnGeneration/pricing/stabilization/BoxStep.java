@@ -0,0 +1,101 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BoxStep.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Boxstep stabilization. The stabilized dual values are obtained by projecting the master duals onto a box of half-width {@code delta} around the
+ * stability center. Each consecutive mispricing doubles the width of the box, thereby guaranteeing that the pricing problems are eventually solved on the
+ * master duals.<br>
+ * When automatic adaptation is enabled, the width of the box is doubled permanently each time a mispricing occurs, and halved after each iteration which
+ * did not suffer from mispricings.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of data model
+ * @param <V> type of pricing problem
+ */
+public class BoxStep<T, V extends AbstractPricingProblem<T>> extends AbstractDualStabilizer<T, V> {
+
+	/** Half-width of the box around the stability center **/
+	protected double delta;
+	/** Indicates whether the width of the box is adapted automatically **/
+	protected final boolean adaptive;
+	/** Lower limit on the half-width of the box when it is adapted automatically **/
+	private final double minDelta;
+	/** Half-width of the box used during the current iteration, taking mispricings into account **/
+	private double currentDelta;
+
+	/**
+	 * Creates a new Boxstep stabilizer
+	 * @param delta half-width of the box around the stability center, {@code delta > 0}
+	 * @param adaptive indicates whether the width of the box should be adapted automatically
+	 */
+	public BoxStep(double delta, boolean adaptive){
+		if(delta <= 0)
+			throw new IllegalArgumentException("The width of the box must be positive");
+		this.delta=delta;
+		this.minDelta=delta;
+		this.currentDelta=delta;
+		this.adaptive=adaptive;
+	}
+
+	@Override
+	protected double stabilizeDualValue(double centerValue, double outValue) {
+		return Math.max(centerValue-currentDelta, Math.min(centerValue+currentDelta, outValue));
+	}
+
+	@Override
+	protected void mispricingOccurred() {
+		if(adaptive)
+			delta*=2;
+		currentDelta*=2;
+	}
+
+	@Override
+	protected void iterationSucceeded() {
+		if(adaptive && nrMispricings == 0)
+			delta=Math.max(minDelta, delta/2);
+		currentDelta=delta;
+	}
+
+	@Override
+	public void reset(){
+		super.reset();
+		currentDelta=delta;
+	}
+
+	/**
+	 * Returns the current half-width of the box
+	 * @return the current half-width of the box
+	 */
+	public double getDelta(){
+		return delta;
+	}
+}
@@ -0,0 +1,111 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * WentgesSmoothing.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Wentges smoothing. The stabilized dual values are a convex combination of the stability center and the master duals:
+ * {@code alpha*center+(1-alpha)*out}, where {@code alpha} is the smoothing factor. After the k-th consecutive mispricing (k=1,2,...), the smoothing factor
+ * {@code max(0, 1-(k+1)(1-alpha))} is used: the first mispricing already moves the dual values towards the master duals, and the pricing problems are
+ * solved on the master duals after at most {@code ceil(1/(1-alpha))-1} consecutive mispricings.<br>
+ * When automatic adaptation is enabled, the smoothing factor is decreased each time a mispricing occurs, and slowly increased after each iteration which
+ * did not suffer from mispricings. Hence, strong smoothing is applied as long as it pays off.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ *
+ * @param <T> type of data model
+ * @param <V> type of pricing problem
+ */
+public class WentgesSmoothing<T, V extends AbstractPricingProblem<T>> extends AbstractDualStabilizer<T, V> {
+
+	/** Upper limit on the smoothing factor when it is adapted automatically **/
+	private static final double MAX_ALPHA=0.95;
+	/** Step size by which the smoothing factor is adapted **/
+	private static final double ALPHA_STEP=0.1;
+
+	/** Smoothing factor **/
+	protected double alpha;
+	/** Indicates whether the smoothing factor is adapted automatically **/
+	protected final boolean adaptive;
+	/** Smoothing factor used during the current iteration, taking mispricings into account **/
+	private double currentAlpha;
+
+	/**
+	 * Creates a new Wentges smoothing stabilizer with an automatically adapted smoothing factor, starting at 0.5
+	 */
+	public WentgesSmoothing(){
+		this(0.5, true);
+	}
+
+	/**
+	 * Creates a new Wentges smoothing stabilizer
+	 * @param alpha smoothing factor, {@code 0 <= alpha < 1}. A value of 0 disables the smoothing.
+	 * @param adaptive indicates whether the smoothing factor should be adapted automatically
+	 */
+	public WentgesSmoothing(double alpha, boolean adaptive){
+		if(alpha < 0 || alpha >= 1)
+			throw new IllegalArgumentException("Smoothing factor must be in the interval [0,1)");
+		this.alpha=alpha;
+		this.currentAlpha=alpha;
+		this.adaptive=adaptive;
+	}
+
+	@Override
+	protected double stabilizeDualValue(double centerValue, double outValue) {
+		return currentAlpha*centerValue+(1-currentAlpha)*outValue;
+	}
+
+	@Override
+	protected void mispricingOccurred() {
+		if(adaptive)
+			alpha=Math.max(0, alpha-ALPHA_STEP);
+		currentAlpha=Math.max(0, 1-(nrMispricings+1)*(1-alpha)); //nrMispricings already includes the current mispricing
+	}
+
+	@Override
+	protected void iterationSucceeded() {
+		if(adaptive && nrMispricings == 0)
+			alpha=Math.min(MAX_ALPHA, alpha+(1-alpha)*ALPHA_STEP);
+		currentAlpha=alpha;
+	}
+
+	@Override
+	public void reset(){
+		super.reset();
+		currentAlpha=alpha;
+	}
+
+	/**
+	 * Returns the current smoothing factor
+	 * @return the current smoothing factor
+	 */
+	public double getAlpha(){
+		return alpha;
+	}
+}
@@ -28,6 +28,8 @@ package org.jorlib.frameworks.columnGeneration.util;
 
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractCutGenerator;
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
+import org.jorlib.frameworks.columnGeneration.pricing.PricingExecutorType;
+import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemManager;
 
 import java.util.Properties;
 
@@ -56,6 +58,12 @@ public class Configuration {
 		EXPORT_MODEL=false;
 		EXPORT_MASTER_DIR="./output/masterLP/";
 
+		//Pricing
+		PIPELINED_PRICING=false;
+		PIPELINED_PRICING_COLUMN_THRESHOLD=1;
+		MAX_COLUMNS_PER_ITERATION=Integer.MAX_VALUE;
+		PRICING_EXECUTOR=PricingExecutorType.FIXED_THREAD_POOL;
+
 		//Cut handling
 		QUICK_RETURN_AFTER_CUTS_FOUND=true;
 	}
@@ -76,6 +84,12 @@ public class Configuration {
 		EXPORT_MODEL=(properties.containsKey("EXPORT_MODEL") ? Boolean.valueOf(properties.getProperty("EXPORT_MODEL")) : false);
 		EXPORT_MASTER_DIR=(properties.containsKey("EXPORT_MODEL_DIR") ? properties.getProperty("EXPORT_MODEL_DIR") : "./output/masterLP/");
 
+		//Pricing
+		PIPELINED_PRICING=(properties.containsKey("PIPELINED_PRICING") ? Boolean.valueOf(properties.getProperty("PIPELINED_PRICING")) : false);
+		PIPELINED_PRICING_COLUMN_THRESHOLD=(properties.containsKey("PIPELINED_PRICING_COLUMN_THRESHOLD") ? Integer.valueOf(properties.getProperty("PIPELINED_PRICING_COLUMN_THRESHOLD")) : 1);
+		MAX_COLUMNS_PER_ITERATION=(properties.containsKey("MAX_COLUMNS_PER_ITERATION") ? Integer.valueOf(properties.getProperty("MAX_COLUMNS_PER_ITERATION")) : Integer.MAX_VALUE);
+		PRICING_EXECUTOR=(properties.containsKey("PRICING_EXECUTOR") ? PricingExecutorType.valueOf(properties.getProperty("PRICING_EXECUTOR")) : PricingExecutorType.FIXED_THREAD_POOL);
+
 		//Cut handling
 		QUICK_RETURN_AFTER_CUTS_FOUND=(properties.containsKey("QUICK_RETURN_AFTER_CUTS_FOUND") ? Boolean.valueOf(properties.getProperty("QUICK_RETURN_AFTER_CUTS_FOUND")) : true);
 	}
@@ -126,6 +140,30 @@ public class Configuration {
 	public final String EXPORT_MASTER_DIR;
 
 
+	/*
+	 * Pricing
+	 */
+
+	/**
+	 * Enable/Disable pipelined pricing. When enabled, the master problem does not wait until all pricing problems have been solved: as soon as
+	 * PIPELINED_PRICING_COLUMN_THRESHOLD new columns have been produced, the master problem is re-optimized while the remaining pricing problems
+	 * continue to run on the old dual values. Default: false
+	 */
+	public final boolean PIPELINED_PRICING;
+	/** Number of new columns which triggers the re-optimization of the master problem when pipelined pricing is enabled. Default: 1 **/
+	public final int PIPELINED_PRICING_COLUMN_THRESHOLD;
+	/**
+	 * Maximum number of columns which are added to the master problem in a single column generation iteration, summed over all pricing problems.
+	 * The pricing problems take turns in contributing their most attractive columns. Default: Integer.MAX_VALUE (no limit)
+	 */
+	public final int MAX_COLUMNS_PER_ITERATION;
+	/**
+	 * Type of executor which each {@link PricingProblemManager} creates to solve the pricing problems in parallel, using MAXTHREADS threads: FIXED_THREAD_POOL or WORK_STEALING.
+	 * Default: FIXED_THREAD_POOL
+	 */
+	public final PricingExecutorType PRICING_EXECUTOR;
+
+
 	/**
 	 * Cut handling
 	 */
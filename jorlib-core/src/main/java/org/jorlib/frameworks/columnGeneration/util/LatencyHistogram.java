@@ -0,0 +1,179 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * LatencyHistogram.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of durations (in nanoseconds) with logarithmic buckets, in the spirit of HdrHistogram. Values smaller than 2^PRECISION_BITS are recorded exactly;
+ * larger values are recorded with a relative error of at most 2^-(PRECISION_BITS-1) (less than 2%). Recording a value takes constant time and does not allocate memory.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class LatencyHistogram {
+
+	/** Number of bits used to represent the sub-buckets of each power of two **/
+	private static final int PRECISION_BITS=7;
+	/** Number of values which are recorded exactly **/
+	private static final int SUB_BUCKET_COUNT=1 << PRECISION_BITS;
+	/** Number of sub-buckets per power of two **/
+	private static final int HALF_SUB_BUCKET_COUNT=SUB_BUCKET_COUNT >> 1;
+	/** Total number of buckets, sufficient to cover all non-negative long values **/
+	private static final int BUCKET_COUNT=SUB_BUCKET_COUNT+(64-PRECISION_BITS)*HALF_SUB_BUCKET_COUNT;
+
+	/** Number of values recorded in each bucket **/
+	private final AtomicLongArray counts=new AtomicLongArray(BUCKET_COUNT);
+	/** Number of recorded values **/
+	private final AtomicLong count=new AtomicLong();
+	/** Sum of the recorded values **/
+	private final AtomicLong total=new AtomicLong();
+	/** Smallest recorded value **/
+	private final AtomicLong min=new AtomicLong(Long.MAX_VALUE);
+	/** Largest recorded value **/
+	private final AtomicLong max=new AtomicLong(0);
+
+	/**
+	 * Records a duration
+	 * @param nanos duration in nanoseconds. Negative values are recorded as 0.
+	 */
+	public void record(long nanos){
+		long value=Math.max(0, nanos);
+		counts.incrementAndGet(bucketIndex(value));
+		count.incrementAndGet();
+		total.addAndGet(value);
+		min.accumulateAndGet(value, Math::min);
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Returns the number of recorded values
+	 * @return the number of recorded values
+	 */
+	public long getCount(){
+		return count.get();
+	}
+
+	/**
+	 * Returns the sum of the recorded values (ns)
+	 * @return the sum of the recorded values (ns)
+	 */
+	public long getTotal(){
+		return total.get();
+	}
+
+	/**
+	 * Returns the smallest recorded value (ns), or 0 if no values have been recorded
+	 * @return the smallest recorded value (ns)
+	 */
+	public long getMin(){
+		return count.get() == 0 ? 0 : min.get();
+	}
+
+	/**
+	 * Returns the largest recorded value (ns)
+	 * @return the largest recorded value (ns)
+	 */
+	public long getMax(){
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded values (ns), or 0 if no values have been recorded
+	 * @return the mean of the recorded values (ns)
+	 */
+	public double getMean(){
+		long n=count.get();
+		return n == 0 ? 0 : (double)total.get()/n;
+	}
+
+	/**
+	 * Returns the value at the given percentile (ns), e.g. getValueAtPercentile(99) returns a value v such that 99% of the recorded values are at most v
+	 * (subject to the precision of the histogram).
+	 * @param percentile percentile between 0 and 100
+	 * @return the value at the given percentile (ns), or 0 if no values have been recorded
+	 */
+	public long getValueAtPercentile(double percentile){
+		long n=count.get();
+		if(n == 0)
+			return 0;
+		long rank=Math.max(1, (long)Math.ceil(Math.min(100, Math.max(0, percentile))/100.0*n));
+		long cumulative=0;
+		for(int i=0; i<BUCKET_COUNT; i++){
+			cumulative+=counts.get(i);
+			if(cumulative >= rank)
+				return Math.min(highestValueInBucket(i), this.getMax());
+		}
+		return this.getMax();
+	}
+
+	/**
+	 * Removes all recorded values
+	 */
+	public void reset(){
+		for(int i=0; i<BUCKET_COUNT; i++)
+			counts.set(i, 0);
+		count.set(0);
+		total.set(0);
+		min.set(Long.MAX_VALUE);
+		max.set(0);
+	}
+
+	/**
+	 * Computes the bucket of a non-negative value
+	 * @param value value
+	 * @return bucket index
+	 */
+	private static int bucketIndex(long value){
+		if(value < SUB_BUCKET_COUNT)
+			return (int)value;
+		int shift=(63-Long.numberOfLeadingZeros(value))-(PRECISION_BITS-1);
+		int subBucket=(int)(value >>> shift); //in [HALF_SUB_BUCKET_COUNT, SUB_BUCKET_COUNT)
+		return SUB_BUCKET_COUNT+(shift-1)*HALF_SUB_BUCKET_COUNT+(subBucket-HALF_SUB_BUCKET_COUNT);
+	}
+
+	/**
+	 * Computes the largest value which is recorded in the given bucket
+	 * @param index bucket index
+	 * @return largest value in the bucket
+	 */
+	private static long highestValueInBucket(int index){
+		if(index < SUB_BUCKET_COUNT)
+			return index;
+		int k=index-SUB_BUCKET_COUNT;
+		int shift=k/HALF_SUB_BUCKET_COUNT+1;
+		long subBucket=k%HALF_SUB_BUCKET_COUNT+HALF_SUB_BUCKET_COUNT;
+		long highest=((subBucket+1) << shift)-1;
+		return highest < 0 ? Long.MAX_VALUE : highest;
+	}
+
+	@Override
+	public String toString(){
+		return "count: "+this.getCount()+", mean: "+String.format("%.0f", this.getMean())+"ns, p50: "+this.getValueAtPercentile(50)+"ns, p99: "+this.getValueAtPercentile(99)+"ns, max: "+this.getMax()+"ns";
+	}
+}
@@ -0,0 +1,150 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MetricsRegistry.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of latency histograms, one per phase of the column generation procedure. Durations are measured with {@link System#nanoTime()}, so that phases which take
+ * well under a millisecond, e.g. solving a small pricing problem, are measured accurately. The registry is thread-safe: the pricing problems record their solve times
+ * from the threads on which they are solved.<br>
+ * The registry can be queried at the end of the solve procedure, or from a listener through {@link org.jorlib.frameworks.columnGeneration.colgenMain.ColGen#getMetricsRegistry()}
+ * and {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice#getMetricsRegistry()}.<br>
+ * Besides histograms, the registry maintains counters for events which have no duration, e.g. the number of duplicate columns discarded by the pricing problem manager.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public class MetricsRegistry {
+
+	/** Solving the master problem **/
+	public static final String MASTER_SOLVE="master.solve";
+	/** Extracting the dual values from the master problem and passing them to a pricing problem **/
+	public static final String DUAL_EXTRACTION="master.dualExtraction";
+	/** Separating valid inequalities **/
+	public static final String CUT_SEPARATION="master.cutSeparation";
+	/** Adding a column to the master problem **/
+	public static final String COLUMN_INSERTION="master.columnInsertion";
+	/** Solving a pricing problem. Per pricing problem, the solve times are also recorded under PRICING_SOLVE+"."+pricingProblem.name **/
+	public static final String PRICING_SOLVE="pricing.solve";
+	/** Seeding the master problem of a node in the Branch-and-Price tree with the compatible columns from the column pool **/
+	public static final String COLUMN_POOL_SEEDING="bap.columnPoolSeeding";
+	/** Counter: columns generated by the pricing problems which were discarded because they duplicate another column of the same pricing round, or a column in the master problem **/
+	public static final String DUPLICATE_COLUMNS="pricing.duplicateColumns";
+
+	/** Histograms per phase **/
+	private final Map<String, LatencyHistogram> histograms=new ConcurrentHashMap<>();
+	/** Counters per event **/
+	private final Map<String, AtomicLong> counters=new ConcurrentHashMap<>();
+
+	/**
+	 * Records the duration of a phase
+	 * @param phase name of the phase
+	 * @param nanos duration in nanoseconds
+	 */
+	public void record(String phase, long nanos){
+		this.getHistogram(phase).record(nanos);
+	}
+
+	/**
+	 * Records the time elapsed since the given start time
+	 * @param phase name of the phase
+	 * @param startTime start time, obtained through {@link System#nanoTime()}
+	 */
+	public void recordSince(String phase, long startTime){
+		this.record(phase, System.nanoTime()-startTime);
+	}
+
+	/**
+	 * Increments a counter
+	 * @param counter name of the counter
+	 * @param amount amount by which the counter is incremented
+	 */
+	public void increment(String counter, long amount){
+		counters.computeIfAbsent(counter, k -> new AtomicLong()).addAndGet(amount);
+	}
+
+	/**
+	 * Returns the value of a counter
+	 * @param counter name of the counter
+	 * @return the value of the counter, or 0 if the counter has never been incremented
+	 */
+	public long getCounter(String counter){
+		AtomicLong value=counters.get(counter);
+		return (value == null ? 0 : value.get());
+	}
+
+	/**
+	 * Returns the values of all counters, sorted by name
+	 * @return counters sorted by name
+	 */
+	public Map<String, Long> getCounters(){
+		Map<String, Long> values=new TreeMap<>();
+		for(Map.Entry<String, AtomicLong> entry : counters.entrySet())
+			values.put(entry.getKey(), entry.getValue().get());
+		return Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * Returns the histogram of the given phase. If the histogram does not exist, an empty histogram is created.
+	 * @param phase name of the phase
+	 * @return histogram of the phase
+	 */
+	public LatencyHistogram getHistogram(String phase){
+		return histograms.computeIfAbsent(phase, k -> new LatencyHistogram());
+	}
+
+	/**
+	 * Returns an unmodifiable view of all histograms, sorted by phase
+	 * @return histograms sorted by phase
+	 */
+	public Map<String, LatencyHistogram> getHistograms(){
+		return Collections.unmodifiableMap(new TreeMap<>(histograms));
+	}
+
+	/**
+	 * Removes all histograms and counters
+	 */
+	public void reset(){
+		histograms.clear();
+		counters.clear();
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder sb=new StringBuilder();
+		for(Map.Entry<String, LatencyHistogram> entry : this.getHistograms().entrySet())
+			sb.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+		for(Map.Entry<String, Long> entry : this.getCounters().entrySet())
+			sb.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+		return sb.toString();
+	}
+}
@@ -34,6 +34,7 @@ import com.google.common.collect.HashBiMap;
 /**
  * Bidirectional map. Contains several methods to get lists/arrays of the keys/values which allow deterministic iteration ordering.
  * This class is more flexible than Guava's {@code BiMap<K,V>} or Oracle's {@code LinkedHashMap<K,V>}. The map cannot hold duplicate keys!
+ * Keys are stored in order of insertion, until a key is removed: to support removal in O(1) time, the last key in the list takes the position of the removed key.
  * 
  * @author Joris Kinable
  * @version 13-4-2015
@@ -45,11 +46,14 @@ public class OrderedBiMap<K,V> extends AbstractMap<K, V>{
 	private final HashBiMap<K, V> biMap;
 	private final ArrayList<K> keys;
 	private final ArrayList<V> values;
+	/** Position of each key in the keys/values lists **/
+	private final HashMap<K, Integer> indices;
 	
 	public OrderedBiMap(){
 		biMap=HashBiMap.create();
 		keys=new ArrayList<>();
 		values=new ArrayList<>();
+		indices=new HashMap<>();
 	}
 	
 	/**
@@ -64,6 +68,7 @@ public class OrderedBiMap<K,V> extends AbstractMap<K, V>{
 			throw new RuntimeException("Should not override a key");
 		}else{
 			this.biMap.put(key, value);
+			indices.put(key, keys.size());
 			keys.add(key);
 			values.add(value);
 			return null;
@@ -79,18 +84,46 @@ public class OrderedBiMap<K,V> extends AbstractMap<K, V>{
 	}
 	
 	/**
-	 * Remove a key. Removing keys is relatively expensive O(n) time, where n is the number of items in the list.
-	 * @return returns null if they key was contained in the map, returns V
+	 * Remove a key (O(1)). The last key in the list of keys (and its value) takes the position of the removed key.
+	 * @return returns null if they key was not contained in the map, returns the value associated with the key otherwise
 	 */
 	public V remove(Object k){
-		if(!this.containsKey(k))
+		Integer index=indices.remove(k);
+		if(index == null)
 			return null;
-		int index=this.keys.indexOf(k);
-		keys.remove(index);
-		values.remove(index);
+		int last=keys.size()-1;
+		if(index != last){
+			K lastKey=keys.get(last);
+			keys.set(index, lastKey);
+			values.set(index, values.get(last));
+			indices.put(lastKey, index);
+		}
+		keys.remove(last);
+		values.remove(last);
 		return biMap.remove(k);
 	}
+
+	/**
+	 * Returns the position of the key in the list of keys (O(1)), see {@link #keyList()}.
+	 * @param key key
+	 * @return position of the key, or -1 if the key is not contained in the map
+	 */
+	public int indexOf(Object key){
+		Integer index=indices.get(key);
+		return index == null ? -1 : index;
+	}
 	
+	/**
+	 * Removes all keys and values from the map
+	 */
+	@Override
+	public void clear(){
+		biMap.clear();
+		keys.clear();
+		values.clear();
+		indices.clear();
+	}
+
 	/**
 	 * Returns whether the key is contained in the map. Runtime: O(1)
 	 * @return whether the key is contained in the map. Runtime: O(1)
@@ -100,11 +133,11 @@ public class OrderedBiMap<K,V> extends AbstractMap<K, V>{
 	}
 	
 	/**
-	 * Returns a set view of the map.
-	 * @return a set view of the map.
+	 * Returns an unmodifiable set view of the keys of the map. Keys must be removed through {@link #remove(Object)} to keep the key list consistent.
+	 * @return an unmodifiable set view of the keys of the map.
 	 */
 	public Set<K> keySet(){
-		return biMap.keySet();
+		return Collections.unmodifiableSet(biMap.keySet());
 	}
 	
 	/**
@@ -143,12 +176,12 @@ public class OrderedBiMap<K,V> extends AbstractMap<K, V>{
 	}
 
 	/**
-	 * Returns the entrySet
-	 * @return the entrySet
+	 * Returns an unmodifiable view of the entrySet
+	 * @return an unmodifiable view of the entrySet
 	 */
 	@Override
 	public Set<java.util.Map.Entry<K, V>> entrySet() {
-		return biMap.entrySet();
+		return Collections.unmodifiableSet(biMap.entrySet());
 	}
 	
 	/**
@@ -26,7 +26,30 @@
  */
 package org.jorlib.frameworks;
 
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPCheckpointTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNodeQueueTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNodeTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BranchingCandidateEvaluatorTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.CompatibilityCacheTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.GraphManipulatorTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.NodeRequeueTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.ParallelBranchAndPriceTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.PrimalHeuristicTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.SpillingNodeStoreTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.NodeSelectorTest;
+import org.jorlib.frameworks.columnGeneration.colgenMain.BoundCalculatorTest;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColumnPoolTest;
+import org.jorlib.frameworks.columnGeneration.colgenMain.TailingOffDetectorTest;
+import org.jorlib.frameworks.columnGeneration.pricing.AdaptiveSolverSchedulerTest;
+import org.jorlib.frameworks.columnGeneration.pricing.ColumnCollectorTest;
+import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemManagerTest;
+import org.jorlib.frameworks.columnGeneration.pricing.SolverWorkerPoolTest;
+import org.jorlib.frameworks.columnGeneration.pricing.TimeBudgetTest;
+import org.jorlib.frameworks.columnGeneration.pricing.stabilization.DualStabilizerTest;
 import org.jorlib.frameworks.columnGeneration.tsp.BAPTSPTest;
+import org.jorlib.frameworks.columnGeneration.util.LatencyHistogramTest;
+import org.jorlib.frameworks.columnGeneration.util.MetricsRegistryTest;
+import org.jorlib.frameworks.columnGeneration.util.OrderedBiMapTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -38,7 +61,30 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	BAPTSPTest.class
+	BAPTSPTest.class,
+	BAPNodeTest.class,
+	BAPNodeQueueTest.class,
+	BAPCheckpointTest.class,
+	ParallelBranchAndPriceTest.class,
+	SpillingNodeStoreTest.class,
+	NodeSelectorTest.class,
+	PrimalHeuristicTest.class,
+	NodeRequeueTest.class,
+	BranchingCandidateEvaluatorTest.class,
+	CompatibilityCacheTest.class,
+	GraphManipulatorTest.class,
+	ColumnPoolTest.class,
+	BoundCalculatorTest.class,
+	TailingOffDetectorTest.class,
+	SolverWorkerPoolTest.class,
+	PricingProblemManagerTest.class,
+	TimeBudgetTest.class,
+	ColumnCollectorTest.class,
+	AdaptiveSolverSchedulerTest.class,
+	DualStabilizerTest.class,
+	OrderedBiMapTest.class,
+	LatencyHistogramTest.class,
+	MetricsRegistryTest.class
 })
 
 public final class AllFrameworksTests {
@@ -0,0 +1,236 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPCheckpointTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.io.CheckpointCodec;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchingDecision;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests whether a Branch-and-Price instance which is restored from a checkpoint (see {@link BAPCheckpoint}) contains the same open nodes and incumbent solution as the instance
+ * from which the checkpoint was written, and whether a run which reached its time limit can be resumed from its checkpoint.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class BAPCheckpointTest {
+
+	private static final double PRECISION=0.000001;
+	/** Costs of the columns of the two pricing problems; the optimal solution consists of the columns with costs 3 and 2 **/
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+	/** Depth of the nodes in the Branch-and-Price tree which have an integer solution **/
+	private static final int MAX_DEPTH=2;
+	/** Time limit of a run (ms) **/
+	private static final long TIME_LIMIT=60000;
+
+	private File checkpointFile;
+	private MockBranchAndPrice bap;
+	private MockBranchAndPrice restoredBap;
+
+	@Before
+	public void setUp() throws IOException {
+		checkpointFile=File.createTempFile("bapCheckpoint", ".bin");
+		bap=new MockBranchAndPrice(new MockModel(COLUMN_COSTS), MAX_DEPTH);
+		restoredBap=new MockBranchAndPrice(new MockModel(COLUMN_COSTS), MAX_DEPTH);
+	}
+
+	@After
+	public void tearDown() {
+		bap.close();
+		restoredBap.close();
+		checkpointFile.delete();
+	}
+
+	@Test
+	public void testRootNodeRoundTrip() {
+		bap.warmStart(42, Arrays.asList(bap.createColumn(0, 1), bap.createColumn(1, 2)));
+		BAPCheckpoint.write(bap, checkpointFile, new MockCheckpointCodec(bap.pricingProblems));
+		restoredBap.restoreCheckpoint(checkpointFile, new MockCheckpointCodec(restoredBap.pricingProblems));
+
+		Assert.assertEquals(42, restoredBap.objectiveIncumbentSolution);
+		Assert.assertEquals(Arrays.asList("0:1", "1:2"), toString(restoredBap.incumbentSolution));
+		Assert.assertEquals(1, restoredBap.queue.size());
+		Assert.assertSame(restoredBap.rootNode, restoredBap.queue.peek());
+		Assert.assertEquals(Arrays.asList("0:1", "1:2"), toString(restoredBap.rootNode.getInitialColumns()));
+		Assert.assertEquals(1, restoredBap.nodeCounter);
+	}
+
+	@Test
+	public void testOpenNodesRoundTrip() {
+		bap.warmStart(42, Arrays.asList(bap.createColumn(0, 1)));
+		BAPNode<MockModel, MockColumn> root=bap.queue.poll();
+		root.setBound(5);
+		BAPNode<MockModel, MockColumn> child1=bap.createNode(root, 1, 6, Collections.emptyList());
+		BAPNode<MockModel, MockColumn> child2=bap.createNode(root, 2, 7, Arrays.asList(bap.createColumn(1, 3)));
+		BAPNode<MockModel, MockColumn> grandchild1=bap.createNode(child1, 3, 8, Arrays.asList(bap.createColumn(0, 4), bap.createColumn(1, 5)));
+		BAPNode<MockModel, MockColumn> grandchild2=bap.createNode(child1, 4, 9, Collections.emptyList());
+		child2.setEstimate(11);
+		grandchild1.setEstimate(12);
+		grandchild1.setTimeBudgetExhausted(true);
+		bap.queue.addAll(Arrays.asList(child2, grandchild1, grandchild2));
+		bap.queue.closeNode(root);
+
+		BAPCheckpoint.write(bap, checkpointFile, new MockCheckpointCodec(bap.pricingProblems));
+		restoredBap.restoreCheckpoint(checkpointFile, new MockCheckpointCodec(restoredBap.pricingProblems));
+
+		Assert.assertEquals(42, restoredBap.objectiveIncumbentSolution);
+		Assert.assertEquals(Arrays.asList("0:1"), toString(restoredBap.incumbentSolution));
+		Assert.assertEquals(bap.nodeCounter, restoredBap.nodeCounter);
+		Assert.assertEquals(5, restoredBap.rootNode.getBound(), PRECISION);
+		Assert.assertEquals(3, restoredBap.queue.size());
+		Assert.assertEquals(7, restoredBap.queue.getBestBound(), PRECISION);
+
+		Map<Integer, BAPNode<MockModel, MockColumn>> restoredNodes=new HashMap<>();
+		for(BAPNode<MockModel, MockColumn> node : restoredBap.queue)
+			restoredNodes.put(node.nodeID, node);
+		for(BAPNode<MockModel, MockColumn> node : Arrays.asList(child2, grandchild1, grandchild2)){
+			BAPNode<MockModel, MockColumn> restoredNode=restoredNodes.get(node.nodeID);
+			Assert.assertNotNull(restoredNode);
+			Assert.assertEquals(node.getRootPath(), restoredNode.getRootPath());
+			Assert.assertEquals(node.getBound(), restoredNode.getBound(), PRECISION);
+			Assert.assertEquals(node.getEstimate(), restoredNode.getEstimate(), PRECISION);
+			Assert.assertEquals(node.isTimeBudgetExhausted(), restoredNode.isTimeBudgetExhausted());
+			Assert.assertEquals(toString(node.getInitialColumns()), toString(restoredNode.getInitialColumns()));
+			Assert.assertEquals(getDecisionIDs(node), getDecisionIDs(restoredNode));
+			BAPNode<MockModel, MockColumn> ancestor=restoredNode;
+			while(ancestor.getParent() != null)
+				ancestor=ancestor.getParent();
+			Assert.assertSame(restoredBap.rootNode, ancestor);
+		}
+
+		//Nodes in the same subtree share their restored ancestors
+		Assert.assertSame(restoredNodes.get(grandchild1.nodeID).getParent(), restoredNodes.get(grandchild2.nodeID).getParent());
+		Assert.assertSame(restoredBap.rootNode, restoredNodes.get(child2.nodeID).getParent());
+	}
+
+	@Test
+	public void testResumeAfterTimeLimit() {
+		//The root node is solved in two iterations of the column generation procedure; the time limit is reached while the first child node is solved
+		bap.getMaster().setSolveLimit(2);
+		bap.setCheckpointing(checkpointFile, new MockCheckpointCodec(bap.pricingProblems), Long.MAX_VALUE);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+		Assert.assertFalse(bap.isOptimal());
+		Assert.assertEquals(2, bap.queue.size());
+
+		//The interrupted child node already holds the initial solution generated for it, which must not be generated again
+		restoredBap.restoreCheckpoint(checkpointFile, new MockCheckpointCodec(restoredBap.pricingProblems));
+		int nrInterruptedNodes=0;
+		for(BAPNode<MockModel, MockColumn> node : restoredBap.queue){
+			if(node.isInitialSolutionGenerated()){
+				nrInterruptedNodes++;
+				Assert.assertEquals(Arrays.asList("0:-1", "1:-2"), toString(node.getInitialColumns().stream().filter(column -> column.isArtificialColumn).collect(Collectors.toList())));
+			}
+		}
+		Assert.assertEquals(1, nrInterruptedNodes);
+
+		restoredBap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+		Assert.assertTrue(restoredBap.isOptimal());
+		Assert.assertEquals(5, restoredBap.getObjective());
+		Assert.assertEquals(Arrays.asList("0:1", "1:1002"), toString(restoredBap.getSolution()));
+	}
+
+	/**
+	 * Returns the IDs of the branching decisions leading to a node
+	 * @param node node
+	 * @return IDs of the branching decisions, ordered from the root node to the given node
+	 */
+	private static List<Integer> getDecisionIDs(BAPNode<MockModel, MockColumn> node){
+		List<Integer> decisionIDs=new ArrayList<>();
+		for(BranchingDecision<?, ?> bd : node.getBranchingDecisions())
+			decisionIDs.add(((MockBranchingDecision) bd).id);
+		return decisionIDs;
+	}
+
+	/**
+	 * Describes each column by the index of its pricing problem and its number
+	 * @param columns columns
+	 * @return descriptions of the columns
+	 */
+	private static List<String> toString(List<MockColumn> columns){
+		List<String> descriptions=new ArrayList<>();
+		for(MockColumn column : columns)
+			descriptions.add(column.associatedPricingProblem.name.substring("pricingProblem".length())+":"+column.id);
+		return descriptions;
+	}
+
+	/**
+	 * Encodes a column by the index of its pricing problem, its number, its cost and whether it is artificial, and a branching decision by its number
+	 */
+	private static final class MockCheckpointCodec implements CheckpointCodec<MockColumn> {
+
+		/** Pricing problems of the Branch-and-Price instance **/
+		private final List<MockPricingProblem> pricingProblems;
+
+		private MockCheckpointCodec(List<MockPricingProblem> pricingProblems) {
+			this.pricingProblems=pricingProblems;
+		}
+
+		@Override
+		public void encode(MockColumn column, DataOutput out) throws IOException {
+			out.writeInt(pricingProblems.indexOf(column.associatedPricingProblem));
+			out.writeInt(column.id);
+			out.writeInt(column.cost);
+			out.writeBoolean(column.isArtificialColumn);
+		}
+
+		@Override
+		public MockColumn decode(DataInput in) throws IOException {
+			MockPricingProblem pricingProblem=pricingProblems.get(in.readInt());
+			return new MockColumn(pricingProblem, in.readInt(), in.readInt(), in.readBoolean());
+		}
+
+		@Override
+		public void encodeBranchingDecision(BranchingDecision<?, ?> branchingDecision, DataOutput out) throws IOException {
+			out.writeInt(((MockBranchingDecision) branchingDecision).id);
+		}
+
+		@Override
+		public BranchingDecision<?, ?> decodeBranchingDecision(DataInput in) throws IOException {
+			return new MockBranchingDecision(in.readInt());
+		}
+	}
+}
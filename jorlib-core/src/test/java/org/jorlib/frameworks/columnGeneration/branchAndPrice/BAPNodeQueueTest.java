@@ -0,0 +1,201 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPNodeQueueTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link BAPNodeQueue} class, in particular the consistency of the index of open nodes and the best bound.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class BAPNodeQueueTest {
+
+	private static final double PRECISION=0.000001;
+
+	@Test
+	public void testPollKeepsNodeOpenUntilClosed() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue(OptimizationSense.MINIMIZE);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 5);
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 7);
+		BAPNode<MockModel, MockColumn> node3=createNode(3, 9);
+		queue.addAll(Arrays.asList(node2, node3, node1));
+		Assert.assertEquals(5, queue.getBestBound(), PRECISION);
+
+		Assert.assertSame(node1, queue.poll());
+		Assert.assertEquals(2, queue.size());
+		Assert.assertTrue(queue.hasOpenNodes());
+		Assert.assertEquals(5, queue.getBestBound(), PRECISION);
+
+		queue.closeNode(node1);
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+		Assert.assertSame(node2, queue.poll());
+		Assert.assertSame(node3, queue.poll());
+		Assert.assertNull(queue.poll());
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+
+		queue.closeNode(node3);
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+		queue.closeNode(node2);
+		Assert.assertFalse(queue.hasOpenNodes());
+		Assert.assertEquals(Double.MAX_VALUE, queue.getBestBound(), PRECISION);
+	}
+
+	@Test
+	public void testPollSpecificNode() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue(OptimizationSense.MINIMIZE);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 5);
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 7);
+		BAPNode<MockModel, MockColumn> node3=createNode(3, 9);
+		queue.addAll(Arrays.asList(node1, node2, node3));
+
+		Assert.assertTrue(queue.poll(node1));
+		Assert.assertFalse(queue.poll(node1));
+		Assert.assertEquals(2, queue.size());
+		Assert.assertEquals(5, queue.getBestBound(), PRECISION);
+		Assert.assertEquals(Arrays.asList(node2, node3), queue.getNodesWithinBound(9, 10));
+		Assert.assertEquals(Arrays.asList(node2), queue.getNodesWithinBound(8, 10));
+
+		queue.closeNode(node1);
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+		Assert.assertSame(node2, queue.poll());
+
+		//A node which has never been added, and a node which has been closed, cannot be polled
+		Assert.assertFalse(queue.poll(createNode(4, 6)));
+		queue.closeNode(node2);
+		Assert.assertFalse(queue.poll(node2));
+		Assert.assertEquals(9, queue.getBestBound(), PRECISION);
+	}
+
+	@Test
+	public void testPruneNodes() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue(OptimizationSense.MINIMIZE);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 5);
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 7);
+		BAPNode<MockModel, MockColumn> node3=createNode(3, 9);
+		queue.addAll(Arrays.asList(node1, node2, node3));
+		Assert.assertSame(node1, queue.poll());
+
+		List<BAPNode<MockModel, MockColumn>> prunedNodes=queue.pruneNodes(node -> node.getBound() >= 7);
+		Assert.assertEquals(Arrays.asList(node3, node2), prunedNodes);
+		Assert.assertTrue(queue.isEmpty());
+		Assert.assertTrue(queue.hasOpenNodes());
+		Assert.assertEquals(5, queue.getBestBound(), PRECISION);
+
+		//Open nodes which are being processed are never pruned
+		Assert.assertTrue(queue.pruneNodes(node -> true).isEmpty());
+		Assert.assertEquals(5, queue.getBestBound(), PRECISION);
+
+		queue.closeNode(node1);
+		Assert.assertFalse(queue.hasOpenNodes());
+		Assert.assertEquals(Double.MAX_VALUE, queue.getBestBound(), PRECISION);
+	}
+
+	@Test
+	public void testRequeuePolledNode() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue(OptimizationSense.MINIMIZE);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 5);
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 7);
+		queue.addAll(Arrays.asList(node1, node2));
+
+		Assert.assertSame(node1, queue.poll());
+		queue.add(node1);
+		Assert.assertEquals(2, queue.size());
+		Assert.assertEquals(Arrays.asList(node1, node2), queue.getNodesWithinBound(10, 10));
+		Assert.assertSame(node1, queue.poll());
+		queue.closeNode(node1);
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+	}
+
+	@Test
+	public void testMaximization() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue(OptimizationSense.MAXIMIZE);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 5);
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 7);
+		BAPNode<MockModel, MockColumn> node3=createNode(3, 9);
+		queue.addAll(Arrays.asList(node1, node2, node3));
+		Assert.assertEquals(9, queue.getBestBound(), PRECISION);
+		Assert.assertEquals(Arrays.asList(node3, node2), queue.getNodesWithinBound(6, 10));
+
+		Assert.assertTrue(queue.poll(node3));
+		queue.closeNode(node3);
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+
+		Assert.assertEquals(Arrays.asList(node1), queue.pruneNodes(node -> node.getBound() <= 5));
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+		Assert.assertSame(node2, queue.poll());
+		queue.closeNode(node2);
+		Assert.assertEquals(-Double.MAX_VALUE, queue.getBestBound(), PRECISION);
+	}
+
+	@Test
+	public void testClearAndIteratorRemove() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue(OptimizationSense.MINIMIZE);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 5);
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 7);
+		queue.addAll(Arrays.asList(node1, node2));
+
+		//Removing a node through the iterator closes the node
+		Assert.assertTrue(queue.removeIf(node -> node == node1));
+		Assert.assertEquals(Arrays.asList(node2), new ArrayList<>(queue));
+		Assert.assertEquals(7, queue.getBestBound(), PRECISION);
+
+		queue.clear();
+		Assert.assertTrue(queue.isEmpty());
+		Assert.assertFalse(queue.hasOpenNodes());
+		Assert.assertEquals(Double.MAX_VALUE, queue.getBestBound(), PRECISION);
+	}
+
+	/**
+	 * Creates a queue which polls the nodes in the order of their IDs
+	 * @param optimizationSense optimization sense of the master problem
+	 * @return queue
+	 */
+	private static BAPNodeQueue<MockModel, MockColumn> createQueue(OptimizationSense optimizationSense){
+		return new BAPNodeQueue<>(Comparator.comparingInt((BAPNode<MockModel, MockColumn> node) -> node.nodeID), optimizationSense);
+	}
+
+	/**
+	 * Creates a node without columns
+	 * @param nodeID ID of the node
+	 * @param bound bound of the node
+	 * @return node
+	 */
+	private static BAPNode<MockModel, MockColumn> createNode(int nodeID, double bound){
+		return new BAPNode<>(nodeID, null, null, new ArrayList<>(), new ArrayList<>(), bound);
+	}
+}
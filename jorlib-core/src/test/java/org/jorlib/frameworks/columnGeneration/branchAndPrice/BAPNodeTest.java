@@ -0,0 +1,92 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPNodeTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchingDecision;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link BAPNode} class: the ownership of its column lists, and the reconstruction of its ancestors from the path from the root node.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class BAPNodeTest {
+
+	@Test
+	public void testReleaseColumnsKeepsListsOfCaller() {
+		MockPricingProblem pricingProblem=new MockPricingProblem(new MockModel(), 0);
+		List<MockColumn> initialColumns=new ArrayList<>(Arrays.asList(new MockColumn(pricingProblem, 1), new MockColumn(pricingProblem, 2)));
+		List<AbstractInequality> initialInequalities=new ArrayList<>();
+		BAPNode<MockModel, MockColumn> root=new BAPNode<>(0, null, null, initialColumns, initialInequalities, 0);
+		BAPNode<MockModel, MockColumn> child=new BAPNode<>(1, root, new MockBranchingDecision(0), initialColumns, initialInequalities, 0);
+
+		root.releaseColumns();
+		Assert.assertTrue(root.getInitialColumns().isEmpty());
+		Assert.assertEquals(2, initialColumns.size());
+		Assert.assertEquals(2, child.getInitialColumns().size());
+
+		//Columns added to a node do not end up in the list of the caller
+		child.addInitialColumns(Collections.singletonList(new MockColumn(pricingProblem, 3)));
+		Assert.assertEquals(3, child.getInitialColumns().size());
+		Assert.assertEquals(2, initialColumns.size());
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testNodeFromRootPath() {
+		List<BranchingDecision> branchingDecisions=Arrays.asList(new MockBranchingDecision(0), new MockBranchingDecision(1));
+		BAPNode<MockModel, MockColumn> node=new BAPNode<>(5, Arrays.asList(0, 2, 5), new ArrayList<>(), new ArrayList<>(), 3, branchingDecisions);
+
+		Assert.assertEquals(2, node.getNodeDepth());
+		Assert.assertEquals(Arrays.asList(0, 2, 5), node.getRootPath());
+		Assert.assertEquals(branchingDecisions, node.getBranchingDecisions());
+		Assert.assertEquals(2, node.getParentID());
+		Assert.assertSame(branchingDecisions.get(1), node.getBranchingDecision());
+
+		BAPNode<MockModel, MockColumn> root=new BAPNode<>(0, Collections.singletonList(0), new ArrayList<>(), new ArrayList<>(), 3, Collections.emptyList());
+		Assert.assertNull(root.getParent());
+		Assert.assertNull(root.getBranchingDecision());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	@SuppressWarnings("deprecation")
+	public void testInconsistentRootPath() {
+		new BAPNode<MockModel, MockColumn>(5, Arrays.asList(0, 5), new ArrayList<>(), new ArrayList<>(), 3, Collections.emptyList());
+	}
+}
@@ -0,0 +1,267 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BranchingCandidateEvaluatorTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchingDecision;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link PseudoCosts} and the selection of branching candidates by the {@link BranchingCandidateEvaluator}, through pseudo-costs and through strong branching
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class BranchingCandidateEvaluatorTest {
+
+	private static final double PRECISION=1e-9;
+
+	private final MockModel dataModel=new MockModel();
+	private final MockPricingProblem pricingProblem=new MockPricingProblem(dataModel, 0);
+	private final BAPNode<MockModel, MockColumn> parentNode=this.createSolvedNode(0, null, 10);
+	private int nextNodeID=1;
+
+	/**
+	 * Creates a node and stores a solution with the given objective
+	 */
+	private BAPNode<MockModel, MockColumn> createSolvedNode(int nodeID, BAPNode<MockModel, MockColumn> parent, double objective){
+		BAPNode<MockModel, MockColumn> node=new BAPNode<>(nodeID, parent, (parent == null ? null : new MockBranchingDecision(nodeID)), new ArrayList<>(), new ArrayList<>(), 0);
+		node.storeSolution(objective, objective, Collections.singletonList(new MockColumn(pricingProblem, nodeID)), new ArrayList<>());
+		return node;
+	}
+
+	/**
+	 * Creates a candidate with two child nodes of the parent node
+	 */
+	private BranchingCandidate<MockModel, MockColumn> createCandidate(String key, double[] distances){
+		List<BAPNode<MockModel, MockColumn>> childNodes=new ArrayList<>();
+		for(int i=0; i<2; i++)
+			childNodes.add(new BAPNode<>(nextNodeID, parentNode, new MockBranchingDecision(nextNodeID++), new ArrayList<>(), new ArrayList<>(), 0));
+		return new BranchingCandidate<>(key, childNodes, distances);
+	}
+
+	/**
+	 * Solver which must never be invoked
+	 */
+	private static double noStrongBranching(BAPNode<MockModel, MockColumn> childNode, int iterationLimit){
+		throw new AssertionError("Child node "+childNode.nodeID+" should not be evaluated through strong branching");
+	}
+
+	@Test
+	public void testPseudoCosts() {
+		PseudoCosts pseudoCosts=new PseudoCosts();
+		//Without observations, the pseudo-cost equals 1
+		Assert.assertEquals(1, pseudoCosts.getPseudoCost("x", 0), PRECISION);
+		Assert.assertEquals(0, pseudoCosts.getNrObservations("x", 0));
+
+		pseudoCosts.update("x", 0, 2);
+		pseudoCosts.update("x", 0, 4);
+		Assert.assertEquals(3, pseudoCosts.getPseudoCost("x", 0), PRECISION);
+		Assert.assertEquals(2, pseudoCosts.getNrObservations("x", 0));
+		//Keys without observations are initialized with the average over all keys
+		Assert.assertEquals(3, pseudoCosts.getPseudoCost("y", 0), PRECISION);
+		Assert.assertEquals(1, pseudoCosts.getPseudoCost("y", 1), PRECISION);
+
+		//Negative gains are recorded as 0; invalid observations are ignored
+		pseudoCosts.update("y", 1, -5);
+		pseudoCosts.update("y", 1, Double.NaN);
+		pseudoCosts.update("y", 1, Double.POSITIVE_INFINITY);
+		pseudoCosts.update(null, 1, 1);
+		Assert.assertEquals(0, pseudoCosts.getPseudoCost("y", 1), PRECISION);
+		Assert.assertEquals(1, pseudoCosts.getNrObservations("y", 1));
+		Assert.assertEquals(0, pseudoCosts.getPseudoCost("x", 1), PRECISION);
+		Assert.assertEquals(0, pseudoCosts.getNrObservations(null, 1));
+
+		//Candidates may have more than two children
+		pseudoCosts.update("x", 3, 6);
+		Assert.assertEquals(6, pseudoCosts.getPseudoCost("x", 3), PRECISION);
+		Assert.assertEquals(6, pseudoCosts.getPseudoCost("y", 3), PRECISION);
+		Assert.assertEquals(1, pseudoCosts.getPseudoCost("x", 2), PRECISION);
+		Assert.assertEquals(3, pseudoCosts.getPseudoCost("x", 0), PRECISION);
+
+		pseudoCosts.clear();
+		Assert.assertEquals(1, pseudoCosts.getPseudoCost("x", 0), PRECISION);
+		Assert.assertEquals(0, pseudoCosts.getNrObservations("x", 0));
+	}
+
+	@Test
+	public void testStrongBranching() throws TimeLimitExceededException {
+		BranchingCandidateEvaluator<MockModel, MockColumn> evaluator=new BranchingCandidateEvaluator<>(2, 5, 1);
+		BranchingCandidate<MockModel, MockColumn> candidateA=this.createCandidate("a", new double[]{0.5, 0.5});
+		BranchingCandidate<MockModel, MockColumn> candidateB=this.createCandidate("b", null);
+
+		//Objectives of the child nodes after strong branching
+		Map<Integer, Double> objectives=new HashMap<>();
+		objectives.put(candidateA.childNodes.get(0).nodeID, 12.0);
+		objectives.put(candidateA.childNodes.get(1).nodeID, 14.0);
+		objectives.put(candidateB.childNodes.get(0).nodeID, 11.0);
+		objectives.put(candidateB.childNodes.get(1).nodeID, 9.0);
+		BranchingCandidate<MockModel, MockColumn> selected=evaluator.selectCandidate(parentNode, Arrays.asList(candidateB, candidateA), OptimizationSense.MINIMIZE, (childNode, iterationLimit) -> {
+			Assert.assertEquals(5, iterationLimit);
+			return objectives.get(childNode.nodeID);
+		});
+
+		//Score of a: 2*4, score of b: 1*1e-6 (the objective of the second child improves)
+		Assert.assertSame(candidateA, selected);
+		Assert.assertEquals(8, candidateA.getScore(), PRECISION);
+		Assert.assertEquals(1e-6, candidateB.getScore(), PRECISION);
+		Assert.assertEquals(4, evaluator.getNrStrongBranchingEvaluations());
+
+		//The observed gains are recorded per unit of distance
+		PseudoCosts pseudoCosts=evaluator.getPseudoCosts();
+		Assert.assertEquals(4, pseudoCosts.getPseudoCost("a", 0), PRECISION);
+		Assert.assertEquals(8, pseudoCosts.getPseudoCost("a", 1), PRECISION);
+		Assert.assertEquals(1, pseudoCosts.getPseudoCost("b", 0), PRECISION);
+		Assert.assertEquals(0, pseudoCosts.getPseudoCost("b", 1), PRECISION);
+
+		//Once the pseudo-costs are reliable, the candidates are no longer evaluated through strong branching
+		BranchingCandidate<MockModel, MockColumn> candidateA2=this.createCandidate("a", null);
+		BranchingCandidate<MockModel, MockColumn> candidateB2=this.createCandidate("b", new double[]{5, 5});
+		selected=evaluator.selectCandidate(parentNode, Arrays.asList(candidateA2, candidateB2), OptimizationSense.MINIMIZE, BranchingCandidateEvaluatorTest::noStrongBranching);
+		//Score of a: 4*8, score of b: 5*max(1e-6, 0)
+		Assert.assertSame(candidateA2, selected);
+		Assert.assertEquals(32, candidateA2.getScore(), PRECISION);
+		Assert.assertEquals(5e-6, candidateB2.getScore(), PRECISION);
+		Assert.assertEquals(4, evaluator.getNrStrongBranchingEvaluations());
+	}
+
+	@Test
+	public void testStrongBranchingMaximization() throws TimeLimitExceededException {
+		BranchingCandidateEvaluator<MockModel, MockColumn> evaluator=new BranchingCandidateEvaluator<>(2, 5, 1);
+		BranchingCandidate<MockModel, MockColumn> candidateA=this.createCandidate("a", null);
+		BranchingCandidate<MockModel, MockColumn> candidateB=this.createCandidate("b", null);
+
+		//The second child of b cannot be evaluated; its pseudo-cost estimate is used instead
+		Map<Integer, Double> objectives=new HashMap<>();
+		objectives.put(candidateA.childNodes.get(0).nodeID, 9.0);
+		objectives.put(candidateA.childNodes.get(1).nodeID, 8.0);
+		objectives.put(candidateB.childNodes.get(0).nodeID, 7.0);
+		objectives.put(candidateB.childNodes.get(1).nodeID, Double.NaN);
+		BranchingCandidate<MockModel, MockColumn> selected=evaluator.selectCandidate(parentNode, Arrays.asList(candidateA, candidateB), OptimizationSense.MAXIMIZE, (childNode, iterationLimit) -> objectives.get(childNode.nodeID));
+
+		//Score of a: 1*2. Score of b: 3*2, where 2 is the average pseudo-cost of the second child over all keys, observed when evaluating a.
+		Assert.assertSame(candidateB, selected);
+		Assert.assertEquals(2, candidateA.getScore(), PRECISION);
+		Assert.assertEquals(6, candidateB.getScore(), PRECISION);
+		Assert.assertEquals(3, evaluator.getPseudoCosts().getPseudoCost("b", 0), PRECISION);
+		Assert.assertEquals(0, evaluator.getPseudoCosts().getNrObservations("b", 1));
+	}
+
+	@Test
+	public void testStrongBranchingCandidateLimit() throws TimeLimitExceededException {
+		//Only the unreliable candidate with the best pseudo-cost score is evaluated through strong branching
+		PseudoCosts pseudoCosts=new PseudoCosts();
+		pseudoCosts.update("a", 0, 1);
+		pseudoCosts.update("a", 1, 1);
+		BranchingCandidateEvaluator<MockModel, MockColumn> evaluator=new BranchingCandidateEvaluator<>(1, 5, 2, pseudoCosts);
+		BranchingCandidate<MockModel, MockColumn> candidateA=this.createCandidate("a", null);
+		BranchingCandidate<MockModel, MockColumn> candidateB=this.createCandidate("b", new double[]{2, 2});
+
+		List<Integer> evaluatedNodes=new ArrayList<>();
+		BranchingCandidate<MockModel, MockColumn> selected=evaluator.selectCandidate(parentNode, Arrays.asList(candidateA, candidateB), OptimizationSense.MINIMIZE, (childNode, iterationLimit) -> {
+			evaluatedNodes.add(childNode.nodeID);
+			return 10.5;
+		});
+		//Pseudo-cost scores: a: 1*1, b: 2*2. Strong branching score of b: 0.5*0.5.
+		Assert.assertEquals(Arrays.asList(candidateB.childNodes.get(0).nodeID, candidateB.childNodes.get(1).nodeID), evaluatedNodes);
+		Assert.assertSame(candidateA, selected);
+		Assert.assertEquals(1, candidateA.getScore(), PRECISION);
+		Assert.assertEquals(0.25, candidateB.getScore(), PRECISION);
+	}
+
+	@Test
+	public void testPseudoCostBranching() throws TimeLimitExceededException {
+		PseudoCosts pseudoCosts=new PseudoCosts();
+		pseudoCosts.update("a", 0, 1);
+		pseudoCosts.update("a", 1, 1);
+		pseudoCosts.update("b", 0, 3);
+		pseudoCosts.update("b", 1, 2);
+		//With a reliability threshold of 0, the candidates are never evaluated through strong branching
+		BranchingCandidateEvaluator<MockModel, MockColumn> evaluator=new BranchingCandidateEvaluator<>(10, 5, 0, pseudoCosts);
+		BranchingCandidate<MockModel, MockColumn> candidateA=this.createCandidate("a", null);
+		BranchingCandidate<MockModel, MockColumn> candidateB=this.createCandidate("b", new double[]{0.5, 0.5});
+		//A candidate without pseudo-costs is initialized with the average pseudo-costs: (1+3)/2 and (1+2)/2
+		BranchingCandidate<MockModel, MockColumn> candidateC=this.createCandidate("c", null);
+
+		BranchingCandidate<MockModel, MockColumn> selected=evaluator.selectCandidate(parentNode, Arrays.asList(candidateA, candidateB, candidateC), OptimizationSense.MINIMIZE, BranchingCandidateEvaluatorTest::noStrongBranching);
+		Assert.assertEquals(1, candidateA.getScore(), PRECISION);
+		Assert.assertEquals(1.5, candidateB.getScore(), PRECISION);
+		Assert.assertEquals(3, candidateC.getScore(), PRECISION);
+		Assert.assertSame(candidateC, selected);
+		Assert.assertEquals(0, evaluator.getNrStrongBranchingEvaluations());
+	}
+
+	@Test
+	public void testObservationsOfSolvedChildNodes() throws TimeLimitExceededException {
+		BranchingCandidateEvaluator<MockModel, MockColumn> evaluator=new BranchingCandidateEvaluator<>(10, 5, 0);
+		BranchingCandidate<MockModel, MockColumn> candidate=this.createCandidate("a", new double[]{0.5, 0.25});
+		//A single candidate is selected without evaluation
+		Assert.assertSame(candidate, evaluator.selectCandidate(parentNode, Collections.singletonList(candidate), OptimizationSense.MINIMIZE, BranchingCandidateEvaluatorTest::noStrongBranching));
+
+		//The deterioration of the objective of a solved child node is recorded per unit of distance: (13-10)/0.5
+		BAPNode<MockModel, MockColumn> child0=candidate.childNodes.get(0);
+		child0.storeSolution(13, 13, Collections.singletonList(new MockColumn(pricingProblem, 1)), new ArrayList<>());
+		evaluator.nodeSolved(child0, OptimizationSense.MINIMIZE);
+		Assert.assertEquals(6, evaluator.getPseudoCosts().getPseudoCost("a", 0), PRECISION);
+		Assert.assertEquals(1, evaluator.getPseudoCosts().getNrObservations("a", 0));
+		//Each child node is only recorded once
+		evaluator.nodeSolved(child0, OptimizationSense.MINIMIZE);
+		Assert.assertEquals(1, evaluator.getPseudoCosts().getNrObservations("a", 0));
+
+		//Infeasible child nodes are not recorded
+		BAPNode<MockModel, MockColumn> child1=candidate.childNodes.get(1);
+		child1.storeSolution(1000, 1000, Collections.singletonList(dataModel.getArtificialColumn(pricingProblem)), new ArrayList<>());
+		evaluator.nodeSolved(child1, OptimizationSense.MINIMIZE);
+		Assert.assertEquals(0, evaluator.getPseudoCosts().getNrObservations("a", 1));
+
+		//Discarded child nodes are not recorded
+		BranchingCandidate<MockModel, MockColumn> nextCandidate=this.createCandidate("a", null);
+		evaluator.selectCandidate(parentNode, Collections.singletonList(nextCandidate), OptimizationSense.MINIMIZE, BranchingCandidateEvaluatorTest::noStrongBranching);
+		BAPNode<MockModel, MockColumn> discarded=nextCandidate.childNodes.get(1);
+		evaluator.nodeDiscarded(discarded);
+		discarded.storeSolution(11, 11, Collections.singletonList(new MockColumn(pricingProblem, 1)), new ArrayList<>());
+		evaluator.nodeSolved(discarded, OptimizationSense.MINIMIZE);
+		Assert.assertEquals(0, evaluator.getPseudoCosts().getNrObservations("a", 1));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNoCandidates() throws TimeLimitExceededException {
+		new BranchingCandidateEvaluator<MockModel, MockColumn>(1, 5, 1).selectCandidate(parentNode, Collections.emptyList(), OptimizationSense.MINIMIZE, BranchingCandidateEvaluatorTest::noStrongBranching);
+	}
+}
@@ -0,0 +1,186 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CompatibilityCacheTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColumnCoefficients;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColumnPool;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link CompatibilityCache}, and the seeding of the nodes in the Branch-and-Price tree with the compatible columns from the column pool
+ * (see {@link AbstractBranchAndPrice#setColumnPoolSeeding(boolean)}).
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class CompatibilityCacheTest {
+
+	/** Costs of the columns of the two pricing problems; the optimal solution consists of the columns with costs 3 and 2 **/
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+	/** Time limit of a run (ms) **/
+	private static final long TIME_LIMIT=10000;
+
+	private final MockModel dataModel=new MockModel(COLUMN_COSTS);
+	private final MockPricingProblem pricingProblem=new MockPricingProblem(dataModel, 0);
+	private final List<MockColumn> columns=dataModel.getColumns(pricingProblem);
+	private final BAPNode<MockModel, MockColumn> root=new BAPNode<>(0, null, null, new ArrayList<>(), new ArrayList<>(), 0);
+	private MockBranchAndPrice bap=null;
+
+	@After
+	public void tearDown() {
+		if(bap != null)
+			bap.close();
+	}
+
+	@Test
+	public void testCacheHitsAndMisses() {
+		CompatibilityCache<MockModel, MockColumn> cache=new CompatibilityCache<>();
+		ExcludingDecision decision1=new ExcludingDecision(columns.get(0).id);
+		ExcludingDecision decision2=new ExcludingDecision(columns.get(1).id);
+		BAPNode<MockModel, MockColumn> child=new BAPNode<>(1, root, decision1, new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<MockModel, MockColumn> grandChild=new BAPNode<>(2, child, decision2, new ArrayList<>(), new ArrayList<>(), 0);
+
+		//The root node does not have branching decisions
+		Assert.assertTrue(cache.isCompatible(root, columns.get(0)));
+		Assert.assertEquals(0, cache.getNrHits()+cache.getNrMisses());
+
+		//The column is tested against both decisions of the grand child
+		Assert.assertTrue(cache.isCompatible(grandChild, columns.get(2)));
+		Assert.assertEquals(0, cache.getNrHits());
+		Assert.assertEquals(2, cache.getNrMisses());
+		//The verdicts are reused for the grand child and for its parent
+		Assert.assertTrue(cache.isCompatible(grandChild, columns.get(2)));
+		Assert.assertTrue(cache.isCompatible(child, columns.get(2)));
+		Assert.assertEquals(3, cache.getNrHits());
+		Assert.assertEquals(2, cache.getNrMisses());
+		Assert.assertEquals(1, decision1.nrTests);
+		Assert.assertEquals(1, decision2.nrTests);
+
+		//A column which is incompatible with the decision of the child node is incompatible with the grand child
+		Assert.assertFalse(cache.isCompatible(grandChild, columns.get(0)));
+		Assert.assertEquals(4, cache.getNrMisses());
+		Assert.assertFalse(cache.isCompatible(child, columns.get(0)));
+		Assert.assertFalse(cache.isCompatible(grandChild, columns.get(1)));
+		Assert.assertEquals(4, cache.getNrHits());
+		Assert.assertEquals(5, cache.getNrMisses());
+
+		//A sibling which shares no decision with the child node is tested against its own decision
+		BAPNode<MockModel, MockColumn> sibling=new BAPNode<>(3, root, new ExcludingDecision(columns.get(2).id), new ArrayList<>(), new ArrayList<>(), 0);
+		Assert.assertEquals(Arrays.asList(columns.get(0), columns.get(1)), cache.getCompatibleColumns(sibling, columns));
+		Assert.assertEquals(8, cache.getNrMisses());
+		Assert.assertEquals(Collections.singletonList(columns.get(2)), cache.getCompatibleColumns(grandChild, columns));
+		Assert.assertEquals(9, cache.getNrHits());
+
+		//Columns are compared by identity
+		Assert.assertTrue(cache.isCompatible(child, new MockColumn(pricingProblem, columns.get(2).id)));
+		Assert.assertEquals(9, cache.getNrMisses());
+
+		//After clearing the cache, the decisions are invoked again
+		cache.clear();
+		Assert.assertTrue(cache.isCompatible(child, columns.get(2)));
+		Assert.assertEquals(10, cache.getNrMisses());
+		Assert.assertEquals(4, decision1.nrTests);
+	}
+
+	@Test
+	public void testSeedFromColumnPool() {
+		bap=new MockBranchAndPrice(dataModel, 1);
+		ColumnPool<MockModel, MockColumn, MockPricingProblem> pool=new ColumnPool<>(column -> new ColumnCoefficients(column.cost, new int[0], new double[0], 1));
+		List<MockColumn> poolColumns=new ArrayList<>();
+		for(MockPricingProblem pp : bap.getPricingProblems())
+			poolColumns.addAll(dataModel.getColumns(pp));
+		pool.addColumns(poolColumns);
+		bap.setColumnPool(pool);
+
+		//Only the pool columns which are compatible with both decisions, and which are not yet present in the node, are added to the node
+		BAPNode<MockModel, MockColumn> child=new BAPNode<>(1, root, new ExcludingDecision(poolColumns.get(0).id, poolColumns.get(4).id), new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<MockModel, MockColumn> grandChild=new BAPNode<>(2, child, new ExcludingDecision(poolColumns.get(1).id), Collections.singletonList(poolColumns.get(2)), new ArrayList<>(), 0);
+		bap.seedFromColumnPool(grandChild);
+		Assert.assertEquals(Arrays.asList(poolColumns.get(2), poolColumns.get(3), poolColumns.get(5)), grandChild.getInitialColumns());
+
+		//Seeding the child node reuses the verdicts of its decision. Only the column which was rejected by the decision of
+		//the grand child, and the column which was already present in the grand child, have not been tested against it.
+		long nrMisses=bap.getCompatibilityCache().getNrMisses();
+		bap.seedFromColumnPool(child);
+		Assert.assertEquals(Arrays.asList(poolColumns.get(1), poolColumns.get(2), poolColumns.get(3), poolColumns.get(5)), child.getInitialColumns());
+		Assert.assertEquals(nrMisses+2, bap.getCompatibilityCache().getNrMisses());
+	}
+
+	@Test
+	public void testSeedingDuringBranchAndPrice() {
+		bap=new MockBranchAndPrice(dataModel, 1);
+		bap.setColumnPool(new ColumnPool<>(column -> new ColumnCoefficients(column.cost, new int[0], new double[0], 1)));
+		bap.setColumnPoolSeeding(true);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		//The columns generated at the root node are tested against the decisions of the child nodes when the child nodes are seeded
+		Assert.assertTrue(bap.getCompatibilityCache().getNrMisses() > 0);
+	}
+
+	/**
+	 * Branching decision which excludes a set of columns, and which counts the number of times it has been invoked
+	 */
+	private static final class ExcludingDecision implements BranchingDecision<MockModel, MockColumn> {
+
+		/** Numbers of the excluded columns **/
+		private final Set<Integer> excludedColumns=new HashSet<>();
+		/** Number of times a column has been tested against this decision **/
+		private int nrTests=0;
+
+		private ExcludingDecision(Integer... excludedColumns){
+			this.excludedColumns.addAll(Arrays.asList(excludedColumns));
+		}
+
+		@Override
+		public boolean columnIsCompatibleWithBranchingDecision(MockColumn column) {
+			nrTests++;
+			return !excludedColumns.contains(column.id);
+		}
+
+		@Override
+		public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+			return true;
+		}
+	}
+}
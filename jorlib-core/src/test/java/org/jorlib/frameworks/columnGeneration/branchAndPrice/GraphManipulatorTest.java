@@ -0,0 +1,206 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * GraphManipulatorTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchingDecision;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests whether the {@link GraphManipulator} reverts and performs the right branching decisions, in the right order, when jumping between nodes of the
+ * Branch-and-Price tree. The tree used in the tests is:
+ * <pre>
+ *         0
+ *       /   \
+ *     1       2
+ *    / \      |
+ *   3   4     6
+ *   |
+ *   5
+ * </pre>
+ * The branching decision of node i is identified by i.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class GraphManipulatorTest {
+
+	private final List<BAPNode<MockModel, MockColumn>> nodes=new ArrayList<>();
+	private GraphManipulator graphManipulator;
+	private BatchRecorder batchRecorder;
+	private DecisionRecorder decisionRecorder;
+
+	@Before
+	public void setUp() {
+		int[] parents={-1, 0, 0, 1, 1, 3, 2};
+		for(int i=0; i<parents.length; i++){
+			BAPNode<MockModel, MockColumn> parent=(parents[i] < 0 ? null : nodes.get(parents[i]));
+			nodes.add(new BAPNode<>(i, parent, (parent == null ? null : new MockBranchingDecision(i)), new ArrayList<>(), new ArrayList<>(), 0));
+		}
+		graphManipulator=new GraphManipulator(nodes.get(0));
+		batchRecorder=new BatchRecorder();
+		decisionRecorder=new DecisionRecorder();
+		graphManipulator.addBranchingDecisionListener(batchRecorder);
+		graphManipulator.addBranchingDecisionListener(decisionRecorder);
+	}
+
+	@Test
+	public void testJumpsBetweenNodes() {
+		//From the root node to a leaf
+		graphManipulator.next(nodes.get(5));
+		batchRecorder.assertBatch(Collections.emptyList(), Arrays.asList(1, 3, 5));
+
+		//From a leaf to a leaf in the other subtree of the root node
+		graphManipulator.next(nodes.get(6));
+		batchRecorder.assertBatch(Arrays.asList(5, 3, 1), Arrays.asList(2, 6));
+
+		//Back to the first subtree
+		graphManipulator.next(nodes.get(4));
+		batchRecorder.assertBatch(Arrays.asList(6, 2), Arrays.asList(1, 4));
+
+		//To a sibling
+		graphManipulator.next(nodes.get(3));
+		batchRecorder.assertBatch(Collections.singletonList(4), Collections.singletonList(3));
+
+		//To the same node: the listeners are not informed
+		graphManipulator.next(nodes.get(3));
+		Assert.assertTrue(batchRecorder.batches.isEmpty());
+
+		//To an ancestor, and to a descendant
+		graphManipulator.next(nodes.get(1));
+		batchRecorder.assertBatch(Collections.singletonList(3), Collections.emptyList());
+		graphManipulator.next(nodes.get(5));
+		batchRecorder.assertBatch(Collections.emptyList(), Arrays.asList(3, 5));
+		Assert.assertTrue(batchRecorder.batches.isEmpty());
+	}
+
+	@Test
+	public void testDefaultListenerReceivesIndividualDecisions() {
+		graphManipulator.next(nodes.get(5));
+		graphManipulator.next(nodes.get(6));
+		//Within a batch, the decisions are reverted before the new decisions are performed
+		Assert.assertEquals(Arrays.asList("+1", "+3", "+5", "-5", "-3", "-1", "+2", "+6"), decisionRecorder.changes);
+	}
+
+	@Test
+	public void testRestore() {
+		graphManipulator.next(nodes.get(5));
+		batchRecorder.batches.clear();
+		graphManipulator.restore();
+		batchRecorder.assertBatch(Arrays.asList(5, 3, 1), Collections.emptyList());
+
+		//After restoring, the next node is reached from the root node
+		graphManipulator.next(nodes.get(4));
+		batchRecorder.assertBatch(Collections.emptyList(), Arrays.asList(1, 4));
+
+		//Restoring at the root node does not inform the listeners
+		graphManipulator.next(nodes.get(0));
+		batchRecorder.batches.clear();
+		graphManipulator.restore();
+		Assert.assertTrue(batchRecorder.batches.isEmpty());
+	}
+
+	@Test
+	public void testRemoveListener() {
+		graphManipulator.removeBranchingDecisionListener(batchRecorder);
+		graphManipulator.next(nodes.get(5));
+		Assert.assertTrue(batchRecorder.batches.isEmpty());
+		Assert.assertEquals(Arrays.asList("+1", "+3", "+5"), decisionRecorder.changes);
+	}
+
+	/**
+	 * Returns the numbers of the given branching decisions
+	 */
+	private static List<Integer> getIDs(List<BranchingDecision<?, ?>> decisions){
+		List<Integer> ids=new ArrayList<>();
+		for(BranchingDecision<?, ?> bd : decisions)
+			ids.add(((MockBranchingDecision) bd).id);
+		return ids;
+	}
+
+	/**
+	 * Listener which records every change as a single batch
+	 */
+	private static final class BatchRecorder implements BranchingDecisionListener {
+
+		/** For every change, the numbers of the reversed decisions, followed by the numbers of the performed decisions **/
+		private final List<List<List<Integer>>> batches=new ArrayList<>();
+
+		@Override
+		public void branchingDecisionsChanged(List<BranchingDecision<?, ?>> reversedDecisions, List<BranchingDecision<?, ?>> performedDecisions) {
+			batches.add(Arrays.asList(getIDs(reversedDecisions), getIDs(performedDecisions)));
+		}
+
+		@Override
+		public void branchingDecisionPerformed(BranchingDecision bd) {
+			Assert.fail("Decisions should be received in batches");
+		}
+
+		@Override
+		public void branchingDecisionReversed(BranchingDecision bd) {
+			Assert.fail("Decisions should be received in batches");
+		}
+
+		/**
+		 * Asserts that a single batch with the given decisions has been received since the last invocation of this method
+		 */
+		private void assertBatch(List<Integer> reversedDecisions, List<Integer> performedDecisions){
+			Assert.assertEquals(Collections.singletonList(Arrays.asList(reversedDecisions, performedDecisions)), batches);
+			batches.clear();
+		}
+	}
+
+	/**
+	 * Listener which relies on the default implementation of {@link BranchingDecisionListener#branchingDecisionsChanged(List, List)}, and which records
+	 * every performed decision as +id, and every reversed decision as -id
+	 */
+	private static final class DecisionRecorder implements BranchingDecisionListener {
+
+		/** Recorded changes **/
+		private final List<String> changes=new ArrayList<>();
+
+		@Override
+		public void branchingDecisionPerformed(BranchingDecision bd) {
+			changes.add("+"+((MockBranchingDecision) bd).id);
+		}
+
+		@Override
+		public void branchingDecisionReversed(BranchingDecision bd) {
+			changes.add("-"+((MockBranchingDecision) bd).id);
+		}
+	}
+}
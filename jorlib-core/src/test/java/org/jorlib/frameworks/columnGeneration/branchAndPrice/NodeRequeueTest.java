@@ -0,0 +1,111 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * NodeRequeueTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.pricing.TimeBudget;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the treatment of nodes for which pricing ran out of its time budget: such a node is put back in the queue a limited number of times
+ * (see {@link AbstractBranchAndPrice#setMaxNodeRequeues(int)}), after which it is solved without time budgets.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class NodeRequeueTest {
+
+	/** Costs of the columns of the two pricing problems; the optimal solution consists of the columns with costs 3 and 2 **/
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+	/** Depth of the nodes in the Branch-and-Price tree which have an integer solution **/
+	private static final int MAX_DEPTH=1;
+	/** Time limit of a run (ms) **/
+	private static final long TIME_LIMIT=10000;
+
+	private MockBranchAndPrice bap;
+
+	@Before
+	public void setUp() {
+		bap=new MockBranchAndPrice(new MockModel(COLUMN_COSTS), MAX_DEPTH);
+		//Every pricing round which does not produce columns runs out of this budget, so no node is ever solved to optimality within its budget
+		bap.setPricingTimeBudget(MockPricingProblemSolver.class, TimeBudget.maxSolveTime(0));
+	}
+
+	@After
+	public void tearDown() {
+		bap.close();
+	}
+
+	@Test
+	public void testNodeSolvedWithoutBudgetAfterMaxRequeues() {
+		bap.setMaxNodeRequeues(2);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		Assert.assertEquals(Arrays.asList(1, 1002), getIDs(bap.getSolution()));
+		//The root node is branched on, while both leaves are put back in the queue twice before they are closed
+		Assert.assertEquals(3, bap.getNumberOfProcessedNodes());
+	}
+
+	@Test
+	public void testNoRequeues() {
+		bap.setMaxNodeRequeues(0);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNegativeMaxRequeues() {
+		bap.setMaxNodeRequeues(-1);
+	}
+
+	/**
+	 * Returns the sorted IDs of the given columns
+	 * @param columns columns
+	 * @return sorted IDs
+	 */
+	private static List<Integer> getIDs(List<MockColumn> columns){
+		List<Integer> ids=new ArrayList<>();
+		for(MockColumn column : columns)
+			ids.add(column.id);
+		ids.sort(null);
+		return ids;
+	}
+}
@@ -0,0 +1,179 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ParallelBranchAndPriceTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractBoundCalculator;
+import org.jorlib.frameworks.columnGeneration.colgenMain.TailingOffDetector;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockMaster;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the parallel Branch-and-Price procedure (see {@link AbstractBranchAndPrice#runBranchAndPrice(long, int)}): the workers must jointly explore the entire tree and find
+ * the same solution as a single worker, and BranchingDecisionListeners must be informed about the branching decisions performed by every worker.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class ParallelBranchAndPriceTest {
+
+	/** Costs of the columns of the two pricing problems; the optimal solution consists of the columns with costs 3 and 2 **/
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+	/** Depth of the nodes in the Branch-and-Price tree which have an integer solution **/
+	private static final int MAX_DEPTH=2;
+	/** Number of nodes in the Branch-and-Price tree, without pruning **/
+	private static final int NR_NODES=7;
+	/** Number of workers **/
+	private static final int NR_WORKERS=3;
+	/** Time limit of a run (ms) **/
+	private static final long TIME_LIMIT=60000;
+
+	private MockBranchAndPrice bap;
+
+	@Before
+	public void setUp() {
+		bap=new MockBranchAndPrice(new MockModel(COLUMN_COSTS), MAX_DEPTH);
+	}
+
+	@After
+	public void tearDown() {
+		bap.close();
+	}
+
+	@Test
+	public void testParallelRun() {
+		CountingListener listener=new CountingListener();
+		bap.addBranchingDecisionListener(listener);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT, NR_WORKERS);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		Assert.assertEquals(Arrays.asList(1, 1002), getIDs(bap.getSolution()));
+		Assert.assertTrue(bap.getNumberOfProcessedNodes() <= NR_NODES);
+		Assert.assertEquals(NR_WORKERS-1, bap.replicas.size());
+		//The incumbent solution refers to the pricing problems provided to the constructor, also when it has been found by a replica
+		for(MockColumn column : bap.getSolution())
+			Assert.assertTrue(bap.getPricingProblems().contains(column.associatedPricingProblem));
+
+		//The listener is informed about the branching decisions of the main worker as well as the replicas
+		int nrDecisionsMainWorker=bap.getMaster().getNrBranchingDecisionsPerformed();
+		int nrDecisionsReplicas=0;
+		for(BAPReplica<MockModel, MockColumn, MockPricingProblem> replica : bap.replicas)
+			nrDecisionsReplicas+=((MockMaster) replica.master).getNrBranchingDecisionsPerformed();
+		Assert.assertTrue(nrDecisionsReplicas > 0);
+		Assert.assertEquals(nrDecisionsMainWorker+nrDecisionsReplicas, listener.nrDecisionsPerformed.get());
+	}
+
+	@Test
+	public void testIncumbentOfReplicaIsTranslated() {
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT, NR_WORKERS);
+
+		//A better solution consisting of columns of a replica is stored with the pricing problems provided to the constructor
+		List<MockPricingProblem> replicaPricingProblems=bap.replicas.get(0).pricingProblems;
+		List<MockColumn> solution=Arrays.asList(new MockColumn(replicaPricingProblems.get(0), 1, 1, false), new MockColumn(replicaPricingProblems.get(1), 1002, 2, false));
+		Assert.assertTrue(bap.updateIncumbent(3, solution));
+		Assert.assertEquals(3, bap.getObjective());
+		Assert.assertEquals(Arrays.asList(1, 1002), getIDs(bap.getSolution()));
+		Assert.assertSame(bap.getPricingProblems().get(0), bap.getSolution().get(0).associatedPricingProblem);
+		Assert.assertSame(bap.getPricingProblems().get(1), bap.getSolution().get(1).associatedPricingProblem);
+	}
+
+	@Test
+	public void testSingleWorkerFindsSameSolution() {
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT, 1);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		Assert.assertEquals(Arrays.asList(1, 1002), getIDs(bap.getSolution()));
+		Assert.assertTrue(bap.getNumberOfProcessedNodes() <= NR_NODES);
+		Assert.assertTrue(bap.replicas.isEmpty());
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testTailingOffDetectorNotSupported() {
+		bap.setBoundCalculator(new AbstractBoundCalculator<MockModel, MockPricingProblem>() {
+			@Override
+			public double calculateBound(OptimizationSense optimizationSenseMaster, double boundComponent, List<MockPricingProblem> pricingProblems, double[] pricingProblemBounds) {
+				return boundComponent;
+			}
+		});
+		bap.setTailingOffDetector(new TailingOffDetector(3, 0.01));
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT, NR_WORKERS);
+	}
+
+	/**
+	 * Returns the numbers of the given columns
+	 * @param columns columns
+	 * @return numbers of the columns
+	 */
+	private static List<Integer> getIDs(List<MockColumn> columns){
+		List<Integer> ids=new ArrayList<>();
+		for(MockColumn column : columns)
+			ids.add(column.id);
+		return ids;
+	}
+
+	/**
+	 * Thread-safe listener which counts the branching decisions which are performed. Every branching decision delays the worker which performs it, so that the
+	 * other workers get the opportunity to select nodes.
+	 */
+	private static final class CountingListener implements BranchingDecisionListener {
+
+		/** Delay per branching decision (ms) **/
+		private static final long DELAY=20;
+		/** Number of branching decisions performed **/
+		private final AtomicInteger nrDecisionsPerformed=new AtomicInteger();
+
+		@Override
+		public void branchingDecisionPerformed(BranchingDecision bd) {
+			nrDecisionsPerformed.incrementAndGet();
+			try {
+				Thread.sleep(DELAY);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void branchingDecisionReversed(BranchingDecision bd) {
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PrimalHeuristicTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.primalHeuristics.DivingHeuristic;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.primalHeuristics.RestrictedMasterHeuristic;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.primalHeuristics.RoundingHeuristic;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchingDecision;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the primal heuristics (see {@link AbstractPrimalHeuristic}): the nodes at which they are invoked, the order in which they are invoked, and whether a solution found
+ * by a heuristic replaces the incumbent solution and prunes the tree.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class PrimalHeuristicTest {
+
+	/** Costs of the columns of the two pricing problems; the optimal solution consists of the columns with costs 3 and 2 **/
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+	/** Depth of the nodes in the Branch-and-Price tree which have an integer solution **/
+	private static final int MAX_DEPTH=2;
+	/** Time limit of a run (ms) **/
+	private static final long TIME_LIMIT=60000;
+
+	private MockBranchAndPrice bap;
+
+	@Before
+	public void setUp() {
+		bap=new MockBranchAndPrice(new MockModel(COLUMN_COSTS), MAX_DEPTH);
+	}
+
+	@After
+	public void tearDown() {
+		bap.close();
+	}
+
+	@Test
+	public void testShouldRun() {
+		BAPNode<MockModel, MockColumn> root=new BAPNode<>(0, null, null, new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<MockModel, MockColumn> child=new BAPNode<>(1, root, new MockBranchingDecision(1), new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<MockModel, MockColumn> grandchild=new BAPNode<>(2, child, new MockBranchingDecision(2), new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<MockModel, MockColumn> greatGrandchild=new BAPNode<>(3, grandchild, new MockBranchingDecision(3), new ArrayList<>(), new ArrayList<>(), 0);
+
+		//A frequency of 0 restricts the heuristic to the root node
+		RoundingHeuristic<MockModel, MockColumn, MockPricingProblem> rootHeuristic=new RoundingHeuristic<>(0, Integer.MAX_VALUE, 0.5, columns -> null);
+		Assert.assertEquals(Arrays.asList(true, false, false, false), shouldRun(rootHeuristic, root, child, grandchild, greatGrandchild));
+
+		//Every second level, up to depth 2
+		RoundingHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic=new RoundingHeuristic<>(2, 2, 0.5, columns -> null);
+		Assert.assertEquals(Arrays.asList(true, false, true, false), shouldRun(heuristic, root, child, grandchild, greatGrandchild));
+	}
+
+	@Test
+	public void testHeuristicsWhichSolveNodesAreInvokedLast() {
+		DivingHeuristic<MockModel, MockColumn, MockPricingProblem> diving=new DivingHeuristic<>(0, 0, 1, 0, 1);
+		RoundingHeuristic<MockModel, MockColumn, MockPricingProblem> rounding=new RoundingHeuristic<>(0, 0, 0.5, columns -> null);
+		RestrictedMasterHeuristic<MockModel, MockColumn, MockPricingProblem> restrictedMaster=new RestrictedMasterHeuristic<>(0, 0, 1000);
+		bap.addPrimalHeuristic(diving);
+		bap.addPrimalHeuristic(rounding);
+		bap.addPrimalHeuristic(restrictedMaster);
+		Assert.assertEquals(Arrays.asList(rounding, restrictedMaster, diving), bap.primalHeuristics);
+	}
+
+	@Test
+	public void testRoundingHeuristicPrunesTree() {
+		RoundingHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic=new RoundingHeuristic<>(0, 0, 0.5, PrimalHeuristicTest::getObjective);
+		bap.addPrimalHeuristic(heuristic);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+
+		//The rounded solution of the root node matches the bound of the root node, so the root node is pruned rather than branched on
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		Assert.assertEquals(Arrays.asList(1, 1002), getIDs(bap.getSolution()));
+		Assert.assertEquals(1, bap.getNumberOfProcessedNodes());
+		Assert.assertEquals(1, heuristic.getNrCalls());
+		Assert.assertEquals(1, heuristic.getNrSolutions());
+	}
+
+	@Test
+	public void testRoundingHeuristicRejectsArtificialColumns() throws TimeLimitExceededException {
+		AbstractPrimalHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic=new RoundingHeuristic<>(0, 0, 0.5, PrimalHeuristicTest::getObjective);
+		bap.addPrimalHeuristic(heuristic);
+		BAPNode<MockModel, MockColumn> node=new BAPNode<>(0, null, null, new ArrayList<>(), new ArrayList<>(), 0);
+		MockColumn column=bap.createColumn(0, 1);
+		column.value=1;
+		MockColumn artificialColumn=bap.dataModel.getArtificialColumn(bap.pricingProblems.get(1));
+		artificialColumn.value=1;
+		node.storeSolution(1000, 0, Arrays.asList(column, artificialColumn), new ArrayList<>());
+		Assert.assertNull(heuristic.run(node, bap.getMaster(), null, System.currentTimeMillis()+TIME_LIMIT));
+		Assert.assertEquals(1, heuristic.getNrCalls());
+		Assert.assertEquals(0, heuristic.getNrSolutions());
+	}
+
+	@Test
+	public void testRoundingHeuristicSetsValues() throws TimeLimitExceededException {
+		AbstractPrimalHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic=new RoundingHeuristic<>(0, 0, 0.5, PrimalHeuristicTest::getObjective);
+		bap.addPrimalHeuristic(heuristic);
+		BAPNode<MockModel, MockColumn> node=new BAPNode<>(0, null, null, new ArrayList<>(), new ArrayList<>(), 0);
+		MockColumn column1=bap.createColumn(0, 1);
+		column1.value=0.6;
+		MockColumn column2=bap.createColumn(1, 2);
+		column2.value=0.7;
+		MockColumn column3=bap.createColumn(0, 0);
+		column3.value=0.3;
+		node.storeSolution(3, 0, Arrays.asList(column1, column2, column3), new ArrayList<>());
+		PrimalSolution<MockColumn> solution=heuristic.run(node, bap.getMaster(), null, System.currentTimeMillis()+TIME_LIMIT);
+		Assert.assertNotNull(solution);
+		Assert.assertEquals(Arrays.asList(1, 2), getIDs(solution.columns));
+		for(MockColumn column : solution.columns)
+			Assert.assertEquals(1, column.value, 0.000001);
+		Assert.assertEquals(0.3, column3.value, 0.000001);
+	}
+
+	@Test
+	public void testRestrictedMasterHeuristicPrunesTree() {
+		RestrictedMasterHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic=new RestrictedMasterHeuristic<>(0, 0, 1000);
+		bap.addPrimalHeuristic(heuristic);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		Assert.assertEquals(1, bap.getNumberOfProcessedNodes());
+		Assert.assertEquals(1, heuristic.getNrSolutions());
+	}
+
+	@Test
+	public void testDivingHeuristicPrunesTree() {
+		//The dive branches twice before it reaches a node with an integer solution
+		DivingHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic=new DivingHeuristic<>(0, 0, MAX_DEPTH, 0, 100);
+		bap.addPrimalHeuristic(heuristic);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		Assert.assertEquals(Arrays.asList(1, 1002), getIDs(bap.getSolution()));
+		Assert.assertEquals(1, bap.getNumberOfProcessedNodes());
+		Assert.assertEquals(1, heuristic.getNrSolutions());
+	}
+
+	@Test
+	public void testDivingHeuristicWithinMaxDiveDepth() {
+		//A dive of a single level does not reach a node with an integer solution
+		DivingHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic=new DivingHeuristic<>(0, 0, MAX_DEPTH-1, 0, 100);
+		bap.addPrimalHeuristic(heuristic);
+		bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+
+		Assert.assertTrue(bap.isOptimal());
+		Assert.assertEquals(5, bap.getObjective());
+		Assert.assertEquals(1, heuristic.getNrCalls());
+		Assert.assertEquals(0, heuristic.getNrSolutions());
+		Assert.assertTrue(bap.getNumberOfProcessedNodes() > 1);
+	}
+
+	/**
+	 * Tests at which of the given nodes a heuristic is invoked
+	 * @param heuristic heuristic
+	 * @param nodes nodes
+	 * @return for every node, whether the heuristic is invoked
+	 */
+	@SafeVarargs
+	private static List<Boolean> shouldRun(AbstractPrimalHeuristic<MockModel, MockColumn, MockPricingProblem> heuristic, BAPNode<MockModel, MockColumn>... nodes){
+		List<Boolean> result=new ArrayList<>();
+		for(BAPNode<MockModel, MockColumn> node : nodes)
+			result.add(heuristic.shouldRun(node));
+		return result;
+	}
+
+	/**
+	 * Returns the objective of a set of columns, provided that they contain exactly one column per pricing problem
+	 * @param columns columns
+	 * @return the total cost of the columns, or null if the columns do not constitute a feasible solution
+	 */
+	private static Integer getObjective(List<MockColumn> columns){
+		List<Integer> pricingProblems=new ArrayList<>();
+		int objective=0;
+		for(MockColumn column : columns){
+			pricingProblems.add(column.associatedPricingProblem.index);
+			objective+=column.cost;
+		}
+		Collections.sort(pricingProblems);
+		return (pricingProblems.equals(Arrays.asList(0, 1)) ? objective : null);
+	}
+
+	/**
+	 * Returns the numbers of the given columns
+	 * @param columns columns
+	 * @return numbers of the columns
+	 */
+	private static List<Integer> getIDs(List<MockColumn> columns){
+		List<Integer> ids=new ArrayList<>();
+		for(MockColumn column : columns)
+			ids.add(column.id);
+		Collections.sort(ids);
+		return ids;
+	}
+}
@@ -0,0 +1,228 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SpillingNodeStoreTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.io.ColumnCodec;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SpillingNodeStore}: the initial columns of the nodes which have been in the queue the longest must be moved to disk once the budget is exceeded,
+ * and must be restored unchanged when the nodes are selected.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class SpillingNodeStoreTest {
+
+	/** Costs of the columns of the two pricing problems; the optimal solution consists of the columns with costs 3 and 2 **/
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+	/** Time limit of a run (ms) **/
+	private static final long TIME_LIMIT=60000;
+
+	private MockModel dataModel;
+	private List<MockPricingProblem> pricingProblems;
+	private SpillingNodeStore<MockModel, MockColumn> nodeStore;
+
+	@Before
+	public void setUp() {
+		dataModel=new MockModel(COLUMN_COSTS);
+		pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 0), new MockPricingProblem(dataModel, 1));
+		nodeStore=new SpillingNodeStore<>(new MockColumnCodec(pricingProblems), 2);
+	}
+
+	@After
+	public void tearDown() {
+		nodeStore.close();
+	}
+
+	@Test
+	public void testSpillAndLoad() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue();
+		queue.setNodeStore(nodeStore);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 0, createColumn(0, 1, 3), createColumn(1, 2, 4));
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 0, createColumn(0, 3, 5), createColumn(1, 4, 6));
+		queue.add(node1);
+		Assert.assertEquals(0, nodeStore.getNrSpilledNodes());
+		List<MockColumn> columnsBeforeSpill=node1.getInitialColumns();
+
+		//Adding the second node exceeds the budget: the first node is moved to disk. The node receives a new list, so lists obtained before are left intact
+		queue.add(node2);
+		Assert.assertEquals(1, nodeStore.getNrSpilledNodes());
+		Assert.assertEquals(1, nodeStore.getNrSpills());
+		Assert.assertTrue(node1.getInitialColumns().isEmpty());
+		Assert.assertEquals(Arrays.asList("0:1:3", "1:2:4"), toString(columnsBeforeSpill));
+		Assert.assertEquals(2, node2.getInitialColumns().size());
+
+		//The columns of a spilled node can be inspected without loading the node
+		Assert.assertEquals(Arrays.asList("0:1:3", "1:2:4"), toString(queue.getInitialColumns(node1)));
+		Assert.assertEquals(0, nodeStore.getNrLoads());
+		Assert.assertEquals(1, nodeStore.getNrSpilledNodes());
+
+		//Selecting the node restores its columns
+		Assert.assertSame(node1, queue.poll());
+		Assert.assertEquals(Arrays.asList("0:1:3", "1:2:4"), toString(node1.getInitialColumns()));
+		Assert.assertSame(pricingProblems.get(0), node1.getInitialColumns().get(0).associatedPricingProblem);
+		Assert.assertEquals(1, nodeStore.getNrLoads());
+		Assert.assertEquals(0, nodeStore.getNrSpilledNodes());
+
+		Assert.assertSame(node2, queue.poll());
+		Assert.assertEquals(Arrays.asList("0:3:5", "1:4:6"), toString(node2.getInitialColumns()));
+		Assert.assertEquals(1, nodeStore.getNrLoads());
+	}
+
+	@Test
+	public void testPrunedNodeIsDiscarded() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue();
+		queue.setNodeStore(nodeStore);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 9, createColumn(0, 1, 3), createColumn(1, 2, 4));
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 5, createColumn(0, 3, 5), createColumn(1, 4, 6));
+		queue.addAll(Arrays.asList(node1, node2));
+		Assert.assertEquals(1, nodeStore.getNrSpilledNodes()); //The first node, which has the worst bound, is moved to disk
+
+		Assert.assertEquals(Arrays.asList(node1), queue.pruneNodes(node -> node.getBound() >= 9));
+		Assert.assertEquals(0, nodeStore.getNrSpilledNodes());
+		Assert.assertEquals(0, nodeStore.getNrLoads());
+		Assert.assertSame(node2, queue.poll());
+		Assert.assertEquals(2, node2.getInitialColumns().size());
+	}
+
+	@Test
+	public void testNodesQueuedBeforeStoreIsRegistered() {
+		BAPNodeQueue<MockModel, MockColumn> queue=createQueue();
+		BAPNode<MockModel, MockColumn> node1=createNode(1, 0, createColumn(0, 1, 3), createColumn(1, 2, 4));
+		BAPNode<MockModel, MockColumn> node2=createNode(2, 0, createColumn(0, 3, 5), createColumn(1, 4, 6));
+		queue.addAll(Arrays.asList(node1, node2));
+
+		//Registering the store spills the nodes which are already queued; removing the store reads them back
+		queue.setNodeStore(nodeStore);
+		Assert.assertEquals(1, nodeStore.getNrSpilledNodes());
+		queue.setNodeStore(null);
+		Assert.assertEquals(0, nodeStore.getNrSpilledNodes());
+		Assert.assertEquals(Arrays.asList("0:1:3", "1:2:4"), toString(node1.getInitialColumns()));
+	}
+
+	@Test
+	public void testBranchAndPriceWithoutColumnsInMemory() {
+		MockBranchAndPrice bap=new MockBranchAndPrice(dataModel, 2);
+		SpillingNodeStore<MockModel, MockColumn> emptyStore=new SpillingNodeStore<>(new MockColumnCodec(bap.getPricingProblems()), 0);
+		try {
+			bap.setNodeStore(emptyStore);
+			bap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+			Assert.assertTrue(bap.isOptimal());
+			Assert.assertEquals(5, bap.getObjective());
+			Assert.assertTrue(emptyStore.getNrSpills() > 0);
+			Assert.assertTrue(emptyStore.getNrLoads() > 0);
+			Assert.assertEquals(0, emptyStore.getNrSpilledNodes());
+		}finally {
+			bap.close();
+		}
+	}
+
+	/**
+	 * Creates a queue which polls the nodes in the order of their IDs
+	 * @return queue
+	 */
+	private static BAPNodeQueue<MockModel, MockColumn> createQueue(){
+		return new BAPNodeQueue<>(Comparator.comparingInt((BAPNode<MockModel, MockColumn> node) -> node.nodeID), OptimizationSense.MINIMIZE);
+	}
+
+	/**
+	 * Creates a node with the given initial columns
+	 * @param nodeID ID of the node
+	 * @param bound bound of the node
+	 * @param initialColumns initial columns of the node
+	 * @return node
+	 */
+	private static BAPNode<MockModel, MockColumn> createNode(int nodeID, double bound, MockColumn... initialColumns){
+		return new BAPNode<>(nodeID, null, null, new ArrayList<>(Arrays.asList(initialColumns)), new ArrayList<>(), bound);
+	}
+
+	/**
+	 * Creates a column for one of the pricing problems
+	 * @param pricingProblemIndex index of the pricing problem
+	 * @param id number which identifies the column
+	 * @param cost cost of the column
+	 * @return column
+	 */
+	private MockColumn createColumn(int pricingProblemIndex, int id, int cost){
+		return new MockColumn(pricingProblems.get(pricingProblemIndex), id, cost, false);
+	}
+
+	/**
+	 * Describes each column by the index of its pricing problem, its number and its cost
+	 * @param columns columns
+	 * @return descriptions of the columns
+	 */
+	private static List<String> toString(List<MockColumn> columns){
+		List<String> descriptions=new ArrayList<>();
+		for(MockColumn column : columns)
+			descriptions.add(column.associatedPricingProblem.index+":"+column.id+":"+column.cost);
+		return descriptions;
+	}
+
+	/**
+	 * Encodes a column by the index of its pricing problem, its number, its cost and whether it is artificial
+	 */
+	private static final class MockColumnCodec implements ColumnCodec<MockColumn> {
+
+		/** Pricing problems to which the columns belong **/
+		private final List<MockPricingProblem> pricingProblems;
+
+		private MockColumnCodec(List<MockPricingProblem> pricingProblems) {
+			this.pricingProblems=pricingProblems;
+		}
+
+		@Override
+		public void encode(MockColumn column, DataOutput out) throws IOException {
+			out.writeInt(column.associatedPricingProblem.index);
+			out.writeInt(column.id);
+			out.writeInt(column.cost);
+			out.writeBoolean(column.isArtificialColumn);
+		}
+
+		@Override
+		public MockColumn decode(DataInput in) throws IOException {
+			return new MockColumn(pricingProblems.get(in.readInt()), in.readInt(), in.readInt(), in.readBoolean());
+		}
+	}
+}
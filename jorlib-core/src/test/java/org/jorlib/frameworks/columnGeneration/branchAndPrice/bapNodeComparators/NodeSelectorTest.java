@@ -0,0 +1,244 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * NodeSelectorTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractNodeSelector;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.mock.MockBranchingDecision;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the order in which the {@link BestBoundNodeSelector}, the {@link BestEstimateNodeSelector} and the {@link HybridDivingNodeSelector} select the nodes, and whether a
+ * Branch-and-Price run which uses these selectors finds the optimal solution.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class NodeSelectorTest {
+
+	private static final double PRECISION=0.000001;
+	/** Costs of the columns of the two pricing problems; the optimal solution consists of the columns with costs 3 and 2 **/
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+	/** Depth of the nodes in the Branch-and-Price tree which have an integer solution **/
+	private static final int MAX_DEPTH=2;
+	/** Time limit of a run (ms) **/
+	private static final long TIME_LIMIT=60000;
+
+	private MockBranchAndPrice bap;
+	/** Root node of the nodes created by the tests **/
+	private BAPNode<MockModel, MockColumn> root;
+
+	@Before
+	public void setUp() {
+		bap=new MockBranchAndPrice(new MockModel(COLUMN_COSTS), MAX_DEPTH);
+		root=new BAPNode<>(0, null, null, new ArrayList<>(), new ArrayList<>(), 0);
+	}
+
+	@After
+	public void tearDown() {
+		bap.close();
+	}
+
+	@Test
+	public void testBestBoundOrdering() {
+		BestBoundNodeSelector<MockModel, MockColumn, MockPricingProblem> selector=new BestBoundNodeSelector<>();
+		bap.setNodeOrdering(selector);
+		BAPNode<MockModel, MockColumn> node1=createNode(1, root, 7);
+		BAPNode<MockModel, MockColumn> node2=createNode(2, root, 5);
+		BAPNode<MockModel, MockColumn> node3=createNode(3, node1, 5);
+		BAPNode<MockModel, MockColumn> node4=createNode(4, node1, 9);
+		BAPNode<MockModel, MockColumn> node5=createNode(5, root, 5);
+
+		//Best bound first; ties are broken in favor of the deepest node, and subsequently in favor of the smallest nodeID
+		Assert.assertEquals(Arrays.asList(node3, node2, node5, node1, node4), sort(selector, node4, node1, node5, node2, node3));
+	}
+
+	@Test
+	public void testBestEstimateFromFractionality() {
+		BestEstimateNodeSelector<MockModel, MockColumn, MockPricingProblem> selector=new BestEstimateNodeSelector<>(2);
+		bap.setNodeOrdering(selector);
+		BAPNode<MockModel, MockColumn> parent1=createNode(1, root, 4);
+		parent1.storeSolution(4, 4, Arrays.asList(createColumn(0, 1, 0.5), createColumn(1, 2, 0.5), createColumn(1, 3, 1)), new ArrayList<>());
+		BAPNode<MockModel, MockColumn> parent2=createNode(2, root, 4);
+		parent2.storeSolution(4, 4, Arrays.asList(createColumn(0, 4, 0.75), createColumn(1, 5, 1)), new ArrayList<>());
+
+		//The penalty equals the fractionality weight times the fractionality of the solution of the parent: 2*(0.5+0.5) and 2*0.25 respectively
+		BAPNode<MockModel, MockColumn> child1=createNode(3, parent1, 5);
+		BAPNode<MockModel, MockColumn> child2=createNode(4, parent1, 6);
+		BAPNode<MockModel, MockColumn> child3=createNode(5, parent2, 6);
+		selector.branchCreated(parent1, Arrays.asList(child1, child2));
+		selector.branchCreated(parent2, Collections.singletonList(child3));
+		Assert.assertEquals(7, child1.getEstimate(), PRECISION);
+		Assert.assertEquals(8, child2.getEstimate(), PRECISION);
+		Assert.assertEquals(6.5, child3.getEstimate(), PRECISION);
+
+		Assert.assertEquals(Arrays.asList(child3, child1, child2), sort(selector, child1, child2, child3));
+	}
+
+	@Test
+	public void testBestEstimateWithCustomEstimator() {
+		BestEstimateNodeSelector<MockModel, MockColumn, MockPricingProblem> selector=new BestEstimateNodeSelector<>((parentNode, childNode) -> 10-childNode.nodeID);
+		bap.setNodeOrdering(selector);
+		BAPNode<MockModel, MockColumn> child1=createNode(1, root, 3);
+		BAPNode<MockModel, MockColumn> child2=createNode(2, root, 1);
+		BAPNode<MockModel, MockColumn> child3=createNode(3, root, 2);
+		selector.branchCreated(root, Arrays.asList(child1, child2, child3));
+		Assert.assertEquals(9, child1.getEstimate(), PRECISION);
+
+		Assert.assertEquals(Arrays.asList(child3, child2, child1), sort(selector, child1, child2, child3));
+	}
+
+	@Test
+	public void testHybridDivingEndsDiveAtLeaf() {
+		HybridDivingNodeSelector<MockModel, MockColumn, MockPricingProblem> selector=new HybridDivingNodeSelector<>();
+		bap.setNodeOrdering(selector);
+		BAPNode<MockModel, MockColumn> other=createNode(1, root, 2);
+		BAPNode<MockModel, MockColumn> child1=createNode(2, root, 6);
+		BAPNode<MockModel, MockColumn> child2=createNode(3, root, 5);
+
+		//The children of a node in the dive are processed first, regardless of their bounds
+		selector.nodeSelected(root);
+		selector.branchCreated(root, Arrays.asList(child1, child2));
+		Assert.assertFalse(selector.updateOrdering());
+		Assert.assertEquals(Arrays.asList(child2, child1, other), sort(selector, other, child1, child2));
+
+		//A node in the dive is not branched on: the dive ends, and the search continues from the node with the best bound
+		selector.nodeSelected(child2);
+		Assert.assertTrue(selector.updateOrdering());
+		Assert.assertEquals(Arrays.asList(other, child1), sort(selector, child1, other));
+		Assert.assertFalse(selector.updateOrdering());
+	}
+
+	@Test
+	public void testHybridDivingMaxDiveDepth() {
+		HybridDivingNodeSelector<MockModel, MockColumn, MockPricingProblem> selector=new HybridDivingNodeSelector<>(1, Double.MAX_VALUE);
+		bap.setNodeOrdering(selector);
+		BAPNode<MockModel, MockColumn> child1=createNode(1, root, 5);
+		BAPNode<MockModel, MockColumn> child2=createNode(2, root, 6);
+		BAPNode<MockModel, MockColumn> grandchild1=createNode(3, child1, 7);
+		BAPNode<MockModel, MockColumn> grandchild2=createNode(4, child1, 8);
+
+		selector.nodeSelected(root);
+		selector.branchCreated(root, Arrays.asList(child1, child2));
+		Assert.assertFalse(selector.updateOrdering());
+
+		//The grandchildren exceed the maximum dive depth of 1 level
+		selector.nodeSelected(child1);
+		selector.branchCreated(child1, Arrays.asList(grandchild1, grandchild2));
+		Assert.assertTrue(selector.updateOrdering());
+		Assert.assertEquals(Arrays.asList(child2, grandchild1, grandchild2), sort(selector, grandchild2, grandchild1, child2));
+	}
+
+	@Test
+	public void testHybridDivingBoundTooWeak() {
+		HybridDivingNodeSelector<MockModel, MockColumn, MockPricingProblem> selector=new HybridDivingNodeSelector<>(Integer.MAX_VALUE, 0.5);
+		bap.setNodeOrdering(selector);
+		bap.warmStart(10, Arrays.asList(createColumn(0, 1, 1), createColumn(1, 2, 1)));
+		BAPNode<MockModel, MockColumn> start=createNode(1, root, 4);
+		BAPNode<MockModel, MockColumn> child1=createNode(2, start, 6);
+		BAPNode<MockModel, MockColumn> child2=createNode(3, start, 8);
+		BAPNode<MockModel, MockColumn> grandchild=createNode(4, child2, 8);
+
+		//The bound of a node in the dive may deteriorate by at most 0.5*(10-4)=3 with respect to the bound at the start of the dive
+		selector.nodeSelected(start);
+		selector.branchCreated(start, Arrays.asList(child1, child2));
+		Assert.assertFalse(selector.updateOrdering());
+		selector.nodeSelected(child1);
+		selector.branchCreated(child1, Collections.emptyList());
+		Assert.assertFalse(selector.updateOrdering());
+		selector.nodeSelected(child2);
+		selector.branchCreated(child2, Collections.singletonList(grandchild));
+		Assert.assertFalse(selector.updateOrdering()); //The dive has ended, but none of the queued nodes belonged to it
+		Assert.assertEquals(Arrays.asList(child1, grandchild), sort(selector, grandchild, child1));
+	}
+
+	@Test
+	public void testBranchAndPriceWithNodeSelectors() {
+		List<AbstractNodeSelector<MockModel, MockColumn, MockPricingProblem>> selectors=Arrays.asList(new BestBoundNodeSelector<>(), new BestEstimateNodeSelector<>(1),
+				new HybridDivingNodeSelector<>(), new HybridDivingNodeSelector<>(1, 0));
+		for(AbstractNodeSelector<MockModel, MockColumn, MockPricingProblem> selector : selectors){
+			MockBranchAndPrice selectorBap=new MockBranchAndPrice(new MockModel(COLUMN_COSTS), MAX_DEPTH);
+			try {
+				selectorBap.setNodeOrdering(selector);
+				selectorBap.runBranchAndPrice(System.currentTimeMillis()+TIME_LIMIT);
+				Assert.assertTrue(selectorBap.isOptimal());
+				Assert.assertEquals(5, selectorBap.getObjective());
+			}finally {
+				selectorBap.close();
+			}
+		}
+	}
+
+	/**
+	 * Sorts nodes according to a selector
+	 * @param selector selector
+	 * @param nodes nodes
+	 * @return the nodes, in the order in which the selector would select them
+	 */
+	@SafeVarargs
+	private static List<BAPNode<MockModel, MockColumn>> sort(AbstractNodeSelector<MockModel, MockColumn, MockPricingProblem> selector, BAPNode<MockModel, MockColumn>... nodes){
+		List<BAPNode<MockModel, MockColumn>> sortedNodes=new ArrayList<>(Arrays.asList(nodes));
+		sortedNodes.sort(selector);
+		return sortedNodes;
+	}
+
+	/**
+	 * Creates a node
+	 * @param nodeID ID of the node
+	 * @param parent parent node
+	 * @param bound bound of the node
+	 * @return node
+	 */
+	private static BAPNode<MockModel, MockColumn> createNode(int nodeID, BAPNode<MockModel, MockColumn> parent, double bound){
+		return new BAPNode<>(nodeID, parent, new MockBranchingDecision(nodeID), new ArrayList<>(), new ArrayList<>(), bound);
+	}
+
+	/**
+	 * Creates a column with the given value in the solution of the master problem
+	 * @param pricingProblemIndex index of the pricing problem
+	 * @param id number which identifies the column
+	 * @param value value of the column
+	 * @return column
+	 */
+	private MockColumn createColumn(int pricingProblemIndex, int id, double value){
+		MockColumn column=bap.createColumn(pricingProblemIndex, id);
+		column.value=value;
+		return column;
+	}
+}
@@ -0,0 +1,100 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BoundCalculatorTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link LagrangianBoundCalculator} and the {@link FarleyBoundCalculator} against hand-computed bounds, for both optimization senses
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class BoundCalculatorTest {
+
+	private static final double PRECISION=1e-9;
+
+	private final MockModel dataModel=new MockModel();
+	private final List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 0), new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+
+	@Test
+	public void testLagrangianBoundMinimization() {
+		double[] pricingProblemBounds={-3, 2, -0.5};
+		//100 - 3 + 0 - 0.5
+		LagrangianBoundCalculator<MockModel, MockPricingProblem> calculator=new LagrangianBoundCalculator<>();
+		Assert.assertEquals(96.5, calculator.calculateBound(OptimizationSense.MINIMIZE, 100, pricingProblems, pricingProblemBounds), PRECISION);
+
+		//100 + 1*(-3) + 2*0 + 3*(-0.5)
+		calculator=new LagrangianBoundCalculator<>(pricingProblem -> pricingProblem.index+1);
+		Assert.assertEquals(95.5, calculator.calculateBound(OptimizationSense.MINIMIZE, 100, pricingProblems, pricingProblemBounds), PRECISION);
+
+		//Without columns with a negative reduced cost, the bound equals the objective of the master problem
+		Assert.assertEquals(100, calculator.calculateBound(OptimizationSense.MINIMIZE, 100, pricingProblems, new double[]{0, 1, 2}), PRECISION);
+	}
+
+	@Test
+	public void testLagrangianBoundMaximization() {
+		double[] pricingProblemBounds={-3, 2, 0.5};
+		//100 + 0 + 2 + 0.5
+		LagrangianBoundCalculator<MockModel, MockPricingProblem> calculator=new LagrangianBoundCalculator<>();
+		Assert.assertEquals(102.5, calculator.calculateBound(OptimizationSense.MAXIMIZE, 100, pricingProblems, pricingProblemBounds), PRECISION);
+
+		//100 + 1*0 + 2*2 + 3*0.5
+		calculator=new LagrangianBoundCalculator<>(pricingProblem -> pricingProblem.index+1);
+		Assert.assertEquals(105.5, calculator.calculateBound(OptimizationSense.MAXIMIZE, 100, pricingProblems, pricingProblemBounds), PRECISION);
+
+		//Without columns with a positive reduced cost, the bound equals the objective of the master problem
+		Assert.assertEquals(100, calculator.calculateBound(OptimizationSense.MAXIMIZE, 100, pricingProblems, new double[]{0, -1, -2}), PRECISION);
+	}
+
+	@Test
+	public void testFarleyBoundMinimization() {
+		FarleyBoundCalculator<MockModel, MockPricingProblem> calculator=new FarleyBoundCalculator<>();
+		//60 / (1 - (-0.5))
+		Assert.assertEquals(40, calculator.calculateBound(OptimizationSense.MINIMIZE, 60, pricingProblems, new double[]{-0.2, -0.5, 1}), PRECISION);
+		//Without columns with a negative reduced cost, the bound equals the objective of the master problem
+		Assert.assertEquals(60, calculator.calculateBound(OptimizationSense.MINIMIZE, 60, pricingProblems, new double[]{0, 0.5, 1}), PRECISION);
+	}
+
+	@Test
+	public void testFarleyBoundMaximization() {
+		FarleyBoundCalculator<MockModel, MockPricingProblem> calculator=new FarleyBoundCalculator<>();
+		//60 / (1 - 0.25)
+		Assert.assertEquals(80, calculator.calculateBound(OptimizationSense.MAXIMIZE, 60, pricingProblems, new double[]{0.1, 0.25, -1}), PRECISION);
+		//Without columns with a positive reduced cost, the bound equals the objective of the master problem
+		Assert.assertEquals(60, calculator.calculateBound(OptimizationSense.MAXIMIZE, 60, pricingProblems, new double[]{0, -0.5, -1}), PRECISION);
+		//A reduced cost of 1 or more yields no finite bound
+		Assert.assertEquals(Double.MAX_VALUE, calculator.calculateBound(OptimizationSense.MAXIMIZE, 60, pricingProblems, new double[]{0.1, 1, 0}), PRECISION);
+	}
+}
@@ -0,0 +1,185 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnPoolTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockMaster;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblemSolver;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ColumnPool} and the sparse column representation ({@link ColumnCoefficients}) which is used to re-price the columns in the pool
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class ColumnPoolTest {
+
+	private static final int[][] COLUMN_COSTS={{7, 3, 5}, {4, 6, 2}};
+
+	private final MockModel dataModel=new MockModel(COLUMN_COSTS);
+	private final MockPricingProblem pricingProblem0=new MockPricingProblem(dataModel, 0);
+	private final MockPricingProblem pricingProblem1=new MockPricingProblem(dataModel, 1);
+
+	/**
+	 * Sparse representation of a mock column: the column covers the convexity constraint of its pricing problem (dualCost), and has a coefficient of 1 for the
+	 * entry in the dualCosts array which matches the position of the column in its pricing problem
+	 */
+	private static ColumnCoefficients getCoefficients(MockColumn column){
+		return new ColumnCoefficients(column.cost, new int[]{column.id%1000}, new double[]{1}, 1);
+	}
+
+	@Test
+	public void testReducedCost() {
+		ColumnCoefficients coefficients=new ColumnCoefficients(10, new int[]{0, 2}, new double[]{2, 0.5}, 1);
+		//10 - 1*3 - 2*1.5 - 0.5*4 = 2
+		Assert.assertEquals(2, coefficients.getReducedCost(new double[]{1.5, 100, 4}, 3), 1e-9);
+
+		//A column which only covers the convexity constraint
+		ColumnCoefficients convexityOnly=new ColumnCoefficients(10, new int[0], new double[0], 1);
+		Assert.assertEquals(-2, convexityOnly.getReducedCost(new double[]{1.5, 100, 4}, 12), 1e-9);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testCoefficientsOfDifferentLength() {
+		new ColumnCoefficients(10, new int[]{0, 1}, new double[]{1}, 1);
+	}
+
+	@Test
+	public void testAddColumns() {
+		ColumnPool<MockModel, MockColumn, MockPricingProblem> pool=new ColumnPool<>(ColumnPoolTest::getCoefficients);
+		List<MockColumn> columns=dataModel.getColumns(pricingProblem0);
+		pool.addColumns(columns);
+		//Duplicates and artificial columns are ignored
+		pool.addColumn(new MockColumn(pricingProblem0, columns.get(1).id));
+		pool.addColumn(dataModel.getArtificialColumn(pricingProblem0));
+		Assert.assertEquals(3, pool.size());
+		Assert.assertEquals(columns, pool.getColumns());
+		Assert.assertFalse(pool.contains(dataModel.getArtificialColumn(pricingProblem0)));
+
+		Assert.assertTrue(pool.removeColumn(columns.get(1)));
+		Assert.assertFalse(pool.removeColumn(columns.get(1)));
+		Assert.assertFalse(pool.removeColumn(dataModel.getColumns(pricingProblem1).get(0)));
+		Assert.assertFalse(pool.contains(columns.get(1)));
+		Assert.assertEquals(2, pool.size());
+
+		pool.clear();
+		Assert.assertEquals(0, pool.size());
+		Assert.assertTrue(pool.getColumns().isEmpty());
+	}
+
+	@Test
+	public void testPriceColumns() {
+		ColumnPool<MockModel, MockColumn, MockPricingProblem> pool=new ColumnPool<>(ColumnPoolTest::getCoefficients);
+		List<MockColumn> columns=dataModel.getColumns(pricingProblem0);
+		pool.addColumns(columns);
+
+		//Without dual values, no column can be priced
+		Assert.assertTrue(pool.getColumnsWithNegativeReducedCost(pricingProblem0, OptimizationSense.MINIMIZE, column -> true).isEmpty());
+
+		//Reduced costs: 7-1-4=2, 3-2-4=-3, 5-0.5-4=0.5
+		pricingProblem0.initPricingProblem(new double[]{1, 2, 0.5}, 4);
+		Assert.assertEquals(2, pool.getReducedCost(columns.get(0)), 1e-9);
+		Assert.assertEquals(-3, pool.getReducedCost(columns.get(1)), 1e-9);
+		Assert.assertEquals(0.5, pool.getReducedCost(columns.get(2)), 1e-9);
+		Assert.assertEquals(Collections.singletonList(columns.get(1)), pool.getColumnsWithNegativeReducedCost(pricingProblem0, OptimizationSense.MINIMIZE, column -> true));
+		Assert.assertEquals(Arrays.asList(columns.get(0), columns.get(2)), pool.getColumnsWithNegativeReducedCost(pricingProblem0, OptimizationSense.MAXIMIZE, column -> true));
+
+		//Columns which do not satisfy the filter are not returned
+		Assert.assertTrue(pool.getColumnsWithNegativeReducedCost(pricingProblem0, OptimizationSense.MINIMIZE, column -> column.id != columns.get(1).id).isEmpty());
+		Assert.assertEquals(Collections.singletonList(columns.get(2)), pool.getColumnsWithNegativeReducedCost(pricingProblem0, OptimizationSense.MAXIMIZE, column -> column.id != columns.get(0).id));
+
+		//The pool does not contain columns of the other pricing problem
+		pricingProblem1.initPricingProblem(new double[]{100, 100, 100}, 100);
+		Assert.assertTrue(pool.getColumnsWithNegativeReducedCost(pricingProblem1, OptimizationSense.MINIMIZE, column -> true).isEmpty());
+	}
+
+	@Test
+	public void testEvictOldestColumn() {
+		ColumnPool<MockModel, MockColumn, MockPricingProblem> pool=new ColumnPool<>(ColumnPoolTest::getCoefficients, 4);
+		List<MockColumn> columns0=dataModel.getColumns(pricingProblem0);
+		List<MockColumn> columns1=dataModel.getColumns(pricingProblem1);
+		pool.addColumns(columns0);
+		pool.addColumn(columns1.get(0));
+		Assert.assertEquals(4, pool.size());
+
+		//The pool is full: the oldest column of the pricing problem with the most columns is removed
+		pool.addColumn(columns1.get(1));
+		Assert.assertEquals(4, pool.size());
+		Assert.assertFalse(pool.contains(columns0.get(0)));
+		Assert.assertEquals(Arrays.asList(columns0.get(1), columns0.get(2), columns1.get(0), columns1.get(1)), pool.getColumns());
+
+		//A column which was evicted can be added again, after which the first pricing problem has the most columns
+		pool.addColumn(columns0.get(0));
+		Assert.assertEquals(4, pool.size());
+		Assert.assertFalse(pool.contains(columns0.get(1)));
+		Assert.assertEquals(Arrays.asList(columns0.get(2), columns0.get(0), columns1.get(0), columns1.get(1)), pool.getColumns());
+
+		pool.addColumn(columns1.get(2));
+		Assert.assertEquals(4, pool.size());
+		Assert.assertFalse(pool.contains(columns1.get(0)));
+		Assert.assertEquals(Arrays.asList(columns0.get(2), columns0.get(0), columns1.get(1), columns1.get(2)), pool.getColumns());
+	}
+
+	@Test
+	public void testRemovedColumnsReenterPool() {
+		List<MockPricingProblem> pricingProblems=Arrays.asList(pricingProblem0, pricingProblem1);
+		MockMaster master=new MockMaster(dataModel, pricingProblems, OptimizationSense.MINIMIZE);
+		List<MockColumn> initSolution=dataModel.getColumns(pricingProblem0);
+		ColGen<MockModel, MockColumn, MockPricingProblem> cg=new ColGen<>(dataModel, master, pricingProblems, Collections.singletonList(MockPricingProblemSolver.class), initSolution, Integer.MAX_VALUE, -Double.MAX_VALUE);
+		try{
+			ColumnPool<MockModel, MockColumn, MockPricingProblem> pool=new ColumnPool<>(ColumnPoolTest::getCoefficients);
+			cg.setColumnPool(pool);
+			Assert.assertTrue(cg.priceColumnPool().isEmpty());
+
+			//Columns removed from the master problem are stored in the pool
+			cg.removeColumns(Arrays.asList(initSolution.get(0), initSolution.get(1)));
+			Assert.assertEquals(2, cg.getNrRemovedColumns());
+			Assert.assertEquals(Collections.singleton(initSolution.get(2)), master.getColumns(pricingProblem0));
+			Assert.assertEquals(Arrays.asList(initSolution.get(0), initSolution.get(1)), pool.getColumns());
+
+			//Reduced costs: 7-0-6=1, 3-0-6=-3. Only the second column is returned by the pool.
+			pricingProblem0.initPricingProblem(new double[3], 6);
+			pricingProblem1.initPricingProblem(new double[3], 0);
+			Assert.assertEquals(Collections.singletonList(initSolution.get(1)), cg.priceColumnPool());
+
+			//Columns which are present in the master problem are not returned by the pool
+			master.addColumn(initSolution.get(1));
+			Assert.assertTrue(cg.priceColumnPool().isEmpty());
+		}finally{
+			cg.close();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * TailingOffDetectorTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests whether the {@link TailingOffDetector} only signals tailing off when the gap between the objective and the bound stagnates
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class TailingOffDetectorTest {
+
+	@Test
+	public void testStagnatingGap() {
+		TailingOffDetector detector=new TailingOffDetector(3, 0.01);
+		double[] objectives={120, 110, 105, 104.9, 104.8, 104.7};
+		double[] bounds={80, 95, 99, 99, 99.1, 99.1};
+		for(int i=0; i<objectives.length; i++){
+			detector.addIteration(objectives[i], bounds[i]);
+			Assert.assertEquals("iteration "+i, i == 5, detector.isTailingOff());
+		}
+
+		//The window is cleared when the detector is reset
+		detector.reset();
+		detector.addIteration(104.7, 99.1);
+		Assert.assertFalse(detector.isTailingOff());
+	}
+
+	@Test
+	public void testStagnatingObjectiveWithImprovingBound() {
+		TailingOffDetector detector=new TailingOffDetector(2, 0.01);
+		double[] bounds={50, 60, 70, 80, 90};
+		for(double bound : bounds){
+			detector.addIteration(100, bound);
+			Assert.assertFalse(detector.isTailingOff());
+		}
+	}
+
+	@Test
+	public void testStagnatingBoundWithImprovingObjective() {
+		TailingOffDetector detector=new TailingOffDetector(2, 0.01);
+		double[] objectives={140, 130, 120, 110, 100};
+		for(double objective : objectives){
+			detector.addIteration(objective, 90);
+			Assert.assertFalse(detector.isTailingOff());
+		}
+	}
+
+	@Test
+	public void testWithoutBound() {
+		TailingOffDetector detector=new TailingOffDetector(1, 0.01);
+		for(int i=0; i<5; i++){
+			detector.addIteration(100, -Double.MAX_VALUE);
+			Assert.assertFalse(detector.isTailingOff());
+		}
+	}
+}
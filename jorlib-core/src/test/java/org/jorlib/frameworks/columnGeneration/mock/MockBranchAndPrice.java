@@ -0,0 +1,142 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockBranchAndPrice.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPReplica;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Branch-and-Price instance of the {@link MockModel} with two pricing problems, which are solved by the {@link MockPricingProblemSolver}. Every node is branched on
+ * through the {@link MockBranchCreator}, until the nodes reach a given depth; nodes at that depth have an integer solution. The initial solution of every node consists of
+ * the artificial columns. The instance supports the parallel Branch-and-Price procedure: every worker gets a replica with its own master problem, pricing problems and branch creator.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockBranchAndPrice extends AbstractBranchAndPrice<MockModel, MockColumn, MockPricingProblem> {
+
+	/** Depth of the nodes in the Branch-and-Price tree which have an integer solution **/
+	private final int maxDepth;
+	/** Replicas created for the workers of the parallel Branch-and-Price procedure **/
+	public final List<BAPReplica<MockModel, MockColumn, MockPricingProblem>> replicas=Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * Creates a new Branch-and-Price instance
+	 * @param dataModel data model with the columns of two pricing problems
+	 * @param maxDepth depth of the nodes in the Branch-and-Price tree which have an integer solution
+	 */
+	public MockBranchAndPrice(MockModel dataModel, int maxDepth) {
+		this(dataModel, createPricingProblems(dataModel), maxDepth);
+	}
+
+	private MockBranchAndPrice(MockModel dataModel, List<MockPricingProblem> pricingProblems, int maxDepth) {
+		super(dataModel, new MockMaster(dataModel, pricingProblems, OptimizationSense.MINIMIZE), pricingProblems, Collections.singletonList(MockPricingProblemSolver.class),
+				Collections.singletonList(new MockBranchCreator(dataModel, pricingProblems, maxDepth)), 0, Double.MAX_VALUE);
+		this.maxDepth=maxDepth;
+	}
+
+	/**
+	 * Creates the two pricing problems of the data model
+	 * @param dataModel data model
+	 * @return pricing problems
+	 */
+	private static List<MockPricingProblem> createPricingProblems(MockModel dataModel){
+		return Arrays.asList(new MockPricingProblem(dataModel, 0), new MockPricingProblem(dataModel, 1));
+	}
+
+	/**
+	 * Returns the pricing problems of this instance
+	 * @return pricing problems
+	 */
+	public List<MockPricingProblem> getPricingProblems(){
+		return pricingProblems;
+	}
+
+	/**
+	 * Returns the master problem of this instance
+	 * @return master problem
+	 */
+	public MockMaster getMaster(){
+		return (MockMaster) master;
+	}
+
+	/**
+	 * Creates a column for one of the pricing problems of this instance
+	 * @param pricingProblemIndex index of the pricing problem
+	 * @param id number which identifies the column
+	 * @return column
+	 */
+	public MockColumn createColumn(int pricingProblemIndex, int id){
+		return new MockColumn(pricingProblems.get(pricingProblemIndex), id);
+	}
+
+	/**
+	 * Creates a child node
+	 * @param parent parent node
+	 * @param decisionID ID of the branching decision which leads to the child node
+	 * @param bound bound of the child node
+	 * @param initialColumns initial columns of the child node
+	 * @return child node
+	 */
+	public BAPNode<MockModel, MockColumn> createNode(BAPNode<MockModel, MockColumn> parent, int decisionID, double bound, List<MockColumn> initialColumns){
+		return new BAPNode<>(nodeCounter++, parent, new MockBranchingDecision(decisionID), new ArrayList<>(initialColumns), new ArrayList<>(), bound);
+	}
+
+	@Override
+	protected List<MockColumn> generateInitialFeasibleSolution(BAPNode<MockModel, MockColumn> node) {
+		List<MockColumn> artificialColumns=new ArrayList<>();
+		for(MockPricingProblem pricingProblem : pricingProblems)
+			artificialColumns.add(dataModel.getArtificialColumn(pricingProblem));
+		return artificialColumns;
+	}
+
+	@Override
+	protected boolean isIntegerNode(BAPNode<MockModel, MockColumn> node) {
+		return node.getNodeDepth() >= maxDepth;
+	}
+
+	@Override
+	protected BAPReplica<MockModel, MockColumn, MockPricingProblem> createReplica(int workerID) {
+		List<MockPricingProblem> replicaPricingProblems=createPricingProblems(dataModel);
+		BAPReplica<MockModel, MockColumn, MockPricingProblem> replica=new BAPReplica<>(new MockMaster(dataModel, replicaPricingProblems, OptimizationSense.MINIMIZE), replicaPricingProblems,
+				Collections.singletonList(new MockBranchCreator(dataModel, replicaPricingProblems, maxDepth)));
+		replicas.add(replica);
+		return replica;
+	}
+
+	@Override
+	protected MockColumn translateColumn(MockColumn column, MockPricingProblem pricingProblem) {
+		return new MockColumn(pricingProblem, column.id, column.cost, column.isArtificialColumn);
+	}
+}
@@ -0,0 +1,74 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockBranchCreator.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchCreator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+
+/**
+ * Branch creator which creates two child nodes, linked to their parent by branching decisions which do not restrict any column or inequality
+ * (see {@link MockBranchingDecision}). Nodes which reached a given depth are not branched on.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockBranchCreator extends AbstractBranchCreator<MockModel, MockColumn, MockPricingProblem> {
+
+	/** Depth of the nodes which are not branched on **/
+	private final int maxDepth;
+	/** Number of branching decisions created so far **/
+	private int nrBranchingDecisions=0;
+
+	/**
+	 * Creates a new branch creator
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param maxDepth depth of the nodes which are not branched on
+	 */
+	public MockBranchCreator(MockModel dataModel, List<MockPricingProblem> pricingProblems, int maxDepth) {
+		super(dataModel, pricingProblems);
+		this.maxDepth=maxDepth;
+	}
+
+	@Override
+	protected boolean canPerformBranching(List<MockColumn> solution) {
+		return true;
+	}
+
+	@Override
+	protected List<BAPNode<MockModel, MockColumn>> getBranches(BAPNode<MockModel, MockColumn> parentNode) {
+		if(parentNode.getNodeDepth() >= maxDepth)
+			return Collections.emptyList();
+		BAPNode<MockModel, MockColumn> child1=this.createBranch(parentNode, new MockBranchingDecision(nrBranchingDecisions++), parentNode.getSolution(), parentNode.getInequalities());
+		BAPNode<MockModel, MockColumn> child2=this.createBranch(parentNode, new MockBranchingDecision(nrBranchingDecisions++), parentNode.getSolution(), parentNode.getInequalities());
+		return Arrays.asList(child1, child2);
+	}
+}
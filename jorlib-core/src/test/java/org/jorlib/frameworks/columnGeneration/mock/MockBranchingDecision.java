@@ -0,0 +1,60 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockBranchingDecision.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+
+/**
+ * Branching decision which is identified by a number, and which does not restrict any column or inequality
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockBranchingDecision implements BranchingDecision<MockModel, MockColumn> {
+
+	/** Number which identifies the branching decision **/
+	public final int id;
+
+	/**
+	 * Creates a new branching decision
+	 * @param id number which identifies the branching decision
+	 */
+	public MockBranchingDecision(int id) {
+		this.id=id;
+	}
+
+	@Override
+	public boolean columnIsCompatibleWithBranchingDecision(MockColumn column) {
+		return true;
+	}
+
+	@Override
+	public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+		return true;
+	}
+}
@@ -0,0 +1,85 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockColumn.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+
+/**
+ * Column of the {@link MockModel}, identified by a number. Two columns are equal if they have the same number, regardless of their pricing problem. The master problem
+ * selects one column per pricing problem (see {@link MockMaster}).
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockColumn extends AbstractColumn<MockModel, MockPricingProblem> {
+
+	/** Number which identifies the column **/
+	public final int id;
+	/** Cost of the column **/
+	public final int cost;
+
+	/**
+	 * Creates a new column without cost
+	 * @param associatedPricingProblem pricing problem to which the column belongs
+	 * @param id number which identifies the column
+	 */
+	public MockColumn(MockPricingProblem associatedPricingProblem, int id) {
+		this(associatedPricingProblem, id, 0, false);
+	}
+
+	/**
+	 * Creates a new column
+	 * @param associatedPricingProblem pricing problem to which the column belongs
+	 * @param id number which identifies the column
+	 * @param cost cost of the column
+	 * @param isArtificial Indicates whether its an artificial column
+	 */
+	public MockColumn(MockPricingProblem associatedPricingProblem, int id, int cost, boolean isArtificial) {
+		super(associatedPricingProblem, isArtificial, "mock");
+		this.id=id;
+		this.cost=cost;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if(this == o)
+			return true;
+		if(!(o instanceof MockColumn))
+			return false;
+		return id == ((MockColumn) o).id;
+	}
+
+	@Override
+	public int hashCode() {
+		return id;
+	}
+
+	@Override
+	public String toString() {
+		return "column "+id+" ("+associatedPricingProblem+")";
+	}
+}
@@ -0,0 +1,176 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockMaster.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.PrimalSolution;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+
+/**
+ * Master problem of the {@link MockModel}, which selects exactly one column per pricing problem. Its linear relaxation is solved by selecting the cheapest column
+ * of each pricing problem; the dual value of the convexity constraint of a pricing problem equals the cost of its cheapest column. The master problem
+ * is rebuilt whenever a branching decision is performed.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockMaster extends AbstractMaster<MockModel, MockColumn, MockPricingProblem, MasterData<MockModel, MockColumn, MockPricingProblem, Integer>> {
+
+	/** Dual values of the convexity constraints of the pricing problems **/
+	private final Map<MockPricingProblem, Double> dualValues=new LinkedHashMap<>();
+	/** Columns in the last solution of the master problem **/
+	private List<MockColumn> solution=new ArrayList<>();
+	/** Number of times the master problem may be solved before a TimeLimitExceededException is thrown **/
+	private int solveLimit=Integer.MAX_VALUE;
+	/** Number of branching decisions which have been performed on this master problem **/
+	private int nrBranchingDecisionsPerformed=0;
+
+	/**
+	 * Creates a new master problem
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param optimizationSense optimization sense of the master problem
+	 */
+	public MockMaster(MockModel dataModel, List<MockPricingProblem> pricingProblems, OptimizationSense optimizationSense) {
+		super(dataModel, pricingProblems, optimizationSense);
+	}
+
+	/**
+	 * Limits the number of times the master problem may be solved. Once the limit is reached, solving the master problem throws a TimeLimitExceededException, which
+	 * simulates a run which reaches its time limit at a predictable point.
+	 * @param solveLimit number of times the master problem may be solved
+	 */
+	public void setSolveLimit(int solveLimit){
+		this.solveLimit=solveLimit;
+	}
+
+	/**
+	 * Returns the number of branching decisions which have been performed on this master problem
+	 * @return number of branching decisions performed
+	 */
+	public int getNrBranchingDecisionsPerformed(){
+		return nrBranchingDecisionsPerformed;
+	}
+
+	@Override
+	protected MasterData<MockModel, MockColumn, MockPricingProblem, Integer> buildModel() {
+		Map<MockPricingProblem, OrderedBiMap<MockColumn, Integer>> varMap=new LinkedHashMap<>();
+		for(MockPricingProblem pricingProblem : pricingProblems)
+			varMap.put(pricingProblem, new OrderedBiMap<>());
+		return new MasterData<>(varMap);
+	}
+
+	@Override
+	protected boolean solveMasterProblem(long timeLimit) throws TimeLimitExceededException {
+		if(solveLimit-- <= 0)
+			throw new TimeLimitExceededException();
+		double objective=0;
+		List<MockColumn> newSolution=new ArrayList<>();
+		for(MockPricingProblem pricingProblem : pricingProblems){
+			MockColumn cheapestColumn=null;
+			for(MockColumn column : masterData.getColumnsForPricingProblem(pricingProblem)){
+				if(cheapestColumn == null || column.cost < cheapestColumn.cost)
+					cheapestColumn=column;
+			}
+			if(cheapestColumn == null)
+				throw new IllegalStateException("The master problem does not contain a column for "+pricingProblem);
+			cheapestColumn.value=1;
+			newSolution.add(cheapestColumn);
+			dualValues.put(pricingProblem, (double) cheapestColumn.cost);
+			objective+=cheapestColumn.cost;
+		}
+		masterData.objectiveValue=objective;
+		solution=newSolution;
+		return true;
+	}
+
+	/**
+	 * Selects the cheapest column of each pricing problem, disregarding the artificial columns
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @return the cheapest integer solution, or null if a pricing problem has no column other than its artificial column
+	 */
+	@Override
+	public PrimalSolution<MockColumn> solveIntegerProgram(long timeLimit) {
+		int objective=0;
+		List<MockColumn> columns=new ArrayList<>();
+		for(MockPricingProblem pricingProblem : pricingProblems){
+			MockColumn cheapestColumn=null;
+			for(MockColumn column : masterData.getColumnsForPricingProblem(pricingProblem)){
+				if(!column.isArtificialColumn && (cheapestColumn == null || column.cost < cheapestColumn.cost))
+					cheapestColumn=column;
+			}
+			if(cheapestColumn == null)
+				return null;
+			columns.add(cheapestColumn);
+			objective+=cheapestColumn.cost;
+		}
+		return new PrimalSolution<>(objective, columns);
+	}
+
+	@Override
+	public void initializePricingProblem(MockPricingProblem pricingProblem) {
+		pricingProblem.initPricingProblem(new double[0], dualValues.get(pricingProblem));
+	}
+
+	@Override
+	public void addColumn(MockColumn column) {
+		masterData.addColumn(column, masterData.getNrColumnsForPricingProblem(column.associatedPricingProblem));
+	}
+
+	@Override
+	public void removeColumn(MockColumn column) {
+		masterData.removeColumn(column);
+	}
+
+	@Override
+	public List<MockColumn> getSolution() {
+		return solution;
+	}
+
+	@Override
+	public void printSolution() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public void branchingDecisionPerformed(BranchingDecision bd) {
+		nrBranchingDecisionsPerformed++;
+		masterData=this.buildModel(); //Create a new model without any columns
+	}
+}
@@ -0,0 +1,93 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockModel.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+
+/**
+ * Data model used to test the components of the column generation framework in isolation. Each pricing problem has a fixed set of columns with a given cost;
+ * the master problem selects one column per pricing problem, see {@link MockMaster}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockModel implements ModelInterface {
+
+	/** Cost of the artificial columns **/
+	public static final int ARTIFICIAL_COST=1000;
+	/** Maximum number of columns per pricing problem **/
+	private static final int MAX_NR_COLUMNS=1000;
+
+	/** Costs of the columns: columnCosts[i][j] is the cost of the j-th column of the i-th pricing problem **/
+	private final int[][] columnCosts;
+
+	/**
+	 * Creates a data model without any columns
+	 */
+	public MockModel() {
+		this(new int[0][]);
+	}
+
+	/**
+	 * Creates a data model
+	 * @param columnCosts costs of the columns: columnCosts[i][j] is the cost of the j-th column of the i-th pricing problem
+	 */
+	public MockModel(int[][] columnCosts) {
+		this.columnCosts=columnCosts;
+	}
+
+	/**
+	 * Returns the columns of a pricing problem. The j-th column of the i-th pricing problem is identified by the number i*1000+j.
+	 * @param pricingProblem pricing problem
+	 * @return the columns of the pricing problem
+	 */
+	public List<MockColumn> getColumns(MockPricingProblem pricingProblem){
+		List<MockColumn> columns=new ArrayList<>();
+		if(pricingProblem.index < columnCosts.length){
+			for(int j=0; j<columnCosts[pricingProblem.index].length; j++)
+				columns.add(new MockColumn(pricingProblem, pricingProblem.index*MAX_NR_COLUMNS+j, columnCosts[pricingProblem.index][j], false));
+		}
+		return columns;
+	}
+
+	/**
+	 * Returns the artificial column of a pricing problem, which has a cost of {@link #ARTIFICIAL_COST}. The artificial column of the i-th pricing problem is identified by the number -1-i.
+	 * @param pricingProblem pricing problem
+	 * @return the artificial column of the pricing problem
+	 */
+	public MockColumn getArtificialColumn(MockPricingProblem pricingProblem){
+		return new MockColumn(pricingProblem, -1-pricingProblem.index, ARTIFICIAL_COST, true);
+	}
+
+	@Override
+	public String getName() {
+		return "mock";
+	}
+}
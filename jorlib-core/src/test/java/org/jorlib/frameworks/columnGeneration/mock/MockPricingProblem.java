@@ -0,0 +1,51 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockPricingProblem.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Pricing problem of the {@link MockModel}, identified by its index in the data model
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockPricingProblem extends AbstractPricingProblem<MockModel> {
+
+	/** Index of the pricing problem in the data model **/
+	public final int index;
+
+	/**
+	 * Creates a new pricing problem
+	 * @param dataModel data model
+	 * @param index index of the pricing problem in the data model
+	 */
+	public MockPricingProblem(MockModel dataModel, int index) {
+		super(dataModel, "pricingProblem"+index);
+		this.index=index;
+	}
+}
@@ -0,0 +1,71 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MockPricingProblemSolver.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+
+/**
+ * Solver for the {@link MockPricingProblem}, which returns the columns of the pricing problem which have a negative reduced cost, i.e. whose cost is smaller than the
+ * dual value of the convexity constraint of the pricing problem in the {@link MockMaster}.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MockPricingProblemSolver extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem> {
+
+	/**
+	 * Creates a new solver instance
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 */
+	public MockPricingProblemSolver(MockModel dataModel, MockPricingProblem pricingProblem) {
+		super(dataModel, pricingProblem);
+		this.name="MockPricingProblemSolver";
+	}
+
+	@Override
+	protected List<MockColumn> generateNewColumns() throws TimeLimitExceededException {
+		List<MockColumn> newColumns=new ArrayList<>();
+		for(MockColumn column : dataModel.getColumns(pricingProblem)){
+			if(column.cost < pricingProblem.dualCost-config.PRECISION)
+				newColumns.add(column);
+		}
+		return newColumns;
+	}
+
+	@Override
+	protected void setObjective() {
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,136 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AdaptiveSolverSchedulerTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblemSolver;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the order in which the {@link AdaptiveSolverScheduler} invokes the pricing problem solvers, and the smoothed statistics on which this order is based
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class AdaptiveSolverSchedulerTest {
+
+	private static final double PRECISION=1e-9;
+
+	/** Heuristic solvers and exact solver. The solvers are never instantiated; only their classes are used by the scheduler. **/
+	private static final Class<? extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem>> HEURISTIC1=PricingProblemManagerTest.BlockingSolver.class;
+	private static final Class<? extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem>> HEURISTIC2=PricingProblemManagerTest.FailingSolver.class;
+	private static final Class<? extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem>> EXACT=MockPricingProblemSolver.class;
+	private static final List<Class<? extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem>>> SOLVERS=Arrays.asList(HEURISTIC1, HEURISTIC2, EXACT);
+
+	@Test
+	public void testExactSolverIsLast() {
+		AdaptiveSolverScheduler<MockModel, MockColumn, MockPricingProblem> scheduler=new AdaptiveSolverScheduler<>();
+		//Solvers which have not been invoked before retain their original order
+		Assert.assertEquals(SOLVERS, scheduler.getSolverOrder(SOLVERS));
+
+		//The heuristics are ordered by productivity, while the exact solver remains last, even though it is the most productive solver
+		scheduler.update(HEURISTIC1, 1, 1000);
+		scheduler.update(HEURISTIC2, 5, 1000);
+		scheduler.update(EXACT, 100, 1000);
+		Assert.assertEquals(Arrays.asList(HEURISTIC2, HEURISTIC1, EXACT), scheduler.getSolverOrder(SOLVERS));
+
+		//The exact solver is never skipped, even if it rarely produces columns
+		for(int i=0; i<15; i++)
+			scheduler.update(EXACT, 0, 1000);
+		Assert.assertTrue(scheduler.getHitRate(EXACT) < 0.1);
+		Assert.assertEquals(Arrays.asList(HEURISTIC2, HEURISTIC1, EXACT), scheduler.getSolverOrder(SOLVERS));
+		Assert.assertEquals(Collections.singletonList(EXACT), scheduler.getSolverOrder(Collections.singletonList(EXACT)));
+	}
+
+	@Test
+	public void testSmoothedStatistics() {
+		AdaptiveSolverScheduler<MockModel, MockColumn, MockPricingProblem> scheduler=new AdaptiveSolverScheduler<>(0.5, 0.1, 10);
+		Assert.assertEquals(1, scheduler.getHitRate(HEURISTIC1), PRECISION);
+		Assert.assertEquals(Double.POSITIVE_INFINITY, scheduler.getProductivity(HEURISTIC1), 0);
+
+		//The first invocation initializes the statistics: 4 columns in 100ns
+		scheduler.update(HEURISTIC1, 4, 100);
+		Assert.assertEquals(1, scheduler.getHitRate(HEURISTIC1), PRECISION);
+		Assert.assertEquals(0.04, scheduler.getProductivity(HEURISTIC1), PRECISION);
+
+		//hit rate: 0.5*0+0.5*1=0.5, columns: 0.5*0+0.5*4=2, time: 0.5*300+0.5*100=200
+		scheduler.update(HEURISTIC1, 0, 300);
+		Assert.assertEquals(0.5, scheduler.getHitRate(HEURISTIC1), PRECISION);
+		Assert.assertEquals(2.0/200, scheduler.getProductivity(HEURISTIC1), PRECISION);
+
+		//hit rate: 0.5*1+0.5*0.5=0.75, columns: 0.5*6+0.5*2=4, time: 0.5*100+0.5*200=150
+		scheduler.update(HEURISTIC1, 6, 100);
+		Assert.assertEquals(0.75, scheduler.getHitRate(HEURISTIC1), PRECISION);
+		Assert.assertEquals(4.0/150, scheduler.getProductivity(HEURISTIC1), PRECISION);
+
+		//The statistics of other solvers are unaffected
+		Assert.assertEquals(1, scheduler.getHitRate(HEURISTIC2), PRECISION);
+
+		scheduler.reset();
+		Assert.assertEquals(1, scheduler.getHitRate(HEURISTIC1), PRECISION);
+		Assert.assertEquals(Double.POSITIVE_INFINITY, scheduler.getProductivity(HEURISTIC1), 0);
+	}
+
+	@Test
+	public void testSkipAndProbe() {
+		AdaptiveSolverScheduler<MockModel, MockColumn, MockPricingProblem> scheduler=new AdaptiveSolverScheduler<>(0.5, 0.3, 3);
+		//Hit rate of the first heuristic: 1 -> 0.5 -> 0.25
+		scheduler.update(HEURISTIC1, 2, 100);
+		scheduler.update(HEURISTIC1, 0, 100);
+		scheduler.update(HEURISTIC1, 0, 100);
+		scheduler.update(HEURISTIC2, 1, 100);
+		Assert.assertEquals(0.25, scheduler.getHitRate(HEURISTIC1), PRECISION);
+
+		//The first heuristic is skipped, except during every third iteration. When probed, it is invoked after the more productive second heuristic (0.005 vs 0.01 columns/ns).
+		List<Class<? extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem>>> skipped=Arrays.asList(HEURISTIC2, EXACT);
+		List<Class<? extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem>>> probed=Arrays.asList(HEURISTIC2, HEURISTIC1, EXACT);
+		Assert.assertEquals(skipped, scheduler.getSolverOrder(SOLVERS));
+		Assert.assertEquals(skipped, scheduler.getSolverOrder(SOLVERS));
+		Assert.assertEquals(probed, scheduler.getSolverOrder(SOLVERS));
+		Assert.assertEquals(skipped, scheduler.getSolverOrder(SOLVERS));
+		Assert.assertEquals(skipped, scheduler.getSolverOrder(SOLVERS));
+		Assert.assertEquals(probed, scheduler.getSolverOrder(SOLVERS));
+
+		//Once the probe succeeds, the hit rate (0.5*1+0.5*0.25) exceeds the threshold and the heuristic is no longer skipped.
+		//Its productivity (0.5*2+0.5*0.5 columns per 100ns) now exceeds the productivity of the second heuristic.
+		scheduler.update(HEURISTIC1, 2, 100);
+		Assert.assertEquals(0.625, scheduler.getHitRate(HEURISTIC1), PRECISION);
+		Assert.assertEquals(SOLVERS, scheduler.getSolverOrder(SOLVERS));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNoSolvers() {
+		new AdaptiveSolverScheduler<MockModel, MockColumn, MockPricingProblem>().getSolverOrder(Collections.emptyList());
+	}
+}
@@ -0,0 +1,139 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnCollectorTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests whether the {@link ColumnCollector} keeps the most attractive columns in the right order, and whether it rejects near-duplicate columns
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class ColumnCollectorTest {
+
+	private final MockPricingProblem pricingProblem=new MockPricingProblem(new MockModel(), 0);
+
+	/**
+	 * Signature of a mock column: the binary representation of its number
+	 */
+	private static BitSet getSignature(MockColumn column){
+		return BitSet.valueOf(new long[]{column.id});
+	}
+
+	private MockColumn column(int id){
+		return new MockColumn(pricingProblem, id);
+	}
+
+	@Test
+	public void testTopColumnsMinimization() {
+		ColumnCollector<MockModel, MockColumn, MockPricingProblem> collector=new ColumnCollector<>(3, OptimizationSense.MINIMIZE);
+		Assert.assertEquals(Double.MAX_VALUE, collector.getThreshold(), 0);
+		Assert.assertTrue(collector.offer(column(1), -1));
+		Assert.assertTrue(collector.offer(column(2), -5));
+		Assert.assertEquals(Double.MAX_VALUE, collector.getThreshold(), 0);
+		Assert.assertTrue(collector.offer(column(3), -3));
+		//The collector is full
+		Assert.assertEquals(-1, collector.getThreshold(), 0);
+		Assert.assertEquals(Arrays.asList(column(2), column(3), column(1)), collector.getColumns());
+
+		//A column which is less attractive than the least attractive collected column is rejected
+		Assert.assertFalse(collector.offer(column(5), -0.5));
+		Assert.assertFalse(collector.offer(column(6), -1));
+		//A more attractive column replaces the least attractive collected column
+		Assert.assertTrue(collector.offer(column(4), -4));
+		Assert.assertEquals(Arrays.asList(column(2), column(4), column(3)), collector.getColumns());
+		Assert.assertEquals(-3, collector.getThreshold(), 0);
+		Assert.assertEquals(3, collector.size());
+
+		collector.clear();
+		Assert.assertEquals(0, collector.size());
+		Assert.assertEquals(Double.MAX_VALUE, collector.getThreshold(), 0);
+	}
+
+	@Test
+	public void testTopColumnsMaximization() {
+		ColumnCollector<MockModel, MockColumn, MockPricingProblem> collector=new ColumnCollector<>(2, OptimizationSense.MAXIMIZE);
+		Assert.assertEquals(-Double.MAX_VALUE, collector.getThreshold(), 0);
+		Assert.assertTrue(collector.offer(column(1), 1));
+		Assert.assertEquals(-Double.MAX_VALUE, collector.getThreshold(), 0);
+		Assert.assertTrue(collector.offer(column(2), 3));
+		Assert.assertEquals(1, collector.getThreshold(), 0);
+		Assert.assertTrue(collector.offer(column(3), 2));
+		Assert.assertFalse(collector.offer(column(4), 0.5));
+		Assert.assertEquals(Arrays.asList(column(2), column(3)), collector.getColumns());
+		Assert.assertEquals(2, collector.getThreshold(), 0);
+	}
+
+	@Test
+	public void testDuplicateColumns() {
+		ColumnCollector<MockModel, MockColumn, MockPricingProblem> collector=new ColumnCollector<>(3, OptimizationSense.MINIMIZE);
+		Assert.assertTrue(collector.offer(column(1), -1));
+		Assert.assertTrue(collector.offer(column(2), -2));
+		//A duplicate column is only kept if it is more attractive, in which case it replaces the collected column
+		Assert.assertFalse(collector.offer(column(1), -1));
+		Assert.assertFalse(collector.offer(column(1), -0.5));
+		Assert.assertTrue(collector.offer(column(1), -3));
+		Assert.assertEquals(Arrays.asList(column(1), column(2)), collector.getColumns());
+	}
+
+	@Test
+	public void testNearDuplicateColumns() {
+		ColumnCollector<MockModel, MockColumn, MockPricingProblem> collector=new ColumnCollector<>(3, OptimizationSense.MINIMIZE, ColumnCollectorTest::getSignature, 2);
+		Assert.assertTrue(collector.offer(column(0b0011), -2));
+		//0b0111 differs from 0b0011 in a single position and is less attractive
+		Assert.assertFalse(collector.offer(column(0b0111), -1.5));
+		//0b1100 differs from 0b0011 in 4 positions
+		Assert.assertTrue(collector.offer(column(0b1100), -1));
+		Assert.assertEquals(Arrays.asList(column(0b0011), column(0b1100)), collector.getColumns());
+
+		//A more attractive near-duplicate replaces the collected column
+		Assert.assertTrue(collector.offer(column(0b0111), -3));
+		Assert.assertEquals(Arrays.asList(column(0b0111), column(0b1100)), collector.getColumns());
+		//0b1111 is a near-duplicate of 0b0111, but not of 0b1100
+		Assert.assertTrue(collector.offer(column(0b1111), -4));
+		Assert.assertEquals(Arrays.asList(column(0b1111), column(0b1100)), collector.getColumns());
+		//0b1101 is a near-duplicate of both collected columns, and replaces both of them
+		Assert.assertTrue(collector.offer(column(0b1101), -5));
+		Assert.assertEquals(Collections.singletonList(column(0b1101)), collector.getColumns());
+		Assert.assertEquals(Double.MAX_VALUE, collector.getThreshold(), 0);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testEmptyCollector() {
+		new ColumnCollector<MockModel, MockColumn, MockPricingProblem>(0, OptimizationSense.MINIMIZE);
+	}
+}
@@ -0,0 +1,749 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingProblemManagerTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.util.MetricsRegistry;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the removal of duplicate columns by the {@link PricingProblemManager}, the solve times it records, the handling of interrupts and failing solvers, partial and pipelined pricing, and the use of the bounds reported by the solvers
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class PricingProblemManagerTest {
+
+	/** Time limit of the pipelined pricing problems (ms) **/
+	private static final long TIME_LIMIT=10000;
+
+	private MockPricingProblem pricingProblem1;
+	private MockPricingProblem pricingProblem2;
+	private PricingProblemManager<MockModel, MockColumn, MockPricingProblem> pricingProblemManager;
+	private MetricsRegistry metricsRegistry;
+
+	@Before
+	public void setUp() {
+		MockModel dataModel=new MockModel();
+		pricingProblem1=new MockPricingProblem(dataModel, 1);
+		pricingProblem2=new MockPricingProblem(dataModel, 2);
+		pricingProblemManager=new PricingProblemManager<>(Arrays.asList(pricingProblem1, pricingProblem2), Collections.emptyMap());
+		metricsRegistry=new MetricsRegistry();
+		pricingProblemManager.setMetricsRegistry(metricsRegistry);
+	}
+
+	@After
+	public void tearDown() {
+		pricingProblemManager.close();
+	}
+
+	@Test
+	public void testDuplicatesFromSamePricingProblem() {
+		MockColumn column1=new MockColumn(pricingProblem1, 1);
+		MockColumn column2=new MockColumn(pricingProblem1, 2);
+		MockColumn duplicate1=new MockColumn(pricingProblem1, 1);
+		List<MockColumn> columns=pricingProblemManager.removeDuplicates(Arrays.asList(column1, duplicate1, column2, duplicate1, column2));
+
+		//The first occurrence of each column is kept
+		Assert.assertEquals(2, columns.size());
+		Assert.assertSame(column1, columns.get(0));
+		Assert.assertSame(column2, columns.get(1));
+		Assert.assertEquals(3, pricingProblemManager.getNrDuplicateColumns());
+		Assert.assertEquals(3, metricsRegistry.getCounter(MetricsRegistry.DUPLICATE_COLUMNS));
+
+		//Duplicates are only detected within a single invocation
+		columns=pricingProblemManager.removeDuplicates(Arrays.asList(duplicate1));
+		Assert.assertEquals(Arrays.asList(duplicate1), columns);
+		Assert.assertEquals(3, pricingProblemManager.getNrDuplicateColumns());
+	}
+
+	@Test
+	public void testEqualColumnsFromDifferentPricingProblems() {
+		MockColumn column1=new MockColumn(pricingProblem1, 1);
+		MockColumn column2=new MockColumn(pricingProblem2, 1);
+		Assert.assertEquals(column1, column2);
+		List<MockColumn> columns=pricingProblemManager.removeDuplicates(Arrays.asList(column1, column2, new MockColumn(pricingProblem2, 1)));
+
+		Assert.assertEquals(2, columns.size());
+		Assert.assertSame(column1, columns.get(0));
+		Assert.assertSame(column2, columns.get(1));
+		Assert.assertEquals(1, pricingProblemManager.getNrDuplicateColumns());
+		Assert.assertEquals(1, metricsRegistry.getCounter(MetricsRegistry.DUPLICATE_COLUMNS));
+	}
+
+	@Test
+	public void testExistingColumns() {
+		MockColumn column1=new MockColumn(pricingProblem1, 1);
+		MockColumn column2=new MockColumn(pricingProblem1, 2);
+		MockColumn column3=new MockColumn(pricingProblem2, 3);
+		pricingProblemManager.setExistingColumnTest(column -> column.id == 2);
+		List<MockColumn> columns=pricingProblemManager.removeDuplicates(Arrays.asList(column1, column2, column3, column1));
+
+		Assert.assertEquals(Arrays.asList(column1, column3), columns);
+		Assert.assertEquals(2, pricingProblemManager.getNrDuplicateColumns());
+
+		pricingProblemManager.setExistingColumnTest(null);
+		Assert.assertEquals(Arrays.asList(column2), pricingProblemManager.removeDuplicates(Arrays.asList(column2)));
+		Assert.assertTrue(pricingProblemManager.removeDuplicates(Collections.emptyList()).isEmpty());
+		Assert.assertEquals(2, pricingProblemManager.getNrDuplicateColumns());
+	}
+
+	@Test
+	public void testSolveTimesPerPricingProblem() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3, 12}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems);
+		try {
+			manager.setMetricsRegistry(metricsRegistry);
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			for(int round=0; round<2; round++)
+				Assert.assertEquals(2, manager.solvePricingProblems(MockPricingProblemSolver.class).size());
+		}finally {
+			manager.close();
+		}
+
+		//Each pricing problem has been solved twice
+		Assert.assertEquals(3, metricsRegistry.getHistograms().size());
+		Assert.assertEquals(4, metricsRegistry.getHistogram(MetricsRegistry.PRICING_SOLVE).getCount());
+		Assert.assertEquals(2, metricsRegistry.getHistogram(MetricsRegistry.PRICING_SOLVE+".pricingProblem1").getCount());
+		Assert.assertEquals(2, metricsRegistry.getHistogram(MetricsRegistry.PRICING_SOLVE+".pricingProblem2").getCount());
+	}
+
+	@Test
+	public void testInterruptedPricingRound() {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems);
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			Thread.currentThread().interrupt();
+			manager.solvePricingProblems(MockPricingProblemSolver.class);
+			Assert.fail("An interrupted pricing round must not return any columns");
+		} catch (TimeLimitExceededException e) {
+			//No bound may be derived from the pricing problems which have been abandoned
+			Assert.assertFalse(manager.isPricingRoundComplete());
+			Assert.assertTrue(Thread.interrupted());
+		}finally {
+			Thread.interrupted();
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testPipelinedPricingRound() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, BlockingSolver.class);
+		BlockingSolver.reset();
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			manager.setTimeLimit(System.currentTimeMillis()+TIME_LIMIT);
+
+			//The first pricing problem produces a column, while the second pricing problem is still being solved
+			manager.startPipelinedPricingRound();
+			List<MockColumn> columns=manager.solvePricingProblemsPipelined(BlockingSolver.class, 1, pricingProblem -> {}, System.currentTimeMillis()+TIME_LIMIT);
+			Assert.assertEquals(Arrays.asList(1000), getIDs(columns));
+			Assert.assertFalse(manager.isPricingRoundComplete());
+			Assert.assertTrue(manager.isSolving(pricingProblems.get(1)));
+
+			//On the same dual values, the round is continued: the running solver instance is not outdated, and the first pricing problem is not solved again
+			BlockingSolver.latch.countDown();
+			columns=manager.solvePricingProblemsPipelined(BlockingSolver.class, 1, pricingProblem -> {}, System.currentTimeMillis()+TIME_LIMIT);
+			Assert.assertEquals(Arrays.asList(2000), getIDs(columns));
+			Assert.assertTrue(manager.isPricingRoundComplete());
+			Assert.assertEquals(1, BlockingSolver.nrSolves.get(1));
+			Assert.assertEquals(1, BlockingSolver.nrSolves.get(2));
+
+			//New dual values start a new round, in which all pricing problems are solved again
+			manager.startPipelinedPricingRound();
+			columns=manager.solvePricingProblemsPipelined(BlockingSolver.class, Integer.MAX_VALUE, pricingProblem -> {}, System.currentTimeMillis()+TIME_LIMIT);
+			Assert.assertEquals(2, columns.size());
+			Assert.assertTrue(manager.isPricingRoundComplete());
+			Assert.assertEquals(2, BlockingSolver.nrSolves.get(1));
+			Assert.assertEquals(2, BlockingSolver.nrSolves.get(2));
+		}finally {
+			BlockingSolver.latch.countDown();
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testPipelinedPricingReturnsAtColumnThreshold() throws TimeLimitExceededException, InterruptedException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3, 5, 12}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, BlockingSolver.class);
+		BlockingSolver.reset();
+		try {
+			manager.startPipelinedPricingRound();
+			List<MockColumn> columns=manager.solvePricingProblemsPipelined(BlockingSolver.class, 2, pricingProblem -> pricingProblem.initPricingProblem(new double[0], 10),
+					System.currentTimeMillis()+TIME_LIMIT);
+
+			//The columns of the first pricing problem reach the threshold: the method returns without waiting for the second pricing problem
+			Assert.assertEquals(Arrays.asList(1000, 1001), getIDs(columns));
+			BlockingSolver.blocked.await();
+			Assert.assertTrue(manager.isSolving(pricingProblems.get(1)));
+			Assert.assertFalse(manager.isPricingRoundComplete());
+		}finally {
+			BlockingSolver.latch.countDown();
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testOutdatedPricingProblemIsRescheduled() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, BlockingSolver.class);
+		BlockingSolver.reset();
+		double[] dualCost={10};
+		Consumer<MockPricingProblem> initializer=pricingProblem -> pricingProblem.initPricingProblem(new double[0], dualCost[0]);
+		try {
+			manager.startPipelinedPricingRound();
+			Assert.assertEquals(Arrays.asList(1000), getIDs(manager.solvePricingProblemsPipelined(BlockingSolver.class, 1, initializer, System.currentTimeMillis()+TIME_LIMIT)));
+
+			//On the new dual values, none of the pricing problems has a column with a negative reduced cost. The second pricing problem is still being solved on the old dual values.
+			dualCost[0]=0;
+			manager.startPipelinedPricingRound();
+			BlockingSolver.latch.countDown();
+			List<MockColumn> columns=manager.solvePricingProblemsPipelined(BlockingSolver.class, Integer.MAX_VALUE, initializer, System.currentTimeMillis()+TIME_LIMIT);
+
+			//The column found on the old dual values is returned, but the pricing problem is solved again before the round is complete
+			Assert.assertEquals(Arrays.asList(2000), getIDs(columns));
+			Assert.assertTrue(manager.isPricingRoundComplete());
+			Assert.assertEquals(2, BlockingSolver.nrSolves.get(1));
+			Assert.assertEquals(2, BlockingSolver.nrSolves.get(2));
+			Assert.assertEquals(0, pricingProblems.get(1).dualCost, 0);
+		}finally {
+			BlockingSolver.latch.countDown();
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testAwaitPipelinedPricingProblemsWithinTimeLimit() throws TimeLimitExceededException, InterruptedException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, BlockingSolver.class);
+		BlockingSolver.reset();
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			manager.startPipelinedPricingRound();
+			manager.solvePricingProblemsPipelined(BlockingSolver.class, 1, pricingProblem -> {}, System.currentTimeMillis()+TIME_LIMIT);
+			BlockingSolver.blocked.await();
+
+			//The solver instance of the second pricing problem ignores the request to stop; the manager stops waiting at the time limit
+			long startTime=System.currentTimeMillis();
+			manager.setTimeLimit(startTime+100);
+			manager.awaitPipelinedPricingProblems();
+			Assert.assertTrue(System.currentTimeMillis()-startTime < TIME_LIMIT);
+			Assert.assertTrue(manager.isSolving(pricingProblems.get(1)));
+		}finally {
+			BlockingSolver.latch.countDown();
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testFailingSolver() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, FailingSolver.class);
+		FailingSolver.nrSolves.set(0);
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			manager.setTimeLimit(System.currentTimeMillis()+TIME_LIMIT);
+
+			//The columns of the other pricing problems are returned, but no bound may be derived from the round
+			Assert.assertEquals(Arrays.asList(1000), getIDs(manager.solvePricingProblems(FailingSolver.class)));
+			Assert.assertFalse(manager.isPricingRoundComplete());
+
+			//The pipelined round ends once every pricing problem has been solved or has failed; the failed pricing problem is not solved again during the same round
+			manager.startPipelinedPricingRound();
+			Assert.assertEquals(Arrays.asList(1000), getIDs(manager.solvePricingProblemsPipelined(FailingSolver.class, Integer.MAX_VALUE, pricingProblem -> {}, System.currentTimeMillis()+TIME_LIMIT)));
+			Assert.assertFalse(manager.isPricingRoundComplete());
+			Assert.assertEquals(2, FailingSolver.nrSolves.get());
+			Assert.assertTrue(manager.solvePricingProblemsPipelined(FailingSolver.class, Integer.MAX_VALUE, pricingProblem -> {}, System.currentTimeMillis()+TIME_LIMIT).isEmpty());
+			Assert.assertFalse(manager.isPricingRoundComplete());
+			Assert.assertEquals(2, FailingSolver.nrSolves.get());
+
+			//A new round solves the failed pricing problem again
+			manager.startPipelinedPricingRound();
+			manager.solvePricingProblemsPipelined(FailingSolver.class, Integer.MAX_VALUE, pricingProblem -> {}, System.currentTimeMillis()+TIME_LIMIT);
+			Assert.assertEquals(3, FailingSolver.nrSolves.get());
+		}finally {
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testFailingBound() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems);
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			manager.solvePricingProblems(MockPricingProblemSolver.class);
+
+			//The MockPricingProblemSolver does not implement getBound(); no bound may silently be substituted
+			manager.getBoundsOnPricingProblems(MockPricingProblemSolver.class);
+			Assert.fail("A bound which could not be computed must not be returned");
+		}catch(RuntimeException e){
+			Assert.assertTrue(e.getCause() instanceof UnsupportedOperationException);
+		}finally {
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testPartialPricingPolicies() {
+		PartialPricingPolicy columnLimit=new ColumnLimitPolicy(3);
+		Assert.assertFalse(columnLimit.stopPricing(2, 2, 2, 5));
+		Assert.assertTrue(columnLimit.stopPricing(3, 1, 1, 5));
+		PartialPricingPolicy pricingProblemLimit=new PricingProblemLimitPolicy(2);
+		Assert.assertFalse(pricingProblemLimit.stopPricing(10, 1, 3, 5));
+		Assert.assertTrue(pricingProblemLimit.stopPricing(2, 2, 2, 5));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidColumnLimitPolicy() {
+		new ColumnLimitPolicy(0);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidPricingProblemLimitPolicy() {
+		new PricingProblemLimitPolicy(0);
+	}
+
+	@Test
+	public void testPartialPricingCancelsRunningSolver() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4, 5}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, CancellableSolver.class);
+		CancellableSolver.reset();
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			manager.setTimeLimit(System.currentTimeMillis()+TIME_LIMIT);
+			manager.setPartialPricingPolicy(new ColumnLimitPolicy(1));
+
+			//The column of the first pricing problem satisfies the policy. The solver of the second pricing problem is requested to stop, and returns the column it found so far.
+			List<MockColumn> columns=manager.solvePricingProblems(CancellableSolver.class);
+			Assert.assertEquals(Arrays.asList(1000, 2000), getIDs(columns));
+			Assert.assertEquals(1, CancellableSolver.nrCancelled.get());
+			Assert.assertFalse(manager.isPricingRoundComplete());
+
+			//The cancellation request does not carry over to the next round. Without a blocking solver, the policy is satisfied only once all pricing problems have been solved.
+			CancellableSolver.blockUntilCancelled=false;
+			manager.setPartialPricingPolicy(new ColumnLimitPolicy(3));
+			columns=manager.solvePricingProblems(CancellableSolver.class);
+			Assert.assertEquals(Arrays.asList(1000, 2000, 2001), getIDs(columns));
+			Assert.assertTrue(manager.isPricingRoundComplete());
+			Assert.assertEquals(0, CancellableSolver.nrCancelledAtStart.get());
+
+			//Without a policy, the manager waits for every pricing problem
+			manager.setPartialPricingPolicy(null);
+			Assert.assertEquals(3, manager.solvePricingProblems(CancellableSolver.class).size());
+			Assert.assertTrue(manager.isPricingRoundComplete());
+			Assert.assertEquals(1, CancellableSolver.nrCancelled.get());
+		}finally {
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testPartialPricingWithoutColumns() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {30}, {40}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, CancellableSolver.class);
+		CancellableSolver.reset();
+		CancellableSolver.blockUntilCancelled=false;
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			manager.setTimeLimit(System.currentTimeMillis()+TIME_LIMIT);
+			//The policy is only consulted once a column has been found, so a round without columns is complete
+			manager.setPartialPricingPolicy((nrColumns, nrPricingProblemsWithColumns, nrSolvedPricingProblems, nrPricingProblems) -> true);
+			Assert.assertTrue(manager.solvePricingProblems(CancellableSolver.class).isEmpty());
+			Assert.assertTrue(manager.isPricingRoundComplete());
+			Assert.assertEquals(0, CancellableSolver.nrCancelled.get());
+		}finally {
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testReportedBounds() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, BoundReportingSolver.class);
+		BoundReportingSolver.reset();
+		try {
+			for(MockPricingProblem pricingProblem : pricingProblems)
+				pricingProblem.initPricingProblem(new double[0], 10);
+			manager.setTimeLimit(System.currentTimeMillis()+TIME_LIMIT);
+
+			//The first pricing problem reports its bound (3-10), so getBound() is only invoked for the second pricing problem
+			manager.solvePricingProblems(BoundReportingSolver.class);
+			Assert.assertArrayEquals(new double[]{-7, 102}, manager.getBoundsOnPricingProblems(BoundReportingSolver.class), 0);
+			Assert.assertEquals(0, BoundReportingSolver.nrBoundCalls.get(1));
+			Assert.assertEquals(1, BoundReportingSolver.nrBoundCalls.get(2));
+
+			//A new round replaces the reported bounds: the bound reported on the new dual values (3-5) is used
+			pricingProblems.get(0).initPricingProblem(new double[0], 5);
+			manager.solvePricingProblems(BoundReportingSolver.class);
+			Assert.assertArrayEquals(new double[]{-2, 102}, manager.getBoundsOnPricingProblems(BoundReportingSolver.class), 0);
+			Assert.assertEquals(0, BoundReportingSolver.nrBoundCalls.get(1));
+
+			//When no bound is reported during the round, the bound reported during the previous round is dropped
+			BoundReportingSolver.reportBounds=false;
+			manager.solvePricingProblems(BoundReportingSolver.class);
+			Assert.assertArrayEquals(new double[]{101, 102}, manager.getBoundsOnPricingProblems(BoundReportingSolver.class), 0);
+			Assert.assertEquals(1, BoundReportingSolver.nrBoundCalls.get(1));
+		}finally {
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testReportedBoundsPipelined() throws TimeLimitExceededException {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		List<MockPricingProblem> pricingProblems=Arrays.asList(new MockPricingProblem(dataModel, 1), new MockPricingProblem(dataModel, 2));
+		PricingProblemManager<MockModel, MockColumn, MockPricingProblem> manager=createPricingProblemManager(dataModel, pricingProblems, BoundReportingSolver.class);
+		BoundReportingSolver.reset();
+		try {
+			manager.setTimeLimit(System.currentTimeMillis()+TIME_LIMIT);
+			manager.startPipelinedPricingRound();
+			manager.solvePricingProblemsPipelined(BoundReportingSolver.class, Integer.MAX_VALUE, pricingProblem -> pricingProblem.initPricingProblem(new double[0], 10),
+					System.currentTimeMillis()+TIME_LIMIT);
+			Assert.assertTrue(manager.isPricingRoundComplete());
+			Assert.assertArrayEquals(new double[]{-7, 102}, manager.getBoundsOnPricingProblems(BoundReportingSolver.class), 0);
+			Assert.assertEquals(0, BoundReportingSolver.nrBoundCalls.get(1));
+
+			//The bound was reported on the previous dual values, so it is dropped when a new round starts
+			manager.startPipelinedPricingRound();
+			Assert.assertArrayEquals(new double[]{101, 102}, manager.getBoundsOnPricingProblems(BoundReportingSolver.class), 0);
+			Assert.assertEquals(1, BoundReportingSolver.nrBoundCalls.get(1));
+		}finally {
+			manager.close();
+		}
+	}
+
+	@Test
+	public void testReportedBoundIsResetPerInvocation() throws Exception {
+		MockModel dataModel=new MockModel(new int[][]{{}, {3}, {4}});
+		MockPricingProblem pricingProblem=new MockPricingProblem(dataModel, 1);
+		pricingProblem.initPricingProblem(new double[0], 10);
+		BoundReportingSolver.reset();
+		BoundReportingSolver solver=new BoundReportingSolver(dataModel, pricingProblem);
+		Assert.assertFalse(solver.hasReportedBound());
+		Assert.assertTrue(Double.isNaN(solver.getReportedBound()));
+
+		solver.call();
+		Assert.assertTrue(solver.hasReportedBound());
+		Assert.assertEquals(-7, solver.getReportedBound(), 0);
+
+		BoundReportingSolver.reportBounds=false;
+		solver.call();
+		Assert.assertFalse(solver.hasReportedBound());
+		Assert.assertTrue(Double.isNaN(solver.getReportedBound()));
+	}
+
+	/**
+	 * Returns the numbers of the given columns
+	 * @param columns columns
+	 * @return numbers of the columns
+	 */
+	private static List<Integer> getIDs(List<MockColumn> columns){
+		List<Integer> ids=new ArrayList<>();
+		for(MockColumn column : columns)
+			ids.add(column.id);
+		return ids;
+	}
+
+	/**
+	 * Creates a pricing problem manager which solves the given pricing problems with the {@link MockPricingProblemSolver}
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @return pricing problem manager
+	 */
+	private static PricingProblemManager<MockModel, MockColumn, MockPricingProblem> createPricingProblemManager(MockModel dataModel, List<MockPricingProblem> pricingProblems){
+		return createPricingProblemManager(dataModel, pricingProblems, MockPricingProblemSolver.class);
+	}
+
+	/**
+	 * Creates a pricing problem manager which solves the given pricing problems with the given solver
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param solver solver
+	 * @return pricing problem manager
+	 */
+	private static PricingProblemManager<MockModel, MockColumn, MockPricingProblem> createPricingProblemManager(MockModel dataModel, List<MockPricingProblem> pricingProblems,
+			Class<? extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem>> solver){
+		PricingProblemBundle<MockModel, MockColumn, MockPricingProblem> bundle=new PricingProblemBundle<>(solver, pricingProblems, new DefaultPricingProblemSolverFactory<>(solver, dataModel));
+		return new PricingProblemManager<>(pricingProblems, Collections.singletonMap(solver, bundle));
+	}
+
+	/**
+	 * Solver which counts how often each pricing problem is solved. The pricing problem with index 2 is only solved once the latch is released; the solver
+	 * ignores requests to stop.
+	 */
+	public static final class BlockingSolver extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem> {
+
+		/** Number of times each pricing problem has been solved, indexed by the index of the pricing problem **/
+		private static final AtomicIntegerArray nrSolves=new AtomicIntegerArray(3);
+		/** Latch which blocks the pricing problem with index 2 **/
+		private static volatile CountDownLatch latch;
+		/** Latch which is released once the pricing problem with index 2 is blocked **/
+		private static volatile CountDownLatch blocked;
+
+		public BlockingSolver(MockModel dataModel, MockPricingProblem pricingProblem) {
+			super(dataModel, pricingProblem);
+		}
+
+		/**
+		 * Resets the counters and the latch
+		 */
+		private static void reset(){
+			for(int i=0; i<nrSolves.length(); i++)
+				nrSolves.set(i, 0);
+			latch=new CountDownLatch(1);
+			blocked=new CountDownLatch(1);
+		}
+
+		@Override
+		protected List<MockColumn> generateNewColumns() {
+			nrSolves.incrementAndGet(pricingProblem.index);
+			if(pricingProblem.index == 2){
+				try {
+					blocked.countDown();
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return Collections.emptyList();
+				}
+			}
+			List<MockColumn> newColumns=new ArrayList<>();
+			for(MockColumn column : dataModel.getColumns(pricingProblem)){
+				if(column.cost < pricingProblem.dualCost)
+					newColumns.add(column);
+			}
+			return newColumns;
+		}
+
+		@Override
+		protected void setObjective() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Solver which fails with an exception on the pricing problem with index 2, and counts the number of times it is invoked on that pricing problem
+	 */
+	public static final class FailingSolver extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem> {
+
+		/** Number of times the pricing problem with index 2 has been solved **/
+		private static final AtomicInteger nrSolves=new AtomicInteger();
+
+		public FailingSolver(MockModel dataModel, MockPricingProblem pricingProblem) {
+			super(dataModel, pricingProblem);
+		}
+
+		@Override
+		protected List<MockColumn> generateNewColumns() {
+			if(pricingProblem.index == 2){
+				nrSolves.incrementAndGet();
+				throw new IllegalStateException("Pricing problem cannot be solved");
+			}
+			List<MockColumn> newColumns=new ArrayList<>();
+			for(MockColumn column : dataModel.getColumns(pricingProblem)){
+				if(column.cost < pricingProblem.dualCost)
+					newColumns.add(column);
+			}
+			return newColumns;
+		}
+
+		@Override
+		protected void setObjective() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Solver which reports the reduced cost of the cheapest column of the pricing problem with index 1 as its bound, unless reporting is disabled. Its getBound()
+	 * method returns 100 plus the index of the pricing problem, and counts how often it is invoked for each pricing problem.
+	 */
+	public static final class BoundReportingSolver extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem> {
+
+		/** Number of times getBound() has been invoked for each pricing problem, indexed by the index of the pricing problem **/
+		private static final AtomicIntegerArray nrBoundCalls=new AtomicIntegerArray(3);
+		/** Indicates whether the pricing problem with index 1 reports its bound **/
+		private static volatile boolean reportBounds;
+
+		public BoundReportingSolver(MockModel dataModel, MockPricingProblem pricingProblem) {
+			super(dataModel, pricingProblem);
+		}
+
+		/**
+		 * Resets the counters, and enables reporting
+		 */
+		private static void reset(){
+			for(int i=0; i<nrBoundCalls.length(); i++)
+				nrBoundCalls.set(i, 0);
+			reportBounds=true;
+		}
+
+		@Override
+		protected List<MockColumn> generateNewColumns() {
+			List<MockColumn> newColumns=new ArrayList<>();
+			double bound=0;
+			for(MockColumn column : dataModel.getColumns(pricingProblem)){
+				bound=Math.min(bound, column.cost-pricingProblem.dualCost);
+				if(column.cost < pricingProblem.dualCost)
+					newColumns.add(column);
+			}
+			if(reportBounds && pricingProblem.index == 1)
+				this.reportBound(bound);
+			return newColumns;
+		}
+
+		@Override
+		public double getBound() {
+			nrBoundCalls.incrementAndGet(pricingProblem.index);
+			return 100+pricingProblem.index;
+		}
+
+		@Override
+		protected void setObjective() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Solver which cooperates with cancellation requests. Unless blocking is disabled, the solver of the pricing problem with index 2 finds its first column, and then waits
+	 * until it is requested to stop, after which it returns the column found so far. Meanwhile, the solver of the pricing problem with index 1 does not finish before the
+	 * solver of the pricing problem with index 2 is running.
+	 */
+	public static final class CancellableSolver extends AbstractPricingProblemSolver<MockModel, MockColumn, MockPricingProblem> {
+
+		/** Number of times a solver stopped because it was requested to stop **/
+		private static final AtomicInteger nrCancelled=new AtomicInteger();
+		/** Number of times a solver was started while its cancellation flag was raised **/
+		private static final AtomicInteger nrCancelledAtStart=new AtomicInteger();
+		/** Indicates whether the pricing problem with index 2 waits until it is requested to stop **/
+		private static volatile boolean blockUntilCancelled;
+		/** Latch which is released once the pricing problem with index 2 is running **/
+		private static volatile CountDownLatch running;
+
+		public CancellableSolver(MockModel dataModel, MockPricingProblem pricingProblem) {
+			super(dataModel, pricingProblem);
+		}
+
+		/**
+		 * Resets the counters, and enables blocking
+		 */
+		private static void reset(){
+			nrCancelled.set(0);
+			nrCancelledAtStart.set(0);
+			blockUntilCancelled=true;
+			running=new CountDownLatch(1);
+		}
+
+		@Override
+		protected List<MockColumn> generateNewColumns() throws TimeLimitExceededException {
+			if(this.isCancelled())
+				nrCancelledAtStart.incrementAndGet();
+			if(blockUntilCancelled && pricingProblem.index == 1){
+				try {
+					running.await(TIME_LIMIT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			List<MockColumn> newColumns=new ArrayList<>();
+			for(MockColumn column : dataModel.getColumns(pricingProblem)){
+				if(column.cost < pricingProblem.dualCost)
+					newColumns.add(column);
+				if(blockUntilCancelled && pricingProblem.index == 2){
+					running.countDown();
+					while(!this.isCancelled()){
+						if(System.currentTimeMillis() >= timeLimit)
+							throw new TimeLimitExceededException();
+						try {
+							Thread.sleep(1);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							return newColumns;
+						}
+					}
+					nrCancelled.incrementAndGet();
+					return newColumns;
+				}
+			}
+			return newColumns;
+		}
+
+		@Override
+		protected void setObjective() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SolverWorkerPoolTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.mock.MockColumn;
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SolverWorkerPool} class, and the way in which a {@link PooledPricingProblemSolver} uses it.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class SolverWorkerPoolTest {
+
+	private static final MockModel DATA_MODEL=new MockModel();
+	private static final MockPricingProblem PRICING_PROBLEM=new MockPricingProblem(DATA_MODEL, 0);
+
+	@Test
+	public void testAcquireUpToCapacity() throws Exception {
+		SolverWorkerPool pool=new SolverWorkerPool(2);
+		MockPooledSolver solver=new MockPooledSolver();
+		SolverWorkerPool.Slot slot1=acquireWorker(pool, solver, "worker1");
+		SolverWorkerPool.Slot slot2=acquireWorker(pool, solver, "worker2");
+		Assert.assertNotSame(slot1, slot2);
+		Assert.assertEquals(2, pool.getNrWorkers());
+
+		long startTime=System.currentTimeMillis();
+		try {
+			pool.acquire(solver, startTime+50);
+			Assert.fail("Acquired a worker beyond the capacity of the pool");
+		} catch (TimeLimitExceededException e) {
+			Assert.assertTrue(System.currentTimeMillis()-startTime >= 50);
+		}
+		Assert.assertEquals(2, pool.getNrWorkers());
+
+		//A released worker is handed out again, rather than a new worker
+		pool.release(slot1, solver);
+		Assert.assertSame(slot1, pool.acquire(solver, System.currentTimeMillis()));
+		Assert.assertEquals(2, pool.getNrWorkers());
+	}
+
+	@Test
+	public void testWaitForRelease() throws Exception {
+		SolverWorkerPool pool=new SolverWorkerPool(1);
+		MockPooledSolver solver=new MockPooledSolver();
+		SolverWorkerPool.Slot slot=acquireWorker(pool, solver, "worker1");
+
+		Thread releasingThread=new Thread(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			pool.release(slot, solver);
+		});
+		releasingThread.start();
+		Assert.assertSame(slot, pool.acquire(solver, System.currentTimeMillis()+10000));
+		releasingThread.join();
+		Assert.assertEquals(1, pool.getNrWorkers());
+	}
+
+	@Test
+	public void testSlotWithoutWorkerIsDiscarded() throws Exception {
+		SolverWorkerPool pool=new SolverWorkerPool(1);
+		MockPooledSolver solver=new MockPooledSolver();
+		SolverWorkerPool.Slot slot=pool.acquire(solver, System.currentTimeMillis());
+		Assert.assertNull(slot.worker);
+		pool.release(slot, solver); //E.g. the worker could not be created
+		Assert.assertEquals(0, pool.getNrWorkers());
+		Assert.assertNotSame(slot, pool.acquire(solver, System.currentTimeMillis()));
+		Assert.assertTrue(solver.closedWorkers.isEmpty());
+	}
+
+	@Test
+	public void testPreferredWorker() throws Exception {
+		SolverWorkerPool pool=new SolverWorkerPool(3);
+		MockPooledSolver solverA=new MockPooledSolver();
+		MockPooledSolver solverB=new MockPooledSolver();
+		MockPooledSolver solverC=new MockPooledSolver();
+		SolverWorkerPool.Slot slotA=acquireWorker(pool, solverA, "workerA");
+		SolverWorkerPool.Slot slotB=acquireWorker(pool, solverB, "workerB");
+		slotA.lastSolverInstance=solverA;
+		slotB.lastSolverInstance=solverB;
+		pool.release(slotA, solverA);
+		pool.release(slotB, solverB);
+
+		//Each solver receives the worker it used last; other solvers receive the least recently used worker
+		Assert.assertSame(slotA, pool.acquire(solverA, System.currentTimeMillis()));
+		pool.release(slotA, solverA);
+		Assert.assertSame(slotB, pool.acquire(solverC, System.currentTimeMillis()));
+		Assert.assertSame(slotA, pool.acquire(solverB, System.currentTimeMillis()));
+		Assert.assertEquals(2, pool.getNrWorkers());
+	}
+
+	@Test
+	public void testCloseWhileWorkerInUse() throws Exception {
+		SolverWorkerPool pool=new SolverWorkerPool(2);
+		MockPooledSolver solver=new MockPooledSolver();
+		SolverWorkerPool.Slot slot1=acquireWorker(pool, solver, "worker1");
+		SolverWorkerPool.Slot slot2=acquireWorker(pool, solver, "worker2");
+		pool.release(slot1, solver);
+
+		//Idle workers are closed immediately, workers in use when they are released
+		pool.close(solver);
+		Assert.assertEquals(Collections.singletonList("worker1"), solver.closedWorkers);
+		Assert.assertEquals(1, pool.getNrWorkers());
+		pool.release(slot2, solver);
+		Assert.assertEquals(2, solver.closedWorkers.size());
+		Assert.assertEquals("worker2", solver.closedWorkers.get(1));
+		Assert.assertEquals(0, pool.getNrWorkers());
+
+		pool.close(solver);
+		Assert.assertEquals(2, solver.closedWorkers.size());
+		try {
+			pool.acquire(solver, System.currentTimeMillis()+1000);
+			Assert.fail("Acquired a worker from a closed pool");
+		} catch (IllegalStateException e) {
+			//Expected
+		}
+	}
+
+	@Test
+	public void testCloseWakesWaitingSolver() throws Exception {
+		SolverWorkerPool pool=new SolverWorkerPool(1);
+		MockPooledSolver solver=new MockPooledSolver();
+		acquireWorker(pool, solver, "worker1");
+
+		List<Exception> exceptions=Collections.synchronizedList(new ArrayList<>());
+		Thread waitingThread=new Thread(() -> {
+			try {
+				pool.acquire(solver, System.currentTimeMillis()+10000);
+			} catch (Exception e) {
+				exceptions.add(e);
+			}
+		});
+		waitingThread.start();
+		Thread.sleep(50);
+		pool.close(solver);
+		waitingThread.join(5000);
+		Assert.assertFalse(waitingThread.isAlive());
+		Assert.assertEquals(1, exceptions.size());
+		Assert.assertTrue(exceptions.get(0) instanceof IllegalStateException);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new SolverWorkerPool(0);
+	}
+
+	@Test
+	public void testWorkerReusedUntilBranchingDecisionsChange() throws Exception {
+		MockPooledSolver solver=new MockPooledSolver();
+		solver.setWorkerPool(new SolverWorkerPool(1));
+		solver.setTimeLimit(Long.MAX_VALUE);
+		solver.generateNewColumns();
+		solver.generateNewColumns();
+		solver.branchingDecisionsChanged(Collections.emptyList(), Collections.emptyList());
+		solver.generateNewColumns();
+		Assert.assertEquals(1, solver.nrCreatedWorkers);
+		Assert.assertEquals(1, solver.getNrWorkers());
+		Assert.assertEquals(3, solver.reusedFlags.size());
+		Assert.assertFalse(solver.reusedFlags.get(0));
+		Assert.assertTrue(solver.reusedFlags.get(1));
+		Assert.assertFalse(solver.reusedFlags.get(2));
+
+		solver.close();
+		Assert.assertEquals(Collections.singletonList("worker1"), solver.closedWorkers);
+		Assert.assertEquals(0, solver.getNrWorkers());
+	}
+
+	@Test
+	public void testInterruptedWhileWaitingForWorker() throws Exception {
+		SolverWorkerPool pool=new SolverWorkerPool(1);
+		MockPooledSolver solverA=new MockPooledSolver();
+		MockPooledSolver solverB=new MockPooledSolver();
+		solverB.setWorkerPool(pool);
+		solverB.setTimeLimit(Long.MAX_VALUE);
+		acquireWorker(pool, solverA, "worker1");
+
+		Thread.currentThread().interrupt();
+		try {
+			solverB.generateNewColumns();
+			Assert.fail("Generated columns without a worker");
+		} catch (TimeLimitExceededException e) {
+			//The interrupt must be propagated to the caller
+			Assert.assertTrue(Thread.interrupted());
+		} finally {
+			Thread.interrupted();
+		}
+		Assert.assertEquals(0, solverB.nrCreatedWorkers);
+	}
+
+	/**
+	 * Acquires a slot for which a new worker must be created, and stores the given worker in it
+	 * @param pool pool
+	 * @param solver solver instance which acquires the worker
+	 * @param worker worker
+	 * @return slot
+	 */
+	private static SolverWorkerPool.Slot acquireWorker(SolverWorkerPool pool, MockPooledSolver solver, String worker) throws Exception {
+		SolverWorkerPool.Slot slot=pool.acquire(solver, System.currentTimeMillis());
+		Assert.assertNull(slot.worker);
+		slot.worker=worker;
+		return slot;
+	}
+
+	/**
+	 * Solver which records how its workers are created, initialized and closed
+	 */
+	private static final class MockPooledSolver extends PooledPricingProblemSolver<MockModel, MockColumn, MockPricingProblem, String> {
+
+		/** Number of workers created by this solver **/
+		private int nrCreatedWorkers=0;
+		/** For each invocation, whether the worker was reused **/
+		private final List<Boolean> reusedFlags=new ArrayList<>();
+		/** Workers closed by this solver, in the order in which they were closed **/
+		private final List<String> closedWorkers=new ArrayList<>();
+
+		private MockPooledSolver() {
+			super(DATA_MODEL, PRICING_PROBLEM);
+		}
+
+		@Override
+		protected String createWorker() {
+			nrCreatedWorkers++;
+			return "worker"+nrCreatedWorkers;
+		}
+
+		@Override
+		protected void initializeWorker(String worker, boolean reused) {
+			reusedFlags.add(reused);
+		}
+
+		@Override
+		protected void setObjective(String worker) {
+		}
+
+		@Override
+		protected List<MockColumn> generateNewColumns(String worker) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected void closeWorker(String worker) {
+			closedWorkers.add(worker);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * TimeBudgetTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link TimeBudget} class
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class TimeBudgetTest {
+
+	@Test
+	public void testFractionOfRemainingTime() {
+		Assert.assertEquals(2000, TimeBudget.fractionOfRemainingTime(0.5).getTimeLimit(1000, 3000));
+		Assert.assertEquals(3000, TimeBudget.fractionOfRemainingTime(1).getTimeLimit(1000, 3000));
+	}
+
+	@Test
+	public void testMaxSolveTime() {
+		Assert.assertEquals(1100, TimeBudget.maxSolveTime(100).getTimeLimit(1000, 3000));
+		Assert.assertEquals(3000, TimeBudget.maxSolveTime(5000).getTimeLimit(1000, 3000));
+		Assert.assertEquals(1100, new TimeBudget(0.5, 100).getTimeLimit(1000, 3000));
+		Assert.assertEquals(1500, new TimeBudget(0.25, 1000).getTimeLimit(1000, 3000));
+	}
+
+	@Test
+	public void testTimeLimitInThePast() {
+		Assert.assertEquals(5000, TimeBudget.fractionOfRemainingTime(0.5).getTimeLimit(5000, 3000));
+		Assert.assertEquals(5000, TimeBudget.maxSolveTime(100).getTimeLimit(5000, 5000));
+	}
+
+	@Test
+	public void testUnboundedTimeLimit() {
+		//The remaining time is converted to a double, so the time limit is only accurate up to the precision of a double, but it must not overflow
+		long now=System.currentTimeMillis();
+		Assert.assertTrue(TimeBudget.fractionOfRemainingTime(1).getTimeLimit(now, Long.MAX_VALUE) > Long.MAX_VALUE/2);
+		Assert.assertTrue(TimeBudget.fractionOfRemainingTime(0.5).getTimeLimit(now, Long.MAX_VALUE) > Long.MAX_VALUE/4);
+		Assert.assertEquals(now+100, TimeBudget.maxSolveTime(100).getTimeLimit(now, Long.MAX_VALUE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testZeroFraction() {
+		TimeBudget.fractionOfRemainingTime(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFractionAboveOne() {
+		new TimeBudget(1.5, 100);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxSolveTime() {
+		TimeBudget.maxSolveTime(-1);
+	}
+}
@@ -0,0 +1,212 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DualStabilizerTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import org.jorlib.frameworks.columnGeneration.mock.MockModel;
+import org.jorlib.frameworks.columnGeneration.mock.MockPricingProblem;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the dual stabilizers {@link WentgesSmoothing} and {@link BoxStep}, and the handling of stability centers and mispricings by {@link AbstractDualStabilizer}
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class DualStabilizerTest {
+
+	private static final double PRECISION=0.000001;
+
+	/** Dual values of the master problem in the first iteration, which become the stability center **/
+	private static final double[] CENTER_DUAL_COSTS={2, 4};
+	private static final double CENTER_DUAL_COST=10;
+	/** Dual values of the master problem in the second iteration **/
+	private static final double[] OUT_DUAL_COSTS={6, 3.5};
+	private static final double OUT_DUAL_COST=20;
+
+	private MockPricingProblem pricingProblem;
+
+	@Before
+	public void setUp() {
+		pricingProblem=new MockPricingProblem(new MockModel(), 0);
+	}
+
+	@Test
+	public void testWentgesSmoothing() {
+		WentgesSmoothing<MockModel, MockPricingProblem> stabilizer=new WentgesSmoothing<>(0.5, false);
+
+		//Without a stability center, the master duals are used as they are
+		this.initializeCenter(stabilizer);
+
+		//The stabilized duals are a convex combination of the stability center and the master duals; the dual arrays of the master problem are not modified
+		double[] outDualCosts=OUT_DUAL_COSTS.clone();
+		pricingProblem.initPricingProblem(outDualCosts, OUT_DUAL_COST);
+		stabilizer.stabilize(pricingProblem);
+		Assert.assertTrue(stabilizer.isStabilizing());
+		Assert.assertArrayEquals(new double[]{4, 3.75}, pricingProblem.dualCosts, PRECISION);
+		Assert.assertEquals(15, pricingProblem.dualCost, PRECISION);
+		Assert.assertArrayEquals(OUT_DUAL_COSTS, outDualCosts, PRECISION);
+	}
+
+	@Test
+	public void testWentgesSmoothingMispricing() {
+		WentgesSmoothing<MockModel, MockPricingProblem> stabilizer=new WentgesSmoothing<>(0.8, false);
+		this.initializeCenter(stabilizer);
+
+		//After the k-th consecutive mispricing, the smoothing factor equals max(0, 1-(k+1)(1-alpha)): 0.8, 0.6, 0.4, 0.2, 0
+		double[] expectedAlpha={0.8, 0.6, 0.4, 0.2};
+		for(int k=0; k<expectedAlpha.length; k++){
+			this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+			double alpha=expectedAlpha[k];
+			Assert.assertTrue(stabilizer.isStabilizing());
+			Assert.assertEquals(alpha*CENTER_DUAL_COSTS[0]+(1-alpha)*OUT_DUAL_COSTS[0], pricingProblem.dualCosts[0], PRECISION);
+			Assert.assertEquals(alpha*CENTER_DUAL_COST+(1-alpha)*OUT_DUAL_COST, pricingProblem.dualCost, PRECISION);
+			Assert.assertTrue(stabilizer.handleMispricing());
+		}
+
+		//Eventually, the pricing problem is solved on the master duals, after which the absence of columns is conclusive
+		this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+		Assert.assertFalse(stabilizer.isStabilizing());
+		Assert.assertArrayEquals(OUT_DUAL_COSTS, pricingProblem.dualCosts, PRECISION);
+		Assert.assertEquals(OUT_DUAL_COST, pricingProblem.dualCost, PRECISION);
+		Assert.assertFalse(stabilizer.handleMispricing());
+		Assert.assertEquals(4, stabilizer.getTotalNrMispricings());
+
+		//Finding columns restores the smoothing factor
+		stabilizer.columnsFound();
+		this.stabilize(stabilizer, CENTER_DUAL_COSTS, CENTER_DUAL_COST);
+		Assert.assertEquals(0.8*OUT_DUAL_COST+0.2*CENTER_DUAL_COST, pricingProblem.dualCost, PRECISION);
+	}
+
+	@Test
+	public void testAdaptiveWentgesSmoothing() {
+		WentgesSmoothing<MockModel, MockPricingProblem> stabilizer=new WentgesSmoothing<>(0.5, true);
+		this.initializeCenter(stabilizer);
+		Assert.assertEquals(0.55, stabilizer.getAlpha(), PRECISION); //An iteration without mispricings increases the smoothing factor by 10% of the gap to 1
+
+		//A mispricing decreases the smoothing factor by 0.1; an iteration which suffered from mispricings does not increase it
+		this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+		Assert.assertTrue(stabilizer.handleMispricing());
+		Assert.assertEquals(0.45, stabilizer.getAlpha(), PRECISION);
+		stabilizer.columnsFound();
+		Assert.assertEquals(0.45, stabilizer.getAlpha(), PRECISION);
+		stabilizer.columnsFound();
+		Assert.assertEquals(0.505, stabilizer.getAlpha(), PRECISION);
+	}
+
+	@Test
+	public void testBoxStep() {
+		BoxStep<MockModel, MockPricingProblem> stabilizer=new BoxStep<>(1, false);
+		this.initializeCenter(stabilizer);
+
+		//The master duals are projected onto the box [center-1, center+1]
+		this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+		Assert.assertTrue(stabilizer.isStabilizing());
+		Assert.assertArrayEquals(new double[]{3, 3.5}, pricingProblem.dualCosts, PRECISION);
+		Assert.assertEquals(11, pricingProblem.dualCost, PRECISION);
+
+		//Each consecutive mispricing doubles the width of the box, until it contains the master duals
+		double[][] expectedDualCosts={{4, 3.5}, {6, 3.5}, {6, 3.5}};
+		double[] expectedDualCost={12, 14, 18};
+		for(int k=0; k<expectedDualCosts.length; k++){
+			Assert.assertTrue(stabilizer.handleMispricing());
+			this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+			Assert.assertArrayEquals(expectedDualCosts[k], pricingProblem.dualCosts, PRECISION);
+			Assert.assertEquals(expectedDualCost[k], pricingProblem.dualCost, PRECISION);
+		}
+		Assert.assertTrue(stabilizer.handleMispricing());
+		this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+		Assert.assertFalse(stabilizer.isStabilizing());
+		Assert.assertFalse(stabilizer.handleMispricing());
+		Assert.assertEquals(1, stabilizer.getDelta(), PRECISION);
+	}
+
+	@Test
+	public void testAdaptiveBoxStep() {
+		BoxStep<MockModel, MockPricingProblem> stabilizer=new BoxStep<>(1, true);
+		this.initializeCenter(stabilizer);
+
+		//Mispricings double the width of the box permanently; iterations without mispricings halve it, but not below its initial width
+		this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+		stabilizer.handleMispricing();
+		stabilizer.handleMispricing();
+		Assert.assertEquals(4, stabilizer.getDelta(), PRECISION);
+		stabilizer.columnsFound();
+		Assert.assertEquals(4, stabilizer.getDelta(), PRECISION);
+		stabilizer.columnsFound();
+		Assert.assertEquals(2, stabilizer.getDelta(), PRECISION);
+		stabilizer.columnsFound();
+		stabilizer.columnsFound();
+		Assert.assertEquals(1, stabilizer.getDelta(), PRECISION);
+	}
+
+	@Test
+	public void testReset() {
+		BoxStep<MockModel, MockPricingProblem> stabilizer=new BoxStep<>(1, false);
+		this.initializeCenter(stabilizer);
+		stabilizer.reset();
+
+		//Without a stability center, the master duals are used as they are
+		this.stabilize(stabilizer, OUT_DUAL_COSTS, OUT_DUAL_COST);
+		Assert.assertFalse(stabilizer.isStabilizing());
+		Assert.assertArrayEquals(OUT_DUAL_COSTS, pricingProblem.dualCosts, PRECISION);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidSmoothingFactor() {
+		new WentgesSmoothing<MockModel, MockPricingProblem>(1, false);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidBoxWidth() {
+		new BoxStep<MockModel, MockPricingProblem>(0, false);
+	}
+
+	/**
+	 * Solves the first iteration on the dual values of the stability center, without stabilization, and reports that columns were found
+	 * @param stabilizer dual stabilizer
+	 */
+	private void initializeCenter(AbstractDualStabilizer<MockModel, MockPricingProblem> stabilizer){
+		this.stabilize(stabilizer, CENTER_DUAL_COSTS, CENTER_DUAL_COST);
+		Assert.assertFalse(stabilizer.isStabilizing());
+		Assert.assertArrayEquals(CENTER_DUAL_COSTS, pricingProblem.dualCosts, PRECISION);
+		Assert.assertEquals(CENTER_DUAL_COST, pricingProblem.dualCost, PRECISION);
+		stabilizer.columnsFound();
+	}
+
+	/**
+	 * Supplies the given master duals to the pricing problem, after which they are stabilized
+	 * @param stabilizer dual stabilizer
+	 * @param dualCosts dual values of the master problem
+	 * @param dualCost dual value of the master problem
+	 */
+	private void stabilize(AbstractDualStabilizer<MockModel, MockPricingProblem> stabilizer, double[] dualCosts, double dualCost){
+		pricingProblem.initPricingProblem(dualCosts.clone(), dualCost);
+		stabilizer.stabilize(pricingProblem);
+	}
+}
@@ -0,0 +1,97 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * LatencyHistogramTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link LatencyHistogram} class
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class LatencyHistogramTest {
+
+	private static final double PRECISION=0.000001;
+
+	@Test
+	public void testSmallValuesAreExact() {
+		LatencyHistogram histogram=new LatencyHistogram();
+		for(int i=100; i>=1; i--)
+			histogram.record(i);
+
+		Assert.assertEquals(100, histogram.getCount());
+		Assert.assertEquals(5050, histogram.getTotal());
+		Assert.assertEquals(1, histogram.getMin());
+		Assert.assertEquals(100, histogram.getMax());
+		Assert.assertEquals(50.5, histogram.getMean(), PRECISION);
+		Assert.assertEquals(1, histogram.getValueAtPercentile(0));
+		Assert.assertEquals(50, histogram.getValueAtPercentile(50));
+		Assert.assertEquals(99, histogram.getValueAtPercentile(99));
+		Assert.assertEquals(100, histogram.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testLargeValuesWithinRelativeError() {
+		long[] values={1_000, 123_456, 10_000_000, 987_654_321, 5_000_000_000L, Long.MAX_VALUE/3};
+		for(long value : values){
+			LatencyHistogram histogram=new LatencyHistogram();
+			histogram.record(value);
+			histogram.record(Long.MAX_VALUE);
+			long p50=histogram.getValueAtPercentile(50);
+			Assert.assertTrue("Value "+value+" reported as "+p50, p50 >= value);
+			Assert.assertTrue("Value "+value+" reported as "+p50, (p50-value) <= 0.02*value);
+			Assert.assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+		}
+	}
+
+	@Test
+	public void testNegativeValuesAndReset() {
+		LatencyHistogram histogram=new LatencyHistogram();
+		Assert.assertEquals(0, histogram.getMin());
+		Assert.assertEquals(0, histogram.getMean(), PRECISION);
+		Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+
+		histogram.record(-5);
+		histogram.record(10);
+		Assert.assertEquals(2, histogram.getCount());
+		Assert.assertEquals(0, histogram.getMin());
+		Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+		Assert.assertEquals(10, histogram.getTotal());
+
+		histogram.reset();
+		Assert.assertEquals(0, histogram.getCount());
+		Assert.assertEquals(0, histogram.getTotal());
+		Assert.assertEquals(0, histogram.getMin());
+		Assert.assertEquals(0, histogram.getMax());
+		Assert.assertEquals(0, histogram.getValueAtPercentile(100));
+		histogram.record(7);
+		Assert.assertEquals(7, histogram.getMin());
+		Assert.assertEquals(7, histogram.getValueAtPercentile(50));
+	}
+}
@@ -0,0 +1,83 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MetricsRegistryTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link MetricsRegistry} class
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class MetricsRegistryTest {
+
+	@Test
+	public void testCounters() {
+		MetricsRegistry metrics=new MetricsRegistry();
+		Assert.assertEquals(0, metrics.getCounter(MetricsRegistry.DUPLICATE_COLUMNS));
+		metrics.increment(MetricsRegistry.DUPLICATE_COLUMNS, 3);
+		metrics.increment(MetricsRegistry.DUPLICATE_COLUMNS, 2);
+		metrics.increment("b", 1);
+		Assert.assertEquals(5, metrics.getCounter(MetricsRegistry.DUPLICATE_COLUMNS));
+		Assert.assertEquals(Arrays.asList("b", MetricsRegistry.DUPLICATE_COLUMNS), new ArrayList<>(metrics.getCounters().keySet()));
+		Assert.assertEquals(Long.valueOf(1), metrics.getCounters().get("b"));
+	}
+
+	@Test
+	public void testHistograms() {
+		MetricsRegistry metrics=new MetricsRegistry();
+		metrics.record(MetricsRegistry.PRICING_SOLVE, 10);
+		metrics.record(MetricsRegistry.PRICING_SOLVE, 20);
+		metrics.record(MetricsRegistry.MASTER_SOLVE, 30);
+		metrics.recordSince(MetricsRegistry.CUT_SEPARATION, System.nanoTime());
+
+		LatencyHistogram histogram=metrics.getHistogram(MetricsRegistry.PRICING_SOLVE);
+		Assert.assertSame(histogram, metrics.getHistogram(MetricsRegistry.PRICING_SOLVE));
+		Assert.assertEquals(2, histogram.getCount());
+		Assert.assertEquals(30, histogram.getTotal());
+		Assert.assertEquals(1, metrics.getHistogram(MetricsRegistry.CUT_SEPARATION).getCount());
+		Assert.assertEquals(Arrays.asList(MetricsRegistry.CUT_SEPARATION, MetricsRegistry.MASTER_SOLVE, MetricsRegistry.PRICING_SOLVE),
+				new ArrayList<>(metrics.getHistograms().keySet()));
+	}
+
+	@Test
+	public void testReset() {
+		MetricsRegistry metrics=new MetricsRegistry();
+		metrics.record(MetricsRegistry.PRICING_SOLVE, 10);
+		metrics.increment(MetricsRegistry.DUPLICATE_COLUMNS, 1);
+		metrics.reset();
+		Assert.assertTrue(metrics.getHistograms().isEmpty());
+		Assert.assertTrue(metrics.getCounters().isEmpty());
+		Assert.assertEquals(0, metrics.getCounter(MetricsRegistry.DUPLICATE_COLUMNS));
+		Assert.assertEquals(0, metrics.getHistogram(MetricsRegistry.PRICING_SOLVE).getCount());
+	}
+}
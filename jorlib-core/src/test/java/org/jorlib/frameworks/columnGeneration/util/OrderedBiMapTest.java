@@ -0,0 +1,146 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * OrderedBiMapTest.java
+ * -----------------
+ * (C) Copyright 2015, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Thomas Brenner
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link OrderedBiMap} class, in particular whether the positions of the keys and values remain aligned after a key is removed.
+ *
+ * @author Thomas Brenner
+ * @version 18-10-2026
+ */
+public final class OrderedBiMapTest {
+
+	@Test
+	public void testRemoveFromMiddle() {
+		OrderedBiMap<String, Integer> map=createMap();
+		Assert.assertEquals(Integer.valueOf(1), map.remove("b"));
+
+		//The last key takes the position of the removed key
+		Assert.assertEquals(Arrays.asList("a", "d", "c"), map.keyList());
+		Assert.assertEquals(Arrays.asList(0, 3, 2), Arrays.asList(map.getValuesAsArray(new Integer[0])));
+		Assert.assertEquals(0, map.indexOf("a"));
+		Assert.assertEquals(1, map.indexOf("d"));
+		Assert.assertEquals(2, map.indexOf("c"));
+		Assert.assertEquals(-1, map.indexOf("b"));
+		Assert.assertEquals(3, map.size());
+		Assert.assertFalse(map.containsKey("b"));
+		Assert.assertNull(map.get("b"));
+		assertAligned(map);
+	}
+
+	@Test
+	public void testRemoveFromEnd() {
+		OrderedBiMap<String, Integer> map=createMap();
+		Assert.assertEquals(Integer.valueOf(3), map.remove("d"));
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), map.keyList());
+		Assert.assertEquals(Arrays.asList(0, 1, 2), Arrays.asList(map.getValuesAsArray(new Integer[0])));
+		Assert.assertEquals(-1, map.indexOf("d"));
+		Assert.assertEquals(3, map.size());
+		assertAligned(map);
+
+		//Remove the remaining keys, each time from the end
+		Assert.assertEquals(Integer.valueOf(2), map.remove("c"));
+		Assert.assertEquals(Integer.valueOf(1), map.remove("b"));
+		Assert.assertEquals(Integer.valueOf(0), map.remove("a"));
+		Assert.assertTrue(map.isEmpty());
+		Assert.assertTrue(map.keyList().isEmpty());
+		Assert.assertTrue(map.values().isEmpty());
+	}
+
+	@Test
+	public void testRemoveAbsentKeyAndReinsert() {
+		OrderedBiMap<String, Integer> map=createMap();
+		Assert.assertNull(map.remove("e"));
+		Assert.assertEquals(4, map.size());
+
+		map.remove("a");
+		map.put("a", 4);
+		Assert.assertEquals(Arrays.asList("d", "b", "c", "a"), map.keyList());
+		Assert.assertEquals(3, map.indexOf("a"));
+		Assert.assertEquals(Integer.valueOf(4), map.get("a"));
+		Assert.assertEquals("a", map.inverse().get(4));
+		Assert.assertNull(map.inverse().get(0));
+		assertAligned(map);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testDuplicateKey() {
+		OrderedBiMap<String, Integer> map=createMap();
+		map.put("a", 4);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullKey() {
+		OrderedBiMap<String, Integer> map=createMap();
+		map.put(null, 4);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testKeySetIsUnmodifiable() {
+		OrderedBiMap<String, Integer> map=createMap();
+		map.keySet().remove("a");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testEntrySetIsUnmodifiable() {
+		OrderedBiMap<String, Integer> map=createMap();
+		map.entrySet().clear();
+	}
+
+	/**
+	 * Creates a map with keys a, b, c, d and values 0, 1, 2, 3
+	 * @return map
+	 */
+	private static OrderedBiMap<String, Integer> createMap(){
+		OrderedBiMap<String, Integer> map=new OrderedBiMap<>();
+		map.put("a", 0);
+		map.put("b", 1);
+		map.put("c", 2);
+		map.put("d", 3);
+		return map;
+	}
+
+	/**
+	 * Verifies that the key and value at every position belong together, and that the index of every key matches its position
+	 * @param map map
+	 */
+	private static void assertAligned(OrderedBiMap<String, Integer> map){
+		Integer[] values=map.getValuesAsArray(new Integer[0]);
+		Assert.assertEquals(map.size(), values.length);
+		for(int i=0; i<map.keyList().size(); i++){
+			String key=map.keyList().get(i);
+			Assert.assertEquals(i, map.indexOf(key));
+			Assert.assertEquals(map.get(key), values[i]);
+		}
+	}
+}
@@ -26,16 +26,23 @@
  */
 package org.jorlib.demo.frameworks.columnGeneration.tspBAP.bap;
 
+import org.jorlib.demo.frameworks.columnGeneration.tspBAP.bap.branching.BranchOnEdge;
 import org.jorlib.demo.frameworks.columnGeneration.tspBAP.cg.Matching;
 import org.jorlib.demo.frameworks.columnGeneration.tspBAP.cg.PricingProblemByColor;
 import org.jorlib.demo.frameworks.columnGeneration.tspBAP.cg.master.Master;
+import org.jorlib.demo.frameworks.columnGeneration.tspBAP.cg.master.TSPMasterData;
+import org.jorlib.demo.frameworks.columnGeneration.tspBAP.cg.master.cuts.SubtourInequalityGenerator;
 import org.jorlib.demo.frameworks.columnGeneration.tspBAP.model.TSP;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchCreator;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPReplica;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -80,5 +87,32 @@ public final class BranchAndPrice extends AbstractBranchAndPrice<TSP,Matching, P
     protected boolean isIntegerNode(BAPNode<TSP,Matching> node) {
         return node.getSolution().size()==pricingProblems.size();
     }
-}
 
+    /**
+     * Creates a replica for a worker of the parallel Branch-and-Price procedure. Each replica has its own cplex master problem, its own cut handler with a
+     * subtour inequality generator, its own pricing problems and its own branch creator.
+     * @param workerID ID of the worker
+     * @return a new replica
+     */
+    @Override
+    protected BAPReplica<TSP, Matching, PricingProblemByColor> createReplica(int workerID) {
+        CutHandler<TSP, TSPMasterData> cutHandler=new CutHandler<>();
+        cutHandler.addCutGenerator(new SubtourInequalityGenerator(dataModel));
+        List<PricingProblemByColor> replicaPricingProblems=new ArrayList<>();
+        for(PricingProblemByColor pricingProblem : pricingProblems)
+            replicaPricingProblems.add(new PricingProblemByColor(dataModel, pricingProblem.name, pricingProblem.color));
+        Master replicaMaster=new Master(dataModel, replicaPricingProblems, cutHandler);
+        return new BAPReplica<>(replicaMaster, replicaPricingProblems, Collections.singletonList(new BranchOnEdge(dataModel, replicaPricingProblems)));
+    }
+
+    /**
+     * Creates a copy of a matching for the corresponding pricing problem of another worker
+     * @param column matching
+     * @param pricingProblem pricing problem of the other worker
+     * @return the matching, associated with the given pricing problem
+     */
+    @Override
+    protected Matching translateColumn(Matching column, PricingProblemByColor pricingProblem) {
+        return new Matching(column.creator, column.isArtificialColumn, pricingProblem, column.edges, column.succ, column.cost);
+    }
+}
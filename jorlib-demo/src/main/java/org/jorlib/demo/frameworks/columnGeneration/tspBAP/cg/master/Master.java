@@ -299,4 +299,15 @@ public final class Master extends AbstractMaster<TSP, Matching, PricingProblemBy
 	public void branchingDecisionReversed(BranchingDecision bd) {
 		//No action required
 	}
+
+	/**
+	 * Listen to all branching decisions which are reversed and executed when moving to the next node in the Branch-and-Price tree, and rebuild the master problem only once
+	 * @param reversedDecisions branching decisions which are reversed
+	 * @param performedDecisions branching decisions which are executed
+	 */
+	@Override
+	public void branchingDecisionsChanged(List<BranchingDecision<?, ?>> reversedDecisions, List<BranchingDecision<?, ?>> performedDecisions) {
+		if(!performedDecisions.isEmpty())
+			this.branchingDecisionPerformed(performedDecisions.get(performedDecisions.size()-1));
+	}
 }